@@ -17,9 +17,12 @@ package com.expediagroup.streamplatform.streamregistry.core.services;
 
 import static java.util.stream.Collectors.toList;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import lombok.RequiredArgsConstructor;
 import lombok.val;
@@ -37,6 +40,7 @@ import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
 import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerBindingKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
 import com.expediagroup.streamplatform.streamregistry.repository.ConsumerBindingRepository;
 
 @Component
@@ -49,6 +53,11 @@ public class ConsumerBindingService {
 
   @PreAuthorize("hasPermission(#consumerBinding, 'CREATE')")
   public Optional<ConsumerBinding> create(ConsumerBinding consumerBinding) throws ValidationException {
+    return createAsync(consumerBinding).join();
+  }
+
+  @PreAuthorize("hasPermission(#consumerBinding, 'CREATE')")
+  public CompletableFuture<Optional<ConsumerBinding>> createAsync(ConsumerBinding consumerBinding) throws ValidationException {
     if (consumerBindingView.get(consumerBinding.getKey()).isPresent()) {
       throw new ValidationException("Can't create " + consumerBinding.getKey() + " because it already exists");
     }
@@ -59,6 +68,11 @@ public class ConsumerBindingService {
 
   @PreAuthorize("hasPermission(#consumerBinding, 'UPDATE')")
   public Optional<ConsumerBinding> update(ConsumerBinding consumerBinding) throws ValidationException {
+    return updateAsync(consumerBinding).join();
+  }
+
+  @PreAuthorize("hasPermission(#consumerBinding, 'UPDATE')")
+  public CompletableFuture<Optional<ConsumerBinding>> updateAsync(ConsumerBinding consumerBinding) throws ValidationException {
     val existing = consumerBindingView.get(consumerBinding.getKey());
     if (existing.isEmpty()) {
       throw new ValidationException("Can't update " + consumerBinding.getKey() + " because it doesn't exist");
@@ -70,16 +84,21 @@ public class ConsumerBindingService {
 
   @PreAuthorize("hasPermission(#consumerBinding, 'UPDATE_STATUS')")
   public Optional<ConsumerBinding> updateStatus(ConsumerBinding consumerBinding, Status status) {
+    return updateStatusAsync(consumerBinding, status).join();
+  }
+
+  @PreAuthorize("hasPermission(#consumerBinding, 'UPDATE_STATUS')")
+  public CompletableFuture<Optional<ConsumerBinding>> updateStatusAsync(ConsumerBinding consumerBinding, Status status) {
     consumerBinding.setStatus(status);
     return saveStatus(consumerBinding);
   }
 
-  private Optional<ConsumerBinding> saveSpecification(ConsumerBinding consumerBinding) {
-    return Optional.ofNullable(consumerBindingRepository.saveSpecification(consumerBinding));
+  private CompletableFuture<Optional<ConsumerBinding>> saveSpecification(ConsumerBinding consumerBinding) {
+    return consumerBindingRepository.saveSpecificationAsync(consumerBinding).thenApply(Optional::ofNullable);
   }
 
-  private Optional<ConsumerBinding> saveStatus(ConsumerBinding consumerBinding) {
-    return Optional.ofNullable(consumerBindingRepository.saveStatus(consumerBinding));
+  private CompletableFuture<Optional<ConsumerBinding>> saveStatus(ConsumerBinding consumerBinding) {
+    return consumerBindingRepository.saveStatusAsync(consumerBinding).thenApply(Optional::ofNullable);
   }
 
   @PostAuthorize("returnObject.isPresent() ? hasPermission(returnObject, 'READ') : true")
@@ -87,28 +106,52 @@ public class ConsumerBindingService {
     return consumerBindingView.get(key);
   }
 
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<ConsumerBinding> getAll(Collection<ConsumerBindingKey> keys) {
+    return consumerBindingView.getAll(keys);
+  }
+
   @PostFilter("hasPermission(filterObject, 'READ')")
   public List<ConsumerBinding> findAll(Predicate<ConsumerBinding> filter) {
-    return consumerBindingView.findAll(filter).collect(toList());
+    return findAll(key -> true, filter);
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<ConsumerBinding> findAll(Predicate<ConsumerBindingKey> keyFilter, Predicate<ConsumerBinding> filter) {
+    return consumerBindingView.findAll(keyFilter, filter).collect(toList());
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<ConsumerBinding> findAll(List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries, Predicate<ConsumerBindingKey> keyFilter, Predicate<ConsumerBinding> filter) {
+    return consumerBindingView.findAll(tagQueries, securityQueries, keyFilter, filter).collect(toList());
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public Stream<ConsumerBinding> findAllAfter(ConsumerBindingKey after, Predicate<ConsumerBindingKey> keyFilter, Predicate<ConsumerBinding> filter) {
+    return consumerBindingView.findAllAfter(after, keyFilter, filter);
   }
 
   @PreAuthorize("hasPermission(#consumerBinding, 'DELETE')")
   public void delete(ConsumerBinding consumerBinding) {
+    deleteAsync(consumerBinding).join();
+  }
+
+  @PreAuthorize("hasPermission(#consumerBinding, 'DELETE')")
+  public CompletableFuture<Void> deleteAsync(ConsumerBinding consumerBinding) {
     handlerService.handleDelete(consumerBinding);
-    consumerBindingRepository.delete(consumerBinding);
+    return consumerBindingRepository.deleteAsync(consumerBinding);
   }
 
   @PostAuthorize("returnObject.isPresent() ? hasPermission(returnObject, 'READ') : true")
   public Optional<ConsumerBinding> find(ConsumerKey key) {
-    val example = new ConsumerBinding(new ConsumerBindingKey(
-        key.getStreamDomain(),
-        key.getStreamName(),
-        key.getStreamVersion(),
-        key.getZone(),
-        null,
-        key.getName()
-    ), null, null);
-    return consumerBindingRepository.findAll(example).stream().findFirst();
+    return consumerBindingRepository.findAllByParent(key).stream().findFirst();
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<ConsumerBinding> find(Collection<ConsumerKey> keys) {
+    return keys.stream()
+        .flatMap(key -> consumerBindingRepository.findAllByParent(key).stream().limit(1))
+        .collect(toList());
   }
 
 }
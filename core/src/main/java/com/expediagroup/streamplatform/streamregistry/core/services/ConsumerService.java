@@ -17,9 +17,12 @@ package com.expediagroup.streamplatform.streamregistry.core.services;
 
 import static java.util.stream.Collectors.toList;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import lombok.RequiredArgsConstructor;
 import lombok.val;
@@ -32,11 +35,11 @@ import org.springframework.stereotype.Component;
 import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ConsumerValidator;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ValidationException;
-import com.expediagroup.streamplatform.streamregistry.core.views.ConsumerBindingView;
 import com.expediagroup.streamplatform.streamregistry.core.views.ConsumerView;
 import com.expediagroup.streamplatform.streamregistry.model.Consumer;
 import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
 import com.expediagroup.streamplatform.streamregistry.repository.ConsumerRepository;
 
 @Component
@@ -46,11 +49,15 @@ public class ConsumerService {
   private final HandlerService handlerService;
   private final ConsumerValidator consumerValidator;
   private final ConsumerRepository consumerRepository;
-  private final ConsumerBindingService consumerBindingService;
-  private final ConsumerBindingView consumerBindingView;
+  private final DeletePlanner deletePlanner;
 
   @PreAuthorize("hasPermission(#consumer, 'CREATE')")
   public Optional<Consumer> create(Consumer consumer) throws ValidationException {
+    return createAsync(consumer).join();
+  }
+
+  @PreAuthorize("hasPermission(#consumer, 'CREATE')")
+  public CompletableFuture<Optional<Consumer>> createAsync(Consumer consumer) throws ValidationException {
     if (consumerView.get(consumer.getKey()).isPresent()) {
       throw new ValidationException("Can't create " + consumer.getKey() + " because it already exists");
     }
@@ -61,6 +68,11 @@ public class ConsumerService {
 
   @PreAuthorize("hasPermission(#consumer, 'UPDATE')")
   public Optional<Consumer> update(Consumer consumer) throws ValidationException {
+    return updateAsync(consumer).join();
+  }
+
+  @PreAuthorize("hasPermission(#consumer, 'UPDATE')")
+  public CompletableFuture<Optional<Consumer>> updateAsync(Consumer consumer) throws ValidationException {
     val existing = consumerView.get(consumer.getKey());
     if (existing.isEmpty()) {
       throw new ValidationException("Can't update " + consumer.getKey().getName() + " because it doesn't exist");
@@ -72,16 +84,21 @@ public class ConsumerService {
 
   @PreAuthorize("hasPermission(#consumer, 'UPDATE_STATUS')")
   public Optional<Consumer> updateStatus(Consumer consumer, Status status) {
+    return updateStatusAsync(consumer, status).join();
+  }
+
+  @PreAuthorize("hasPermission(#consumer, 'UPDATE_STATUS')")
+  public CompletableFuture<Optional<Consumer>> updateStatusAsync(Consumer consumer, Status status) {
     consumer.setStatus(status);
     return saveStatus(consumer);
   }
 
-  private Optional<Consumer> saveSpecification(Consumer consumer) {
-    return Optional.ofNullable(consumerRepository.saveSpecification(consumer));
+  private CompletableFuture<Optional<Consumer>> saveSpecification(Consumer consumer) {
+    return consumerRepository.saveSpecificationAsync(consumer).thenApply(Optional::ofNullable);
   }
 
-  private Optional<Consumer> saveStatus(Consumer consumer) {
-    return Optional.ofNullable(consumerRepository.saveStatus(consumer));
+  private CompletableFuture<Optional<Consumer>> saveStatus(Consumer consumer) {
+    return consumerRepository.saveStatusAsync(consumer).thenApply(Optional::ofNullable);
   }
 
   @PostAuthorize("returnObject.isPresent() ? hasPermission(returnObject, 'READ') : true")
@@ -89,18 +106,39 @@ public class ConsumerService {
     return consumerView.get(key);
   }
 
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<Consumer> getAll(Collection<ConsumerKey> keys) {
+    return consumerView.getAll(keys);
+  }
+
   @PostFilter("hasPermission(filterObject, 'READ')")
   public List<Consumer> findAll(Predicate<Consumer> filter) {
-    return consumerView.findAll(filter).collect(toList());
+    return findAll(key -> true, filter);
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<Consumer> findAll(Predicate<ConsumerKey> keyFilter, Predicate<Consumer> filter) {
+    return consumerView.findAll(keyFilter, filter).collect(toList());
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<Consumer> findAll(List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries, Predicate<ConsumerKey> keyFilter, Predicate<Consumer> filter) {
+    return consumerView.findAll(tagQueries, securityQueries, keyFilter, filter).collect(toList());
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public Stream<Consumer> findAllAfter(ConsumerKey after, Predicate<ConsumerKey> keyFilter, Predicate<Consumer> filter) {
+    return consumerView.findAllAfter(after, keyFilter, filter);
   }
 
   @PreAuthorize("hasPermission(#consumer, 'DELETE')")
   public void delete(Consumer consumer) {
-    handlerService.handleDelete(consumer);
-    consumerBindingView
-      .findAll(b -> b.getKey().getConsumerKey().equals(consumer.getKey()))
-      .forEach(consumerBindingService::delete);
-    consumerRepository.delete(consumer);
+    deleteAsync(consumer).join();
+  }
+
+  @PreAuthorize("hasPermission(#consumer, 'DELETE')")
+  public CompletableFuture<Void> deleteAsync(Consumer consumer) {
+    return deletePlanner.delete(consumer);
   }
 
   @PreAuthorize("hasPermission(#consumer, 'CREATE')")
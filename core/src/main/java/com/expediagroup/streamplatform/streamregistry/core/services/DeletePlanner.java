@@ -0,0 +1,386 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.services;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
+import com.expediagroup.streamplatform.streamregistry.core.views.ConsumerBindingView;
+import com.expediagroup.streamplatform.streamregistry.core.views.ConsumerView;
+import com.expediagroup.streamplatform.streamregistry.core.views.ProcessBindingView;
+import com.expediagroup.streamplatform.streamregistry.core.views.ProcessView;
+import com.expediagroup.streamplatform.streamregistry.core.views.ProducerBindingView;
+import com.expediagroup.streamplatform.streamregistry.core.views.ProducerView;
+import com.expediagroup.streamplatform.streamregistry.core.views.SchemaView;
+import com.expediagroup.streamplatform.streamregistry.core.views.StreamBindingView;
+import com.expediagroup.streamplatform.streamregistry.core.views.StreamView;
+import com.expediagroup.streamplatform.streamregistry.model.Consumer;
+import com.expediagroup.streamplatform.streamregistry.model.Entity;
+import com.expediagroup.streamplatform.streamregistry.model.Process;
+import com.expediagroup.streamplatform.streamregistry.model.ProcessBinding;
+import com.expediagroup.streamplatform.streamregistry.model.ProcessInputStream;
+import com.expediagroup.streamplatform.streamregistry.model.ProcessInputStreamBinding;
+import com.expediagroup.streamplatform.streamregistry.model.ProcessOutputStream;
+import com.expediagroup.streamplatform.streamregistry.model.ProcessOutputStreamBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Producer;
+import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
+import com.expediagroup.streamplatform.streamregistry.model.keys.SchemaKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AckLevel;
+import com.expediagroup.streamplatform.streamregistry.repository.AckLevelContext;
+import com.expediagroup.streamplatform.streamregistry.repository.ConsumerBindingRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.ConsumerRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.ProcessBindingRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.ProcessRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.ProducerBindingRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.ProducerRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.Repository;
+import com.expediagroup.streamplatform.streamregistry.repository.SchemaRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.StreamBindingRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.StreamRepository;
+
+/**
+ * Deletes entities along with everything that cascades from them.
+ * <p/>
+ * The whole cascade is first planned from the views. Every entity in it is checked against the delete rules and the
+ * {@link PermissionEvaluator} if there is one before any handler is called, and every handler is called before
+ * anything is deleted, so a refusal anywhere in the cascade leaves every entity in place.
+ * <p/>
+ * The deletions are then sent in waves, leaves first. The deletions within a wave are sent without waiting for one
+ * another, and the next wave is sent once all of them have been applied, so an entity is only deleted once everything
+ * referring to it in the cascade has gone. The first wave is sent by the caller and the later ones from a dedicated
+ * executor, never by the thread that applied the previous wave. The returned future completes once the last wave has
+ * been applied. If a
+ * deletion fails, no later wave is sent and the future fails, leaving the cascade partially deleted: the entities of
+ * the earlier waves are gone while the entities they belonged to remain.
+ */
+@Component
+@RequiredArgsConstructor
+public class DeletePlanner {
+  private final HandlerService handlerService;
+  private final ObjectProvider<PermissionEvaluator> permissionEvaluator;
+  private final StreamView streamView;
+  private final StreamBindingView streamBindingView;
+  private final ConsumerView consumerView;
+  private final ConsumerBindingView consumerBindingView;
+  private final ProducerView producerView;
+  private final ProducerBindingView producerBindingView;
+  private final ProcessView processView;
+  private final ProcessBindingView processBindingView;
+  private final SchemaView schemaView;
+  private final StreamRepository streamRepository;
+  private final StreamBindingRepository streamBindingRepository;
+  private final ConsumerRepository consumerRepository;
+  private final ConsumerBindingRepository consumerBindingRepository;
+  private final ProducerRepository producerRepository;
+  private final ProducerBindingRepository producerBindingRepository;
+  private final ProcessRepository processRepository;
+  private final ProcessBindingRepository processBindingRepository;
+  private final SchemaRepository schemaRepository;
+  /** Sends every wave after the first. */
+  private final Executor waveExecutor = Executors.newCachedThreadPool(runnable -> {
+    Thread thread = new Thread(runnable, "delete-planner");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  public CompletableFuture<Void> delete(Stream stream) {
+    Plan plan = new Plan();
+    planStream(plan, stream);
+    return plan.execute();
+  }
+
+  public CompletableFuture<Void> delete(StreamBinding streamBinding) {
+    Plan plan = new Plan();
+    planStreamBinding(plan, streamBinding);
+    return plan.execute();
+  }
+
+  public CompletableFuture<Void> delete(Process process) {
+    Plan plan = new Plan();
+    planProcess(plan, process);
+    return plan.execute();
+  }
+
+  public CompletableFuture<Void> delete(Consumer consumer) {
+    Plan plan = new Plan();
+    planConsumer(plan, consumer);
+    return plan.execute();
+  }
+
+  public CompletableFuture<Void> delete(Producer producer) {
+    Plan plan = new Plan();
+    planProducer(plan, producer);
+    return plan.execute();
+  }
+
+  /**
+   * Deletes an entity that nothing cascades from.
+   */
+  public <T extends Entity<?>> CompletableFuture<Void> delete(T entity, Repository<T, ?> repository) {
+    Plan plan = new Plan();
+    planLeaf(plan, entity, repository);
+    return plan.execute();
+  }
+
+  private void planStream(Plan plan, Stream stream) {
+    if (!plan.visit(stream)) {
+      return;
+    }
+
+    // Find all Processes that have multiple different stream inputs/outputs which also have this Stream as an input or output.
+    // These processes would be left invalid if the stream was deleted, so block the delete of this Stream.
+    List<Process> processes = allProcessesForStream(stream).collect(Collectors.toList());
+    processes.stream()
+      .filter(process -> processInputOutputStreamKeySet(process).size() > 1)
+      .findAny()
+      .ifPresent(process -> {
+        throw new IllegalStateException("Cannot delete Stream, Processes depend on it including: " + processKeyString(process));
+      });
+
+    // Assuming the above check passed, then cascade deletes to Processes which have ONLY this stream as input/output.
+    // These types of Processes would be entirely useless without the Stream and so can be safely deleted.
+    processes.forEach(process -> planProcess(plan, process));
+
+    streamBindingView
+      .findAllByParent(stream.getKey(), b -> b.getKey().getStreamKey().equals(stream.getKey()))
+      .forEach(binding -> planStreamBinding(plan, binding));
+
+    // Remove producers AFTER consumers - a consumer is nothing without a producer
+    consumerView
+      .findAllByParent(stream.getKey(), c -> c.getKey().getStreamKey().equals(stream.getKey()))
+      .forEach(consumer -> planConsumer(plan, consumer));
+
+    producerView
+      .findAllByParent(stream.getKey(), p -> p.getKey().getStreamKey().equals(stream.getKey()))
+      .forEach(producer -> planProducer(plan, producer));
+
+    plan.delete(stream, streamRepository);
+
+    SchemaKey schemaKey = stream.getSchemaKey();
+    boolean schemaReferencedByOtherStreams = streamView.findAllByParent(schemaKey, s -> s.getSchemaKey().equals(schemaKey))
+      .anyMatch(s -> !s.getKey().equals(stream.getKey()));
+
+    if (!schemaReferencedByOtherStreams) {
+      // The schema goes once the stream referring to it has gone
+      schemaView.get(schemaKey).ifPresent(schema -> {
+        if (plan.visit(schema)) {
+          plan.after(stream);
+          plan.delete(schema, schemaRepository);
+        }
+      });
+    }
+  }
+
+  private void planStreamBinding(Plan plan, StreamBinding streamBinding) {
+    if (!plan.visit(streamBinding)) {
+      return;
+    }
+
+    // Process bindings already in the plan are deleted first and so do not block the delete
+    processBindingView
+      .findAllByParent(streamBinding.getKey(), pb -> isStreamBindingUsedInProcessBinding(streamBinding, pb))
+      .forEach(pb -> {
+        if (!plan.contains(pb)) {
+          throw new IllegalStateException("Stream binding is used in process binding: " + pb.getKey());
+        }
+        plan.after(pb);
+      });
+
+    // Remove producers AFTER consumers - a consumer is nothing without a producer
+    consumerBindingView
+      .findAllByParent(streamBinding.getKey(), b -> b.getKey().getStreamBindingKey().equals(streamBinding.getKey()))
+      .forEach(binding -> planLeaf(plan, binding, consumerBindingRepository));
+
+    producerBindingView
+      .findAllByParent(streamBinding.getKey(), b -> b.getKey().getStreamBindingKey().equals(streamBinding.getKey()))
+      .forEach(binding -> planLeaf(plan, binding, producerBindingRepository));
+
+    plan.delete(streamBinding, streamBindingRepository);
+  }
+
+  private void planProcess(Plan plan, Process process) {
+    if (!plan.visit(process)) {
+      return;
+    }
+    processBindingView
+      .findAllByParent(process.getKey(), b -> b.getKey().getProcessKey().equals(process.getKey()))
+      .forEach(binding -> planLeaf(plan, binding, processBindingRepository));
+    plan.delete(process, processRepository);
+  }
+
+  private void planConsumer(Plan plan, Consumer consumer) {
+    if (!plan.visit(consumer)) {
+      return;
+    }
+    consumerBindingView
+      .findAllByParent(consumer.getKey(), b -> b.getKey().getConsumerKey().equals(consumer.getKey()))
+      .forEach(binding -> planLeaf(plan, binding, consumerBindingRepository));
+    plan.delete(consumer, consumerRepository);
+  }
+
+  private void planProducer(Plan plan, Producer producer) {
+    if (!plan.visit(producer)) {
+      return;
+    }
+    producerBindingView
+      .findAllByParent(producer.getKey(), b -> b.getKey().getProducerKey().equals(producer.getKey()))
+      .forEach(binding -> planLeaf(plan, binding, producerBindingRepository));
+    plan.delete(producer, producerRepository);
+  }
+
+  private <T extends Entity<?>> void planLeaf(Plan plan, T entity, Repository<T, ?> repository) {
+    if (plan.visit(entity)) {
+      plan.delete(entity, repository);
+    }
+  }
+
+  private void authorize(Entity<?> entity) {
+    PermissionEvaluator evaluator = permissionEvaluator.getIfAvailable();
+    if (evaluator != null && !evaluator.hasPermission(SecurityContextHolder.getContext().getAuthentication(), entity, "DELETE")) {
+      throw new AccessDeniedException("Access is denied to delete " + entity.getKey());
+    }
+  }
+
+  private String processKeyString(Process process) {
+    return process.getKey().getDomain() + ":" + process.getKey().getName();
+  }
+
+  private Set<StreamKey> processInputOutputStreamKeySet(Process process) {
+    return java.util.stream.Stream.concat(
+      process.getInputs().stream().map(ProcessInputStream::getStream),
+      process.getOutputs().stream().map(ProcessOutputStream::getStream)
+    ).collect(Collectors.toSet());
+  }
+
+  private java.util.stream.Stream<Process> allProcessesForStream(Stream stream) {
+    return processView.findAllByParent(stream.getKey(), process ->
+      process.getInputs().stream().anyMatch(input -> input.getStream().equals(stream.getKey())) ||
+        process.getOutputs().stream().anyMatch(output -> output.getStream().equals(stream.getKey()))
+    );
+  }
+
+  private boolean isStreamBindingUsedInProcessBinding(StreamBinding streamBinding, ProcessBinding processBinding) {
+    return processBinding.getOutputs().stream().map(ProcessOutputStreamBinding::getStreamBindingKey)
+      .anyMatch(streamBindingKey -> streamBindingKey.equals(streamBinding.getKey())) ||
+      processBinding.getInputs().stream().map(ProcessInputStreamBinding::getStreamBindingKey)
+        .anyMatch(streamBindingKey -> streamBindingKey.equals(streamBinding.getKey()));
+  }
+
+  /**
+   * The entities to delete, in waves. An entity goes in the wave after every entity deleted along with it that refers
+   * to it, and a wave is only sent once the previous one has been applied.
+   */
+  private class Plan {
+    private final Map<Object, Integer> waves = new HashMap<>();
+    private final List<Entity<?>> entities = new ArrayList<>();
+    private final Deque<Integer> floors = new ArrayDeque<>();
+    private final List<List<Supplier<CompletableFuture<Void>>>> deletions = new ArrayList<>();
+    private final AckLevel ackLevel = AckLevelContext.get();
+
+    /**
+     * Authorizes the delete of an entity the first time it is reached. An entity reached again is one the entity being
+     * planned has to be deleted after.
+     *
+     * @return false if the entity is already in the plan.
+     */
+    boolean visit(Entity<?> entity) {
+      if (waves.containsKey(entity.getKey())) {
+        after(entity);
+        return false;
+      }
+      authorize(entity);
+      waves.put(entity.getKey(), null);
+      entities.add(entity);
+      floors.push(0);
+      return true;
+    }
+
+    boolean contains(Entity<?> entity) {
+      return waves.containsKey(entity.getKey());
+    }
+
+    /**
+     * Deletes the entity being planned in a later wave than the given entity.
+     */
+    void after(Entity<?> entity) {
+      Integer wave = waves.get(entity.getKey());
+      if (wave != null && !floors.isEmpty()) {
+        floors.push(Math.max(floors.pop(), wave + 1));
+      }
+    }
+
+    <T extends Entity<?>> void delete(T entity, Repository<T, ?> repository) {
+      int wave = floors.pop();
+      waves.put(entity.getKey(), wave);
+      if (!floors.isEmpty()) {
+        floors.push(Math.max(floors.pop(), wave + 1));
+      }
+      while (deletions.size() <= wave) {
+        deletions.add(new ArrayList<>());
+      }
+      deletions.get(wave).add(() -> repository.deleteAsync(entity));
+    }
+
+    CompletableFuture<Void> execute() {
+      entities.forEach(handlerService::handleDelete);
+      if (deletions.isEmpty()) {
+        return CompletableFuture.completedFuture(null);
+      }
+      CompletableFuture<Void> result = send(deletions.get(0));
+      for (List<Supplier<CompletableFuture<Void>>> wave : deletions.subList(1, deletions.size())) {
+        // The previous wave completes on the thread receiving its events, which must not go on to send
+        result = result.thenComposeAsync(v -> send(wave), waveExecutor);
+      }
+      return result;
+    }
+
+    /**
+     * Sends the wave at the level of the operation, as the later waves are not sent from the thread it was set on.
+     */
+    private CompletableFuture<Void> send(List<Supplier<CompletableFuture<Void>>> wave) {
+      try {
+        return AckLevelContext.call(ackLevel, () -> CompletableFuture.allOf(wave.stream()
+          .map(Supplier::get)
+          .toArray(CompletableFuture[]::new)));
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
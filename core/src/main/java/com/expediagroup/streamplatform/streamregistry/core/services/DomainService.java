@@ -17,9 +17,12 @@ package com.expediagroup.streamplatform.streamregistry.core.services;
 
 import static java.util.stream.Collectors.toList;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import lombok.RequiredArgsConstructor;
 import lombok.val;
@@ -41,6 +44,7 @@ import com.expediagroup.streamplatform.streamregistry.core.views.StreamView;
 import com.expediagroup.streamplatform.streamregistry.model.Domain;
 import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.keys.DomainKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
 import com.expediagroup.streamplatform.streamregistry.repository.DomainRepository;
 
 @Component
@@ -63,6 +67,11 @@ public class DomainService {
 
   @PreAuthorize("hasPermission(#domain, 'CREATE')")
   public Optional<Domain> create(Domain domain) throws ValidationException {
+    return createAsync(domain).join();
+  }
+
+  @PreAuthorize("hasPermission(#domain, 'CREATE')")
+  public CompletableFuture<Optional<Domain>> createAsync(Domain domain) throws ValidationException {
     if (domainView.get(domain.getKey()).isPresent()) {
       throw new ValidationException("Can't create " + domain.getKey() + " because it already exists");
     }
@@ -73,6 +82,11 @@ public class DomainService {
 
   @PreAuthorize("hasPermission(#domain, 'UPDATE')")
   public Optional<Domain> update(Domain domain) throws ValidationException {
+    return updateAsync(domain).join();
+  }
+
+  @PreAuthorize("hasPermission(#domain, 'UPDATE')")
+  public CompletableFuture<Optional<Domain>> updateAsync(Domain domain) throws ValidationException {
     val existing = domainView.get(domain.getKey());
     if (existing.isEmpty()) {
       throw new ValidationException("Can't update " + domain.getKey().getName() + " because it doesn't exist");
@@ -84,16 +98,21 @@ public class DomainService {
 
   @PreAuthorize("hasPermission(#domain, 'UPDATE_STATUS')")
   public Optional<Domain> updateStatus(Domain domain, Status status) {
+    return updateStatusAsync(domain, status).join();
+  }
+
+  @PreAuthorize("hasPermission(#domain, 'UPDATE_STATUS')")
+  public CompletableFuture<Optional<Domain>> updateStatusAsync(Domain domain, Status status) {
     domain.setStatus(status);
     return saveStatus(domain);
   }
 
-  private Optional<Domain> saveSpecification(Domain domain) {
-    return Optional.ofNullable(domainRepository.saveSpecification(domain));
+  private CompletableFuture<Optional<Domain>> saveSpecification(Domain domain) {
+    return domainRepository.saveSpecificationAsync(domain).thenApply(Optional::ofNullable);
   }
 
-  private Optional<Domain> saveStatus(Domain domain) {
-    return Optional.ofNullable(domainRepository.saveStatus(domain));
+  private CompletableFuture<Optional<Domain>> saveStatus(Domain domain) {
+    return domainRepository.saveStatusAsync(domain).thenApply(Optional::ofNullable);
   }
 
 
@@ -102,41 +121,66 @@ public class DomainService {
     return domainView.get(key);
   }
 
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<Domain> getAll(Collection<DomainKey> keys) {
+    return domainView.getAll(keys);
+  }
+
   @PostFilter("hasPermission(filterObject, 'READ')")
   public List<Domain> findAll(Predicate<Domain> filter) {
-    return domainRepository.findAll().stream().filter(filter).collect(toList());
+    return findAll(key -> true, filter);
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<Domain> findAll(Predicate<DomainKey> keyFilter, Predicate<Domain> filter) {
+    return domainRepository.stream(keyFilter).filter(filter).collect(toList());
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<Domain> findAll(List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries, Predicate<DomainKey> keyFilter, Predicate<Domain> filter) {
+    return domainRepository.stream(tagQueries, securityQueries, keyFilter).filter(filter).collect(toList());
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public Stream<Domain> findAllAfter(DomainKey after, Predicate<DomainKey> keyFilter, Predicate<Domain> filter) {
+    return domainRepository.streamAfter(after, keyFilter).filter(filter);
   }
 
   @PreAuthorize("hasPermission(#domain, 'DELETE')")
   public void delete(Domain domain) {
+    deleteAsync(domain).join();
+  }
+
+  @PreAuthorize("hasPermission(#domain, 'DELETE')")
+  public CompletableFuture<Void> deleteAsync(Domain domain) {
     handlerService.handleDelete(domain);
 
     processView
-      .findAll(p -> p.getKey().getDomainKey().equals(domain.getKey()))
+      .findAllByParent(domain.getKey(), p -> p.getKey().getDomainKey().equals(domain.getKey()))
       .findAny()
       .ifPresent(ex -> { throw errorHandler("process"); });
 
     streamView
-      .findAll(s -> s.getKey().getDomainKey().equals(domain.getKey()))
+      .findAllByParent(domain.getKey(), s -> s.getKey().getDomainKey().equals(domain.getKey()))
       .findAny()
       .ifPresent(ex -> { throw errorHandler("stream"); });
 
     schemaView
-      .findAll(sc -> sc.getKey().getDomainKey().equals(domain.getKey()))
+      .findAllByParent(domain.getKey(), sc -> sc.getKey().getDomainKey().equals(domain.getKey()))
       .findAny()
       .ifPresent(ex -> { throw errorHandler("schema"); });
 
     producerView
-      .findAll(p -> p.getKey().getStreamKey().getDomainKey().equals(domain.getKey()))
+      .findAllByParent(domain.getKey(), p -> p.getKey().getStreamKey().getDomainKey().equals(domain.getKey()))
       .findAny()
       .ifPresent(ex -> { throw errorHandler("producer"); });
 
     consumerView
-      .findAll(c -> c.getKey().getStreamKey().getDomainKey().equals(domain.getKey()))
+      .findAllByParent(domain.getKey(), c -> c.getKey().getStreamKey().getDomainKey().equals(domain.getKey()))
       .findAny()
       .ifPresent(ex -> { throw errorHandler("consumer"); });
 
-    domainRepository.delete(domain);
+    return domainRepository.deleteAsync(domain);
   }
 
   private static IllegalStateException errorHandler(String type) {
@@ -17,9 +17,12 @@ package com.expediagroup.streamplatform.streamregistry.core.services;
 
 import static java.util.stream.Collectors.toList;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import lombok.RequiredArgsConstructor;
 import lombok.val;
@@ -41,6 +44,7 @@ import com.expediagroup.streamplatform.streamregistry.model.Infrastructure;
 import com.expediagroup.streamplatform.streamregistry.model.ProcessBinding;
 import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.keys.InfrastructureKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
 import com.expediagroup.streamplatform.streamregistry.repository.InfrastructureRepository;
 
 @Component
@@ -54,9 +58,15 @@ public class InfrastructureService {
   private final ConsumerBindingView consumerBindingView;
   private final ProducerBindingView producerBindingView;
   private final ProcessBindingView processBindingView;
+  private final DeletePlanner deletePlanner;
 
   @PreAuthorize("hasPermission(#infrastructure, 'CREATE')")
   public Optional<Infrastructure> create(Infrastructure infrastructure) throws ValidationException {
+    return createAsync(infrastructure).join();
+  }
+
+  @PreAuthorize("hasPermission(#infrastructure, 'CREATE')")
+  public CompletableFuture<Optional<Infrastructure>> createAsync(Infrastructure infrastructure) throws ValidationException {
     if (infrastructureView.get(infrastructure.getKey()).isPresent()) {
       throw new ValidationException("Can't create " + infrastructure.getKey() + " because it already exists");
     }
@@ -67,6 +77,11 @@ public class InfrastructureService {
 
   @PreAuthorize("hasPermission(#infrastructure, 'UPDATE')")
   public Optional<Infrastructure> update(Infrastructure infrastructure) throws ValidationException {
+    return updateAsync(infrastructure).join();
+  }
+
+  @PreAuthorize("hasPermission(#infrastructure, 'UPDATE')")
+  public CompletableFuture<Optional<Infrastructure>> updateAsync(Infrastructure infrastructure) throws ValidationException {
     val existing = infrastructureView.get(infrastructure.getKey());
     if (existing.isEmpty()) {
       throw new ValidationException("Can't update " + infrastructure.getKey().getName() + " because it doesn't exist");
@@ -78,16 +93,21 @@ public class InfrastructureService {
 
   @PreAuthorize("hasPermission(#infrastructure, 'UPDATE_STATUS')")
   public Optional<Infrastructure> updateStatus(Infrastructure infrastructure, Status status) {
+    return updateStatusAsync(infrastructure, status).join();
+  }
+
+  @PreAuthorize("hasPermission(#infrastructure, 'UPDATE_STATUS')")
+  public CompletableFuture<Optional<Infrastructure>> updateStatusAsync(Infrastructure infrastructure, Status status) {
     infrastructure.setStatus(status);
     return saveStatus(infrastructure);
   }
 
-  private Optional<Infrastructure> saveSpecification(Infrastructure infrastructure) {
-    return Optional.ofNullable(infrastructureRepository.saveSpecification(infrastructure));
+  private CompletableFuture<Optional<Infrastructure>> saveSpecification(Infrastructure infrastructure) {
+    return infrastructureRepository.saveSpecificationAsync(infrastructure).thenApply(Optional::ofNullable);
   }
 
-  private Optional<Infrastructure> saveStatus(Infrastructure infrastructure) {
-    return Optional.ofNullable(infrastructureRepository.saveStatus(infrastructure));
+  private CompletableFuture<Optional<Infrastructure>> saveStatus(Infrastructure infrastructure) {
+    return infrastructureRepository.saveStatusAsync(infrastructure).thenApply(Optional::ofNullable);
   }
 
   @PostAuthorize("returnObject.isPresent() ? hasPermission(returnObject, 'READ') : true")
@@ -95,36 +115,60 @@ public class InfrastructureService {
     return infrastructureView.get(key);
   }
 
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<Infrastructure> getAll(Collection<InfrastructureKey> keys) {
+    return infrastructureView.getAll(keys);
+  }
+
 
   @PostFilter("hasPermission(filterObject, 'READ')")
   public List<Infrastructure> findAll(Predicate<Infrastructure> filter) {
-    return infrastructureRepository.findAll().stream().filter(filter).collect(toList());
+    return findAll(key -> true, filter);
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<Infrastructure> findAll(Predicate<InfrastructureKey> keyFilter, Predicate<Infrastructure> filter) {
+    return infrastructureRepository.stream(keyFilter).filter(filter).collect(toList());
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<Infrastructure> findAll(List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries, Predicate<InfrastructureKey> keyFilter, Predicate<Infrastructure> filter) {
+    return infrastructureRepository.stream(tagQueries, securityQueries, keyFilter).filter(filter).collect(toList());
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public Stream<Infrastructure> findAllAfter(InfrastructureKey after, Predicate<InfrastructureKey> keyFilter, Predicate<Infrastructure> filter) {
+    return infrastructureRepository.streamAfter(after, keyFilter).filter(filter);
   }
 
   @PreAuthorize("hasPermission(#infrastructure, 'DELETE')")
   public void delete(Infrastructure infrastructure) {
-    handlerService.handleDelete(infrastructure);
+    deleteAsync(infrastructure).join();
+  }
+
+  @PreAuthorize("hasPermission(#infrastructure, 'DELETE')")
+  public CompletableFuture<Void> deleteAsync(Infrastructure infrastructure) {
     streamBindingView
-      .findAll(sb -> sb.getKey().getInfrastructureKey().equals(infrastructure.getKey()))
+      .findAllByParent(infrastructure.getKey(), sb -> sb.getKey().getInfrastructureKey().equals(infrastructure.getKey()))
       .findAny()
       .ifPresent(sb -> { throw new IllegalStateException("Infrastructure is used in stream: " + sb.getKey().getStreamKey()); });
 
     consumerBindingView
-      .findAll(cb -> cb.getKey().getStreamBindingKey().getInfrastructureKey().equals(infrastructure.getKey()))
+      .findAllByParent(infrastructure.getKey(), cb -> cb.getKey().getStreamBindingKey().getInfrastructureKey().equals(infrastructure.getKey()))
       .findAny()
       .ifPresent(cb -> { throw new IllegalStateException("Infrastructure is used in consumer binding: " + cb.getKey()); });
 
     producerBindingView
-      .findAll(pb -> pb.getKey().getStreamBindingKey().getInfrastructureKey().equals(infrastructure.getKey()))
+      .findAllByParent(infrastructure.getKey(), pb -> pb.getKey().getStreamBindingKey().getInfrastructureKey().equals(infrastructure.getKey()))
       .findAny()
       .ifPresent(pb -> { throw new IllegalStateException("Infrastructure is used in producer binding: " + pb.getKey()); });
 
     processBindingView
-      .findAll(pb -> isInfrastructureUsedInProcessBinding(infrastructure, pb))
+      .findAllByParent(infrastructure.getKey(), pb -> isInfrastructureUsedInProcessBinding(infrastructure, pb))
       .findAny()
       .ifPresent(pb -> { throw new IllegalStateException("Infrastructure is used in process binding: " + pb.getKey()); });
 
-    infrastructureRepository.delete(infrastructure);
+    return deletePlanner.delete(infrastructure, infrastructureRepository);
   }
 
   private boolean isInfrastructureUsedInProcessBinding(Infrastructure infrastructure, ProcessBinding processBinding) {
@@ -17,9 +17,12 @@ package com.expediagroup.streamplatform.streamregistry.core.services;
 
 import static java.util.stream.Collectors.toList;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import lombok.RequiredArgsConstructor;
 import lombok.val;
@@ -36,6 +39,7 @@ import com.expediagroup.streamplatform.streamregistry.core.views.ProcessBindingV
 import com.expediagroup.streamplatform.streamregistry.model.ProcessBinding;
 import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProcessBindingKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
 import com.expediagroup.streamplatform.streamregistry.repository.ProcessBindingRepository;
 
 @Component
@@ -48,6 +52,11 @@ public class ProcessBindingService {
 
   @PreAuthorize("hasPermission(#processBinding, 'CREATE')")
   public Optional<ProcessBinding> create(ProcessBinding processBinding) throws ValidationException {
+    return createAsync(processBinding).join();
+  }
+
+  @PreAuthorize("hasPermission(#processBinding, 'CREATE')")
+  public CompletableFuture<Optional<ProcessBinding>> createAsync(ProcessBinding processBinding) throws ValidationException {
     if (processBindingView.exists(processBinding.getKey())) {
       throw new ValidationException("Can't create " + processBinding.getKey() + " because it already exists");
     }
@@ -58,6 +67,11 @@ public class ProcessBindingService {
 
   @PreAuthorize("hasPermission(#processBinding, 'UPDATE')")
   public Optional<ProcessBinding> update(ProcessBinding processBinding) throws ValidationException {
+    return updateAsync(processBinding).join();
+  }
+
+  @PreAuthorize("hasPermission(#processBinding, 'UPDATE')")
+  public CompletableFuture<Optional<ProcessBinding>> updateAsync(ProcessBinding processBinding) throws ValidationException {
     val existing = processBindingView.get(processBinding.getKey());
     if (existing.isEmpty()) {
       throw new ValidationException("Can't update " + processBinding.getKey() + " because it doesn't exist");
@@ -69,16 +83,21 @@ public class ProcessBindingService {
 
   @PreAuthorize("hasPermission(#processBinding, 'UPDATE_STATUS')")
   public Optional<ProcessBinding> updateStatus(ProcessBinding processBinding, Status status) {
+    return updateStatusAsync(processBinding, status).join();
+  }
+
+  @PreAuthorize("hasPermission(#processBinding, 'UPDATE_STATUS')")
+  public CompletableFuture<Optional<ProcessBinding>> updateStatusAsync(ProcessBinding processBinding, Status status) {
     processBinding.setStatus(status);
     return saveStatus(processBinding);
   }
 
-  private Optional<ProcessBinding> saveSpecification(ProcessBinding processBinding) {
-    return Optional.ofNullable(processBindingRepository.saveSpecification(processBinding));
+  private CompletableFuture<Optional<ProcessBinding>> saveSpecification(ProcessBinding processBinding) {
+    return processBindingRepository.saveSpecificationAsync(processBinding).thenApply(Optional::ofNullable);
   }
 
-  private Optional<ProcessBinding> saveStatus(ProcessBinding processBinding) {
-    return Optional.ofNullable(processBindingRepository.saveStatus(processBinding));
+  private CompletableFuture<Optional<ProcessBinding>> saveStatus(ProcessBinding processBinding) {
+    return processBindingRepository.saveStatusAsync(processBinding).thenApply(Optional::ofNullable);
   }
 
   @PostAuthorize("returnObject.isPresent() ? hasPermission(returnObject, 'READ') : true")
@@ -86,14 +105,39 @@ public class ProcessBindingService {
     return processBindingView.get(key);
   }
 
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<ProcessBinding> getAll(Collection<ProcessBindingKey> keys) {
+    return processBindingView.getAll(keys);
+  }
+
   @PostFilter("hasPermission(filterObject, 'READ')")
   public List<ProcessBinding> findAll(Predicate<ProcessBinding> filter) {
-    return processBindingView.findAll(filter).collect(toList());
+    return findAll(key -> true, filter);
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<ProcessBinding> findAll(Predicate<ProcessBindingKey> keyFilter, Predicate<ProcessBinding> filter) {
+    return processBindingView.findAll(keyFilter, filter).collect(toList());
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<ProcessBinding> findAll(List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries, Predicate<ProcessBindingKey> keyFilter, Predicate<ProcessBinding> filter) {
+    return processBindingView.findAll(tagQueries, securityQueries, keyFilter, filter).collect(toList());
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public Stream<ProcessBinding> findAllAfter(ProcessBindingKey after, Predicate<ProcessBindingKey> keyFilter, Predicate<ProcessBinding> filter) {
+    return processBindingView.findAllAfter(after, keyFilter, filter);
   }
 
   @PreAuthorize("hasPermission(#processBinding, 'DELETE')")
   public void delete(ProcessBinding processBinding) {
+    deleteAsync(processBinding).join();
+  }
+
+  @PreAuthorize("hasPermission(#processBinding, 'DELETE')")
+  public CompletableFuture<Void> deleteAsync(ProcessBinding processBinding) {
     handlerService.handleDelete(processBinding);
-    processBindingRepository.delete(processBinding);
+    return processBindingRepository.deleteAsync(processBinding);
   }
 }
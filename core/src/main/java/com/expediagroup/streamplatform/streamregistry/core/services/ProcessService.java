@@ -17,9 +17,12 @@ package com.expediagroup.streamplatform.streamregistry.core.services;
 
 import static java.util.stream.Collectors.toList;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import lombok.RequiredArgsConstructor;
 import lombok.val;
@@ -32,7 +35,6 @@ import org.springframework.stereotype.Component;
 import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ProcessValidator;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ValidationException;
-import com.expediagroup.streamplatform.streamregistry.core.views.ProcessBindingView;
 import com.expediagroup.streamplatform.streamregistry.core.views.ProcessView;
 import com.expediagroup.streamplatform.streamregistry.model.Consumer;
 import com.expediagroup.streamplatform.streamregistry.model.Process;
@@ -44,6 +46,7 @@ import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProcessKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ZoneKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
 import com.expediagroup.streamplatform.streamregistry.repository.ProcessRepository;
 
 @Component
@@ -52,14 +55,18 @@ public class ProcessService {
   private final HandlerService handlerService;
   private final ProcessValidator processValidator;
   private final ProcessRepository processRepository;
-  private final ProcessBindingService processBindingService;
-  private final ProcessBindingView processBindingView;
   private final ProcessView processView;
   private final ConsumerService consumerService;
   private final ProducerService producerService;
+  private final DeletePlanner deletePlanner;
 
   @PreAuthorize("hasPermission(#process, 'CREATE')")
   public Optional<Process> create(Process process) throws ValidationException {
+    return createAsync(process).join();
+  }
+
+  @PreAuthorize("hasPermission(#process, 'CREATE')")
+  public CompletableFuture<Optional<Process>> createAsync(Process process) throws ValidationException {
     if (processView.exists(process.getKey())) {
       throw new ValidationException("Can't create " + process.getKey() + " because it already exists");
     }
@@ -93,6 +100,11 @@ public class ProcessService {
 
   @PreAuthorize("hasPermission(#process, 'UPDATE')")
   public Optional<Process> update(Process process) throws ValidationException {
+    return updateAsync(process).join();
+  }
+
+  @PreAuthorize("hasPermission(#process, 'UPDATE')")
+  public CompletableFuture<Optional<Process>> updateAsync(Process process) throws ValidationException {
     val existing = processView.get(process.getKey());
     if (existing.isEmpty()) {
       throw new ValidationException("Can't update " + process.getKey().getName() + " because it doesn't exist");
@@ -138,16 +150,21 @@ public class ProcessService {
 
   @PreAuthorize("hasPermission(#process, 'UPDATE_STATUS')")
   public Optional<Process> updateStatus(Process process, Status status) {
+    return updateStatusAsync(process, status).join();
+  }
+
+  @PreAuthorize("hasPermission(#process, 'UPDATE_STATUS')")
+  public CompletableFuture<Optional<Process>> updateStatusAsync(Process process, Status status) {
     process.setStatus(status);
     return saveStatus(process);
   }
 
-  private Optional<Process> saveSpecification(Process process) {
-    return Optional.ofNullable(processRepository.saveSpecification(process));
+  private CompletableFuture<Optional<Process>> saveSpecification(Process process) {
+    return processRepository.saveSpecificationAsync(process).thenApply(Optional::ofNullable);
   }
 
-  private Optional<Process> saveStatus(Process process) {
-    return Optional.ofNullable(processRepository.saveStatus(process));
+  private CompletableFuture<Optional<Process>> saveStatus(Process process) {
+    return processRepository.saveStatusAsync(process).thenApply(Optional::ofNullable);
   }
 
 
@@ -156,21 +173,39 @@ public class ProcessService {
     return processView.get(key);
   }
 
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<Process> getAll(Collection<ProcessKey> keys) {
+    return processView.getAll(keys);
+  }
+
   @PostFilter("hasPermission(filterObject, 'READ')")
   public List<Process> findAll(Predicate<Process> filter) {
-    return processView.findAll(filter).collect(toList());
+    return findAll(key -> true, filter);
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<Process> findAll(Predicate<ProcessKey> keyFilter, Predicate<Process> filter) {
+    return processView.findAll(keyFilter, filter).collect(toList());
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<Process> findAll(List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries, Predicate<ProcessKey> keyFilter, Predicate<Process> filter) {
+    return processView.findAll(tagQueries, securityQueries, keyFilter, filter).collect(toList());
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public Stream<Process> findAllAfter(ProcessKey after, Predicate<ProcessKey> keyFilter, Predicate<Process> filter) {
+    return processView.findAllAfter(after, keyFilter, filter);
   }
 
   @PreAuthorize("hasPermission(#process, 'DELETE')")
   public void delete(Process process) {
-    handlerService.handleDelete(process);
-
-    // This will cascade to Consumers, ConsumerBindings and Producers, ProducerBindings also
-    processBindingView
-      .findAll(b -> b.getKey().getProcessKey().equals(process.getKey()))
-      .forEach(processBindingService::delete);
+    deleteAsync(process).join();
+  }
 
-    processRepository.delete(process);
+  @PreAuthorize("hasPermission(#process, 'DELETE')")
+  public CompletableFuture<Void> deleteAsync(Process process) {
+    return deletePlanner.delete(process);
   }
 
 }
@@ -17,9 +17,12 @@ package com.expediagroup.streamplatform.streamregistry.core.services;
 
 import static java.util.stream.Collectors.toList;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import lombok.RequiredArgsConstructor;
 import lombok.val;
@@ -37,6 +40,7 @@ import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
 import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerBindingKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
 import com.expediagroup.streamplatform.streamregistry.repository.ProducerBindingRepository;
 
 @Component
@@ -49,6 +53,11 @@ public class ProducerBindingService {
 
   @PreAuthorize("hasPermission(#producerBinding, 'CREATE')")
   public Optional<ProducerBinding> create(ProducerBinding producerBinding) throws ValidationException {
+    return createAsync(producerBinding).join();
+  }
+
+  @PreAuthorize("hasPermission(#producerBinding, 'CREATE')")
+  public CompletableFuture<Optional<ProducerBinding>> createAsync(ProducerBinding producerBinding) throws ValidationException {
     if (producerBindingView.get(producerBinding.getKey()).isPresent()) {
       throw new ValidationException("Can't create " + producerBinding.getKey() + " because it already exists");
     }
@@ -59,6 +68,11 @@ public class ProducerBindingService {
 
   @PreAuthorize("hasPermission(#producerBinding, 'UPDATE')")
   public Optional<ProducerBinding> update(ProducerBinding producerBinding) throws ValidationException {
+    return updateAsync(producerBinding).join();
+  }
+
+  @PreAuthorize("hasPermission(#producerBinding, 'UPDATE')")
+  public CompletableFuture<Optional<ProducerBinding>> updateAsync(ProducerBinding producerBinding) throws ValidationException {
     val existing = producerBindingView.get(producerBinding.getKey());
     if (existing.isEmpty()) {
       throw new ValidationException("Can't update " + producerBinding.getKey() + " because it doesn't exist");
@@ -70,16 +84,21 @@ public class ProducerBindingService {
 
   @PreAuthorize("hasPermission(#producerBinding, 'UPDATE_STATUS')")
   public Optional<ProducerBinding> updateStatus(ProducerBinding producerBinding, Status status) {
+    return updateStatusAsync(producerBinding, status).join();
+  }
+
+  @PreAuthorize("hasPermission(#producerBinding, 'UPDATE_STATUS')")
+  public CompletableFuture<Optional<ProducerBinding>> updateStatusAsync(ProducerBinding producerBinding, Status status) {
     producerBinding.setStatus(status);
     return saveStatus(producerBinding);
   }
 
-  private Optional<ProducerBinding> saveSpecification(ProducerBinding producerBinding) {
-    return Optional.ofNullable(producerBindingRepository.saveSpecification(producerBinding));
+  private CompletableFuture<Optional<ProducerBinding>> saveSpecification(ProducerBinding producerBinding) {
+    return producerBindingRepository.saveSpecificationAsync(producerBinding).thenApply(Optional::ofNullable);
   }
 
-  private Optional<ProducerBinding> saveStatus(ProducerBinding producerBinding) {
-    return Optional.ofNullable(producerBindingRepository.saveStatus(producerBinding));
+  private CompletableFuture<Optional<ProducerBinding>> saveStatus(ProducerBinding producerBinding) {
+    return producerBindingRepository.saveStatusAsync(producerBinding).thenApply(Optional::ofNullable);
   }
 
   @PostAuthorize("returnObject.isPresent() ? hasPermission(returnObject, 'READ') : true")
@@ -87,28 +106,52 @@ public class ProducerBindingService {
     return producerBindingView.get(key);
   }
 
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<ProducerBinding> getAll(Collection<ProducerBindingKey> keys) {
+    return producerBindingView.getAll(keys);
+  }
+
   @PostFilter("hasPermission(filterObject, 'READ')")
   public List<ProducerBinding> findAll(Predicate<ProducerBinding> filter) {
-    return producerBindingView.findAll(filter).collect(toList());
+    return findAll(key -> true, filter);
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<ProducerBinding> findAll(Predicate<ProducerBindingKey> keyFilter, Predicate<ProducerBinding> filter) {
+    return producerBindingView.findAll(keyFilter, filter).collect(toList());
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<ProducerBinding> findAll(List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries, Predicate<ProducerBindingKey> keyFilter, Predicate<ProducerBinding> filter) {
+    return producerBindingView.findAll(tagQueries, securityQueries, keyFilter, filter).collect(toList());
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public Stream<ProducerBinding> findAllAfter(ProducerBindingKey after, Predicate<ProducerBindingKey> keyFilter, Predicate<ProducerBinding> filter) {
+    return producerBindingView.findAllAfter(after, keyFilter, filter);
   }
 
   @PreAuthorize("hasPermission(#producerBinding, 'DELETE')")
   public void delete(ProducerBinding producerBinding) {
+    deleteAsync(producerBinding).join();
+  }
+
+  @PreAuthorize("hasPermission(#producerBinding, 'DELETE')")
+  public CompletableFuture<Void> deleteAsync(ProducerBinding producerBinding) {
     handlerService.handleDelete(producerBinding);
-    producerBindingRepository.delete(producerBinding);
+    return producerBindingRepository.deleteAsync(producerBinding);
   }
 
   @PostAuthorize("returnObject.isPresent() ? hasPermission(returnObject, 'READ') : true")
   public Optional<ProducerBinding> find(ProducerKey key) {
-    val example = new ProducerBinding(new ProducerBindingKey(
-        key.getStreamDomain(),
-        key.getStreamName(),
-        key.getStreamVersion(),
-        key.getZone(),
-        null,
-        key.getName()
-    ), null, null);
-    return producerBindingRepository.findAll(example).stream().findFirst();
+    return producerBindingRepository.findAllByParent(key).stream().findFirst();
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<ProducerBinding> find(Collection<ProducerKey> keys) {
+    return keys.stream()
+        .flatMap(key -> producerBindingRepository.findAllByParent(key).stream().limit(1))
+        .collect(toList());
   }
 
 }
@@ -17,9 +17,12 @@ package com.expediagroup.streamplatform.streamregistry.core.services;
 
 import static java.util.stream.Collectors.toList;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import lombok.RequiredArgsConstructor;
 import lombok.val;
@@ -32,11 +35,11 @@ import org.springframework.stereotype.Component;
 import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ProducerValidator;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ValidationException;
-import com.expediagroup.streamplatform.streamregistry.core.views.ProducerBindingView;
 import com.expediagroup.streamplatform.streamregistry.core.views.ProducerView;
 import com.expediagroup.streamplatform.streamregistry.model.Producer;
 import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
 import com.expediagroup.streamplatform.streamregistry.repository.ProducerRepository;
 
 @Component
@@ -45,12 +48,16 @@ public class ProducerService {
   private final HandlerService handlerService;
   private final ProducerValidator producerValidator;
   private final ProducerRepository producerRepository;
-  private final ProducerBindingService producerBindingService;
-  private final ProducerBindingView producerBindingView;
   private final ProducerView producerView;
+  private final DeletePlanner deletePlanner;
 
   @PreAuthorize("hasPermission(#producer, 'CREATE')")
   public Optional<Producer> create(Producer producer) throws ValidationException {
+    return createAsync(producer).join();
+  }
+
+  @PreAuthorize("hasPermission(#producer, 'CREATE')")
+  public CompletableFuture<Optional<Producer>> createAsync(Producer producer) throws ValidationException {
     if (producerView.get(producer.getKey()).isPresent()) {
       throw new ValidationException("Can't create " + producer.getKey() + " because it already exists");
     }
@@ -61,6 +68,11 @@ public class ProducerService {
 
   @PreAuthorize("hasPermission(#producer, 'UPDATE')")
   public Optional<Producer> update(Producer producer) throws ValidationException {
+    return updateAsync(producer).join();
+  }
+
+  @PreAuthorize("hasPermission(#producer, 'UPDATE')")
+  public CompletableFuture<Optional<Producer>> updateAsync(Producer producer) throws ValidationException {
     val existing = producerView.get(producer.getKey());
     if (existing.isEmpty()) {
       throw new ValidationException("Can't update " + producer.getKey().getName() + " because it doesn't exist");
@@ -72,16 +84,21 @@ public class ProducerService {
 
   @PreAuthorize("hasPermission(#producer, 'UPDATE_STATUS')")
   public Optional<Producer> updateStatus(Producer producer, Status status) {
+    return updateStatusAsync(producer, status).join();
+  }
+
+  @PreAuthorize("hasPermission(#producer, 'UPDATE_STATUS')")
+  public CompletableFuture<Optional<Producer>> updateStatusAsync(Producer producer, Status status) {
     producer.setStatus(status);
     return saveStatus(producer);
   }
 
-  private Optional<Producer> saveSpecification(Producer producer) {
-    return Optional.ofNullable(producerRepository.saveSpecification(producer));
+  private CompletableFuture<Optional<Producer>> saveSpecification(Producer producer) {
+    return producerRepository.saveSpecificationAsync(producer).thenApply(Optional::ofNullable);
   }
 
-  private Optional<Producer> saveStatus(Producer producer) {
-    return Optional.ofNullable(producerRepository.saveStatus(producer));
+  private CompletableFuture<Optional<Producer>> saveStatus(Producer producer) {
+    return producerRepository.saveStatusAsync(producer).thenApply(Optional::ofNullable);
   }
 
   @PostAuthorize("returnObject.isPresent() ? hasPermission(returnObject, 'READ') : true")
@@ -89,18 +106,39 @@ public class ProducerService {
     return producerView.get(key);
   }
 
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<Producer> getAll(Collection<ProducerKey> keys) {
+    return producerView.getAll(keys);
+  }
+
   @PostFilter("hasPermission(filterObject, 'READ')")
   public List<Producer> findAll(Predicate<Producer> filter) {
-    return producerView.findAll(filter).collect(toList());
+    return findAll(key -> true, filter);
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<Producer> findAll(Predicate<ProducerKey> keyFilter, Predicate<Producer> filter) {
+    return producerView.findAll(keyFilter, filter).collect(toList());
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<Producer> findAll(List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries, Predicate<ProducerKey> keyFilter, Predicate<Producer> filter) {
+    return producerView.findAll(tagQueries, securityQueries, keyFilter, filter).collect(toList());
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public Stream<Producer> findAllAfter(ProducerKey after, Predicate<ProducerKey> keyFilter, Predicate<Producer> filter) {
+    return producerView.findAllAfter(after, keyFilter, filter);
   }
 
   @PreAuthorize("hasPermission(#producer, 'DELETE')")
   public void delete(Producer producer) {
-    handlerService.handleDelete(producer);
-    producerBindingView
-      .findAll(b -> b.getKey().getProducerKey().equals(producer.getKey()))
-      .forEach(producerBindingService::delete);
-    producerRepository.delete(producer);
+    deleteAsync(producer).join();
+  }
+
+  @PreAuthorize("hasPermission(#producer, 'DELETE')")
+  public CompletableFuture<Void> deleteAsync(Producer producer) {
+    return deletePlanner.delete(producer);
   }
 
   @PreAuthorize("hasPermission(#producer, 'CREATE')")
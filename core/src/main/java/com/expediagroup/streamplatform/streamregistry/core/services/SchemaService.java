@@ -17,9 +17,12 @@ package com.expediagroup.streamplatform.streamregistry.core.services;
 
 import static java.util.stream.Collectors.toList;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import lombok.RequiredArgsConstructor;
 import lombok.val;
@@ -36,6 +39,7 @@ import com.expediagroup.streamplatform.streamregistry.core.views.SchemaView;
 import com.expediagroup.streamplatform.streamregistry.model.Schema;
 import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.keys.SchemaKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
 import com.expediagroup.streamplatform.streamregistry.repository.SchemaRepository;
 
 @Component
@@ -48,6 +52,11 @@ public class SchemaService {
 
   @PreAuthorize("hasPermission(#schema, 'CREATE')")
   public Optional<Schema> create(Schema schema) throws ValidationException {
+    return createAsync(schema).join();
+  }
+
+  @PreAuthorize("hasPermission(#schema, 'CREATE')")
+  public CompletableFuture<Optional<Schema>> createAsync(Schema schema) throws ValidationException {
     if (schemaView.get(schema.getKey()).isPresent()) {
       throw new ValidationException("Can't create " + schema.getKey() + " because it already exists");
     }
@@ -58,6 +67,11 @@ public class SchemaService {
 
   @PreAuthorize("hasPermission(#schema, 'UPDATE')")
   public Optional<Schema> update(Schema schema) throws ValidationException {
+    return updateAsync(schema).join();
+  }
+
+  @PreAuthorize("hasPermission(#schema, 'UPDATE')")
+  public CompletableFuture<Optional<Schema>> updateAsync(Schema schema) throws ValidationException {
     val existing = schemaView.get(schema.getKey());
     if (!existing.isPresent()) {
       throw new ValidationException("Can't update " + schema.getKey().getName() + " because it doesn't exist");
@@ -69,16 +83,21 @@ public class SchemaService {
 
   @PreAuthorize("hasPermission(#schema, 'UPDATE_STATUS')")
   public Optional<Schema> updateStatus(Schema schema, Status status) {
+    return updateStatusAsync(schema, status).join();
+  }
+
+  @PreAuthorize("hasPermission(#schema, 'UPDATE_STATUS')")
+  public CompletableFuture<Optional<Schema>> updateStatusAsync(Schema schema, Status status) {
     schema.setStatus(status);
     return saveStatus(schema);
   }
 
-  private Optional<Schema> saveSpecification(Schema schema) {
-    return Optional.ofNullable(schemaRepository.saveSpecification(schema));
+  private CompletableFuture<Optional<Schema>> saveSpecification(Schema schema) {
+    return schemaRepository.saveSpecificationAsync(schema).thenApply(Optional::ofNullable);
   }
 
-  private Optional<Schema> saveStatus(Schema schema) {
-    return Optional.ofNullable(schemaRepository.saveStatus(schema));
+  private CompletableFuture<Optional<Schema>> saveStatus(Schema schema) {
+    return schemaRepository.saveStatusAsync(schema).thenApply(Optional::ofNullable);
   }
 
   @PostAuthorize("returnObject.isPresent() ? hasPermission(returnObject, 'READ') : true")
@@ -86,15 +105,40 @@ public class SchemaService {
     return schemaView.get(key);
   }
 
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<Schema> getAll(Collection<SchemaKey> keys) {
+    return schemaView.getAll(keys);
+  }
+
   @PostFilter("hasPermission(filterObject, 'READ')")
   public List<Schema> findAll(Predicate<Schema> filter) {
-    return schemaRepository.findAll().stream().filter(filter).collect(toList());
+    return findAll(key -> true, filter);
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<Schema> findAll(Predicate<SchemaKey> keyFilter, Predicate<Schema> filter) {
+    return schemaRepository.stream(keyFilter).filter(filter).collect(toList());
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<Schema> findAll(List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries, Predicate<SchemaKey> keyFilter, Predicate<Schema> filter) {
+    return schemaRepository.stream(tagQueries, securityQueries, keyFilter).filter(filter).collect(toList());
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public Stream<Schema> findAllAfter(SchemaKey after, Predicate<SchemaKey> keyFilter, Predicate<Schema> filter) {
+    return schemaRepository.streamAfter(after, keyFilter).filter(filter);
   }
 
   @PreAuthorize("hasPermission(#schema, 'DELETE')")
   public void delete(Schema schema) {
+    deleteAsync(schema).join();
+  }
+
+  @PreAuthorize("hasPermission(#schema, 'DELETE')")
+  public CompletableFuture<Void> deleteAsync(Schema schema) {
     handlerService.handleDelete(schema);
-    schemaRepository.delete(schema);
+    return schemaRepository.deleteAsync(schema);
   }
 
 }
@@ -17,9 +17,12 @@ package com.expediagroup.streamplatform.streamregistry.core.services;
 
 import static java.util.stream.Collectors.toList;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import lombok.RequiredArgsConstructor;
 import lombok.val;
@@ -32,16 +35,11 @@ import org.springframework.stereotype.Component;
 import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
 import com.expediagroup.streamplatform.streamregistry.core.validators.StreamBindingValidator;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ValidationException;
-import com.expediagroup.streamplatform.streamregistry.core.views.ConsumerBindingView;
-import com.expediagroup.streamplatform.streamregistry.core.views.ProcessBindingView;
-import com.expediagroup.streamplatform.streamregistry.core.views.ProducerBindingView;
 import com.expediagroup.streamplatform.streamregistry.core.views.StreamBindingView;
-import com.expediagroup.streamplatform.streamregistry.model.ProcessBinding;
-import com.expediagroup.streamplatform.streamregistry.model.ProcessInputStreamBinding;
-import com.expediagroup.streamplatform.streamregistry.model.ProcessOutputStreamBinding;
 import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
 import com.expediagroup.streamplatform.streamregistry.model.keys.StreamBindingKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
 import com.expediagroup.streamplatform.streamregistry.repository.StreamBindingRepository;
 
 @Component
@@ -50,15 +48,16 @@ public class StreamBindingService {
   private final HandlerService handlerService;
   private final StreamBindingValidator streamBindingValidator;
   private final StreamBindingRepository streamBindingRepository;
-  private final ConsumerBindingService consumerBindingService;
-  private final ProducerBindingService producerBindingService;
-  private final ConsumerBindingView consumerBindingView;
-  private final ProducerBindingView producerBindingView;
   private final StreamBindingView streamBindingView;
-  private final ProcessBindingView processBindingView;
+  private final DeletePlanner deletePlanner;
 
   @PreAuthorize("hasPermission(#streamBinding, 'CREATE')")
   public Optional<StreamBinding> create(StreamBinding streamBinding) throws ValidationException {
+    return createAsync(streamBinding).join();
+  }
+
+  @PreAuthorize("hasPermission(#streamBinding, 'CREATE')")
+  public CompletableFuture<Optional<StreamBinding>> createAsync(StreamBinding streamBinding) throws ValidationException {
     if (streamBindingView.get(streamBinding.getKey()).isPresent()) {
       throw new ValidationException("Can't create " + streamBinding.getKey() + " because it already exists");
     }
@@ -69,6 +68,11 @@ public class StreamBindingService {
 
   @PreAuthorize("hasPermission(#streamBinding, 'UPDATE')")
   public Optional<StreamBinding> update(StreamBinding streamBinding) throws ValidationException {
+    return updateAsync(streamBinding).join();
+  }
+
+  @PreAuthorize("hasPermission(#streamBinding, 'UPDATE')")
+  public CompletableFuture<Optional<StreamBinding>> updateAsync(StreamBinding streamBinding) throws ValidationException {
     val existing = streamBindingView.get(streamBinding.getKey());
     if (existing.isEmpty()) {
       throw new ValidationException("Can't update " + streamBinding.getKey() + " because it doesn't exist");
@@ -80,16 +84,21 @@ public class StreamBindingService {
 
   @PreAuthorize("hasPermission(#streamBinding, 'UPDATE_STATUS')")
   public Optional<StreamBinding> updateStatus(StreamBinding streamBinding, Status status) {
+    return updateStatusAsync(streamBinding, status).join();
+  }
+
+  @PreAuthorize("hasPermission(#streamBinding, 'UPDATE_STATUS')")
+  public CompletableFuture<Optional<StreamBinding>> updateStatusAsync(StreamBinding streamBinding, Status status) {
     streamBinding.setStatus(status);
     return saveStatus(streamBinding);
   }
 
-  private Optional<StreamBinding> saveSpecification(StreamBinding streamBinding) {
-    return Optional.ofNullable(streamBindingRepository.saveSpecification(streamBinding));
+  private CompletableFuture<Optional<StreamBinding>> saveSpecification(StreamBinding streamBinding) {
+    return streamBindingRepository.saveSpecificationAsync(streamBinding).thenApply(Optional::ofNullable);
   }
 
-  private Optional<StreamBinding> saveStatus(StreamBinding streamBinding) {
-    return Optional.ofNullable(streamBindingRepository.saveStatus(streamBinding));
+  private CompletableFuture<Optional<StreamBinding>> saveStatus(StreamBinding streamBinding) {
+    return streamBindingRepository.saveStatusAsync(streamBinding).thenApply(Optional::ofNullable);
   }
 
   @PostAuthorize("returnObject.isPresent() ? hasPermission(returnObject, 'READ') : true")
@@ -98,44 +107,37 @@ public class StreamBindingService {
   }
 
   @PostFilter("hasPermission(filterObject, 'READ')")
-  public List<StreamBinding> findAll(Predicate<StreamBinding> filter) {
-    return streamBindingView.findAll(filter).collect(toList());
+  public List<StreamBinding> getAll(Collection<StreamBindingKey> keys) {
+    return streamBindingView.getAll(keys);
   }
 
-  @PreAuthorize("hasPermission(#streamBinding, 'DELETE')")
-  public void delete(StreamBinding streamBinding) {
-    handlerService.handleDelete(streamBinding);
-
-    processBindingView
-      .findAll(pb -> isStreamBindingUsedInProcessBinding(streamBinding, pb))
-      .findAny()
-      .ifPresent(pb -> { throw new IllegalStateException("Stream binding is used in process binding: " + pb.getKey()); });
-
-    // Remove producers AFTER consumers - a consumer is nothing without a producer
-    consumerBindingView
-      .findAll(b -> b.getKey().getStreamBindingKey().equals(streamBinding.getKey()))
-      .forEach(consumerBindingService::delete);
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<StreamBinding> findAll(Predicate<StreamBinding> filter) {
+    return findAll(key -> true, filter);
+  }
 
-    // We have no consumers so we can now remove the producers
-    producerBindingView
-      .findAll(b -> b.getKey().getStreamBindingKey().equals(streamBinding.getKey()))
-      .forEach(producerBindingService::delete);
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<StreamBinding> findAll(Predicate<StreamBindingKey> keyFilter, Predicate<StreamBinding> filter) {
+    return streamBindingView.findAll(keyFilter, filter).collect(toList());
+  }
 
-    streamBindingRepository.delete(streamBinding);
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<StreamBinding> findAll(List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries, Predicate<StreamBindingKey> keyFilter, Predicate<StreamBinding> filter) {
+    return streamBindingView.findAll(tagQueries, securityQueries, keyFilter, filter).collect(toList());
   }
 
-  private boolean isStreamBindingUsedInProcessBinding(StreamBinding streamBinding, ProcessBinding processBinding) {
-    return isStreamBindingUsedInProcessBindingOutput(streamBinding, processBinding) ||
-      isStreamBindingUsedInProcessBindingInput(streamBinding, processBinding);
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public Stream<StreamBinding> findAllAfter(StreamBindingKey after, Predicate<StreamBindingKey> keyFilter, Predicate<StreamBinding> filter) {
+    return streamBindingView.findAllAfter(after, keyFilter, filter);
   }
 
-  private boolean isStreamBindingUsedInProcessBindingOutput(StreamBinding streamBinding, ProcessBinding processBinding) {
-    return processBinding.getOutputs().stream().map(ProcessOutputStreamBinding::getStreamBindingKey)
-      .anyMatch(streamBindingKey -> streamBindingKey.equals(streamBinding.getKey()));
+  @PreAuthorize("hasPermission(#streamBinding, 'DELETE')")
+  public void delete(StreamBinding streamBinding) {
+    deleteAsync(streamBinding).join();
   }
 
-  private boolean isStreamBindingUsedInProcessBindingInput(StreamBinding streamBinding, ProcessBinding processBinding) {
-    return processBinding.getInputs().stream().map(ProcessInputStreamBinding::getStreamBindingKey)
-      .anyMatch(streamBindingKey -> streamBindingKey.equals(streamBinding.getKey()));
+  @PreAuthorize("hasPermission(#streamBinding, 'DELETE')")
+  public CompletableFuture<Void> deleteAsync(StreamBinding streamBinding) {
+    return deletePlanner.delete(streamBinding);
   }
 }
@@ -17,9 +17,10 @@ package com.expediagroup.streamplatform.streamregistry.core.services;
 
 import static java.util.stream.Collectors.toList;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import lombok.RequiredArgsConstructor;
@@ -33,19 +34,11 @@ import org.springframework.stereotype.Component;
 import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
 import com.expediagroup.streamplatform.streamregistry.core.validators.StreamValidator;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ValidationException;
-import com.expediagroup.streamplatform.streamregistry.core.views.ConsumerView;
-import com.expediagroup.streamplatform.streamregistry.core.views.ProcessView;
-import com.expediagroup.streamplatform.streamregistry.core.views.ProducerView;
-import com.expediagroup.streamplatform.streamregistry.core.views.SchemaView;
-import com.expediagroup.streamplatform.streamregistry.core.views.StreamBindingView;
 import com.expediagroup.streamplatform.streamregistry.core.views.StreamView;
-import com.expediagroup.streamplatform.streamregistry.model.Process;
-import com.expediagroup.streamplatform.streamregistry.model.ProcessInputStream;
-import com.expediagroup.streamplatform.streamregistry.model.ProcessOutputStream;
 import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.Stream;
-import com.expediagroup.streamplatform.streamregistry.model.keys.SchemaKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
 import com.expediagroup.streamplatform.streamregistry.repository.StreamRepository;
 
 @Component
@@ -54,20 +47,16 @@ public class StreamService {
   private final HandlerService handlerService;
   private final StreamValidator streamValidator;
   private final StreamRepository streamRepository;
-  private final StreamBindingService streamBindingService;
-  private final ProducerService producerService;
-  private final ConsumerService consumerService;
-  private final SchemaService schemaService;
-  private final ProcessService processService;
   private final StreamView streamView;
-  private final StreamBindingView streamBindingView;
-  private final ProducerView producerView;
-  private final ConsumerView consumerView;
-  private final SchemaView schemaView;
-  private final ProcessView processView;
+  private final DeletePlanner deletePlanner;
 
   @PreAuthorize("hasPermission(#stream, 'CREATE')")
   public Optional<Stream> create(Stream stream) throws ValidationException {
+    return createAsync(stream).join();
+  }
+
+  @PreAuthorize("hasPermission(#stream, 'CREATE')")
+  public CompletableFuture<Optional<Stream>> createAsync(Stream stream) throws ValidationException {
     if (streamView.get(stream.getKey()).isPresent()) {
       throw new ValidationException("Can't create " + stream.getKey() + " because it already exists");
     }
@@ -78,6 +67,11 @@ public class StreamService {
 
   @PreAuthorize("hasPermission(#stream, 'UPDATE')")
   public Optional<Stream> update(Stream stream) throws ValidationException {
+    return updateAsync(stream).join();
+  }
+
+  @PreAuthorize("hasPermission(#stream, 'UPDATE')")
+  public CompletableFuture<Optional<Stream>> updateAsync(Stream stream) throws ValidationException {
     val existing = streamView.get(stream.getKey());
     if (existing.isEmpty()) {
       throw new ValidationException("Can't update " + stream.getKey() + " because it doesn't exist");
@@ -90,16 +84,21 @@ public class StreamService {
 
   @PreAuthorize("hasPermission(#stream, 'UPDATE_STATUS')")
   public Optional<Stream> updateStatus(Stream stream, Status status) {
+    return updateStatusAsync(stream, status).join();
+  }
+
+  @PreAuthorize("hasPermission(#stream, 'UPDATE_STATUS')")
+  public CompletableFuture<Optional<Stream>> updateStatusAsync(Stream stream, Status status) {
     stream.setStatus(status);
     return saveStatus(stream);
   }
 
-  private Optional<Stream> saveSpecification(Stream stream) {
-    return Optional.ofNullable(streamRepository.saveSpecification(stream));
+  private CompletableFuture<Optional<Stream>> saveSpecification(Stream stream) {
+    return streamRepository.saveSpecificationAsync(stream).thenApply(Optional::ofNullable);
   }
 
-  private Optional<Stream> saveStatus(Stream stream) {
-    return Optional.ofNullable(streamRepository.saveStatus(stream));
+  private CompletableFuture<Optional<Stream>> saveStatus(Stream stream) {
+    return streamRepository.saveStatusAsync(stream).thenApply(Optional::ofNullable);
   }
 
   @PostAuthorize("returnObject.isPresent() ? hasPermission(returnObject, 'READ') : true")
@@ -107,73 +106,38 @@ public class StreamService {
     return streamView.get(key);
   }
 
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<Stream> getAll(Collection<StreamKey> keys) {
+    return streamView.getAll(keys);
+  }
+
   @PostFilter("hasPermission(filterObject, 'READ')")
   public List<Stream> findAll(Predicate<Stream> filter) {
-    return streamView.findAll(filter).collect(toList());
+    return findAll(key -> true, filter);
   }
 
-  @PreAuthorize("hasPermission(#stream, 'DELETE')")
-  public void delete(Stream stream) {
-    handlerService.handleDelete(stream);
-
-    // Find all Processes that have multiple different stream inputs/outputs which also have this Stream as an input or output.
-    // These processes would be left invalid if the stream was deleted, so block the delete of this Stream.
-
-    allProcessesForStream(stream)
-      .filter(process -> processInputOutputStreamKeySet(process).size() > 1)
-      .findAny()
-      .ifPresent(process -> {
-        throw new IllegalStateException("Cannot delete Stream, Processes depend on it including: " + processKeyString(process));
-      });
-
-    // Assuming the above check passed, then cascade deletes to Processes which have ONLY this stream as input/output.
-    // These types of Processes would be entirely useless without the Stream and so can be safely deleted.
-    // This will cascade to ProcessBinding also.
-    allProcessesForStream(stream)
-      .filter(process -> processInputOutputStreamKeySet(process).size() == 1)
-      .forEach(processService::delete);
-
-    // This will cascade to ConsumerBinding and ProducerBinding also
-    streamBindingView
-      .findAll(b -> b.getKey().getStreamKey().equals(stream.getKey()))
-      .forEach(streamBindingService::delete);
-
-    // Remove producers AFTER consumers - a consumer is nothing without a producer
-    consumerView
-      .findAll(c -> c.getKey().getStreamKey().equals(stream.getKey()))
-      .forEach(consumerService::delete);
-
-    // We have no consumers so we can now remove the producers
-    producerView
-      .findAll(p -> p.getKey().getStreamKey().equals(stream.getKey()))
-      .forEach(producerService::delete);
-
-    streamRepository.delete(stream);
-
-    SchemaKey schemaKey = stream.getSchemaKey();
-    boolean schemaReferencedByOtherStreams = streamView.findAll(s -> s.getSchemaKey().equals(schemaKey))
-      .anyMatch(s -> !s.getKey().equals(stream.getKey()));
-
-    if (!schemaReferencedByOtherStreams) {
-      schemaView.get(schemaKey).ifPresent(schemaService::delete);
-    }
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<Stream> findAll(Predicate<StreamKey> keyFilter, Predicate<Stream> filter) {
+    return streamView.findAll(keyFilter, filter).collect(toList());
   }
 
-  private String processKeyString(Process process) {
-    return process.getKey().getDomain() + ":" + process.getKey().getName();
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<Stream> findAll(List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries, Predicate<StreamKey> keyFilter, Predicate<Stream> filter) {
+    return streamView.findAll(tagQueries, securityQueries, keyFilter, filter).collect(toList());
   }
 
-  private Set<StreamKey> processInputOutputStreamKeySet(Process process) {
-    return java.util.stream.Stream.concat(
-      process.getInputs().stream().map(ProcessInputStream::getStream),
-      process.getOutputs().stream().map(ProcessOutputStream::getStream)
-    ).collect(java.util.stream.Collectors.toSet());
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public java.util.stream.Stream<Stream> findAllAfter(StreamKey after, Predicate<StreamKey> keyFilter, Predicate<Stream> filter) {
+    return streamView.findAllAfter(after, keyFilter, filter);
   }
 
-  private java.util.stream.Stream<Process> allProcessesForStream(Stream stream) {
-    return processView.findAll(process ->
-      process.getInputs().stream().anyMatch(input -> input.getStream().equals(stream.getKey())) ||
-        process.getOutputs().stream().anyMatch(output -> output.getStream().equals(stream.getKey()))
-    );
+  @PreAuthorize("hasPermission(#stream, 'DELETE')")
+  public void delete(Stream stream) {
+    deleteAsync(stream).join();
+  }
+
+  @PreAuthorize("hasPermission(#stream, 'DELETE')")
+  public CompletableFuture<Void> deleteAsync(Stream stream) {
+    return deletePlanner.delete(stream);
   }
 }
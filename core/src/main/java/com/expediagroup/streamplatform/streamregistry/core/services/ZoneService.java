@@ -17,9 +17,12 @@ package com.expediagroup.streamplatform.streamregistry.core.services;
 
 import static java.util.stream.Collectors.toList;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import lombok.RequiredArgsConstructor;
 import lombok.val;
@@ -43,6 +46,7 @@ import com.expediagroup.streamplatform.streamregistry.model.ProcessBinding;
 import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.Zone;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ZoneKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
 import com.expediagroup.streamplatform.streamregistry.repository.ZoneRepository;
 
 @Component
@@ -58,9 +62,15 @@ public class ZoneService {
   private final ProcessBindingView processBindingView;
   private final ProcessView processView;
   private final InfrastructureView infrastructureView;
+  private final DeletePlanner deletePlanner;
 
   @PreAuthorize("hasPermission(#zone, 'CREATE')")
   public Optional<Zone> create(Zone zone) throws ValidationException {
+    return createAsync(zone).join();
+  }
+
+  @PreAuthorize("hasPermission(#zone, 'CREATE')")
+  public CompletableFuture<Optional<Zone>> createAsync(Zone zone) throws ValidationException {
     if (zoneView.get(zone.getKey()).isPresent()) {
       throw new ValidationException("Can't create " + zone.getKey() + " because it already exists");
     }
@@ -71,6 +81,11 @@ public class ZoneService {
 
   @PreAuthorize("hasPermission(#zone, 'UPDATE')")
   public Optional<Zone> update(Zone zone) throws ValidationException {
+    return updateAsync(zone).join();
+  }
+
+  @PreAuthorize("hasPermission(#zone, 'UPDATE')")
+  public CompletableFuture<Optional<Zone>> updateAsync(Zone zone) throws ValidationException {
     val existing = zoneView.get(zone.getKey());
     if (existing.isEmpty()) {
       throw new ValidationException("Can't update " + zone.getKey().getName() + " because it doesn't exist");
@@ -82,16 +97,21 @@ public class ZoneService {
 
   @PreAuthorize("hasPermission(#zone, 'UPDATE_STATUS')")
   public Optional<Zone> updateStatus(Zone zone, Status status) {
+    return updateStatusAsync(zone, status).join();
+  }
+
+  @PreAuthorize("hasPermission(#zone, 'UPDATE_STATUS')")
+  public CompletableFuture<Optional<Zone>> updateStatusAsync(Zone zone, Status status) {
     zone.setStatus(status);
     return saveStatus(zone);
   }
 
-  private Optional<Zone> saveSpecification(Zone zone) {
-    return Optional.ofNullable(zoneRepository.saveSpecification(zone));
+  private CompletableFuture<Optional<Zone>> saveSpecification(Zone zone) {
+    return zoneRepository.saveSpecificationAsync(zone).thenApply(Optional::ofNullable);
   }
 
-  private Optional<Zone> saveStatus(Zone zone) {
-    return Optional.ofNullable(zoneRepository.saveStatus(zone));
+  private CompletableFuture<Optional<Zone>> saveStatus(Zone zone) {
+    return zoneRepository.saveStatusAsync(zone).thenApply(Optional::ofNullable);
   }
 
   @PostAuthorize("returnObject.isPresent() ? hasPermission(returnObject, 'READ') : true")
@@ -99,45 +119,69 @@ public class ZoneService {
     return zoneView.get(key);
   }
 
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<Zone> getAll(Collection<ZoneKey> keys) {
+    return zoneView.getAll(keys);
+  }
+
   @PostFilter("hasPermission(filterObject, 'READ')")
   public List<Zone> findAll(Predicate<Zone> filter) {
-    return zoneRepository.findAll().stream().filter(filter).collect(toList());
+    return findAll(key -> true, filter);
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<Zone> findAll(Predicate<ZoneKey> keyFilter, Predicate<Zone> filter) {
+    return zoneRepository.stream(keyFilter).filter(filter).collect(toList());
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public List<Zone> findAll(List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries, Predicate<ZoneKey> keyFilter, Predicate<Zone> filter) {
+    return zoneRepository.stream(tagQueries, securityQueries, keyFilter).filter(filter).collect(toList());
+  }
+
+  @PostFilter("hasPermission(filterObject, 'READ')")
+  public Stream<Zone> findAllAfter(ZoneKey after, Predicate<ZoneKey> keyFilter, Predicate<Zone> filter) {
+    return zoneRepository.streamAfter(after, keyFilter).filter(filter);
   }
 
   @PreAuthorize("hasPermission(#zone, 'DELETE')")
   public void delete(Zone zone) {
-    handlerService.handleDelete(zone);
+    deleteAsync(zone).join();
+  }
+
+  @PreAuthorize("hasPermission(#zone, 'DELETE')")
+  public CompletableFuture<Void> deleteAsync(Zone zone) {
     streamBindingView
-      .findAll(sb -> sb.getKey().getInfrastructureKey().getZoneKey().equals(zone.getKey()))
+      .findAllByParent(zone.getKey(), sb -> sb.getKey().getInfrastructureKey().getZoneKey().equals(zone.getKey()))
       .findAny()
       .ifPresent(sb -> { throw new IllegalStateException("Zone is used in stream: " + sb.getKey().getStreamKey()); });
 
     consumerBindingView
-      .findAll(cb -> cb.getKey().getConsumerKey().getZoneKey().equals(zone.getKey()))
+      .findAllByParent(zone.getKey(), cb -> cb.getKey().getConsumerKey().getZoneKey().equals(zone.getKey()))
       .findAny()
       .ifPresent(cb -> { throw new IllegalStateException("Zone is used in consumer binding: " + cb.getKey()); });
 
     producerBindingView
-      .findAll(pb -> pb.getKey().getProducerKey().getZoneKey().equals(zone.getKey()))
+      .findAllByParent(zone.getKey(), pb -> pb.getKey().getProducerKey().getZoneKey().equals(zone.getKey()))
       .findAny()
       .ifPresent(pb -> { throw new IllegalStateException("Zone is used in producer binding: " + pb.getKey()); });
 
     processBindingView
-      .findAll(pb -> isZoneUsedInProcessBinding(zone, pb))
+      .findAllByParent(zone.getKey(), pb -> isZoneUsedInProcessBinding(zone, pb))
       .findAny()
       .ifPresent(pb -> { throw new IllegalStateException("Zone is used in process binding: " + pb.getKey()); });
 
     processView
-      .findAll(p -> p.getZones().contains(zone.getKey()))
+      .findAllByParent(zone.getKey(), p -> p.getZones().contains(zone.getKey()))
       .findAny()
       .ifPresent(p -> { throw new IllegalStateException("Zone is used in process: " + p.getKey()); });
 
     infrastructureView
-      .findAll(infra -> infra.getKey().getZoneKey().equals(zone.getKey()))
+      .findAllByParent(zone.getKey(), infra -> infra.getKey().getZoneKey().equals(zone.getKey()))
       .findAny()
       .ifPresent(infra -> { throw new IllegalStateException("Zone is used in infrastructure: " + infra.getKey()); });
 
-    zoneRepository.delete(zone);
+    return deletePlanner.delete(zone, zoneRepository);
   }
 
   private boolean isZoneUsedInProcessBinding(Zone zone, ProcessBinding processBinding) {
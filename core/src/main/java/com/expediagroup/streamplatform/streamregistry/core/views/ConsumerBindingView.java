@@ -15,6 +15,8 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.views;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -25,6 +27,8 @@ import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ParentKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
 import com.expediagroup.streamplatform.streamregistry.repository.ConsumerBindingRepository;
 
 @Component
@@ -36,8 +40,28 @@ public class ConsumerBindingView {
     return consumerBindingRepository.findById(key);
   }
 
+  public List<ConsumerBinding> getAll(Collection<ConsumerBindingKey> keys) {
+    return consumerBindingRepository.findAllById(keys);
+  }
+
   public Stream<ConsumerBinding> findAll(Predicate<ConsumerBinding> filter) {
-    return consumerBindingRepository.findAll().stream().filter(filter);
+    return findAll(key -> true, filter);
+  }
+
+  public Stream<ConsumerBinding> findAll(Predicate<ConsumerBindingKey> keyFilter, Predicate<ConsumerBinding> filter) {
+    return consumerBindingRepository.stream(keyFilter).filter(filter);
+  }
+
+  public Stream<ConsumerBinding> findAll(List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries, Predicate<ConsumerBindingKey> keyFilter, Predicate<ConsumerBinding> filter) {
+    return consumerBindingRepository.stream(tagQueries, securityQueries, keyFilter).filter(filter);
+  }
+
+  public Stream<ConsumerBinding> findAllAfter(ConsumerBindingKey after, Predicate<ConsumerBindingKey> keyFilter, Predicate<ConsumerBinding> filter) {
+    return consumerBindingRepository.streamAfter(after, keyFilter).filter(filter);
+  }
+
+  public Stream<ConsumerBinding> findAllByParent(ParentKey parentKey, Predicate<ConsumerBinding> filter) {
+    return consumerBindingRepository.findAllByParent(parentKey).stream().filter(filter);
   }
 
   public boolean exists(ConsumerBindingKey key) {
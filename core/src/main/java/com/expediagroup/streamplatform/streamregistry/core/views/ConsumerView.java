@@ -15,6 +15,8 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.views;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -25,6 +27,8 @@ import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.model.Consumer;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ParentKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
 import com.expediagroup.streamplatform.streamregistry.repository.ConsumerRepository;
 
 @Component
@@ -36,8 +40,28 @@ public class ConsumerView {
     return consumerRepository.findById(key);
   }
 
+  public List<Consumer> getAll(Collection<ConsumerKey> keys) {
+    return consumerRepository.findAllById(keys);
+  }
+
   public Stream<Consumer> findAll(Predicate<Consumer> filter) {
-    return consumerRepository.findAll().stream().filter(filter);
+    return findAll(key -> true, filter);
+  }
+
+  public Stream<Consumer> findAll(Predicate<ConsumerKey> keyFilter, Predicate<Consumer> filter) {
+    return consumerRepository.stream(keyFilter).filter(filter);
+  }
+
+  public Stream<Consumer> findAll(List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries, Predicate<ConsumerKey> keyFilter, Predicate<Consumer> filter) {
+    return consumerRepository.stream(tagQueries, securityQueries, keyFilter).filter(filter);
+  }
+
+  public Stream<Consumer> findAllAfter(ConsumerKey after, Predicate<ConsumerKey> keyFilter, Predicate<Consumer> filter) {
+    return consumerRepository.streamAfter(after, keyFilter).filter(filter);
+  }
+
+  public Stream<Consumer> findAllByParent(ParentKey parentKey, Predicate<Consumer> filter) {
+    return consumerRepository.findAllByParent(parentKey).stream().filter(filter);
   }
 
   public boolean exists(ConsumerKey key) {
@@ -15,6 +15,8 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.views;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
@@ -34,6 +36,10 @@ public class DomainView {
     return domainRepository.findById(key);
   }
 
+  public List<Domain> getAll(Collection<DomainKey> keys) {
+    return domainRepository.findAllById(keys);
+  }
+
   public boolean exists(DomainKey key) {
     return get(key).isPresent();
   }
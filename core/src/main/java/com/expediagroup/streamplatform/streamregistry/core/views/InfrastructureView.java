@@ -15,6 +15,8 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.views;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -25,6 +27,8 @@ import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.model.Infrastructure;
 import com.expediagroup.streamplatform.streamregistry.model.keys.InfrastructureKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ParentKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
 import com.expediagroup.streamplatform.streamregistry.repository.InfrastructureRepository;
 
 @Component
@@ -36,8 +40,28 @@ public class InfrastructureView {
     return infrastructureRepository.findById(key);
   }
 
+  public List<Infrastructure> getAll(Collection<InfrastructureKey> keys) {
+    return infrastructureRepository.findAllById(keys);
+  }
+
   public Stream<Infrastructure> findAll(Predicate<Infrastructure> filter) {
-    return infrastructureRepository.findAll().stream().filter(filter);
+    return findAll(key -> true, filter);
+  }
+
+  public Stream<Infrastructure> findAll(Predicate<InfrastructureKey> keyFilter, Predicate<Infrastructure> filter) {
+    return infrastructureRepository.stream(keyFilter).filter(filter);
+  }
+
+  public Stream<Infrastructure> findAll(List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries, Predicate<InfrastructureKey> keyFilter, Predicate<Infrastructure> filter) {
+    return infrastructureRepository.stream(tagQueries, securityQueries, keyFilter).filter(filter);
+  }
+
+  public Stream<Infrastructure> findAllAfter(InfrastructureKey after, Predicate<InfrastructureKey> keyFilter, Predicate<Infrastructure> filter) {
+    return infrastructureRepository.streamAfter(after, keyFilter).filter(filter);
+  }
+
+  public Stream<Infrastructure> findAllByParent(ParentKey parentKey, Predicate<Infrastructure> filter) {
+    return infrastructureRepository.findAllByParent(parentKey).stream().filter(filter);
   }
 
   public boolean exists(InfrastructureKey key) {
@@ -15,6 +15,8 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.views;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -24,7 +26,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.model.ProcessBinding;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ParentKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProcessBindingKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
 import com.expediagroup.streamplatform.streamregistry.repository.ProcessBindingRepository;
 
 @Component
@@ -36,8 +40,28 @@ public class ProcessBindingView {
     return processBindingRepository.findById(key);
   }
 
+  public List<ProcessBinding> getAll(Collection<ProcessBindingKey> keys) {
+    return processBindingRepository.findAllById(keys);
+  }
+
   public Stream<ProcessBinding> findAll(Predicate<ProcessBinding> filter) {
-    return processBindingRepository.findAll().stream().filter(filter);
+    return findAll(key -> true, filter);
+  }
+
+  public Stream<ProcessBinding> findAll(Predicate<ProcessBindingKey> keyFilter, Predicate<ProcessBinding> filter) {
+    return processBindingRepository.stream(keyFilter).filter(filter);
+  }
+
+  public Stream<ProcessBinding> findAll(List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries, Predicate<ProcessBindingKey> keyFilter, Predicate<ProcessBinding> filter) {
+    return processBindingRepository.stream(tagQueries, securityQueries, keyFilter).filter(filter);
+  }
+
+  public Stream<ProcessBinding> findAllAfter(ProcessBindingKey after, Predicate<ProcessBindingKey> keyFilter, Predicate<ProcessBinding> filter) {
+    return processBindingRepository.streamAfter(after, keyFilter).filter(filter);
+  }
+
+  public Stream<ProcessBinding> findAllByParent(ParentKey parentKey, Predicate<ProcessBinding> filter) {
+    return processBindingRepository.findAllByParent(parentKey).stream().filter(filter);
   }
 
   public boolean exists(ProcessBindingKey key) {
@@ -15,6 +15,8 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.views;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -24,7 +26,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.model.Process;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ParentKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProcessKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
 import com.expediagroup.streamplatform.streamregistry.repository.ProcessRepository;
 
 @Component
@@ -36,8 +40,28 @@ public class ProcessView {
     return processRepository.findById(key);
   }
 
+  public List<Process> getAll(Collection<ProcessKey> keys) {
+    return processRepository.findAllById(keys);
+  }
+
   public Stream<Process> findAll(Predicate<Process> filter) {
-    return processRepository.findAll().stream().filter(filter);
+    return findAll(key -> true, filter);
+  }
+
+  public Stream<Process> findAll(Predicate<ProcessKey> keyFilter, Predicate<Process> filter) {
+    return processRepository.stream(keyFilter).filter(filter);
+  }
+
+  public Stream<Process> findAll(List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries, Predicate<ProcessKey> keyFilter, Predicate<Process> filter) {
+    return processRepository.stream(tagQueries, securityQueries, keyFilter).filter(filter);
+  }
+
+  public Stream<Process> findAllAfter(ProcessKey after, Predicate<ProcessKey> keyFilter, Predicate<Process> filter) {
+    return processRepository.streamAfter(after, keyFilter).filter(filter);
+  }
+
+  public Stream<Process> findAllByParent(ParentKey parentKey, Predicate<Process> filter) {
+    return processRepository.findAllByParent(parentKey).stream().filter(filter);
   }
 
   public boolean exists(ProcessKey key) {
@@ -15,6 +15,8 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.views;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -24,7 +26,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ParentKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
 import com.expediagroup.streamplatform.streamregistry.repository.ProducerBindingRepository;
 
 @Component
@@ -36,8 +40,28 @@ public class ProducerBindingView {
     return producerBindingRepository.findById(key);
   }
 
+  public List<ProducerBinding> getAll(Collection<ProducerBindingKey> keys) {
+    return producerBindingRepository.findAllById(keys);
+  }
+
   public Stream<ProducerBinding> findAll(Predicate<ProducerBinding> filter) {
-    return producerBindingRepository.findAll().stream().filter(filter);
+    return findAll(key -> true, filter);
+  }
+
+  public Stream<ProducerBinding> findAll(Predicate<ProducerBindingKey> keyFilter, Predicate<ProducerBinding> filter) {
+    return producerBindingRepository.stream(keyFilter).filter(filter);
+  }
+
+  public Stream<ProducerBinding> findAll(List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries, Predicate<ProducerBindingKey> keyFilter, Predicate<ProducerBinding> filter) {
+    return producerBindingRepository.stream(tagQueries, securityQueries, keyFilter).filter(filter);
+  }
+
+  public Stream<ProducerBinding> findAllAfter(ProducerBindingKey after, Predicate<ProducerBindingKey> keyFilter, Predicate<ProducerBinding> filter) {
+    return producerBindingRepository.streamAfter(after, keyFilter).filter(filter);
+  }
+
+  public Stream<ProducerBinding> findAllByParent(ParentKey parentKey, Predicate<ProducerBinding> filter) {
+    return producerBindingRepository.findAllByParent(parentKey).stream().filter(filter);
   }
 
   public boolean exists(ProducerBindingKey key) {
@@ -15,6 +15,8 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.views;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -24,7 +26,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.model.Producer;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ParentKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
 import com.expediagroup.streamplatform.streamregistry.repository.ProducerRepository;
 
 @Component
@@ -36,8 +40,28 @@ public class ProducerView {
     return producerRepository.findById(key);
   }
 
+  public List<Producer> getAll(Collection<ProducerKey> keys) {
+    return producerRepository.findAllById(keys);
+  }
+
   public Stream<Producer> findAll(Predicate<Producer> filter) {
-    return producerRepository.findAll().stream().filter(filter);
+    return findAll(key -> true, filter);
+  }
+
+  public Stream<Producer> findAll(Predicate<ProducerKey> keyFilter, Predicate<Producer> filter) {
+    return producerRepository.stream(keyFilter).filter(filter);
+  }
+
+  public Stream<Producer> findAll(List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries, Predicate<ProducerKey> keyFilter, Predicate<Producer> filter) {
+    return producerRepository.stream(tagQueries, securityQueries, keyFilter).filter(filter);
+  }
+
+  public Stream<Producer> findAllAfter(ProducerKey after, Predicate<ProducerKey> keyFilter, Predicate<Producer> filter) {
+    return producerRepository.streamAfter(after, keyFilter).filter(filter);
+  }
+
+  public Stream<Producer> findAllByParent(ParentKey parentKey, Predicate<Producer> filter) {
+    return producerRepository.findAllByParent(parentKey).stream().filter(filter);
   }
 
   public boolean exists(ProducerKey key) {
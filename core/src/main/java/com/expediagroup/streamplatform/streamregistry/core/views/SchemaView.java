@@ -15,6 +15,8 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.views;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -24,7 +26,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.model.Schema;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ParentKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.SchemaKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
 import com.expediagroup.streamplatform.streamregistry.repository.SchemaRepository;
 
 @Component
@@ -36,8 +40,28 @@ public class SchemaView {
     return schemaRepository.findById(key);
   }
 
+  public List<Schema> getAll(Collection<SchemaKey> keys) {
+    return schemaRepository.findAllById(keys);
+  }
+
   public Stream<Schema> findAll(Predicate<Schema> filter) {
-    return schemaRepository.findAll().stream().filter(filter);
+    return findAll(key -> true, filter);
+  }
+
+  public Stream<Schema> findAll(Predicate<SchemaKey> keyFilter, Predicate<Schema> filter) {
+    return schemaRepository.stream(keyFilter).filter(filter);
+  }
+
+  public Stream<Schema> findAll(List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries, Predicate<SchemaKey> keyFilter, Predicate<Schema> filter) {
+    return schemaRepository.stream(tagQueries, securityQueries, keyFilter).filter(filter);
+  }
+
+  public Stream<Schema> findAllAfter(SchemaKey after, Predicate<SchemaKey> keyFilter, Predicate<Schema> filter) {
+    return schemaRepository.streamAfter(after, keyFilter).filter(filter);
+  }
+
+  public Stream<Schema> findAllByParent(ParentKey parentKey, Predicate<Schema> filter) {
+    return schemaRepository.findAllByParent(parentKey).stream().filter(filter);
   }
 
   public boolean exists(SchemaKey key) {
@@ -15,6 +15,8 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.views;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -24,7 +26,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ParentKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.StreamBindingKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
 import com.expediagroup.streamplatform.streamregistry.repository.StreamBindingRepository;
 
 @Component
@@ -36,8 +40,28 @@ public class StreamBindingView {
     return streamBindingRepository.findById(key);
   }
 
+  public List<StreamBinding> getAll(Collection<StreamBindingKey> keys) {
+    return streamBindingRepository.findAllById(keys);
+  }
+
   public Stream<StreamBinding> findAll(Predicate<StreamBinding> filter) {
-    return streamBindingRepository.findAll().stream().filter(filter);
+    return findAll(key -> true, filter);
+  }
+
+  public Stream<StreamBinding> findAll(Predicate<StreamBindingKey> keyFilter, Predicate<StreamBinding> filter) {
+    return streamBindingRepository.stream(keyFilter).filter(filter);
+  }
+
+  public Stream<StreamBinding> findAll(List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries, Predicate<StreamBindingKey> keyFilter, Predicate<StreamBinding> filter) {
+    return streamBindingRepository.stream(tagQueries, securityQueries, keyFilter).filter(filter);
+  }
+
+  public Stream<StreamBinding> findAllAfter(StreamBindingKey after, Predicate<StreamBindingKey> keyFilter, Predicate<StreamBinding> filter) {
+    return streamBindingRepository.streamAfter(after, keyFilter).filter(filter);
+  }
+
+  public Stream<StreamBinding> findAllByParent(ParentKey parentKey, Predicate<StreamBinding> filter) {
+    return streamBindingRepository.findAllByParent(parentKey).stream().filter(filter);
   }
 
   public boolean exists(StreamBindingKey key) {
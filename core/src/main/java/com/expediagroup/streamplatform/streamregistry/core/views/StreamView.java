@@ -15,6 +15,8 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.views;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -23,7 +25,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ParentKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
 import com.expediagroup.streamplatform.streamregistry.repository.StreamRepository;
 
 @Component
@@ -35,8 +39,28 @@ public class StreamView {
     return streamRepository.findById(key);
   }
 
+  public List<Stream> getAll(Collection<StreamKey> keys) {
+    return streamRepository.findAllById(keys);
+  }
+
   public java.util.stream.Stream<Stream> findAll(Predicate<Stream> filter) {
-    return streamRepository.findAll().stream().filter(filter);
+    return findAll(key -> true, filter);
+  }
+
+  public java.util.stream.Stream<Stream> findAll(Predicate<StreamKey> keyFilter, Predicate<Stream> filter) {
+    return streamRepository.stream(keyFilter).filter(filter);
+  }
+
+  public java.util.stream.Stream<Stream> findAll(List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries, Predicate<StreamKey> keyFilter, Predicate<Stream> filter) {
+    return streamRepository.stream(tagQueries, securityQueries, keyFilter).filter(filter);
+  }
+
+  public java.util.stream.Stream<Stream> findAllAfter(StreamKey after, Predicate<StreamKey> keyFilter, Predicate<Stream> filter) {
+    return streamRepository.streamAfter(after, keyFilter).filter(filter);
+  }
+
+  public java.util.stream.Stream<Stream> findAllByParent(ParentKey parentKey, Predicate<Stream> filter) {
+    return streamRepository.findAllByParent(parentKey).stream().filter(filter);
   }
 
   public boolean exists(StreamKey key) {
@@ -15,6 +15,8 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.views;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
@@ -34,6 +36,10 @@ public class ZoneView {
     return zoneRepository.findById(key);
   }
 
+  public List<Zone> getAll(Collection<ZoneKey> keys) {
+    return zoneRepository.findAllById(keys);
+  }
+
   public boolean exists(ZoneKey key) {
     return get(key).isPresent();
   }
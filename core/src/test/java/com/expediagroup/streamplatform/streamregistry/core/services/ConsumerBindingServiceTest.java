@@ -15,6 +15,7 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.services;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -73,7 +74,7 @@ public class ConsumerBindingServiceTest {
     doNothing().when(consumerBindingValidator).validateForCreate(entity);
     when(handlerService.handleInsert(entity)).thenReturn(specification);
 
-    when(consumerBindingRepository.saveSpecification(entity)).thenReturn(entity);
+    when(consumerBindingRepository.saveSpecificationAsync(entity)).thenReturn(completedFuture(entity));
 
     consumerBindingService.create(entity);
 
@@ -81,7 +82,7 @@ public class ConsumerBindingServiceTest {
     verify(consumerBindingRepository).findById(key);
     verify(consumerBindingValidator).validateForCreate(entity);
     verify(handlerService).handleInsert(entity);
-    verify(consumerBindingRepository).saveSpecification(entity);
+    verify(consumerBindingRepository).saveSpecificationAsync(entity);
   }
 
   @Test
@@ -98,7 +99,7 @@ public class ConsumerBindingServiceTest {
     doNothing().when(consumerBindingValidator).validateForUpdate(entity, existingEntity);
     when(handlerService.handleUpdate(entity, existingEntity)).thenReturn(specification);
 
-    when(consumerBindingRepository.saveSpecification(entity)).thenReturn(entity);
+    when(consumerBindingRepository.saveSpecificationAsync(entity)).thenReturn(completedFuture(entity));
 
     consumerBindingService.update(entity);
 
@@ -106,7 +107,7 @@ public class ConsumerBindingServiceTest {
     verify(consumerBindingRepository).findById(key);
     verify(consumerBindingValidator).validateForUpdate(entity, existingEntity);
     verify(handlerService).handleUpdate(entity, existingEntity);
-    verify(consumerBindingRepository).saveSpecification(entity);
+    verify(consumerBindingRepository).saveSpecificationAsync(entity);
   }
 
   @Test
@@ -114,17 +115,19 @@ public class ConsumerBindingServiceTest {
     final Status status = mock(Status.class);
     final ConsumerBinding entity = mock(ConsumerBinding.class);
 
-    when(consumerBindingRepository.saveStatus(entity)).thenReturn(entity);
+    when(consumerBindingRepository.saveStatusAsync(entity)).thenReturn(completedFuture(entity));
 
     consumerBindingService.updateStatus(entity, status);
 
-    verify(consumerBindingRepository).saveStatus(entity);
+    verify(consumerBindingRepository).saveStatusAsync(entity);
   }
 
   @Test
   public void delete() {
     final ConsumerBinding entity = mock(ConsumerBinding.class);
+    when(consumerBindingRepository.deleteAsync(entity)).thenReturn(completedFuture(null));
+
     consumerBindingService.delete(entity);
-    verify(consumerBindingRepository).delete(entity);
+    verify(consumerBindingRepository).deleteAsync(entity);
   }
 }
@@ -15,12 +15,9 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.services;
 
-import static java.util.Arrays.asList;
-import static java.util.Collections.emptyList;
-import static org.mockito.ArgumentMatchers.any;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.mockito.Mockito.*;
 
-import java.util.List;
 import java.util.Optional;
 
 import org.junit.Before;
@@ -31,15 +28,11 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ConsumerValidator;
-import com.expediagroup.streamplatform.streamregistry.core.views.ConsumerBindingView;
 import com.expediagroup.streamplatform.streamregistry.core.views.ConsumerView;
 import com.expediagroup.streamplatform.streamregistry.model.Consumer;
-import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
 import com.expediagroup.streamplatform.streamregistry.model.Specification;
 import com.expediagroup.streamplatform.streamregistry.model.Status;
-import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerBindingKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerKey;
-import com.expediagroup.streamplatform.streamregistry.repository.ConsumerBindingRepository;
 import com.expediagroup.streamplatform.streamregistry.repository.ConsumerRepository;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -55,10 +48,7 @@ public class ConsumerServiceTest {
   private ConsumerRepository consumerRepository;
 
   @Mock
-  private  ConsumerBindingService consumerBindingService;
-
-  @Mock
-  private ConsumerBindingRepository consumerBindingRepository;
+  private DeletePlanner deletePlanner;
 
   private ConsumerService consumerService;
 
@@ -69,8 +59,7 @@ public class ConsumerServiceTest {
       handlerService,
       consumerValidator,
       consumerRepository,
-      consumerBindingService,
-      new ConsumerBindingView(consumerBindingRepository)
+      deletePlanner
     );
   }
 
@@ -86,7 +75,7 @@ public class ConsumerServiceTest {
     doNothing().when(consumerValidator).validateForCreate(entity);
     when(handlerService.handleInsert(entity)).thenReturn(specification);
 
-    when(consumerRepository.saveSpecification(entity)).thenReturn(entity);
+    when(consumerRepository.saveSpecificationAsync(entity)).thenReturn(completedFuture(entity));
 
     consumerService.create(entity);
 
@@ -94,7 +83,7 @@ public class ConsumerServiceTest {
     verify(consumerRepository).findById(key);
     verify(consumerValidator).validateForCreate(entity);
     verify(handlerService).handleInsert(entity);
-    verify(consumerRepository).saveSpecification(entity);
+    verify(consumerRepository).saveSpecificationAsync(entity);
   }
 
   @Test
@@ -111,7 +100,7 @@ public class ConsumerServiceTest {
     doNothing().when(consumerValidator).validateForUpdate(entity, existingEntity);
     when(handlerService.handleUpdate(entity, existingEntity)).thenReturn(specification);
 
-    when(consumerRepository.saveSpecification(entity)).thenReturn(entity);
+    when(consumerRepository.saveSpecificationAsync(entity)).thenReturn(completedFuture(entity));
 
     consumerService.update(entity);
 
@@ -119,7 +108,7 @@ public class ConsumerServiceTest {
     verify(consumerRepository).findById(key);
     verify(consumerValidator).validateForUpdate(entity, existingEntity);
     verify(handlerService).handleUpdate(entity, existingEntity);
-    verify(consumerRepository).saveSpecification(entity);
+    verify(consumerRepository).saveSpecificationAsync(entity);
   }
 
   @Test
@@ -127,65 +116,21 @@ public class ConsumerServiceTest {
     final Status status = mock(Status.class);
     final Consumer entity = mock(Consumer.class);
 
-    when(consumerRepository.saveStatus(entity)).thenReturn(entity);
+    when(consumerRepository.saveStatusAsync(entity)).thenReturn(completedFuture(entity));
 
     consumerService.updateStatus(entity, status);
 
-    verify(consumerRepository).saveStatus(entity);
+    verify(consumerRepository).saveStatusAsync(entity);
   }
 
   @Test
   public void delete() {
-    final ConsumerKey key = mock(ConsumerKey.class);
-    final Consumer entity = mock(Consumer.class);
-    when(entity.getKey()).thenReturn(key);
-
-    final ConsumerBindingKey bindingKey = mock(ConsumerBindingKey.class);
-    final ConsumerBinding binding = mock(ConsumerBinding.class);
-    when(bindingKey.getConsumerKey()).thenReturn(key);
-    when(binding.getKey()).thenReturn(bindingKey);
-
-    when(consumerBindingRepository.findAll()).thenReturn(List.of(binding));
-
-    consumerService.delete(entity);
-
-    verify(consumerBindingService).delete(binding);
-    verify(consumerRepository).delete(entity);
-  }
-
-  @Test
-  public void delete_noChildren() {
-    final Consumer entity = mock(Consumer.class);
-    when(consumerBindingRepository.findAll()).thenReturn(emptyList());
-
-    consumerService.delete(entity);
-
-    verify(consumerBindingService, never()).delete(any());
-    verify(consumerRepository).delete(entity);
-  }
-
-  @Test
-  public void delete_multi() {
-    final ConsumerKey key = mock(ConsumerKey.class);
     final Consumer entity = mock(Consumer.class);
-    when(entity.getKey()).thenReturn(key);
-
-    final ConsumerBindingKey bindingKey1 = mock(ConsumerBindingKey.class);
-    final ConsumerBinding binding1 = mock(ConsumerBinding.class);
-    when(bindingKey1.getConsumerKey()).thenReturn(key);
-    when(binding1.getKey()).thenReturn(bindingKey1);
-
-    final ConsumerBindingKey bindingKey2 = mock(ConsumerBindingKey.class);
-    final ConsumerBinding binding2 = mock(ConsumerBinding.class);
-    when(bindingKey2.getConsumerKey()).thenReturn(key);
-    when(binding2.getKey()).thenReturn(bindingKey2);
 
-    when(consumerBindingRepository.findAll()).thenReturn(asList(binding1, binding2));
+    when(deletePlanner.delete(entity)).thenReturn(completedFuture(null));
 
     consumerService.delete(entity);
 
-    verify(consumerBindingService).delete(binding1);
-    verify(consumerBindingService).delete(binding2);
-    verify(consumerRepository).delete(entity);
+    verify(deletePlanner).delete(entity);
   }
 }
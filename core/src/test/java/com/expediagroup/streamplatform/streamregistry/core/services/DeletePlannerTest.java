@@ -0,0 +1,636 @@
+/**
+ * Copyright (C) 2018-2024 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.services;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.PermissionEvaluator;
+
+import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
+import com.expediagroup.streamplatform.streamregistry.core.validators.ValidationException;
+import com.expediagroup.streamplatform.streamregistry.core.views.ConsumerBindingView;
+import com.expediagroup.streamplatform.streamregistry.core.views.ConsumerView;
+import com.expediagroup.streamplatform.streamregistry.core.views.ProcessBindingView;
+import com.expediagroup.streamplatform.streamregistry.core.views.ProcessView;
+import com.expediagroup.streamplatform.streamregistry.core.views.ProducerBindingView;
+import com.expediagroup.streamplatform.streamregistry.core.views.ProducerView;
+import com.expediagroup.streamplatform.streamregistry.core.views.SchemaView;
+import com.expediagroup.streamplatform.streamregistry.core.views.StreamBindingView;
+import com.expediagroup.streamplatform.streamregistry.core.views.StreamView;
+import com.expediagroup.streamplatform.streamregistry.model.Consumer;
+import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Process;
+import com.expediagroup.streamplatform.streamregistry.model.ProcessBinding;
+import com.expediagroup.streamplatform.streamregistry.model.ProcessInputStream;
+import com.expediagroup.streamplatform.streamregistry.model.ProcessInputStreamBinding;
+import com.expediagroup.streamplatform.streamregistry.model.ProcessOutputStream;
+import com.expediagroup.streamplatform.streamregistry.model.ProcessOutputStreamBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Producer;
+import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Schema;
+import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Zone;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProcessBindingKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProcessKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.SchemaKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamBindingKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ZoneKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AckLevel;
+import com.expediagroup.streamplatform.streamregistry.repository.AckLevelContext;
+import com.expediagroup.streamplatform.streamregistry.repository.ConsumerBindingRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.ConsumerRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.ProcessBindingRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.ProcessRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.ProducerBindingRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.ProducerRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.SchemaRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.StreamBindingRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.StreamRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.ZoneRepository;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DeletePlannerTest {
+
+  @Mock
+  private HandlerService handlerService;
+
+  @Mock
+  private ObjectProvider<PermissionEvaluator> permissionEvaluatorProvider;
+
+  @Mock
+  private StreamRepository streamRepository;
+
+  @Mock
+  private StreamBindingRepository streamBindingRepository;
+
+  @Mock
+  private ConsumerRepository consumerRepository;
+
+  @Mock
+  private ConsumerBindingRepository consumerBindingRepository;
+
+  @Mock
+  private ProducerRepository producerRepository;
+
+  @Mock
+  private ProducerBindingRepository producerBindingRepository;
+
+  @Mock
+  private ProcessRepository processRepository;
+
+  @Mock
+  private ProcessBindingRepository processBindingRepository;
+
+  @Mock
+  private SchemaRepository schemaRepository;
+
+  @Mock
+  private ZoneRepository zoneRepository;
+
+  private DeletePlanner deletePlanner;
+
+  @Before
+  public void before() {
+    deletePlanner = new DeletePlanner(
+      handlerService,
+      permissionEvaluatorProvider,
+      new StreamView(streamRepository),
+      new StreamBindingView(streamBindingRepository),
+      new ConsumerView(consumerRepository),
+      new ConsumerBindingView(consumerBindingRepository),
+      new ProducerView(producerRepository),
+      new ProducerBindingView(producerBindingRepository),
+      new ProcessView(processRepository),
+      new ProcessBindingView(processBindingRepository),
+      new SchemaView(schemaRepository),
+      streamRepository,
+      streamBindingRepository,
+      consumerRepository,
+      consumerBindingRepository,
+      producerRepository,
+      producerBindingRepository,
+      processRepository,
+      processBindingRepository,
+      schemaRepository
+    );
+
+    lenient().when(streamRepository.deleteAsync(any())).thenReturn(completedFuture(null));
+    lenient().when(streamBindingRepository.deleteAsync(any())).thenReturn(completedFuture(null));
+    lenient().when(consumerRepository.deleteAsync(any())).thenReturn(completedFuture(null));
+    lenient().when(consumerBindingRepository.deleteAsync(any())).thenReturn(completedFuture(null));
+    lenient().when(producerRepository.deleteAsync(any())).thenReturn(completedFuture(null));
+    lenient().when(producerBindingRepository.deleteAsync(any())).thenReturn(completedFuture(null));
+    lenient().when(processRepository.deleteAsync(any())).thenReturn(completedFuture(null));
+    lenient().when(processBindingRepository.deleteAsync(any())).thenReturn(completedFuture(null));
+    lenient().when(schemaRepository.deleteAsync(any())).thenReturn(completedFuture(null));
+    lenient().when(zoneRepository.deleteAsync(any())).thenReturn(completedFuture(null));
+  }
+
+  @Test
+  public void deleteStream() {
+    final SchemaKey schemaKey = mock(SchemaKey.class);
+    final Schema schema = mock(Schema.class);
+    when(schema.getKey()).thenReturn(schemaKey);
+
+    final StreamKey key = mock(StreamKey.class);
+    final Stream entity = mock(Stream.class);
+    when(entity.getSchemaKey()).thenReturn(schemaKey);
+    when(entity.getKey()).thenReturn(key);
+
+    final StreamBinding binding = streamBinding(key);
+    final Consumer consumer = consumer(key);
+    final Producer producer = producer(key);
+
+    when(streamBindingRepository.findAllByParent(any())).thenReturn(List.of(binding));
+    when(producerRepository.findAllByParent(any())).thenReturn(List.of(producer));
+    when(consumerRepository.findAllByParent(any())).thenReturn(List.of(consumer));
+    when(schemaRepository.findById(any())).thenReturn(Optional.of(schema));
+    when(streamRepository.findAllByParent(any())).thenReturn(List.of(entity));
+
+    deletePlanner.delete(entity).join();
+
+    InOrder inOrder = inOrder(handlerService, schemaRepository, producerRepository, consumerRepository, streamBindingRepository, streamRepository);
+    inOrder.verify(handlerService).handleDelete(entity);
+    inOrder.verify(handlerService).handleDelete(binding);
+    inOrder.verify(handlerService).handleDelete(consumer);
+    inOrder.verify(handlerService).handleDelete(producer);
+    inOrder.verify(handlerService).handleDelete(schema);
+    inOrder.verify(streamBindingRepository).deleteAsync(binding);
+    inOrder.verify(consumerRepository).deleteAsync(consumer);
+    inOrder.verify(producerRepository).deleteAsync(producer);
+    inOrder.verify(streamRepository).deleteAsync(entity);
+    inOrder.verify(schemaRepository).deleteAsync(schema);
+  }
+
+  @Test
+  public void deleteStream_preserveSharedSchema() {
+    final SchemaKey schemaKey = mock(SchemaKey.class);
+
+    final StreamKey key = mock(StreamKey.class);
+    final Stream entity = mock(Stream.class);
+    when(entity.getSchemaKey()).thenReturn(schemaKey);
+    when(entity.getKey()).thenReturn(key);
+
+    final StreamKey otherKey = mock(StreamKey.class);
+    final Stream otherStream = mock(Stream.class);
+    when(otherStream.getSchemaKey()).thenReturn(schemaKey);
+    when(otherStream.getKey()).thenReturn(otherKey);
+
+    when(streamRepository.findAllByParent(any())).thenReturn(asList(entity, otherStream));
+
+    deletePlanner.delete(entity).join();
+
+    verify(streamRepository).deleteAsync(entity);
+    verify(schemaRepository, never()).findById(any());
+    verify(schemaRepository, never()).deleteAsync(any());
+  }
+
+  @Test
+  public void deleteStream_noChildren() {
+    final Stream entity = mock(Stream.class);
+
+    when(schemaRepository.findById(any())).thenReturn(Optional.empty());
+
+    deletePlanner.delete(entity).join();
+
+    verify(streamBindingRepository, never()).deleteAsync(any());
+    verify(consumerRepository, never()).deleteAsync(any());
+    verify(producerRepository, never()).deleteAsync(any());
+    verify(streamRepository).deleteAsync(entity);
+    verify(schemaRepository, never()).deleteAsync(any());
+  }
+
+  @Test
+  public void deleteStream_cascadesToBindingsLeavesFirst() {
+    final StreamKey key = mock(StreamKey.class);
+    final Stream entity = mock(Stream.class);
+    when(entity.getKey()).thenReturn(key);
+
+    final StreamBinding streamBinding = streamBinding(key);
+    final Consumer consumer = consumer(key);
+    final ConsumerBinding consumerBinding = consumerBinding(streamBinding.getKey(), consumer.getKey());
+
+    when(streamBindingRepository.findAllByParent(any())).thenReturn(List.of(streamBinding));
+    when(consumerRepository.findAllByParent(any())).thenReturn(List.of(consumer));
+    when(consumerBindingRepository.findAllByParent(any())).thenReturn(List.of(consumerBinding));
+
+    deletePlanner.delete(entity).join();
+
+    // The consumer binding is reached from both the stream binding and the consumer but is only deleted once
+    verify(handlerService, times(1)).handleDelete(consumerBinding);
+    InOrder inOrder = inOrder(consumerBindingRepository, streamBindingRepository, consumerRepository, streamRepository);
+    inOrder.verify(consumerBindingRepository).deleteAsync(consumerBinding);
+    inOrder.verify(streamBindingRepository).deleteAsync(streamBinding);
+    inOrder.verify(consumerRepository).deleteAsync(consumer);
+    inOrder.verify(streamRepository).deleteAsync(entity);
+    verify(consumerBindingRepository, times(1)).deleteAsync(any());
+  }
+
+  @Test
+  public void deleteStream_singleStreamProcesses() {
+    final StreamKey streamKey = mock(StreamKey.class);
+    final Stream stream = mock(Stream.class);
+    when(stream.getKey()).thenReturn(streamKey);
+
+    final StreamKey otherStreamKey = mock(StreamKey.class);
+
+    final Process otherProcess = mock(Process.class);
+    when(otherProcess.getInputs()).thenReturn(List.of(new ProcessInputStream(otherStreamKey, new ObjectMapper().createObjectNode())));
+    when(otherProcess.getOutputs()).thenReturn(emptyList());
+
+    final Process inputProcess = process(List.of(new ProcessInputStream(streamKey, new ObjectMapper().createObjectNode())), emptyList());
+    final Process outputProcess = process(emptyList(), List.of(new ProcessOutputStream(streamKey, new ObjectMapper().createObjectNode())));
+    final Process inputOutputProcess = process(
+      List.of(new ProcessInputStream(streamKey, new ObjectMapper().createObjectNode())),
+      List.of(new ProcessOutputStream(streamKey, new ObjectMapper().createObjectNode())));
+
+    when(processRepository.findAllByParent(any())).thenReturn(asList(otherProcess, inputProcess, outputProcess, inputOutputProcess));
+
+    deletePlanner.delete(stream).join();
+
+    verify(processRepository, never()).deleteAsync(otherProcess);
+    verify(processRepository).deleteAsync(inputProcess);
+    verify(processRepository).deleteAsync(outputProcess);
+    verify(processRepository).deleteAsync(inputOutputProcess);
+  }
+
+  @Test
+  public void deleteStream_processBindingOfDeletedProcessDoesNotBlockStreamBinding() {
+    final StreamKey streamKey = mock(StreamKey.class);
+    final Stream stream = mock(Stream.class);
+    when(stream.getKey()).thenReturn(streamKey);
+
+    final Process process = process(List.of(new ProcessInputStream(streamKey, new ObjectMapper().createObjectNode())), emptyList());
+    final StreamBinding streamBinding = streamBinding(streamKey);
+
+    final ProcessKey processKey = process.getKey();
+    final ProcessInputStreamBinding input = new ProcessInputStreamBinding(streamBinding.getKey(), new ObjectMapper().createObjectNode());
+    final ProcessBindingKey processBindingKey = mock(ProcessBindingKey.class);
+    when(processBindingKey.getProcessKey()).thenReturn(processKey);
+    final ProcessBinding processBinding = mock(ProcessBinding.class);
+    when(processBinding.getKey()).thenReturn(processBindingKey);
+    when(processBinding.getOutputs()).thenReturn(emptyList());
+    when(processBinding.getInputs()).thenReturn(List.of(input));
+
+    when(processRepository.findAllByParent(any())).thenReturn(List.of(process));
+    when(processBindingRepository.findAllByParent(any())).thenReturn(List.of(processBinding));
+    when(streamBindingRepository.findAllByParent(any())).thenReturn(List.of(streamBinding));
+
+    deletePlanner.delete(stream).join();
+
+    InOrder inOrder = inOrder(processBindingRepository, processRepository, streamBindingRepository, streamRepository);
+    inOrder.verify(processBindingRepository).deleteAsync(processBinding);
+    inOrder.verify(processRepository).deleteAsync(process);
+    inOrder.verify(streamBindingRepository).deleteAsync(streamBinding);
+    inOrder.verify(streamRepository).deleteAsync(stream);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void deleteStream_failsOnMultipleStreamProcess() {
+    final StreamKey streamKey = mock(StreamKey.class);
+    final Stream stream = mock(Stream.class);
+    when(stream.getKey()).thenReturn(streamKey);
+
+    final StreamKey otherStreamKey = mock(StreamKey.class);
+
+    final ProcessKey processKey = mock(ProcessKey.class);
+    final Process process = mock(Process.class);
+    when(process.getInputs()).thenReturn(List.of(new ProcessInputStream(otherStreamKey, new ObjectMapper().createObjectNode())));
+    when(process.getOutputs()).thenReturn(List.of(new ProcessOutputStream(streamKey, new ObjectMapper().createObjectNode())));
+    when(process.getKey()).thenReturn(processKey);
+    when(processRepository.findAllByParent(any())).thenReturn(List.of(process));
+
+    deletePlanner.delete(stream).join();
+  }
+
+  @Test
+  public void deleteStream_handlerFailureDeletesNothing() {
+    final StreamKey key = mock(StreamKey.class);
+    final Stream entity = mock(Stream.class);
+    when(entity.getKey()).thenReturn(key);
+
+    final StreamBinding binding = streamBinding(key);
+    final Producer producer = producer(key);
+    when(streamBindingRepository.findAllByParent(any())).thenReturn(List.of(binding));
+    when(producerRepository.findAllByParent(any())).thenReturn(List.of(producer));
+    doThrow(new ValidationException("rejected")).when(handlerService).handleDelete(producer);
+
+    try {
+      deletePlanner.delete(entity).join();
+    } catch (ValidationException expected) {
+    }
+
+    verify(streamBindingRepository, never()).deleteAsync(any());
+    verify(producerRepository, never()).deleteAsync(any());
+    verify(streamRepository, never()).deleteAsync(any());
+  }
+
+  @Test
+  public void deleteStream_permissionDeniedDeletesNothing() {
+    final PermissionEvaluator permissionEvaluator = mock(PermissionEvaluator.class);
+    when(permissionEvaluatorProvider.getIfAvailable()).thenReturn(permissionEvaluator);
+
+    final StreamKey key = mock(StreamKey.class);
+    final Stream entity = mock(Stream.class);
+    when(entity.getKey()).thenReturn(key);
+
+    final Consumer consumer = consumer(key);
+    when(consumerRepository.findAllByParent(any())).thenReturn(List.of(consumer));
+    when(permissionEvaluator.hasPermission(any(), eq(entity), eq("DELETE"))).thenReturn(true);
+    when(permissionEvaluator.hasPermission(any(), eq(consumer), eq("DELETE"))).thenReturn(false);
+
+    try {
+      deletePlanner.delete(entity).join();
+    } catch (AccessDeniedException expected) {
+    }
+
+    verify(handlerService, never()).handleDelete(entity);
+    verify(handlerService, never()).handleDelete(consumer);
+    verify(consumerRepository, never()).deleteAsync(any());
+    verify(streamRepository, never()).deleteAsync(any());
+  }
+
+  @Test
+  public void deleteStream_sendsParentOnceChildrenApplied() throws Exception {
+    final StreamKey key = mock(StreamKey.class);
+    final Stream entity = mock(Stream.class);
+    when(entity.getKey()).thenReturn(key);
+
+    final StreamBinding binding = streamBinding(key);
+    when(streamBindingRepository.findAllByParent(any())).thenReturn(List.of(binding));
+
+    final CompletableFuture<Void> bindingDeleted = new CompletableFuture<>();
+    when(streamBindingRepository.deleteAsync(binding)).thenReturn(bindingDeleted);
+
+    final AtomicReference<Thread> sender = new AtomicReference<>();
+    when(streamRepository.deleteAsync(entity)).thenAnswer(invocation -> {
+      sender.set(Thread.currentThread());
+      return completedFuture(null);
+    });
+
+    final CompletableFuture<Void> result = deletePlanner.delete(entity);
+
+    verify(streamRepository, never()).deleteAsync(any());
+    assertFalse(result.isDone());
+    bindingDeleted.complete(null);
+    result.get(5, SECONDS);
+    verify(streamRepository).deleteAsync(entity);
+    // The thread completing a wave receives events and must not send the next one
+    assertNotEquals(Thread.currentThread(), sender.get());
+  }
+
+  @Test
+  public void deleteStream_sendsEveryWaveAtTheRequestedLevel() throws Exception {
+    final StreamKey key = mock(StreamKey.class);
+    final Stream entity = mock(Stream.class);
+    when(entity.getKey()).thenReturn(key);
+
+    final StreamBinding binding = streamBinding(key);
+    when(streamBindingRepository.findAllByParent(any())).thenReturn(List.of(binding));
+
+    final CompletableFuture<Void> bindingDeleted = new CompletableFuture<>();
+    final List<AckLevel> levels = new CopyOnWriteArrayList<>();
+    when(streamBindingRepository.deleteAsync(binding)).thenAnswer(invocation -> {
+      levels.add(AckLevelContext.get());
+      return bindingDeleted;
+    });
+    when(streamRepository.deleteAsync(entity)).thenAnswer(invocation -> {
+      levels.add(AckLevelContext.get());
+      return completedFuture(null);
+    });
+
+    final CompletableFuture<Void> result = AckLevelContext.call(AckLevel.FIRE_AND_FORGET, () -> deletePlanner.delete(entity));
+    bindingDeleted.complete(null);
+    result.get(5, SECONDS);
+
+    assertEquals(List.of(AckLevel.FIRE_AND_FORGET, AckLevel.FIRE_AND_FORGET), levels);
+  }
+
+  @Test
+  public void deleteStream_failedChildKeepsParent() throws Exception {
+    final StreamKey key = mock(StreamKey.class);
+    final Stream entity = mock(Stream.class);
+    when(entity.getKey()).thenReturn(key);
+
+    final StreamBinding binding = streamBinding(key);
+    when(streamBindingRepository.findAllByParent(any())).thenReturn(List.of(binding));
+
+    final CompletableFuture<Void> bindingDeleted = new CompletableFuture<>();
+    when(streamBindingRepository.deleteAsync(binding)).thenReturn(bindingDeleted);
+
+    final CompletableFuture<Void> result = deletePlanner.delete(entity);
+    bindingDeleted.completeExceptionally(new IllegalStateException());
+
+    assertTrue(result.handle((v, e) -> e != null).get(5, SECONDS));
+    verify(streamRepository, never()).deleteAsync(any());
+  }
+
+  @Test
+  public void deleteProcess() {
+    final ProcessKey key = mock(ProcessKey.class);
+    final Process entity = mock(Process.class);
+    when(entity.getKey()).thenReturn(key);
+
+    final ProcessBinding binding1 = processBinding(key);
+    final ProcessBinding binding2 = processBinding(key);
+
+    when(processBindingRepository.findAllByParent(any())).thenReturn(asList(binding1, binding2));
+
+    deletePlanner.delete(entity).join();
+
+    InOrder inOrder = inOrder(handlerService, processBindingRepository, processRepository);
+    inOrder.verify(handlerService).handleDelete(entity);
+    inOrder.verify(processBindingRepository).deleteAsync(binding1);
+    inOrder.verify(processBindingRepository).deleteAsync(binding2);
+    inOrder.verify(processRepository).deleteAsync(entity);
+  }
+
+  @Test
+  public void deleteConsumer() {
+    final ConsumerKey key = mock(ConsumerKey.class);
+    final Consumer entity = mock(Consumer.class);
+    when(entity.getKey()).thenReturn(key);
+
+    final ConsumerBinding binding1 = consumerBinding(mock(StreamBindingKey.class), key);
+    final ConsumerBinding binding2 = consumerBinding(mock(StreamBindingKey.class), key);
+
+    when(consumerBindingRepository.findAllByParent(any())).thenReturn(asList(binding1, binding2));
+
+    deletePlanner.delete(entity).join();
+
+    InOrder inOrder = inOrder(consumerBindingRepository, consumerRepository);
+    inOrder.verify(consumerBindingRepository).deleteAsync(binding1);
+    inOrder.verify(consumerBindingRepository).deleteAsync(binding2);
+    inOrder.verify(consumerRepository).deleteAsync(entity);
+  }
+
+  @Test
+  public void deleteProducer() {
+    final ProducerKey key = mock(ProducerKey.class);
+    final Producer entity = mock(Producer.class);
+    when(entity.getKey()).thenReturn(key);
+
+    final ProducerBindingKey bindingKey = mock(ProducerBindingKey.class);
+    when(bindingKey.getProducerKey()).thenReturn(key);
+    final ProducerBinding binding = mock(ProducerBinding.class);
+    when(binding.getKey()).thenReturn(bindingKey);
+
+    when(producerBindingRepository.findAllByParent(any())).thenReturn(List.of(binding));
+
+    deletePlanner.delete(entity).join();
+
+    InOrder inOrder = inOrder(producerBindingRepository, producerRepository);
+    inOrder.verify(producerBindingRepository).deleteAsync(binding);
+    inOrder.verify(producerRepository).deleteAsync(entity);
+  }
+
+  @Test
+  public void deleteStreamBinding() {
+    final StreamBinding entity = streamBinding(mock(StreamKey.class));
+    final ConsumerBinding consumerBinding = consumerBinding(entity.getKey(), mock(ConsumerKey.class));
+
+    when(consumerBindingRepository.findAllByParent(any())).thenReturn(List.of(consumerBinding));
+
+    deletePlanner.delete(entity).join();
+
+    InOrder inOrder = inOrder(consumerBindingRepository, streamBindingRepository);
+    inOrder.verify(consumerBindingRepository).deleteAsync(consumerBinding);
+    inOrder.verify(streamBindingRepository).deleteAsync(entity);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void deleteStreamBinding_failsWhenUsedInProcessBindingOutput() {
+    final StreamBinding entity = streamBinding(mock(StreamKey.class));
+    final ProcessOutputStreamBinding output = new ProcessOutputStreamBinding(entity.getKey(), new ObjectMapper().createObjectNode());
+    final ProcessBinding processBinding = mock(ProcessBinding.class);
+    when(processBinding.getOutputs()).thenReturn(List.of(output));
+    when(processBindingRepository.findAllByParent(any())).thenReturn(List.of(processBinding));
+
+    deletePlanner.delete(entity).join();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void deleteStreamBinding_failsWhenUsedInProcessBindingInput() {
+    final StreamBinding entity = streamBinding(mock(StreamKey.class));
+    final ProcessInputStreamBinding input = new ProcessInputStreamBinding(entity.getKey(), new ObjectMapper().createObjectNode());
+    final ProcessBinding processBinding = mock(ProcessBinding.class);
+    when(processBinding.getOutputs()).thenReturn(emptyList());
+    when(processBinding.getInputs()).thenReturn(List.of(input));
+    when(processBindingRepository.findAllByParent(any())).thenReturn(List.of(processBinding));
+
+    deletePlanner.delete(entity).join();
+  }
+
+  @Test
+  public void deleteLeaf() {
+    final Zone zone = mock(Zone.class);
+    when(zone.getKey()).thenReturn(mock(ZoneKey.class));
+
+    deletePlanner.delete(zone, zoneRepository).join();
+
+    InOrder inOrder = inOrder(handlerService, zoneRepository);
+    inOrder.verify(handlerService).handleDelete(zone);
+    inOrder.verify(zoneRepository).deleteAsync(zone);
+  }
+
+  private static StreamBinding streamBinding(StreamKey streamKey) {
+    final StreamBindingKey key = mock(StreamBindingKey.class);
+    when(key.getStreamKey()).thenReturn(streamKey);
+    final StreamBinding binding = mock(StreamBinding.class);
+    when(binding.getKey()).thenReturn(key);
+    return binding;
+  }
+
+  private static Consumer consumer(StreamKey streamKey) {
+    final ConsumerKey key = mock(ConsumerKey.class);
+    when(key.getStreamKey()).thenReturn(streamKey);
+    final Consumer consumer = mock(Consumer.class);
+    when(consumer.getKey()).thenReturn(key);
+    return consumer;
+  }
+
+  private static Producer producer(StreamKey streamKey) {
+    final ProducerKey key = mock(ProducerKey.class);
+    when(key.getStreamKey()).thenReturn(streamKey);
+    final Producer producer = mock(Producer.class);
+    when(producer.getKey()).thenReturn(key);
+    return producer;
+  }
+
+  private static ConsumerBinding consumerBinding(StreamBindingKey streamBindingKey, ConsumerKey consumerKey) {
+    final ConsumerBindingKey key = mock(ConsumerBindingKey.class);
+    lenient().when(key.getStreamBindingKey()).thenReturn(streamBindingKey);
+    lenient().when(key.getConsumerKey()).thenReturn(consumerKey);
+    final ConsumerBinding binding = mock(ConsumerBinding.class);
+    when(binding.getKey()).thenReturn(key);
+    return binding;
+  }
+
+  private static ProcessBinding processBinding(ProcessKey processKey) {
+    final ProcessBindingKey key = mock(ProcessBindingKey.class);
+    when(key.getProcessKey()).thenReturn(processKey);
+    final ProcessBinding binding = mock(ProcessBinding.class);
+    when(binding.getKey()).thenReturn(key);
+    return binding;
+  }
+
+  private static Process process(List<ProcessInputStream> inputs, List<ProcessOutputStream> outputs) {
+    final Process process = mock(Process.class);
+    when(process.getKey()).thenReturn(mock(ProcessKey.class));
+    when(process.getInputs()).thenReturn(inputs);
+    lenient().when(process.getOutputs()).thenReturn(outputs);
+    return process;
+  }
+}
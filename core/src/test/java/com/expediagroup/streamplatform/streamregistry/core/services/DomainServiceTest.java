@@ -17,6 +17,8 @@ package com.expediagroup.streamplatform.streamregistry.core.services;
 
 
 import static java.util.Collections.emptyList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toList;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
@@ -25,6 +27,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -56,6 +59,7 @@ import com.expediagroup.streamplatform.streamregistry.model.keys.ProcessKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.SchemaKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
 import com.expediagroup.streamplatform.streamregistry.repository.ConsumerRepository;
 import com.expediagroup.streamplatform.streamregistry.repository.DomainRepository;
 import com.expediagroup.streamplatform.streamregistry.repository.ProcessRepository;
@@ -117,7 +121,7 @@ public class DomainServiceTest {
     Mockito.doNothing().when(domainValidator).validateForCreate(entity);
     Mockito.when(handlerService.handleInsert(entity)).thenReturn(specification);
 
-    Mockito.when(domainRepository.saveSpecification(any())).thenReturn(entity);
+    Mockito.when(domainRepository.saveSpecificationAsync(any())).thenReturn(completedFuture(entity));
     when(entity.getKey()).thenReturn(key);
 
     domainService.create(entity);
@@ -126,7 +130,7 @@ public class DomainServiceTest {
     verify(domainRepository).findById(key);
     verify(domainValidator).validateForCreate(entity);
     verify(handlerService).handleInsert(entity);
-    verify(domainRepository).saveSpecification(entity);
+    verify(domainRepository).saveSpecificationAsync(entity);
   }
 
   @Test
@@ -142,7 +146,7 @@ public class DomainServiceTest {
     doNothing().when(domainValidator).validateForUpdate(entity, existingEntity);
     when(handlerService.handleUpdate(entity, existingEntity)).thenReturn(specification);
 
-    when(domainRepository.saveSpecification(entity)).thenReturn(entity);
+    when(domainRepository.saveSpecificationAsync(entity)).thenReturn(completedFuture(entity));
 
     domainService.update(entity);
 
@@ -150,7 +154,7 @@ public class DomainServiceTest {
     verify(domainRepository).findById(key);
     verify(domainValidator).validateForUpdate(entity, existingEntity);
     verify(handlerService).handleUpdate(entity, existingEntity);
-    verify(domainRepository).saveSpecification(entity);
+    verify(domainRepository).saveSpecificationAsync(entity);
   }
 
   @Test
@@ -158,25 +162,61 @@ public class DomainServiceTest {
     final Domain entity = mock(Domain.class);
     final Status status = mock(Status.class);
 
-    when(domainRepository.saveStatus(entity)).thenReturn(entity);
+    when(domainRepository.saveStatusAsync(entity)).thenReturn(completedFuture(entity));
 
     domainService.updateStatus(entity, status);
 
-    verify(domainRepository).saveStatus(entity);
+    verify(domainRepository).saveStatusAsync(entity);
+  }
+
+  @Test
+  public void findAllPushesDownKeyFilter() {
+    final Domain domain = mock(Domain.class);
+    final Predicate<DomainKey> keyFilter = key -> true;
+
+    when(domainRepository.stream(keyFilter)).thenReturn(java.util.stream.Stream.of(domain));
+
+    Assertions.assertEquals(List.of(domain), domainService.findAll(keyFilter, d -> true));
+  }
+
+  @Test
+  public void findAllLooksUpAttributeQueries() {
+    final Domain domain = mock(Domain.class);
+    final Domain other = mock(Domain.class);
+    final List<AttributeQuery> tagQueries = List.of(new AttributeQuery("team", "x"));
+    final Predicate<DomainKey> keyFilter = key -> true;
+
+    when(domainRepository.stream(tagQueries, emptyList(), keyFilter)).thenReturn(java.util.stream.Stream.of(domain, other));
+
+    Assertions.assertEquals(List.of(domain), domainService.findAll(tagQueries, emptyList(), keyFilter, d -> d == domain));
+  }
+
+  @Test
+  public void findAllAfterFiltersRepositoryPage() {
+    final Domain domain = mock(Domain.class);
+    final Domain other = mock(Domain.class);
+    final DomainKey after = new DomainKey("after");
+    final Predicate<DomainKey> keyFilter = key -> true;
+
+    when(domainRepository.streamAfter(after, keyFilter)).thenReturn(java.util.stream.Stream.of(domain, other));
+
+    Assertions.assertEquals(List.of(other), domainService.findAllAfter(after, keyFilter, d -> d == other).collect(toList()));
   }
 
   @Test
   public void deleteWithNoError() {
     final Domain entity = mock(Domain.class);
 
-    when(producerRepository.findAll()).thenReturn(emptyList());
-    when(consumerRepository.findAll()).thenReturn(emptyList());
-    when(schemaRepository.findAll()).thenReturn(emptyList());
-    when(streamRepository.findAll()).thenReturn(emptyList());
-    when(processRepository.findAll()).thenReturn(emptyList());
+    when(producerRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(consumerRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(schemaRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(streamRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(processRepository.findAllByParent(any())).thenReturn(emptyList());
+
+    when(domainRepository.deleteAsync(entity)).thenReturn(completedFuture(null));
 
     domainService.delete(entity);
-    verify(domainRepository).delete(entity);
+    verify(domainRepository).deleteAsync(entity);
   }
 
   @Test
@@ -190,7 +230,7 @@ public class DomainServiceTest {
     final Process process = mock(Process.class);
     when(processKey.getDomainKey()).thenReturn(key);
     when(process.getKey()).thenReturn(processKey);
-    when(processRepository.findAll()).thenReturn(List.of(process));
+    when(processRepository.findAllByParent(any())).thenReturn(List.of(process));
     IllegalStateException ex = Assertions.assertThrows(IllegalStateException.class, () -> {
       domainService.delete(entity);
     });
@@ -208,8 +248,8 @@ public class DomainServiceTest {
     when(streamkey.getDomainKey()).thenReturn(key);
     when(stream.getKey()).thenReturn(streamkey);
 
-    when(processRepository.findAll()).thenReturn(emptyList());
-    when(streamRepository.findAll()).thenReturn(List.of(stream));
+    when(processRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(streamRepository.findAllByParent(any())).thenReturn(List.of(stream));
     IllegalStateException ex = Assertions.assertThrows(IllegalStateException.class, () -> {
       domainService.delete(entity);
     });
@@ -227,9 +267,9 @@ public class DomainServiceTest {
     when(schemaKey.getDomainKey()).thenReturn(key);
     when(schema.getKey()).thenReturn(schemaKey);
 
-    when(processRepository.findAll()).thenReturn(emptyList());
-    when(streamRepository.findAll()).thenReturn(emptyList());
-    when(schemaRepository.findAll()).thenReturn(List.of(schema));
+    when(processRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(streamRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(schemaRepository.findAllByParent(any())).thenReturn(List.of(schema));
     IllegalStateException ex = Assertions.assertThrows(IllegalStateException.class, () -> {
       domainService.delete(entity);
     });
@@ -249,10 +289,10 @@ public class DomainServiceTest {
     when(consumerKey.getStreamKey().getDomainKey()).thenReturn(key);
     when(consumer.getKey()).thenReturn(consumerKey);
 
-    when(processRepository.findAll()).thenReturn(emptyList());
-    when(streamRepository.findAll()).thenReturn(emptyList());
-    when(producerRepository.findAll()).thenReturn(emptyList());
-    when(consumerRepository.findAll()).thenReturn(List.of(consumer));
+    when(processRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(streamRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(producerRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(consumerRepository.findAllByParent(any())).thenReturn(List.of(consumer));
     IllegalStateException ex = Assertions.assertThrows(IllegalStateException.class, () -> {
       domainService.delete(entity);
     });
@@ -272,9 +312,9 @@ public class DomainServiceTest {
     when(producerKey.getStreamKey().getDomainKey()).thenReturn(key);
     when(producer.getKey()).thenReturn(producerKey);
 
-    when(processRepository.findAll()).thenReturn(emptyList());
-    when(streamRepository.findAll()).thenReturn(emptyList());
-    when(producerRepository.findAll()).thenReturn(List.of(producer));
+    when(processRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(streamRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(producerRepository.findAllByParent(any())).thenReturn(List.of(producer));
     IllegalStateException ex = Assertions.assertThrows(IllegalStateException.class, () -> {
       domainService.delete(entity);
     });
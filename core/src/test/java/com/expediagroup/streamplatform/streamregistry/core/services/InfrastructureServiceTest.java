@@ -16,6 +16,7 @@
 package com.expediagroup.streamplatform.streamregistry.core.services;
 
 import static java.util.Collections.emptyList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
@@ -53,8 +54,10 @@ import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerBindingKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.InfrastructureKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProcessBindingKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerBindingKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.StreamBindingKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ZoneKey;
 import com.expediagroup.streamplatform.streamregistry.repository.ConsumerBindingRepository;
 import com.expediagroup.streamplatform.streamregistry.repository.InfrastructureRepository;
 import com.expediagroup.streamplatform.streamregistry.repository.ProcessBindingRepository;
@@ -85,6 +88,9 @@ public class InfrastructureServiceTest {
   @Mock
   private ProcessBindingRepository processBindingRepository;
 
+  @Mock
+  private DeletePlanner deletePlanner;
+
   private InfrastructureService infrastructureService;
 
   @Before
@@ -97,7 +103,8 @@ public class InfrastructureServiceTest {
       new StreamBindingView(streamBindingRepository),
       new ConsumerBindingView(consumerBindingRepository),
       new ProducerBindingView(producerBindingRepository),
-      new ProcessBindingView(processBindingRepository)
+      new ProcessBindingView(processBindingRepository),
+      deletePlanner
     );
   }
 
@@ -111,7 +118,7 @@ public class InfrastructureServiceTest {
     Mockito.doNothing().when(infrastructureValidator).validateForCreate(entity);
     Mockito.when(handlerService.handleInsert(entity)).thenReturn(specification);
 
-    Mockito.when(infrastructureRepository.saveSpecification(any())).thenReturn(entity);
+    Mockito.when(infrastructureRepository.saveSpecificationAsync(any())).thenReturn(completedFuture(entity));
     when(entity.getKey()).thenReturn(key);
 
     infrastructureService.create(entity);
@@ -120,7 +127,7 @@ public class InfrastructureServiceTest {
     verify(infrastructureRepository).findById(key);
     verify(infrastructureValidator).validateForCreate(entity);
     verify(handlerService).handleInsert(entity);
-    verify(infrastructureRepository).saveSpecification(entity);
+    verify(infrastructureRepository).saveSpecificationAsync(entity);
   }
 
   @Test
@@ -136,7 +143,7 @@ public class InfrastructureServiceTest {
     doNothing().when(infrastructureValidator).validateForUpdate(entity, existingEntity);
     when(handlerService.handleUpdate(entity, existingEntity)).thenReturn(specification);
 
-    when(infrastructureRepository.saveSpecification(entity)).thenReturn(entity);
+    when(infrastructureRepository.saveSpecificationAsync(entity)).thenReturn(completedFuture(entity));
 
     infrastructureService.update(entity);
 
@@ -144,7 +151,7 @@ public class InfrastructureServiceTest {
     verify(infrastructureRepository).findById(key);
     verify(infrastructureValidator).validateForUpdate(entity, existingEntity);
     verify(handlerService).handleUpdate(entity, existingEntity);
-    verify(infrastructureRepository).saveSpecification(entity);
+    verify(infrastructureRepository).saveSpecificationAsync(entity);
   }
 
   @Test
@@ -152,22 +159,24 @@ public class InfrastructureServiceTest {
     final Infrastructure entity = mock(Infrastructure.class);
     final Status status = mock(Status.class);
 
-    when(infrastructureRepository.saveStatus(entity)).thenReturn(entity);
+    when(infrastructureRepository.saveStatusAsync(entity)).thenReturn(completedFuture(entity));
 
     infrastructureService.updateStatus(entity, status);
 
-    verify(infrastructureRepository).saveStatus(entity);
+    verify(infrastructureRepository).saveStatusAsync(entity);
   }
 
   @Test
   public void deleteWithNoError() {
     final Infrastructure infrastructure = mock(Infrastructure.class);
-    when(streamBindingRepository.findAll()).thenReturn(emptyList());
-    when(consumerBindingRepository.findAll()).thenReturn(emptyList());
-    when(producerBindingRepository.findAll()).thenReturn(emptyList());
-    when(processBindingRepository.findAll()).thenReturn(emptyList());
+    when(streamBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(consumerBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(producerBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(processBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(deletePlanner.delete(infrastructure, infrastructureRepository)).thenReturn(completedFuture(null));
+
     infrastructureService.delete(infrastructure);
-    verify(infrastructureRepository).delete(infrastructure);
+    verify(deletePlanner).delete(infrastructure, infrastructureRepository);
   }
 
   @Test
@@ -187,7 +196,7 @@ public class InfrastructureServiceTest {
 
     when(streamBinding.getKey()).thenReturn(streamBindingKey);
     when(infrastructure.getKey()).thenReturn(infrastructureKey);
-    when(streamBindingRepository.findAll()).thenReturn(Collections.singletonList(streamBinding));
+    when(streamBindingRepository.findAllByParent(any())).thenReturn(Collections.singletonList(streamBinding));
 
     IllegalStateException ex = Assertions.assertThrows(IllegalStateException.class, () -> infrastructureService.delete(infrastructure));
     Assertions.assertEquals("Infrastructure is used in stream: StreamKey(domain=domain, name=stream, version=1)", ex.getMessage());
@@ -209,10 +218,10 @@ public class InfrastructureServiceTest {
 
     final ConsumerBinding consumerBinding = mock(ConsumerBinding.class);
 
-    when(streamBindingRepository.findAll()).thenReturn(emptyList());
+    when(streamBindingRepository.findAllByParent(any())).thenReturn(emptyList());
     when(consumerBinding.getKey()).thenReturn(consumerBindingKey);
     when(infrastructure.getKey()).thenReturn(infrastructureKey);
-    when(consumerBindingRepository.findAll()).thenReturn(Collections.singletonList(consumerBinding));
+    when(consumerBindingRepository.findAllByParent(any())).thenReturn(Collections.singletonList(consumerBinding));
 
     IllegalStateException ex = Assertions.assertThrows(IllegalStateException.class, () -> infrastructureService.delete(infrastructure));
     Assertions.assertEquals("Infrastructure is used in consumer binding: " + consumerBindingKey, ex.getMessage());
@@ -234,11 +243,11 @@ public class InfrastructureServiceTest {
 
     final ProducerBinding producerBinding = mock(ProducerBinding.class);
 
-    when(streamBindingRepository.findAll()).thenReturn(emptyList());
-    when(consumerBindingRepository.findAll()).thenReturn(emptyList());
+    when(streamBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(consumerBindingRepository.findAllByParent(any())).thenReturn(emptyList());
     when(producerBinding.getKey()).thenReturn(producerBindingKey);
     when(infrastructure.getKey()).thenReturn(infrastructureKey);
-    when(producerBindingRepository.findAll()).thenReturn(Collections.singletonList(producerBinding));
+    when(producerBindingRepository.findAllByParent(any())).thenReturn(Collections.singletonList(producerBinding));
 
     IllegalStateException ex = Assertions.assertThrows(IllegalStateException.class, () -> infrastructureService.delete(infrastructure));
     Assertions.assertEquals("Infrastructure is used in producer binding: " + producerBindingKey, ex.getMessage());
@@ -256,12 +265,12 @@ public class InfrastructureServiceTest {
 
     final ProcessBinding processBinding = mock(ProcessBinding.class);
 
-    when(streamBindingRepository.findAll()).thenReturn(emptyList());
-    when(consumerBindingRepository.findAll()).thenReturn(emptyList());
-    when(producerBindingRepository.findAll()).thenReturn(emptyList());
+    when(streamBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(consumerBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(producerBindingRepository.findAllByParent(any())).thenReturn(emptyList());
     when(infrastructure.getKey()).thenReturn(infrastructureKey);
     when(processBinding.getOutputs()).thenReturn(Collections.singletonList(processOutputStreamBinding));
-    when(processBindingRepository.findAll()).thenReturn(Collections.singletonList(processBinding));
+    when(processBindingRepository.findAllByParent(any())).thenReturn(Collections.singletonList(processBinding));
 
     IllegalStateException ex = Assertions.assertThrows(IllegalStateException.class, () -> infrastructureService.delete(infrastructure));
     Assertions.assertEquals("Infrastructure is used in process binding: " + processBinding.getKey(), ex.getMessage());
@@ -279,12 +288,40 @@ public class InfrastructureServiceTest {
 
     final ProcessBinding processBinding = mock(ProcessBinding.class);
 
-    when(streamBindingRepository.findAll()).thenReturn(emptyList());
-    when(consumerBindingRepository.findAll()).thenReturn(emptyList());
-    when(producerBindingRepository.findAll()).thenReturn(emptyList());
+    when(streamBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(consumerBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(producerBindingRepository.findAllByParent(any())).thenReturn(emptyList());
     when(infrastructure.getKey()).thenReturn(infrastructureKey);
     when(processBinding.getInputs()).thenReturn(Collections.singletonList(processInputStreamBinding));
-    when(processBindingRepository.findAll()).thenReturn(Collections.singletonList(processBinding));
+    when(processBindingRepository.findAllByParent(any())).thenReturn(Collections.singletonList(processBinding));
+
+    IllegalStateException ex = Assertions.assertThrows(IllegalStateException.class, () -> infrastructureService.delete(infrastructure));
+    Assertions.assertEquals("Infrastructure is used in process binding: " + processBinding.getKey(), ex.getMessage());
+  }
+
+  @Test
+  public void deletionShouldThrowExceptionWhenInfrastructureIsOnlyUsedThroughProcessBindingStreamBinding() {
+    final InfrastructureKey infrastructureKey = new InfrastructureKey("aws_us_east_1", "kafka-1c");
+    final Infrastructure infrastructure = mock(Infrastructure.class);
+
+    final ProcessInputStreamBinding processInputStreamBinding = new ProcessInputStreamBinding(
+      new StreamBindingKey("domain", "stream", 1, "aws_us_east_1", "kafka-1c"),
+      new ObjectMapper().createObjectNode()
+    );
+    final ProcessBinding processBinding = new ProcessBinding(
+      new ProcessBindingKey("domain", "aws_us_west_2", "process"),
+      mock(Specification.class),
+      new ZoneKey("aws_us_west_2"),
+      Collections.singletonList(processInputStreamBinding),
+      emptyList(),
+      new Status()
+    );
+
+    when(streamBindingRepository.findAllByParent(infrastructureKey)).thenReturn(emptyList());
+    when(consumerBindingRepository.findAllByParent(infrastructureKey)).thenReturn(emptyList());
+    when(producerBindingRepository.findAllByParent(infrastructureKey)).thenReturn(emptyList());
+    when(infrastructure.getKey()).thenReturn(infrastructureKey);
+    when(processBindingRepository.findAllByParent(infrastructureKey)).thenReturn(Collections.singletonList(processBinding));
 
     IllegalStateException ex = Assertions.assertThrows(IllegalStateException.class, () -> infrastructureService.delete(infrastructure));
     Assertions.assertEquals("Infrastructure is used in process binding: " + processBinding.getKey(), ex.getMessage());
@@ -16,6 +16,7 @@
 package com.expediagroup.streamplatform.streamregistry.core.services;
 
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
@@ -76,7 +77,7 @@ public class ProcessBindingServiceTest {
     doNothing().when(processBindingValidator).validateForCreate(entity);
     when(handlerService.handleInsert(entity)).thenReturn(specification);
 
-    when(processBindingRepository.saveSpecification(entity)).thenReturn(entity);
+    when(processBindingRepository.saveSpecificationAsync(entity)).thenReturn(completedFuture(entity));
 
     processBindingService.create(entity);
 
@@ -84,7 +85,7 @@ public class ProcessBindingServiceTest {
     verify(processBindingRepository).findById(key);
     verify(processBindingValidator).validateForCreate(entity);
     verify(handlerService).handleInsert(entity);
-    verify(processBindingRepository).saveSpecification(entity);
+    verify(processBindingRepository).saveSpecificationAsync(entity);
   }
 
   @Test
@@ -101,7 +102,7 @@ public class ProcessBindingServiceTest {
     doNothing().when(processBindingValidator).validateForUpdate(entity, existingEntity);
     when(handlerService.handleUpdate(entity, existingEntity)).thenReturn(specification);
 
-    when(processBindingRepository.saveSpecification(entity)).thenReturn(entity);
+    when(processBindingRepository.saveSpecificationAsync(entity)).thenReturn(completedFuture(entity));
 
     processBindingService.update(entity);
 
@@ -109,7 +110,7 @@ public class ProcessBindingServiceTest {
     verify(processBindingRepository).findById(key);
     verify(processBindingValidator).validateForUpdate(entity, existingEntity);
     verify(handlerService).handleUpdate(entity, existingEntity);
-    verify(processBindingRepository).saveSpecification(entity);
+    verify(processBindingRepository).saveSpecificationAsync(entity);
   }
 
   @Test
@@ -117,22 +118,24 @@ public class ProcessBindingServiceTest {
     final Status status = mock(Status.class);
     final ProcessBinding entity = mock(ProcessBinding.class);
 
-    when(processBindingRepository.saveStatus(entity)).thenReturn(entity);
+    when(processBindingRepository.saveStatusAsync(entity)).thenReturn(completedFuture(entity));
 
     processBindingService.updateStatus(entity, status);
 
-    verify(processBindingRepository).saveStatus(entity);
+    verify(processBindingRepository).saveStatusAsync(entity);
   }
 
   @Test
   public void delete() {
     final ProcessBinding entity = mock(ProcessBinding.class);
 
+    when(processBindingRepository.deleteAsync(entity)).thenReturn(completedFuture(null));
+
     processBindingService.delete(entity);
 
     InOrder inOrder = inOrder(handlerService, processBindingRepository);
     inOrder.verify(handlerService).handleDelete(entity);
-    inOrder.verify(processBindingRepository).delete(entity);
+    inOrder.verify(processBindingRepository).deleteAsync(entity);
 
   }
 }
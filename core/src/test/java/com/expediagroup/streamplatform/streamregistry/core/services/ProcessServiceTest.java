@@ -15,13 +15,11 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.services;
 
-import static java.util.Arrays.asList;
-import static java.util.Collections.emptyList;
 import static java.util.Optional.empty;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -29,7 +27,6 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,7 +35,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.security.access.AccessDeniedException;
@@ -46,17 +42,14 @@ import org.springframework.security.access.AccessDeniedException;
 import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ProcessValidator;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ValidationException;
-import com.expediagroup.streamplatform.streamregistry.core.views.ProcessBindingView;
 import com.expediagroup.streamplatform.streamregistry.core.views.ProcessView;
 import com.expediagroup.streamplatform.streamregistry.model.Consumer;
 import com.expediagroup.streamplatform.streamregistry.model.Process;
-import com.expediagroup.streamplatform.streamregistry.model.ProcessBinding;
 import com.expediagroup.streamplatform.streamregistry.model.ProcessInputStream;
 import com.expediagroup.streamplatform.streamregistry.model.ProcessOutputStream;
 import com.expediagroup.streamplatform.streamregistry.model.Producer;
 import com.expediagroup.streamplatform.streamregistry.model.Specification;
 import com.expediagroup.streamplatform.streamregistry.model.Status;
-import com.expediagroup.streamplatform.streamregistry.model.keys.ProcessBindingKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProcessKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ZoneKey;
@@ -76,7 +69,7 @@ public class ProcessServiceTest {
   private ProcessRepository processRepository;
 
   @Mock
-  private ProcessBindingService processBindingService;
+  private DeletePlanner deletePlanner;
 
   @Mock
   private ProducerService producerService;
@@ -95,11 +88,10 @@ public class ProcessServiceTest {
       handlerService,
       processValidator,
       processRepository,
-      processBindingService,
-      new ProcessBindingView(processBindingRepository),
       new ProcessView(processRepository),
       consumerService,
-      producerService
+      producerService,
+      deletePlanner
       );
   }
 
@@ -111,14 +103,14 @@ public class ProcessServiceTest {
     when(processRepository.findById(entity.getKey())).thenReturn(empty());
     doNothing().when(processValidator).validateForCreate(entity);
     when(handlerService.handleInsert(entity)).thenReturn(specification);
-    when(processRepository.saveSpecification(entity)).thenReturn(entity);
+    when(processRepository.saveSpecificationAsync(entity)).thenReturn(completedFuture(entity));
 
     processService.create(entity);
 
     verify(processRepository).findById(entity.getKey());
     verify(processValidator).validateForCreate(entity);
     verify(handlerService).handleInsert(entity);
-    verify(processRepository).saveSpecification(entity);
+    verify(processRepository).saveSpecificationAsync(entity);
   }
 
   @Test(expected = ValidationException.class)
@@ -153,7 +145,7 @@ public class ProcessServiceTest {
     when(processRepository.findById(existing.getKey())).thenReturn(Optional.of(existing));
     doNothing().when(processValidator).validateForUpdate(newEntity, existing);
     when(handlerService.handleUpdate(newEntity, existing)).thenReturn(specification);
-    when(processRepository.saveSpecification(newEntity)).thenReturn(newEntity);
+    when(processRepository.saveSpecificationAsync(newEntity)).thenReturn(completedFuture(newEntity));
 
     processService.update(newEntity);
 
@@ -162,7 +154,7 @@ public class ProcessServiceTest {
     verify(handlerService).handleUpdate(newEntity, existing);
     verify(consumerService, never()).canCreateConsumer(any(Consumer.class));
     verify(producerService, never()).canCreateProducer(any(Producer.class));
-    verify(processRepository).saveSpecification(newEntity);
+    verify(processRepository).saveSpecificationAsync(newEntity);
   }
 
   @Test
@@ -179,7 +171,7 @@ public class ProcessServiceTest {
     when(processRepository.findById(existing.getKey())).thenReturn(Optional.of(existing));
     doNothing().when(processValidator).validateForUpdate(newEntity, existing);
     when(handlerService.handleUpdate(newEntity, existing)).thenReturn(specification);
-    when(processRepository.saveSpecification(newEntity)).thenReturn(newEntity);
+    when(processRepository.saveSpecificationAsync(newEntity)).thenReturn(completedFuture(newEntity));
 
     processService.update(newEntity);
 
@@ -188,7 +180,7 @@ public class ProcessServiceTest {
     verify(handlerService).handleUpdate(newEntity, existing);
     verify(consumerService, times(1)).canCreateConsumer(any(Consumer.class));
     verify(producerService, times(1)).canCreateProducer(any(Producer.class));
-    verify(processRepository).saveSpecification(newEntity);
+    verify(processRepository).saveSpecificationAsync(newEntity);
   }
 
   @Test(expected = ValidationException.class)
@@ -246,72 +238,22 @@ public class ProcessServiceTest {
     final Status status = mock(Status.class);
     final Process entity = mock(Process.class);
 
-    when(processRepository.saveStatus(entity)).thenReturn(entity);
+    when(processRepository.saveStatusAsync(entity)).thenReturn(completedFuture(entity));
 
     processService.updateStatus(entity, status);
 
-    verify(processRepository).saveStatus(entity);
+    verify(processRepository).saveStatusAsync(entity);
   }
 
   @Test
   public void delete() {
-    final ProcessKey key = mock(ProcessKey.class);
     final Process entity = mock(Process.class);
-    when(entity.getKey()).thenReturn(key);
 
-    final ProcessBindingKey bindingKey = mock(ProcessBindingKey.class);
-    final ProcessBinding binding = mock(ProcessBinding.class);
-    when(bindingKey.getProcessKey()).thenReturn(key);
-    when(binding.getKey()).thenReturn(bindingKey);
-
-    when(processBindingRepository.findAll()).thenReturn(Collections.singletonList(binding));
-
-    processService.delete(entity);
-
-    InOrder inOrder = inOrder(processBindingService, processRepository);
-    inOrder.verify(processBindingService).delete(binding);
-    inOrder.verify(processRepository).delete(entity);
-  }
-
-  @Test
-  public void delete_noBinding() {
-    final Process entity = mock(Process.class);
-
-    when(processBindingRepository.findAll()).thenReturn(emptyList());
-
-    processService.delete(entity);
-
-    InOrder inOrder = inOrder(processBindingService, processRepository);
-    inOrder.verify(processBindingService, never()).delete(any());
-    inOrder.verify(processRepository).delete(entity);
-  }
-
-
-  @Test
-  public void delete_multi() {
-    final ProcessKey key = mock(ProcessKey.class);
-    final Process entity = mock(Process.class);
-    when(entity.getKey()).thenReturn(key);
-
-    final ProcessBindingKey bindingKey1 = mock(ProcessBindingKey.class);
-    final ProcessBinding binding1 = mock(ProcessBinding.class);
-    when(bindingKey1.getProcessKey()).thenReturn(key);
-    when(binding1.getKey()).thenReturn(bindingKey1);
-
-    final ProcessBindingKey bindingKey2 = mock(ProcessBindingKey.class);
-    final ProcessBinding binding2 = mock(ProcessBinding.class);
-    when(bindingKey2.getProcessKey()).thenReturn(key);
-    when(binding2.getKey()).thenReturn(bindingKey2);
-
-    when(processBindingRepository.findAll()).thenReturn(asList(binding1, binding2));
+    when(deletePlanner.delete(entity)).thenReturn(completedFuture(null));
 
     processService.delete(entity);
 
-    InOrder inOrder = inOrder(handlerService, processBindingService, processRepository);
-    inOrder.verify(handlerService).handleDelete(entity);
-    inOrder.verify(processBindingService).delete(binding1);
-    inOrder.verify(processBindingService).delete(binding2);
-    inOrder.verify(processRepository).delete(entity);
+    verify(deletePlanner).delete(entity);
   }
 
   private Process createTestProcess() {
@@ -15,11 +15,14 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.services;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.Before;
@@ -35,6 +38,7 @@ import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
 import com.expediagroup.streamplatform.streamregistry.model.Specification;
 import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerKey;
 import com.expediagroup.streamplatform.streamregistry.repository.ProducerBindingRepository;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -73,7 +77,7 @@ public class ProducerBindingServiceTest {
     doNothing().when(producerBindingValidator).validateForCreate(entity);
     when(handlerService.handleInsert(entity)).thenReturn(specification);
 
-    when(producerBindingRepository.saveSpecification(entity)).thenReturn(entity);
+    when(producerBindingRepository.saveSpecificationAsync(entity)).thenReturn(completedFuture(entity));
 
     producerBindingService.create(entity);
 
@@ -81,7 +85,7 @@ public class ProducerBindingServiceTest {
     verify(producerBindingRepository).findById(key);
     verify(producerBindingValidator).validateForCreate(entity);
     verify(handlerService).handleInsert(entity);
-    verify(producerBindingRepository).saveSpecification(entity);
+    verify(producerBindingRepository).saveSpecificationAsync(entity);
   }
 
   @Test
@@ -98,7 +102,7 @@ public class ProducerBindingServiceTest {
     doNothing().when(producerBindingValidator).validateForUpdate(entity, existingEntity);
     when(handlerService.handleUpdate(entity, existingEntity)).thenReturn(specification);
 
-    when(producerBindingRepository.saveSpecification(entity)).thenReturn(entity);
+    when(producerBindingRepository.saveSpecificationAsync(entity)).thenReturn(completedFuture(entity));
 
     producerBindingService.update(entity);
 
@@ -106,7 +110,7 @@ public class ProducerBindingServiceTest {
     verify(producerBindingRepository).findById(key);
     verify(producerBindingValidator).validateForUpdate(entity, existingEntity);
     verify(handlerService).handleUpdate(entity, existingEntity);
-    verify(producerBindingRepository).saveSpecification(entity);
+    verify(producerBindingRepository).saveSpecificationAsync(entity);
   }
 
   @Test
@@ -114,17 +118,39 @@ public class ProducerBindingServiceTest {
     final Status status = mock(Status.class);
     final ProducerBinding entity = mock(ProducerBinding.class);
 
-    when(producerBindingRepository.saveStatus(entity)).thenReturn(entity);
+    when(producerBindingRepository.saveStatusAsync(entity)).thenReturn(completedFuture(entity));
 
     producerBindingService.updateStatus(entity, status);
 
-    verify(producerBindingRepository).saveStatus(entity);
+    verify(producerBindingRepository).saveStatusAsync(entity);
   }
 
   @Test
   public void delete() {
     final ProducerBinding entity = mock(ProducerBinding.class);
+    when(producerBindingRepository.deleteAsync(entity)).thenReturn(completedFuture(null));
+
     producerBindingService.delete(entity);
-    verify(producerBindingRepository).delete(entity);
+    verify(producerBindingRepository).deleteAsync(entity);
+  }
+
+  @Test
+  public void find() {
+    final ProducerKey key = mock(ProducerKey.class);
+    final ProducerBinding entity = mock(ProducerBinding.class);
+    when(producerBindingRepository.findAllByParent(key)).thenReturn(List.of(entity));
+
+    assertEquals(Optional.of(entity), producerBindingService.find(key));
+  }
+
+  @Test
+  public void findAllKeys() {
+    final ProducerKey key = mock(ProducerKey.class);
+    final ProducerKey unbound = mock(ProducerKey.class);
+    final ProducerBinding entity = mock(ProducerBinding.class);
+    when(producerBindingRepository.findAllByParent(key)).thenReturn(List.of(entity));
+    when(producerBindingRepository.findAllByParent(unbound)).thenReturn(List.of());
+
+    assertEquals(List.of(entity), producerBindingService.find(List.of(key, unbound)));
   }
 }
@@ -15,12 +15,9 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.services;
 
-import static java.util.Arrays.asList;
-import static java.util.Collections.emptyList;
-import static org.mockito.ArgumentMatchers.any;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.mockito.Mockito.*;
 
-import java.util.List;
 import java.util.Optional;
 
 import org.junit.Before;
@@ -31,15 +28,11 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ProducerValidator;
-import com.expediagroup.streamplatform.streamregistry.core.views.ProducerBindingView;
 import com.expediagroup.streamplatform.streamregistry.core.views.ProducerView;
 import com.expediagroup.streamplatform.streamregistry.model.Producer;
-import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
 import com.expediagroup.streamplatform.streamregistry.model.Specification;
 import com.expediagroup.streamplatform.streamregistry.model.Status;
-import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerBindingKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerKey;
-import com.expediagroup.streamplatform.streamregistry.repository.ProducerBindingRepository;
 import com.expediagroup.streamplatform.streamregistry.repository.ProducerRepository;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -55,10 +48,7 @@ public class ProducerServiceTest {
   private ProducerRepository producerRepository;
 
   @Mock
-  private  ProducerBindingService producerBindingService;
-
-  @Mock
-  private ProducerBindingRepository producerBindingRepository;
+  private DeletePlanner deletePlanner;
 
   private ProducerService producerService;
 
@@ -68,9 +58,8 @@ public class ProducerServiceTest {
       handlerService,
       producerValidator,
       producerRepository,
-      producerBindingService,
-      new ProducerBindingView(producerBindingRepository),
-      new ProducerView(producerRepository)
+      new ProducerView(producerRepository),
+      deletePlanner
     );
   }
 
@@ -86,7 +75,7 @@ public class ProducerServiceTest {
     doNothing().when(producerValidator).validateForCreate(entity);
     when(handlerService.handleInsert(entity)).thenReturn(specification);
 
-    when(producerRepository.saveSpecification(entity)).thenReturn(entity);
+    when(producerRepository.saveSpecificationAsync(entity)).thenReturn(completedFuture(entity));
 
     producerService.create(entity);
 
@@ -94,7 +83,7 @@ public class ProducerServiceTest {
     verify(producerRepository).findById(key);
     verify(producerValidator).validateForCreate(entity);
     verify(handlerService).handleInsert(entity);
-    verify(producerRepository).saveSpecification(entity);
+    verify(producerRepository).saveSpecificationAsync(entity);
   }
 
   @Test
@@ -111,7 +100,7 @@ public class ProducerServiceTest {
     doNothing().when(producerValidator).validateForUpdate(entity, existingEntity);
     when(handlerService.handleUpdate(entity, existingEntity)).thenReturn(specification);
 
-    when(producerRepository.saveSpecification(entity)).thenReturn(entity);
+    when(producerRepository.saveSpecificationAsync(entity)).thenReturn(completedFuture(entity));
 
     producerService.update(entity);
 
@@ -119,7 +108,7 @@ public class ProducerServiceTest {
     verify(producerRepository).findById(key);
     verify(producerValidator).validateForUpdate(entity, existingEntity);
     verify(handlerService).handleUpdate(entity, existingEntity);
-    verify(producerRepository).saveSpecification(entity);
+    verify(producerRepository).saveSpecificationAsync(entity);
   }
 
   @Test
@@ -127,67 +116,21 @@ public class ProducerServiceTest {
     final Status status = mock(Status.class);
     final Producer entity = mock(Producer.class);
 
-    when(producerRepository.saveStatus(entity)).thenReturn(entity);
+    when(producerRepository.saveStatusAsync(entity)).thenReturn(completedFuture(entity));
 
     producerService.updateStatus(entity, status);
 
-    verify(producerRepository).saveStatus(entity);
+    verify(producerRepository).saveStatusAsync(entity);
   }
 
   @Test
   public void delete() {
-    final ProducerKey key = mock(ProducerKey.class);
-    final Producer entity = mock(Producer.class);
-    when(entity.getKey()).thenReturn(key);
-
-    final ProducerBindingKey bindingKey = mock(ProducerBindingKey.class);
-    final ProducerBinding binding = mock(ProducerBinding.class);
-    when(bindingKey.getProducerKey()).thenReturn(key);
-    when(binding.getKey()).thenReturn(bindingKey);
-
-    when(producerBindingRepository.findAll()).thenReturn(List.of(binding));
-
-    producerService.delete(entity);
-
-    verify(producerBindingService).delete(binding);
-    verify(producerRepository).delete(entity);
-  }
-
-  @Test
-  public void delete_noChildren() {
     final Producer entity = mock(Producer.class);
 
-    when(producerBindingRepository.findAll()).thenReturn(emptyList());
+    when(deletePlanner.delete(entity)).thenReturn(completedFuture(null));
 
     producerService.delete(entity);
 
-    verify(producerBindingService, never()).delete(any());
-    verify(producerRepository).delete(entity);
+    verify(deletePlanner).delete(entity);
   }
-
-  @Test
-  public void delete_multi() {
-    final ProducerKey key = mock(ProducerKey.class);
-    final Producer entity = mock(Producer.class);
-    when(entity.getKey()).thenReturn(key);
-
-    final ProducerBindingKey bindingKey1 = mock(ProducerBindingKey.class);
-    final ProducerBinding binding1 = mock(ProducerBinding.class);
-    when(bindingKey1.getProducerKey()).thenReturn(key);
-    when(binding1.getKey()).thenReturn(bindingKey1);
-
-    final ProducerBindingKey bindingKey2 = mock(ProducerBindingKey.class);
-    final ProducerBinding binding2 = mock(ProducerBinding.class);
-    when(bindingKey2.getProducerKey()).thenReturn(key);
-    when(binding2.getKey()).thenReturn(bindingKey2);
-
-    when(producerBindingRepository.findAll()).thenReturn(asList(binding1, binding2));
-
-    producerService.delete(entity);
-
-    verify(producerBindingService).delete(binding1);
-    verify(producerBindingService).delete(binding2);
-    verify(producerRepository).delete(entity);
-  }
-
 }
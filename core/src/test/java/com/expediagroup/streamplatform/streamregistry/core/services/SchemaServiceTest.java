@@ -15,6 +15,7 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.services;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -72,14 +73,14 @@ public class SchemaServiceTest {
     doNothing().when(schemaValidator).validateForCreate(entity);
     when(handlerService.handleInsert(entity)).thenReturn(specification);
 
-    when(schemaRepository.saveSpecification(entity)).thenReturn(entity);
+    when(schemaRepository.saveSpecificationAsync(entity)).thenReturn(completedFuture(entity));
 
     schemaService.create(entity);
 
     verify(entity).getKey();
     verify(schemaValidator).validateForCreate(entity);
     verify(handlerService).handleInsert(entity);
-    verify(schemaRepository).saveSpecification(entity);
+    verify(schemaRepository).saveSpecificationAsync(entity);
   }
 
   @Test
@@ -95,7 +96,7 @@ public class SchemaServiceTest {
     doNothing().when(schemaValidator).validateForUpdate(entity, existingEntity);
     when(handlerService.handleUpdate(entity, existingEntity)).thenReturn(specification);
 
-    when(schemaRepository.saveSpecification(entity)).thenReturn(entity);
+    when(schemaRepository.saveSpecificationAsync(entity)).thenReturn(completedFuture(entity));
 
     schemaService.update(entity);
 
@@ -103,7 +104,7 @@ public class SchemaServiceTest {
     verify(schemaRepository).findById(key);
     verify(schemaValidator).validateForUpdate(entity, existingEntity);
     verify(handlerService).handleUpdate(entity, existingEntity);
-    verify(schemaRepository).saveSpecification(entity);
+    verify(schemaRepository).saveSpecificationAsync(entity);
   }
 
   @Test
@@ -111,17 +112,19 @@ public class SchemaServiceTest {
     final Schema entity = mock(Schema.class);
     final Status status = mock(Status.class);
 
-    when(schemaRepository.saveStatus(entity)).thenReturn(entity);
+    when(schemaRepository.saveStatusAsync(entity)).thenReturn(completedFuture(entity));
 
     schemaService.updateStatus(entity, status);
 
-    verify(schemaRepository).saveStatus(entity);
+    verify(schemaRepository).saveStatusAsync(entity);
   }
 
   @Test
   public void delete() {
     final Schema entity = mock(Schema.class);
+    when(schemaRepository.deleteAsync(entity)).thenReturn(completedFuture(null));
+
     schemaService.delete(entity);
-    verify(schemaRepository).delete(entity);
+    verify(schemaRepository).deleteAsync(entity);
   }
 }
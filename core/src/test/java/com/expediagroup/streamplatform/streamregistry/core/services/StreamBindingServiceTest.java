@@ -15,40 +15,27 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.services;
 
-import static java.util.Collections.emptyList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.Collections;
 import java.util.Optional;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import org.junit.Before;
 import org.junit.Test;
-import org.junit.jupiter.api.Assertions;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
 import com.expediagroup.streamplatform.streamregistry.core.validators.StreamBindingValidator;
-import com.expediagroup.streamplatform.streamregistry.core.views.ConsumerBindingView;
-import com.expediagroup.streamplatform.streamregistry.core.views.ProcessBindingView;
-import com.expediagroup.streamplatform.streamregistry.core.views.ProducerBindingView;
 import com.expediagroup.streamplatform.streamregistry.core.views.StreamBindingView;
-import com.expediagroup.streamplatform.streamregistry.model.ProcessBinding;
-import com.expediagroup.streamplatform.streamregistry.model.ProcessInputStreamBinding;
-import com.expediagroup.streamplatform.streamregistry.model.ProcessOutputStreamBinding;
 import com.expediagroup.streamplatform.streamregistry.model.Specification;
 import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
 import com.expediagroup.streamplatform.streamregistry.model.keys.StreamBindingKey;
-import com.expediagroup.streamplatform.streamregistry.repository.ConsumerBindingRepository;
-import com.expediagroup.streamplatform.streamregistry.repository.ProcessBindingRepository;
-import com.expediagroup.streamplatform.streamregistry.repository.ProducerBindingRepository;
 import com.expediagroup.streamplatform.streamregistry.repository.StreamBindingRepository;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -64,19 +51,7 @@ public class StreamBindingServiceTest {
   private StreamBindingRepository streamBindingRepository;
 
   @Mock
-  private ConsumerBindingService consumerBindingService;
-
-  @Mock
-  private ProducerBindingService producerBindingService;
-
-  @Mock
-  private ConsumerBindingRepository consumerBindingRepository;
-
-  @Mock
-  private ProducerBindingRepository producerBindingRepository;
-
-  @Mock
-  private ProcessBindingRepository processBindingRepository;
+  private DeletePlanner deletePlanner;
 
   private StreamBindingService streamBindingService;
 
@@ -87,12 +62,8 @@ public class StreamBindingServiceTest {
       handlerService,
       streamBindingValidator,
       streamBindingRepository,
-      consumerBindingService,
-      producerBindingService,
-      new ConsumerBindingView(consumerBindingRepository),
-      new ProducerBindingView(producerBindingRepository),
       new StreamBindingView(streamBindingRepository),
-      new ProcessBindingView(processBindingRepository)
+      deletePlanner
     );
   }
 
@@ -108,7 +79,7 @@ public class StreamBindingServiceTest {
     doNothing().when(streamBindingValidator).validateForCreate(entity);
     when(handlerService.handleInsert(entity)).thenReturn(specification);
 
-    when(streamBindingRepository.saveSpecification(entity)).thenReturn(entity);
+    when(streamBindingRepository.saveSpecificationAsync(entity)).thenReturn(completedFuture(entity));
 
     streamBindingService.create(entity);
 
@@ -116,7 +87,7 @@ public class StreamBindingServiceTest {
     verify(streamBindingRepository).findById(key);
     verify(streamBindingValidator).validateForCreate(entity);
     verify(handlerService).handleInsert(entity);
-    verify(streamBindingRepository).saveSpecification(entity);
+    verify(streamBindingRepository).saveSpecificationAsync(entity);
   }
 
   @Test
@@ -133,7 +104,7 @@ public class StreamBindingServiceTest {
     doNothing().when(streamBindingValidator).validateForUpdate(entity, existingEntity);
     when(handlerService.handleUpdate(entity, existingEntity)).thenReturn(specification);
 
-    when(streamBindingRepository.saveSpecification(entity)).thenReturn(entity);
+    when(streamBindingRepository.saveSpecificationAsync(entity)).thenReturn(completedFuture(entity));
 
     streamBindingService.update(entity);
 
@@ -141,7 +112,7 @@ public class StreamBindingServiceTest {
     verify(streamBindingRepository).findById(key);
     verify(streamBindingValidator).validateForUpdate(entity, existingEntity);
     verify(handlerService).handleUpdate(entity, existingEntity);
-    verify(streamBindingRepository).saveSpecification(entity);
+    verify(streamBindingRepository).saveSpecificationAsync(entity);
   }
 
   @Test
@@ -149,69 +120,21 @@ public class StreamBindingServiceTest {
     final Status status = mock(Status.class);
     final StreamBinding entity = mock(StreamBinding.class);
 
-    when(streamBindingRepository.saveStatus(entity)).thenReturn(entity);
+    when(streamBindingRepository.saveStatusAsync(entity)).thenReturn(completedFuture(entity));
 
     streamBindingService.updateStatus(entity, status);
 
-    verify(streamBindingRepository).saveStatus(entity);
-  }
-
-  @Test
-  public void deleteWithNoError() {
-    final StreamBinding entity = mock(StreamBinding.class);
-    when(processBindingRepository.findAll()).thenReturn(emptyList());
-    when(consumerBindingRepository.findAll()).thenReturn(emptyList());
-    when(producerBindingRepository.findAll()).thenReturn(emptyList());
-    streamBindingService.delete(entity);
-    verify(streamBindingRepository).delete(entity);
+    verify(streamBindingRepository).saveStatusAsync(entity);
   }
 
   @Test
-  public void deletionShouldThrowExceptionWhenStreamBindingIsUsedInProcessBindingOutput() {
+  public void delete() {
     final StreamBinding entity = mock(StreamBinding.class);
-    final StreamBindingKey streamBindingKey = new StreamBindingKey(
-      "domain",
-      "stream",
-      1,
-      "aws_us_east_1",
-      "kafka-1c"
-    );
-    final ProcessOutputStreamBinding processOutputStreamBinding = new ProcessOutputStreamBinding(
-      streamBindingKey,
-      new ObjectMapper().createObjectNode()
-    );
-    final ProcessBinding processBinding = mock(ProcessBinding.class);
-
-    when(processBinding.getOutputs()).thenReturn(Collections.singletonList(processOutputStreamBinding));
-    when(entity.getKey()).thenReturn(streamBindingKey);
-    when(processBindingRepository.findAll()).thenReturn(Collections.singletonList(processBinding));
-
-    IllegalStateException ex = Assertions.assertThrows(IllegalStateException.class, () -> streamBindingService.delete(entity));
-    Assertions.assertEquals("Stream binding is used in process binding: " + processBinding.getKey(), ex.getMessage());
-  }
 
-  @Test
-  public void deletionShouldThrowExceptionWhenStreamBindingIsUsedInProcessBindingInput() {
-    final StreamBinding entity = mock(StreamBinding.class);
-    final StreamBindingKey streamBindingKey = new StreamBindingKey(
-      "domain",
-      "stream",
-      1,
-      "aws_us_east_1",
-      "kafka-1c"
-    );
-    final ProcessInputStreamBinding processInputStreamBinding = new ProcessInputStreamBinding(
-      streamBindingKey,
-      new ObjectMapper().createObjectNode()
-    );
-    final ProcessBinding processBinding = mock(ProcessBinding.class);
+    when(deletePlanner.delete(entity)).thenReturn(completedFuture(null));
 
-    when(processBinding.getOutputs()).thenReturn(emptyList());
-    when(processBinding.getInputs()).thenReturn(Collections.singletonList(processInputStreamBinding));
-    when(entity.getKey()).thenReturn(streamBindingKey);
-    when(processBindingRepository.findAll()).thenReturn(Collections.singletonList(processBinding));
+    streamBindingService.delete(entity);
 
-    IllegalStateException ex = Assertions.assertThrows(IllegalStateException.class, () -> streamBindingService.delete(entity));
-    Assertions.assertEquals("Stream binding is used in process binding: " + processBinding.getKey(), ex.getMessage());
+    verify(deletePlanner).delete(entity);
   }
 }
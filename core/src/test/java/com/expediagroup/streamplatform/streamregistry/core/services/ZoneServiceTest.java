@@ -16,6 +16,7 @@
 package com.expediagroup.streamplatform.streamregistry.core.services;
 
 import static java.util.Collections.emptyList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
@@ -99,6 +100,9 @@ public class ZoneServiceTest {
   @Mock
   private InfrastructureRepository infrastructureRepository;
 
+  @Mock
+  private DeletePlanner deletePlanner;
+
   private ZoneService zoneService;
 
   @Before
@@ -113,7 +117,8 @@ public class ZoneServiceTest {
       new ProducerBindingView(producerBindingRepository),
       new ProcessBindingView(processBindingRepository),
       new ProcessView(processRepository),
-      new InfrastructureView(infrastructureRepository)
+      new InfrastructureView(infrastructureRepository),
+      deletePlanner
     );
   }
 
@@ -127,7 +132,7 @@ public class ZoneServiceTest {
     Mockito.doNothing().when(zoneValidator).validateForCreate(entity);
     Mockito.when(handlerService.handleInsert(entity)).thenReturn(specification);
 
-    Mockito.when(zoneRepository.saveSpecification(any())).thenReturn(entity);
+    Mockito.when(zoneRepository.saveSpecificationAsync(any())).thenReturn(completedFuture(entity));
     when(entity.getKey()).thenReturn(key);
 
     zoneService.create(entity);
@@ -136,7 +141,7 @@ public class ZoneServiceTest {
     verify(zoneRepository).findById(key);
     verify(zoneValidator).validateForCreate(entity);
     verify(handlerService).handleInsert(entity);
-    verify(zoneRepository).saveSpecification(entity);
+    verify(zoneRepository).saveSpecificationAsync(entity);
   }
 
   @Test
@@ -152,7 +157,7 @@ public class ZoneServiceTest {
     doNothing().when(zoneValidator).validateForUpdate(entity, existingEntity);
     when(handlerService.handleUpdate(entity, existingEntity)).thenReturn(specification);
 
-    when(zoneRepository.saveSpecification(entity)).thenReturn(entity);
+    when(zoneRepository.saveSpecificationAsync(entity)).thenReturn(completedFuture(entity));
 
     zoneService.update(entity);
 
@@ -160,7 +165,7 @@ public class ZoneServiceTest {
     verify(zoneRepository).findById(key);
     verify(zoneValidator).validateForUpdate(entity, existingEntity);
     verify(handlerService).handleUpdate(entity, existingEntity);
-    verify(zoneRepository).saveSpecification(entity);
+    verify(zoneRepository).saveSpecificationAsync(entity);
   }
 
   @Test
@@ -168,24 +173,26 @@ public class ZoneServiceTest {
     final Zone entity = mock(Zone.class);
     final Status status = mock(Status.class);
 
-    when(zoneRepository.saveStatus(entity)).thenReturn(entity);
+    when(zoneRepository.saveStatusAsync(entity)).thenReturn(completedFuture(entity));
 
     zoneService.updateStatus(entity, status);
 
-    verify(zoneRepository).saveStatus(entity);
+    verify(zoneRepository).saveStatusAsync(entity);
   }
 
   @Test
   public void deleteWithNoError() {
     final Zone zone = mock(Zone.class);
-    when(streamBindingRepository.findAll()).thenReturn(emptyList());
-    when(consumerBindingRepository.findAll()).thenReturn(emptyList());
-    when(producerBindingRepository.findAll()).thenReturn(emptyList());
-    when(processBindingRepository.findAll()).thenReturn(emptyList());
-    when(processRepository.findAll()).thenReturn(emptyList());
-    when(infrastructureRepository.findAll()).thenReturn(emptyList());
+    when(streamBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(consumerBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(producerBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(processBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(processRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(infrastructureRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(deletePlanner.delete(zone, zoneRepository)).thenReturn(completedFuture(null));
+
     zoneService.delete(zone);
-    verify(zoneRepository).delete(zone);
+    verify(deletePlanner).delete(zone, zoneRepository);
   }
 
   @Test
@@ -205,7 +212,7 @@ public class ZoneServiceTest {
 
     when(streamBinding.getKey()).thenReturn(streamBindingKey);
     when(zone.getKey()).thenReturn(zoneKey);
-    when(streamBindingRepository.findAll()).thenReturn(Collections.singletonList(streamBinding));
+    when(streamBindingRepository.findAllByParent(any())).thenReturn(Collections.singletonList(streamBinding));
 
     IllegalStateException ex = Assertions.assertThrows(IllegalStateException.class, () -> zoneService.delete(zone));
     Assertions.assertEquals("Zone is used in stream: StreamKey(domain=domain, name=stream, version=1)", ex.getMessage());
@@ -227,10 +234,10 @@ public class ZoneServiceTest {
 
     final ConsumerBinding consumerBinding = mock(ConsumerBinding.class);
 
-    when(streamBindingRepository.findAll()).thenReturn(emptyList());
+    when(streamBindingRepository.findAllByParent(any())).thenReturn(emptyList());
     when(consumerBinding.getKey()).thenReturn(consumerBindingKey);
     when(zone.getKey()).thenReturn(zoneKey);
-    when(consumerBindingRepository.findAll()).thenReturn(Collections.singletonList(consumerBinding));
+    when(consumerBindingRepository.findAllByParent(any())).thenReturn(Collections.singletonList(consumerBinding));
 
     IllegalStateException ex = Assertions.assertThrows(IllegalStateException.class, () -> zoneService.delete(zone));
     Assertions.assertEquals("Zone is used in consumer binding: " + consumerBindingKey, ex.getMessage());
@@ -252,11 +259,11 @@ public class ZoneServiceTest {
 
     final ProducerBinding producerBinding = mock(ProducerBinding.class);
 
-    when(streamBindingRepository.findAll()).thenReturn(emptyList());
-    when(consumerBindingRepository.findAll()).thenReturn(emptyList());
+    when(streamBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(consumerBindingRepository.findAllByParent(any())).thenReturn(emptyList());
     when(producerBinding.getKey()).thenReturn(producerBindingKey);
     when(zone.getKey()).thenReturn(zoneKey);
-    when(producerBindingRepository.findAll()).thenReturn(Collections.singletonList(producerBinding));
+    when(producerBindingRepository.findAllByParent(any())).thenReturn(Collections.singletonList(producerBinding));
 
     IllegalStateException ex = Assertions.assertThrows(IllegalStateException.class, () -> zoneService.delete(zone));
     Assertions.assertEquals("Zone is used in producer binding: " + producerBindingKey, ex.getMessage());
@@ -275,12 +282,12 @@ public class ZoneServiceTest {
 
     final ProcessBinding processBinding = mock(ProcessBinding.class);
 
-    when(streamBindingRepository.findAll()).thenReturn(emptyList());
-    when(consumerBindingRepository.findAll()).thenReturn(emptyList());
-    when(producerBindingRepository.findAll()).thenReturn(emptyList());
+    when(streamBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(consumerBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(producerBindingRepository.findAllByParent(any())).thenReturn(emptyList());
     when(processBinding.getKey()).thenReturn(processBindingKey);
     when(zone.getKey()).thenReturn(zoneKey);
-    when(processBindingRepository.findAll()).thenReturn(Collections.singletonList(processBinding));
+    when(processBindingRepository.findAllByParent(any())).thenReturn(Collections.singletonList(processBinding));
 
     IllegalStateException ex = Assertions.assertThrows(IllegalStateException.class, () -> zoneService.delete(zone));
     Assertions.assertEquals("Zone is used in process binding: " + processBindingKey, ex.getMessage());
@@ -302,10 +309,10 @@ public class ZoneServiceTest {
       new ObjectMapper().createObjectNode()
     );
 
-    when(streamBindingRepository.findAll()).thenReturn(emptyList());
-    when(consumerBindingRepository.findAll()).thenReturn(emptyList());
-    when(producerBindingRepository.findAll()).thenReturn(emptyList());
-    when(processBindingRepository.findAll()).thenReturn(Collections.singletonList(processBinding));
+    when(streamBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(consumerBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(producerBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(processBindingRepository.findAllByParent(any())).thenReturn(Collections.singletonList(processBinding));
     when(processBinding.getOutputs()).thenReturn(Collections.singletonList(processOutputStreamBinding));
     when(processBinding.getKey()).thenReturn(processBindingKey);
     when(zone.getKey()).thenReturn(zoneKey);
@@ -330,10 +337,10 @@ public class ZoneServiceTest {
       new ObjectMapper().createObjectNode()
     );
 
-    when(streamBindingRepository.findAll()).thenReturn(emptyList());
-    when(consumerBindingRepository.findAll()).thenReturn(emptyList());
-    when(producerBindingRepository.findAll()).thenReturn(emptyList());
-    when(processBindingRepository.findAll()).thenReturn(Collections.singletonList(processBinding));
+    when(streamBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(consumerBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(producerBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(processBindingRepository.findAllByParent(any())).thenReturn(Collections.singletonList(processBinding));
     when(processBinding.getInputs()).thenReturn(Collections.singletonList(processInputStreamBinding));
     when(processBinding.getKey()).thenReturn(processBindingKey);
     when(zone.getKey()).thenReturn(zoneKey);
@@ -348,11 +355,11 @@ public class ZoneServiceTest {
     final Zone zone = mock(Zone.class);
     final Process process = mock(Process.class);
 
-    when(streamBindingRepository.findAll()).thenReturn(emptyList());
-    when(consumerBindingRepository.findAll()).thenReturn(emptyList());
-    when(producerBindingRepository.findAll()).thenReturn(emptyList());
-    when(processBindingRepository.findAll()).thenReturn(emptyList());
-    when(processRepository.findAll()).thenReturn(Collections.singletonList(process));
+    when(streamBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(consumerBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(producerBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(processBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(processRepository.findAllByParent(any())).thenReturn(Collections.singletonList(process));
     when(process.getZones()).thenReturn(Collections.singletonList(zoneKey));
     when(zone.getKey()).thenReturn(zoneKey);
 
@@ -368,12 +375,12 @@ public class ZoneServiceTest {
     final Infrastructure infrastructure = mock(Infrastructure.class);
     final InfrastructureKey infrastructureKey = new InfrastructureKey("aws_us_east_1", "infrastructure");
 
-    when(streamBindingRepository.findAll()).thenReturn(emptyList());
-    when(consumerBindingRepository.findAll()).thenReturn(emptyList());
-    when(producerBindingRepository.findAll()).thenReturn(emptyList());
-    when(processBindingRepository.findAll()).thenReturn(emptyList());
-    when(processRepository.findAll()).thenReturn(emptyList());
-    when(infrastructureRepository.findAll()).thenReturn(Collections.singletonList(infrastructure));
+    when(streamBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(consumerBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(producerBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(processBindingRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(processRepository.findAllByParent(any())).thenReturn(emptyList());
+    when(infrastructureRepository.findAllByParent(any())).thenReturn(Collections.singletonList(infrastructure));
     when(zone.getKey()).thenReturn(zoneKey);
     when(infrastructure.getKey()).thenReturn(infrastructureKey);
 
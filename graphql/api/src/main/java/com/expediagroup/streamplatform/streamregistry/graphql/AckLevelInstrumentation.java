@@ -0,0 +1,67 @@
+/**
+ * Copyright (C) 2018-2024 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.graphql;
+
+import java.util.List;
+import java.util.Map;
+
+import com.expediagroup.streamplatform.streamregistry.repository.AckLevel;
+import com.expediagroup.streamplatform.streamregistry.repository.AckLevelContext;
+
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.language.Directive;
+import graphql.language.EnumValue;
+import graphql.language.OperationDefinition;
+import graphql.language.Value;
+import graphql.language.VariableReference;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Applies the {@code @ack(level: ...)} directive of a mutation operation to the writes made by its fields, for example
+ * {@code mutation @ack(level: BROKER) { ... }}. The level is a value of the {@code AckLevel} enum of the schema, which
+ * mirrors {@link AckLevel}, and {@link AckLevel#APPLIED} if the directive is absent.
+ */
+public class AckLevelInstrumentation extends SimplePerformantInstrumentation {
+  static final String DIRECTIVE = "ack";
+  static final String LEVEL = "level";
+
+  @Override
+  public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher, InstrumentationFieldFetchParameters parameters, InstrumentationState state) {
+    DataFetchingEnvironment environment = parameters.getEnvironment();
+    OperationDefinition operation = environment.getOperationDefinition();
+    if (operation == null || operation.getOperation() != OperationDefinition.Operation.MUTATION
+        || parameters.getExecutionStepInfo().getPath().getLevel() != 1) {
+      return dataFetcher;
+    }
+    List<Directive> directives = operation.getDirectives(DIRECTIVE);
+    if (directives.isEmpty()) {
+      return dataFetcher;
+    }
+    Value<?> value = directives.get(0).getArgument(LEVEL).getValue();
+    return env -> AckLevelContext.call(AckLevel.valueOf(level(value, env.getVariables())), () -> dataFetcher.get(env));
+  }
+
+  private static String level(Value<?> value, Map<String, Object> variables) {
+    // Validation has already checked the argument against the AckLevel enum, and a variable is coerced to its name
+    if (value instanceof VariableReference) {
+      return (String) variables.get(((VariableReference) value).getName());
+    }
+    return ((EnumValue) value).getName();
+  }
+}
@@ -0,0 +1,46 @@
+/**
+ * Copyright (C) 2018-2024 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.graphql;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Adapts the futures returned by the services to mutation results.
+ * <p/>
+ * Writes complete on the thread receiving their events, which must not go on to resolve the rest of the query and
+ * has no security context. Results are therefore completed on the common pool with the security context of the
+ * request, which must be the current thread when these methods are called.
+ */
+public class AsyncHelper {
+
+  public static <T> CompletableFuture<T> result(CompletableFuture<Optional<T>> future) {
+    return future.thenApplyAsync(Optional::get, requestExecutor());
+  }
+
+  public static CompletableFuture<Boolean> deleted(CompletableFuture<Void> future) {
+    return future.thenApplyAsync(ignored -> true, requestExecutor());
+  }
+
+  private static Executor requestExecutor() {
+    return new DelegatingSecurityContextExecutor(ForkJoinPool.commonPool(), SecurityContextHolder.getContext());
+  }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2018-2024 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.graphql;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.ANY;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.expediagroup.streamplatform.streamregistry.model.Entity;
+
+import graphql.relay.Connection;
+import graphql.relay.ConnectionCursor;
+import graphql.relay.DefaultConnection;
+import graphql.relay.DefaultConnectionCursor;
+import graphql.relay.DefaultEdge;
+import graphql.relay.DefaultPageInfo;
+import graphql.relay.Edge;
+
+/**
+ * Builds Relay style connections from streams of entities in key order.
+ * <p/>
+ * A cursor is the URL safe Base64 encoding of the JSON of the entity key, so a page starts right after the last
+ * entity of the previous page even if that entity has since been deleted. Only {@code first + 1} entities are read
+ * from the stream, the extra one telling whether there is a next page.
+ */
+public class ConnectionHelper {
+  static final int DEFAULT_PAGE_SIZE = 100;
+  static final int MAX_PAGE_SIZE = 1000;
+
+  private static final ObjectMapper mapper = new ObjectMapper()
+      .setVisibility(PropertyAccessor.ALL, NONE)
+      .setVisibility(PropertyAccessor.FIELD, ANY);
+
+  /**
+   * @param first    the maximum number of entities to return, {@value #DEFAULT_PAGE_SIZE} if null.
+   * @param after    the cursor of the entity to start after, or null to start with the first entity.
+   * @param keyClass the key class the cursor decodes to.
+   * @param query    returns the entities following the given key, which is null for the first page, in key order.
+   */
+  public static <K, T extends Entity<K>> Connection<T> connection(Integer first, String after, Class<K> keyClass, Function<K, Stream<T>> query) {
+    int size = pageSize(first);
+    List<T> entities;
+    try (Stream<T> stream = query.apply(after == null ? null : decode(after, keyClass))) {
+      entities = stream.limit(size + 1L).collect(toList());
+    }
+    List<Edge<T>> edges = entities.stream()
+        .limit(size)
+        .map(entity -> (Edge<T>) new DefaultEdge<>(entity, new DefaultConnectionCursor(encode(entity.getKey()))))
+        .collect(toList());
+    ConnectionCursor startCursor = edges.isEmpty() ? null : edges.get(0).getCursor();
+    ConnectionCursor endCursor = edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor();
+    return new DefaultConnection<>(edges, new DefaultPageInfo(startCursor, endCursor, after != null, entities.size() > size));
+  }
+
+  static int pageSize(Integer first) {
+    if (first == null) {
+      return DEFAULT_PAGE_SIZE;
+    }
+    if (first < 0) {
+      throw new IllegalArgumentException("first must not be negative, got " + first);
+    }
+    return Math.min(first, MAX_PAGE_SIZE);
+  }
+
+  static String encode(Object key) {
+    try {
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(mapper.writeValueAsBytes(key));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Unable to encode cursor for " + key, e);
+    }
+  }
+
+  static <K> K decode(String cursor, Class<K> keyClass) {
+    try {
+      return mapper.readValue(Base64.getUrlDecoder().decode(cursor.getBytes(UTF_8)), keyClass);
+    } catch (IllegalArgumentException | IOException e) {
+      throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+    }
+  }
+}
@@ -0,0 +1,166 @@
+/**
+ * Copyright (C) 2018-2024 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.graphql;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import lombok.RequiredArgsConstructor;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.HandshakeRequest;
+
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderFactory;
+import org.dataloader.DataLoaderRegistry;
+import org.dataloader.Try;
+import org.springframework.stereotype.Component;
+
+import com.expediagroup.streamplatform.streamregistry.core.services.ConsumerBindingService;
+import com.expediagroup.streamplatform.streamregistry.core.services.ConsumerService;
+import com.expediagroup.streamplatform.streamregistry.core.services.DomainService;
+import com.expediagroup.streamplatform.streamregistry.core.services.InfrastructureService;
+import com.expediagroup.streamplatform.streamregistry.core.services.ProcessService;
+import com.expediagroup.streamplatform.streamregistry.core.services.ProducerBindingService;
+import com.expediagroup.streamplatform.streamregistry.core.services.ProducerService;
+import com.expediagroup.streamplatform.streamregistry.core.services.SchemaService;
+import com.expediagroup.streamplatform.streamregistry.core.services.StreamBindingService;
+import com.expediagroup.streamplatform.streamregistry.core.services.StreamService;
+import com.expediagroup.streamplatform.streamregistry.core.services.ZoneService;
+import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Entity;
+import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerKey;
+
+import graphql.kickstart.execution.context.GraphQLKickstartContext;
+import graphql.kickstart.servlet.context.DefaultGraphQLServletContext;
+import graphql.kickstart.servlet.context.DefaultGraphQLWebSocketContext;
+import graphql.kickstart.servlet.context.GraphQLServletContextBuilder;
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Gives each GraphQL request its own {@link DataLoaderRegistry} with a {@link DataLoader} per related entity type, so
+ * the relationship resolvers of a request load entities in batches instead of one lookup per row.
+ * <p/>
+ * Each batch is a single multi-get through the service of the entity type. The loaders cache by key for the length of
+ * the request, so an entity referenced by many rows, such as the stream of a thousand producers, is read and permission
+ * checked once. A key missing from the batch, as it does not exist or may not be read, is looked up on its own through
+ * the single get of the service, so an entity that does not exist resolves to null while one that may not be read
+ * fails with the same {@link org.springframework.security.access.AccessDeniedException} as a direct lookup.
+ */
+@Component
+@RequiredArgsConstructor
+public class DataLoaders implements GraphQLServletContextBuilder {
+  public static final String DOMAIN = "domain";
+  public static final String SCHEMA = "schema";
+  public static final String STREAM = "stream";
+  public static final String ZONE = "zone";
+  public static final String INFRASTRUCTURE = "infrastructure";
+  public static final String PRODUCER = "producer";
+  public static final String CONSUMER = "consumer";
+  public static final String PROCESS = "process";
+  public static final String STREAM_BINDING = "streamBinding";
+  /** Producer bindings keyed by their {@link ProducerKey}. */
+  public static final String PRODUCER_BINDING = "producerBinding";
+  /** Consumer bindings keyed by their {@link ConsumerKey}. */
+  public static final String CONSUMER_BINDING = "consumerBinding";
+
+  private final DomainService domainService;
+  private final SchemaService schemaService;
+  private final StreamService streamService;
+  private final ZoneService zoneService;
+  private final InfrastructureService infrastructureService;
+  private final ProducerService producerService;
+  private final ConsumerService consumerService;
+  private final ProcessService processService;
+  private final StreamBindingService streamBindingService;
+  private final ProducerBindingService producerBindingService;
+  private final ConsumerBindingService consumerBindingService;
+
+  /**
+   * Loads the entity with the given key through the loader of the current request.
+   *
+   * @param environment the environment of the field being resolved.
+   * @param name        the name of the loader, one of the constants of this class.
+   * @param key         the key, or null to resolve to null.
+   */
+  public static <K, V> CompletableFuture<V> load(DataFetchingEnvironment environment, String name, K key) {
+    if (key == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+    DataLoader<K, V> loader = environment.getDataLoader(name);
+    return loader.load(key);
+  }
+
+  @Override
+  public GraphQLKickstartContext build(HttpServletRequest request, HttpServletResponse response) {
+    return DefaultGraphQLServletContext.createServletContext(registry()).with(request).with(response).build();
+  }
+
+  @Override
+  public GraphQLKickstartContext build(Session session, HandshakeRequest handshakeRequest) {
+    return DefaultGraphQLWebSocketContext.createWebSocketContext(registry()).with(session).with(handshakeRequest).build();
+  }
+
+  @Override
+  public GraphQLKickstartContext build() {
+    return GraphQLKickstartContext.of(registry());
+  }
+
+  DataLoaderRegistry registry() {
+    DataLoaderRegistry registry = new DataLoaderRegistry();
+    registry.register(DOMAIN, loader(domainService::getAll, domainService::get));
+    registry.register(SCHEMA, loader(schemaService::getAll, schemaService::get));
+    registry.register(STREAM, loader(streamService::getAll, streamService::get));
+    registry.register(ZONE, loader(zoneService::getAll, zoneService::get));
+    registry.register(INFRASTRUCTURE, loader(infrastructureService::getAll, infrastructureService::get));
+    registry.register(PRODUCER, loader(producerService::getAll, producerService::get));
+    registry.register(CONSUMER, loader(consumerService::getAll, consumerService::get));
+    registry.register(PROCESS, loader(processService::getAll, processService::get));
+    registry.register(STREAM_BINDING, loader(streamBindingService::getAll, streamBindingService::get));
+    registry.register(PRODUCER_BINDING, DataLoaders.<ProducerKey, ProducerBinding>loader(producerBindingService::find, producerBindingService::find,
+        binding -> binding.getKey().getProducerKey()));
+    registry.register(CONSUMER_BINDING, DataLoaders.<ConsumerKey, ConsumerBinding>loader(consumerBindingService::find, consumerBindingService::find,
+        binding -> binding.getKey().getConsumerKey()));
+    return registry;
+  }
+
+  private static <K, V extends Entity<K>> DataLoader<K, V> loader(Function<Collection<K>, List<V>> batch, Function<K, Optional<V>> single) {
+    return loader(batch, single, Entity::getKey);
+  }
+
+  private static <K, V> DataLoader<K, V> loader(Function<Collection<K>, List<V>> batch, Function<K, Optional<V>> single, Function<V, K> key) {
+    return DataLoaderFactory.newMappedDataLoaderWithTry(keys -> {
+      Map<K, V> found = batch.apply(keys).stream().collect(toMap(key, identity(), (first, second) -> first));
+      Map<K, Try<V>> results = new HashMap<>();
+      for (K k : keys) {
+        V value = found.get(k);
+        results.put(k, value != null ? Try.succeeded(value) : Try.tryCall(() -> single.apply(k).orElse(null)));
+      }
+      return CompletableFuture.completedFuture(results);
+    });
+  }
+}
@@ -27,4 +27,9 @@ public class GraphQLConfiguration {
   public GraphQLScalarType objectNodeScalar() {
     return Scalars.objectNodeScalar();
   }
+
+  @Bean
+  public AckLevelInstrumentation ackLevelInstrumentation() {
+    return new AckLevelInstrumentation();
+  }
 }
@@ -20,6 +20,7 @@ import static lombok.AccessLevel.PACKAGE;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import lombok.Getter;
@@ -49,25 +50,36 @@ class GraphQLMetricHandler implements InvocationHandler {
 
   @Override
   public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-    boolean success = false;
     Stopwatch stopwatch = Stopwatch.createStarted();
+    Authentication authentication = authenticationSupplier.get();
+    Object result;
     try {
-      Object result = method.invoke(delegate, args);
-      success = true;
-      return result;
+      result = method.invoke(delegate, args);
     } catch (InvocationTargetException e) {
+      record(method, false, authentication, stopwatch);
       if (e.getCause() != null) {
         throw e.getCause();
       }
       throw e;
-    } finally {
-      Tags tags = Tags
-          .of("api", method.getDeclaringClass().getSimpleName())
-          .and("method", method.getName())
-          .and("result", success ? "success" : "failure")
-          .and("authentication_group", AuthenticationGroup.of(authenticationSupplier.get()).name());
-      registry.timer("graphql_api", tags).record(stopwatch.elapsed());
+    } catch (Throwable e) {
+      record(method, false, authentication, stopwatch);
+      throw e;
+    }
+    if (result instanceof CompletableFuture) {
+      // Asynchronous mutations are timed until their result is complete
+      return ((CompletableFuture<?>) result).whenComplete((value, e) -> record(method, e == null, authentication, stopwatch));
     }
+    record(method, true, authentication, stopwatch);
+    return result;
+  }
+
+  private void record(Method method, boolean success, Authentication authentication, Stopwatch stopwatch) {
+    Tags tags = Tags
+        .of("api", method.getDeclaringClass().getSimpleName())
+        .and("method", method.getName())
+        .and("result", success ? "success" : "failure")
+        .and("authentication_group", AuthenticationGroup.of(authentication).name());
+    registry.timer("graphql_api", tags).record(stopwatch.elapsed());
   }
 
   enum AuthenticationGroup {
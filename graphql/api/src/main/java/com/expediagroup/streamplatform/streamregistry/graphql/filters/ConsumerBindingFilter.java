@@ -15,53 +15,63 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.filters;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matches;
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSpecification;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesInt;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.regex;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.specificationMatcher;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.withKeyRegexes;
 
 import java.util.function.Predicate;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ConsumerBindingKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Specification;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerBindingKey;
 
 public class ConsumerBindingFilter implements Predicate<ConsumerBinding> {
 
-  private final ConsumerBindingKeyQuery keyQuery;
-  private final SpecificationQuery specQuery;
+  private final Predicate<ConsumerBindingKey> keyMatcher;
+  private final Predicate<Specification> specMatcher;
 
   public ConsumerBindingFilter(ConsumerBindingKeyQuery keyQuery, SpecificationQuery specQuery) {
-    this.keyQuery = keyQuery;
-    this.specQuery = specQuery;
+    this.keyMatcher = consumerBindingKeyMatcher(keyQuery);
+    this.specMatcher = specificationMatcher(specQuery);
   }
 
   @Override
   public boolean test(ConsumerBinding d) {
-    return matchesConsumerBindingKey(d.getKey(), keyQuery)
-      && matchesSpecification(d.getSpecification(), specQuery);
+    return matchesKey(d.getKey())
+      && specMatcher.test(d.getSpecification());
+  }
+
+  public boolean matchesKey(ConsumerBindingKey key) {
+    return keyMatcher.test(key);
+  }
+
+  public Predicate<ConsumerBindingKey> keyFilter() {
+    return keyMatcher;
   }
 
   public static Boolean matchesConsumerBindingKey(ConsumerBindingKey key, ConsumerBindingKeyQuery keyQuery) {
-    if (keyQuery != null) {
-      if (!matches(key.getInfrastructureName(), keyQuery.getInfrastructureNameRegex())) {
-        return false;
-      }
-      if (!matches(key.getInfrastructureZone(), keyQuery.getInfrastructureZoneRegex())) {
-        return false;
-      }
-      if (!matches(key.getStreamDomain(), keyQuery.getStreamDomainRegex())) {
-        return false;
-      }
-      if (!matches(key.getStreamName(), keyQuery.getStreamNameRegex())) {
-        return false;
-      }
-      if (keyQuery.getStreamVersion() != null && !key.getStreamVersion().equals(keyQuery.getStreamVersion())) {
-        return false;
-      }
-      if (!matches(key.getConsumerName(), keyQuery.getConsumerNameRegex())) {
-        return false;
-      }
+    return consumerBindingKeyMatcher(keyQuery).test(key);
+  }
+
+  private static Predicate<ConsumerBindingKey> consumerBindingKeyMatcher(ConsumerBindingKeyQuery keyQuery) {
+    if (keyQuery == null) {
+      return key -> true;
     }
-    return true;
+    Predicate<String> infrastructureName = regex(keyQuery.getInfrastructureNameRegex());
+    Predicate<String> infrastructureZone = regex(keyQuery.getInfrastructureZoneRegex());
+    Predicate<String> streamDomain = regex(keyQuery.getStreamDomainRegex());
+    Predicate<String> streamName = regex(keyQuery.getStreamNameRegex());
+    Predicate<String> consumerName = regex(keyQuery.getConsumerNameRegex());
+    Integer streamVersion = keyQuery.getStreamVersion();
+    return withKeyRegexes(key -> infrastructureName.test(key.getInfrastructureName())
+        && infrastructureZone.test(key.getInfrastructureZone())
+        && streamDomain.test(key.getStreamDomain())
+        && streamName.test(key.getStreamName())
+        && matchesInt(key.getStreamVersion(), streamVersion)
+        && consumerName.test(key.getConsumerName()),
+        keyQuery.getInfrastructureNameRegex(), keyQuery.getInfrastructureZoneRegex(), keyQuery.getStreamDomainRegex(), keyQuery.getStreamNameRegex(), keyQuery.getConsumerNameRegex());
   }
 }
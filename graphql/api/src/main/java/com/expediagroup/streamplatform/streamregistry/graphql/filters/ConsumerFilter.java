@@ -15,44 +15,57 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.filters;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matches;
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSpecification;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesInt;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.regex;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.specificationMatcher;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.withKeyRegexes;
 
 import java.util.function.Predicate;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ConsumerKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Consumer;
+import com.expediagroup.streamplatform.streamregistry.model.Specification;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerKey;
 
 public class ConsumerFilter implements Predicate<Consumer> {
 
-  private final ConsumerKeyQuery keyQuery;
-  private final SpecificationQuery specQuery;
+  private final Predicate<ConsumerKey> keyMatcher;
+  private final Predicate<Specification> specMatcher;
 
   public ConsumerFilter(ConsumerKeyQuery keyQuery, SpecificationQuery specQuery) {
-    this.keyQuery = keyQuery;
-    this.specQuery = specQuery;
+    this.keyMatcher = keyMatcher(keyQuery);
+    this.specMatcher = specificationMatcher(specQuery);
   }
 
   @Override
   public boolean test(Consumer consumer) {
-    if (keyQuery != null) {
-      if (!matches(consumer.getKey().getName(), keyQuery.getNameRegex())) {
-        return false;
-      }
-      if (!matches(consumer.getKey().getStreamDomain(), keyQuery.getStreamDomainRegex())) {
-        return false;
-      }
-      if (!matches(consumer.getKey().getStreamName(), keyQuery.getStreamNameRegex())) {
-        return false;
-      }
-      if (!matches(consumer.getKey().getZone(), keyQuery.getZoneRegex())) {
-        return false;
-      }
-      if (keyQuery.getStreamVersion() != null && consumer.getKey().getStreamVersion() != keyQuery.getStreamVersion()) {
-        return false;
-      }
+    return matchesKey(consumer.getKey())
+      && specMatcher.test(consumer.getSpecification());
+  }
+
+  public boolean matchesKey(ConsumerKey key) {
+    return keyMatcher.test(key);
+  }
+
+  public Predicate<ConsumerKey> keyFilter() {
+    return keyMatcher;
+  }
+
+  private static Predicate<ConsumerKey> keyMatcher(ConsumerKeyQuery keyQuery) {
+    if (keyQuery == null) {
+      return key -> true;
     }
-    return matchesSpecification(consumer.getSpecification(), specQuery);
+    Predicate<String> name = regex(keyQuery.getNameRegex());
+    Predicate<String> streamDomain = regex(keyQuery.getStreamDomainRegex());
+    Predicate<String> streamName = regex(keyQuery.getStreamNameRegex());
+    Predicate<String> zone = regex(keyQuery.getZoneRegex());
+    Integer streamVersion = keyQuery.getStreamVersion();
+    return withKeyRegexes(key -> name.test(key.getName())
+        && streamDomain.test(key.getStreamDomain())
+        && streamName.test(key.getStreamName())
+        && zone.test(key.getZone())
+        && matchesInt(key.getStreamVersion(), streamVersion),
+        keyQuery.getNameRegex(), keyQuery.getStreamDomainRegex(), keyQuery.getStreamNameRegex(), keyQuery.getZoneRegex());
   }
 }
@@ -15,32 +15,47 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.filters;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matches;
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSpecification;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.regex;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.specificationMatcher;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.withKeyRegexes;
 
 import java.util.function.Predicate;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.DomainKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Domain;
+import com.expediagroup.streamplatform.streamregistry.model.Specification;
+import com.expediagroup.streamplatform.streamregistry.model.keys.DomainKey;
 
 public class DomainFilter implements Predicate<Domain> {
 
-  private final DomainKeyQuery keyQuery;
-  private final SpecificationQuery specQuery;
+  private final Predicate<DomainKey> keyMatcher;
+  private final Predicate<Specification> specMatcher;
 
   public DomainFilter(DomainKeyQuery keyQuery, SpecificationQuery specQuery) {
-    this.keyQuery = keyQuery;
-    this.specQuery = specQuery;
+    this.keyMatcher = keyMatcher(keyQuery);
+    this.specMatcher = specificationMatcher(specQuery);
   }
 
   @Override
   public boolean test(Domain d) {
-    if (keyQuery != null) {
-      if (!matches(d.getKey().getName(), keyQuery.getNameRegex())) {
-        return false;
-      }
+    return matchesKey(d.getKey())
+      && specMatcher.test(d.getSpecification());
+  }
+
+  public boolean matchesKey(DomainKey key) {
+    return keyMatcher.test(key);
+  }
+
+  public Predicate<DomainKey> keyFilter() {
+    return keyMatcher;
+  }
+
+  private static Predicate<DomainKey> keyMatcher(DomainKeyQuery keyQuery) {
+    if (keyQuery == null) {
+      return key -> true;
     }
-    return matchesSpecification(d.getSpecification(), specQuery);
+    Predicate<String> name = regex(keyQuery.getNameRegex());
+    return withKeyRegexes(key -> name.test(key.getName()), keyQuery.getNameRegex());
   }
 }
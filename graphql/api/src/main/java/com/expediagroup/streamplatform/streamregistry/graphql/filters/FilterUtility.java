@@ -15,21 +15,27 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.filters;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.SecurityMatchUtility.matchesAllSecurityQueries;
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.TagMatchUtility.matchesAllTagQueries;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.SecurityMatchUtility.securityMatcher;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.TagMatchUtility.tagsMatcher;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SchemaKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Specification;
 import com.expediagroup.streamplatform.streamregistry.model.keys.SchemaKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
+import com.expediagroup.streamplatform.streamregistry.repository.KeyFilter;
 
 public class FilterUtility {
 
   public static boolean matches(String nullableValue, String nullableRegex) {
-    if (nullableValue == null) {
-      return nullableRegex == null;
-    }
-    return nullableRegex == null || nullableValue.matches(nullableRegex);
+    return RegexMatcher.compile(nullableRegex).test(nullableValue);
   }
 
   public static boolean matchesInt(Integer value, Integer required) {
@@ -37,34 +43,82 @@ public class FilterUtility {
   }
 
   public static boolean matchesSpecification(Specification specification, SpecificationQuery specQuery) {
+    return specificationMatcher(specQuery).test(specification);
+  }
+
+  public static boolean matchesSchemaKey(SchemaKey key, SchemaKeyQuery schemaKeyQuery) {
+    return schemaKeyMatcher(schemaKeyQuery).test(key);
+  }
+
+  /**
+   * Compiles a regex into a predicate once so that it can be tested against many values.
+   */
+  public static Predicate<String> regex(String nullableRegex) {
+    return RegexMatcher.compile(nullableRegex);
+  }
+
+  /**
+   * The single value fields are checked ahead of the security and tag lists.
+   */
+  public static Predicate<Specification> specificationMatcher(SpecificationQuery specQuery) {
     if (specQuery == null) {
-      return true;
-    }
-    if (specification == null) {
-      return false;
-    }
-    if (!matches(specification.getDescription(), specQuery.getDescriptionRegex())) {
-      return false;
+      return specification -> true;
     }
-    if (!matches(specification.getType(), specQuery.getTypeRegex())) {
-      return false;
-    }
-    if (!matchesAllSecurityQueries(specification, specQuery.getSecurity())) {
-      return false;
-    }
-    if (!matches(specification.getFunction(), specQuery.getFunctionRegex())) {
-      return false;
-    }
-    return matchesAllTagQueries(specification, specQuery.getTags());
+    Predicate<String> description = regex(specQuery.getDescriptionRegex());
+    Predicate<String> type = regex(specQuery.getTypeRegex());
+    Predicate<String> function = regex(specQuery.getFunctionRegex());
+    Predicate<Specification> security = securityMatcher(specQuery.getSecurity());
+    Predicate<Specification> tags = tagsMatcher(specQuery.getTags());
+    return specification -> specification != null
+        && description.test(specification.getDescription())
+        && type.test(specification.getType())
+        && function.test(specification.getFunction())
+        && security.test(specification)
+        && tags.test(specification);
   }
 
-  public static boolean matchesSchemaKey(SchemaKey key, SchemaKeyQuery schemaKeyQuery) {
+  public static Predicate<SchemaKey> schemaKeyMatcher(SchemaKeyQuery schemaKeyQuery) {
     if (schemaKeyQuery == null) {
-      return true;
+      return key -> true;
     }
-    if (!matches(key.getDomain(), schemaKeyQuery.getDomainRegex())) {
-      return false;
+    Predicate<String> domain = regex(schemaKeyQuery.getDomainRegex());
+    Predicate<String> name = regex(schemaKeyQuery.getNameRegex());
+    return withKeyRegexes(key -> domain.test(key.getDomain()) && name.test(key.getName()),
+        schemaKeyQuery.getDomainRegex(), schemaKeyQuery.getNameRegex());
+  }
+
+  /**
+   * Wraps a key matcher in a {@link KeyFilter} carrying the regexes of the key query, each of which applies to a name
+   * within the key, so that the repository can look up candidate keys by name instead of testing every key.
+   */
+  public static <K> Predicate<K> withKeyRegexes(Predicate<K> keyMatcher, String... nullableRegexes) {
+    List<String> regexes = Stream.of(nullableRegexes).filter(Objects::nonNull).collect(toList());
+    return regexes.isEmpty() ? keyMatcher : new KeyFilter<>(regexes, keyMatcher);
+  }
+
+  /**
+   * The tag queries of a specification query, for the repository to look up in its tag index.
+   */
+  public static List<AttributeQuery> tagQueries(SpecificationQuery specQuery) {
+    if (specQuery == null || specQuery.getTags() == null) {
+      return emptyList();
+    }
+    return specQuery.getTags().stream()
+        .filter(Objects::nonNull)
+        .map(tag -> new AttributeQuery(tag.getNameRegex(), tag.getValueRegex()))
+        .collect(toList());
+  }
+
+  /**
+   * The security queries of a specification query, as role and principal regexes.
+   */
+  public static List<AttributeQuery> securityQueries(SpecificationQuery specQuery) {
+    if (specQuery == null || specQuery.getSecurity() == null) {
+      return emptyList();
     }
-    return matches(key.getName(), schemaKeyQuery.getNameRegex());
+    return specQuery.getSecurity().stream()
+        .filter(Objects::nonNull)
+        .map(security -> new AttributeQuery(security.getRoleRegex(), security.getPrincipalRegex()))
+        .collect(toList());
   }
 }
@@ -15,35 +15,49 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.filters;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matches;
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSpecification;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.regex;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.specificationMatcher;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.withKeyRegexes;
 
 import java.util.function.Predicate;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.InfrastructureKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Infrastructure;
+import com.expediagroup.streamplatform.streamregistry.model.Specification;
+import com.expediagroup.streamplatform.streamregistry.model.keys.InfrastructureKey;
 
 public class InfrastructureFilter implements Predicate<Infrastructure> {
 
-  private final InfrastructureKeyQuery keyQuery;
-  private final SpecificationQuery specQuery;
+  private final Predicate<InfrastructureKey> keyMatcher;
+  private final Predicate<Specification> specMatcher;
 
   public InfrastructureFilter(InfrastructureKeyQuery keyQuery, SpecificationQuery specQuery) {
-    this.keyQuery = keyQuery;
-    this.specQuery = specQuery;
+    this.keyMatcher = keyMatcher(keyQuery);
+    this.specMatcher = specificationMatcher(specQuery);
   }
 
   @Override
   public boolean test(Infrastructure d) {
-    if (keyQuery != null) {
-      if (!matches(d.getKey().getName(), keyQuery.getNameRegex())) {
-        return false;
-      }
-      if (!matches(d.getKey().getZone(), keyQuery.getZoneRegex())) {
-        return false;
-      }
+    return matchesKey(d.getKey())
+      && specMatcher.test(d.getSpecification());
+  }
+
+  public boolean matchesKey(InfrastructureKey key) {
+    return keyMatcher.test(key);
+  }
+
+  public Predicate<InfrastructureKey> keyFilter() {
+    return keyMatcher;
+  }
+
+  private static Predicate<InfrastructureKey> keyMatcher(InfrastructureKeyQuery keyQuery) {
+    if (keyQuery == null) {
+      return key -> true;
     }
-    return matchesSpecification(d.getSpecification(), specQuery);
+    Predicate<String> name = regex(keyQuery.getNameRegex());
+    Predicate<String> zone = regex(keyQuery.getZoneRegex());
+    return withKeyRegexes(key -> name.test(key.getName())
+        && zone.test(key.getZone()), keyQuery.getNameRegex(), keyQuery.getZoneRegex());
   }
 }
@@ -15,11 +15,12 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.filters;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matches;
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSpecification;
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.StreamBindingFilter.matchesStreamBindingKey;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.regex;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.specificationMatcher;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.withKeyRegexes;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.ProcessFilter.compile;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.ProcessFilter.matchesAll;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -30,73 +31,82 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.Zone
 import com.expediagroup.streamplatform.streamregistry.model.ProcessBinding;
 import com.expediagroup.streamplatform.streamregistry.model.ProcessInputStreamBinding;
 import com.expediagroup.streamplatform.streamregistry.model.ProcessOutputStreamBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Specification;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProcessBindingKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamBindingKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ZoneKey;
 
 public class ProcessBindingFilter implements Predicate<ProcessBinding> {
 
-  private final ProcessBindingKeyQuery keyQuery;
-  private final SpecificationQuery specQuery;
-  private final ZoneKeyQuery zoneKeyQuery;
-  private final List<StreamBindingKeyQuery> inputQueries;
-  private final List<StreamBindingKeyQuery> outputQueries;
+  private final Predicate<ProcessBindingKey> keyMatcher;
+  private final Predicate<Specification> specMatcher;
+  private final Predicate<ZoneKey> zoneMatcher;
+  private final List<Predicate<StreamBindingKey>> inputMatchers;
+  private final List<Predicate<StreamBindingKey>> outputMatchers;
 
   public ProcessBindingFilter(ProcessBindingKeyQuery keyQuery, SpecificationQuery specQuery, ZoneKeyQuery zoneKeyQuery,
                               List<StreamBindingKeyQuery> inputQueries, List<StreamBindingKeyQuery> outputQueries) {
-    this.keyQuery = keyQuery;
-    this.specQuery = specQuery;
-    this.zoneKeyQuery = zoneKeyQuery;
-    this.inputQueries = inputQueries;
-    this.outputQueries = outputQueries;
+    this.keyMatcher = processBindingKeyMatcher(keyQuery);
+    this.specMatcher = specificationMatcher(specQuery);
+    this.zoneMatcher = zoneMatcher(zoneKeyQuery);
+    this.inputMatchers = compile(inputQueries, StreamBindingFilter::streamBindingKeyMatcher);
+    this.outputMatchers = compile(outputQueries, StreamBindingFilter::streamBindingKeyMatcher);
   }
 
   @Override
   public boolean test(ProcessBinding processBinding) {
-    return matchesProcessBindingKey(processBinding.getKey(), keyQuery)
-      && matchesZone(processBinding.getZone(), zoneKeyQuery)
-      && matchesInput(processBinding.getInputs(), inputQueries)
-      && matchesOutput(processBinding.getOutputs(), outputQueries)
-      && matchesSpecification(processBinding.getSpecification(), specQuery);
+    return matchesKey(processBinding.getKey())
+      && zoneMatcher.test(processBinding.getZone())
+      && matchesAll(processBinding.getInputs(), inputMatchers, ProcessInputStreamBinding::getStreamBindingKey)
+      && matchesAll(processBinding.getOutputs(), outputMatchers, ProcessOutputStreamBinding::getStreamBindingKey)
+      && specMatcher.test(processBinding.getSpecification());
+  }
+
+  public boolean matchesKey(ProcessBindingKey key) {
+    return keyMatcher.test(key);
+  }
+
+  public Predicate<ProcessBindingKey> keyFilter() {
+    return keyMatcher;
   }
 
   public static boolean matchesZone(ZoneKey zone, ZoneKeyQuery zoneKeyQuery) {
-    if (zoneKeyQuery == null) {
-      return true;
-    }
-    ZoneKey safeZone = (zone == null) ? new ZoneKey() : zone;
-    return matches(safeZone.getName(), zoneKeyQuery.getNameRegex());
+    return zoneMatcher(zoneKeyQuery).test(zone);
   }
 
   public static boolean matchesInput(List<ProcessInputStreamBinding> inputs, List<StreamBindingKeyQuery> inputQueries) {
-    if (inputQueries == null || inputQueries.isEmpty()) {
-      return true;
-    }
-
-    List<ProcessInputStreamBinding> safeInputs = (inputs == null) ? Collections.emptyList() : inputs;
-    return inputQueries.stream().allMatch(inputQuery ->
-      safeInputs.stream().anyMatch(input -> matchesStreamBindingKey(input.getStreamBindingKey(), inputQuery))
-    );
+    return matchesAll(inputs, compile(inputQueries, StreamBindingFilter::streamBindingKeyMatcher), ProcessInputStreamBinding::getStreamBindingKey);
   }
 
   public static boolean matchesOutput(List<ProcessOutputStreamBinding> outputs, List<StreamBindingKeyQuery> outputQueries) {
-    if (outputQueries == null || outputQueries.isEmpty()) {
-      return true;
-    }
-
-    List<ProcessOutputStreamBinding> safeOutputs = (outputs == null) ? Collections.emptyList() : outputs;
-    return outputQueries.stream().allMatch(outputQuery ->
-      safeOutputs.stream().anyMatch(output -> matchesStreamBindingKey(output.getStreamBindingKey(), outputQuery))
-    );
+    return matchesAll(outputs, compile(outputQueries, StreamBindingFilter::streamBindingKeyMatcher), ProcessOutputStreamBinding::getStreamBindingKey);
   }
 
   public static boolean matchesProcessBindingKey(ProcessBindingKey key, ProcessBindingKeyQuery processBindingKeyQuery) {
-    if (processBindingKeyQuery == null) {
-      return true;
+    return processBindingKeyMatcher(processBindingKeyQuery).test(key);
+  }
+
+  private static Predicate<ZoneKey> zoneMatcher(ZoneKeyQuery zoneKeyQuery) {
+    if (zoneKeyQuery == null) {
+      return zone -> true;
     }
+    Predicate<String> name = regex(zoneKeyQuery.getNameRegex());
+    return zone -> name.test(zone == null ? null : zone.getName());
+  }
 
-    ProcessBindingKey safeKey = (key == null) ? new ProcessBindingKey() : key;
-    return matches(safeKey.getDomainName(), processBindingKeyQuery.getDomainNameRegex())
-        && matches(safeKey.getInfrastructureZone(), processBindingKeyQuery.getInfrastructureZoneRegex())
-        && matches(safeKey.getProcessName(), processBindingKeyQuery.getProcessNameRegex());
+  private static Predicate<ProcessBindingKey> processBindingKeyMatcher(ProcessBindingKeyQuery processBindingKeyQuery) {
+    if (processBindingKeyQuery == null) {
+      return key -> true;
+    }
+    Predicate<String> domainName = regex(processBindingKeyQuery.getDomainNameRegex());
+    Predicate<String> infrastructureZone = regex(processBindingKeyQuery.getInfrastructureZoneRegex());
+    Predicate<String> processName = regex(processBindingKeyQuery.getProcessNameRegex());
+    return withKeyRegexes(key -> {
+      ProcessBindingKey safeKey = (key == null) ? new ProcessBindingKey() : key;
+      return domainName.test(safeKey.getDomainName())
+          && infrastructureZone.test(safeKey.getInfrastructureZone())
+          && processName.test(safeKey.getProcessName());
+    },
+        processBindingKeyQuery.getDomainNameRegex(), processBindingKeyQuery.getInfrastructureZoneRegex(), processBindingKeyQuery.getProcessNameRegex());
   }
 }
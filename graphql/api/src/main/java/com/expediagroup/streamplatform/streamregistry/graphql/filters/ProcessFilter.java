@@ -15,12 +15,14 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.filters;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matches;
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSpecification;
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.StreamFilter.matchesStreamKey;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.regex;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.specificationMatcher;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.withKeyRegexes;
+import static java.util.stream.Collectors.toList;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ProcessKeyQuery;
@@ -30,75 +32,87 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.Zone
 import com.expediagroup.streamplatform.streamregistry.model.Process;
 import com.expediagroup.streamplatform.streamregistry.model.ProcessInputStream;
 import com.expediagroup.streamplatform.streamregistry.model.ProcessOutputStream;
+import com.expediagroup.streamplatform.streamregistry.model.Specification;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProcessKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ZoneKey;
 
 public class ProcessFilter implements Predicate<Process> {
 
-  private final ProcessKeyQuery keyQuery;
-  private final SpecificationQuery specQuery;
-  private final List<ZoneKeyQuery> zoneKeyQueries;
-  private final List<StreamKeyQuery> inputQueries;
-  private final List<StreamKeyQuery> outputQueries;
+  private final Predicate<ProcessKey> keyMatcher;
+  private final Predicate<Specification> specMatcher;
+  private final List<Predicate<String>> zoneMatchers;
+  private final List<Predicate<StreamKey>> inputMatchers;
+  private final List<Predicate<StreamKey>> outputMatchers;
 
   public ProcessFilter(ProcessKeyQuery keyQuery, SpecificationQuery specQuery, List<ZoneKeyQuery> zoneKeyQueries,
                        List<StreamKeyQuery> inputQueries, List<StreamKeyQuery> outputQueries) {
-    this.keyQuery = keyQuery;
-    this.specQuery = specQuery;
-    this.zoneKeyQueries = zoneKeyQueries;
-    this.inputQueries = inputQueries;
-    this.outputQueries = outputQueries;
+    this.keyMatcher = processKeyMatcher(keyQuery);
+    this.specMatcher = specificationMatcher(specQuery);
+    this.zoneMatchers = compile(zoneKeyQueries, zoneKeyQuery -> regex(zoneKeyQuery.getNameRegex()));
+    this.inputMatchers = compile(inputQueries, StreamFilter::streamKeyMatcher);
+    this.outputMatchers = compile(outputQueries, StreamFilter::streamKeyMatcher);
   }
 
   @Override
   public boolean test(Process process) {
-    return matchesProcessKey(process.getKey(), keyQuery)
-      && matchesZone(process.getZones(), zoneKeyQueries)
-      && matchesInput(process.getInputs(), inputQueries)
-      && matchesOutput(process.getOutputs(), outputQueries)
-      && matchesSpecification(process.getSpecification(), specQuery);
+    return matchesKey(process.getKey())
+      && matchesAll(process.getZones(), zoneMatchers, ZoneKey::getName)
+      && matchesAll(process.getInputs(), inputMatchers, ProcessInputStream::getStream)
+      && matchesAll(process.getOutputs(), outputMatchers, ProcessOutputStream::getStream)
+      && specMatcher.test(process.getSpecification());
   }
 
-  public static boolean matchesZone(List<ZoneKey> zones, List<ZoneKeyQuery> zoneKeyQueries) {
-    if (zoneKeyQueries == null || zoneKeyQueries.isEmpty()) {
-      return true;
-    }
+  public boolean matchesKey(ProcessKey key) {
+    return keyMatcher.test(key);
+  }
 
-    List<ZoneKey> defaultedZones = (zones == null) ? Collections.emptyList() : zones;
-    return zoneKeyQueries.stream().allMatch(zoneKeyQuery ->
-      defaultedZones.stream().anyMatch(zone -> matches(zone.getName(), zoneKeyQuery.getNameRegex()))
-    );
+  public Predicate<ProcessKey> keyFilter() {
+    return keyMatcher;
   }
 
-  public static boolean matchesInput(List<ProcessInputStream> inputs, List<StreamKeyQuery> streamKeyQueries) {
-    if (streamKeyQueries == null || streamKeyQueries.isEmpty()) {
-      return true;
-    }
+  public static boolean matchesZone(List<ZoneKey> zones, List<ZoneKeyQuery> zoneKeyQueries) {
+    return matchesAll(zones, compile(zoneKeyQueries, zoneKeyQuery -> regex(zoneKeyQuery.getNameRegex())), ZoneKey::getName);
+  }
 
-    List<ProcessInputStream> safeInputs = (inputs == null) ? Collections.emptyList() : inputs;
-    return streamKeyQueries.stream().allMatch(streamKeyQuery ->
-      safeInputs.stream().anyMatch(input -> matchesStreamKey(input.getStream(), streamKeyQuery))
-    );
+  public static boolean matchesInput(List<ProcessInputStream> inputs, List<StreamKeyQuery> streamKeyQueries) {
+    return matchesAll(inputs, compile(streamKeyQueries, StreamFilter::streamKeyMatcher), ProcessInputStream::getStream);
   }
 
   public static boolean matchesOutput(List<ProcessOutputStream> outputs, List<StreamKeyQuery> streamKeyQueries) {
-    if (streamKeyQueries == null || streamKeyQueries.isEmpty()) {
-      return true;
-    }
-
-    List<ProcessOutputStream> safeOutputs = (outputs == null) ? Collections.emptyList() : outputs;
-    return streamKeyQueries.stream().allMatch(streamKeyQuery ->
-      safeOutputs.stream().anyMatch(output -> matchesStreamKey(output.getStream(), streamKeyQuery))
-    );
+    return matchesAll(outputs, compile(streamKeyQueries, StreamFilter::streamKeyMatcher), ProcessOutputStream::getStream);
   }
 
   public static boolean matchesProcessKey(ProcessKey key, ProcessKeyQuery processKeyQuery) {
+    return processKeyMatcher(processKeyQuery).test(key);
+  }
+
+  private static Predicate<ProcessKey> processKeyMatcher(ProcessKeyQuery processKeyQuery) {
     if (processKeyQuery == null) {
-      return true;
+      return key -> true;
     }
+    Predicate<String> domain = regex(processKeyQuery.getDomainRegex());
+    Predicate<String> name = regex(processKeyQuery.getNameRegex());
+    return withKeyRegexes(key -> {
+      ProcessKey safeKey = (key == null) ? new ProcessKey() : key;
+      return domain.test(safeKey.getDomain()) && name.test(safeKey.getName());
+    }, processKeyQuery.getDomainRegex(), processKeyQuery.getNameRegex());
+  }
+
+  static <Q, T> List<Predicate<T>> compile(List<Q> queries, Function<Q, Predicate<T>> compiler) {
+    return queries == null ? Collections.emptyList() : queries.stream().map(compiler).collect(toList());
+  }
 
-    ProcessKey safeKey = (key == null) ? new ProcessKey() : key;
-    return matches(safeKey.getDomain(), processKeyQuery.getDomainRegex())
-        && matches(safeKey.getName(), processKeyQuery.getNameRegex());
+  /**
+   * True if every matcher matches at least one of the values.
+   */
+  static <E, T> boolean matchesAll(List<E> elements, List<Predicate<T>> matchers, Function<E, T> value) {
+    if (matchers.isEmpty()) {
+      return true;
+    }
+    List<E> safeElements = (elements == null) ? Collections.emptyList() : elements;
+    return matchers.stream().allMatch(matcher ->
+      safeElements.stream().anyMatch(element -> matcher.test(value.apply(element)))
+    );
   }
 }
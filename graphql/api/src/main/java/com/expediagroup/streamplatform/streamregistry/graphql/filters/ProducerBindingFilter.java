@@ -15,53 +15,63 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.filters;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matches;
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSpecification;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesInt;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.regex;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.specificationMatcher;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.withKeyRegexes;
 
 import java.util.function.Predicate;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ProducerBindingKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Specification;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerBindingKey;
 
 public class ProducerBindingFilter implements Predicate<ProducerBinding> {
 
-  private final ProducerBindingKeyQuery keyQuery;
-  private final SpecificationQuery specQuery;
+  private final Predicate<ProducerBindingKey> keyMatcher;
+  private final Predicate<Specification> specMatcher;
 
   public ProducerBindingFilter(ProducerBindingKeyQuery keyQuery, SpecificationQuery specQuery) {
-    this.keyQuery = keyQuery;
-    this.specQuery = specQuery;
+    this.keyMatcher = producerBindingKeyMatcher(keyQuery);
+    this.specMatcher = specificationMatcher(specQuery);
   }
 
   @Override
   public boolean test(ProducerBinding d) {
-    return matchesProducerBindingKey(d.getKey(), keyQuery)
-      && matchesSpecification(d.getSpecification(), specQuery);
+    return matchesKey(d.getKey())
+      && specMatcher.test(d.getSpecification());
+  }
+
+  public boolean matchesKey(ProducerBindingKey key) {
+    return keyMatcher.test(key);
+  }
+
+  public Predicate<ProducerBindingKey> keyFilter() {
+    return keyMatcher;
   }
 
   public static Boolean matchesProducerBindingKey(ProducerBindingKey key, ProducerBindingKeyQuery keyQuery) {
-    if (keyQuery != null) {
-      if (!matches(key.getInfrastructureName(), keyQuery.getInfrastructureNameRegex())) {
-        return false;
-      }
-      if (!matches(key.getInfrastructureZone(), keyQuery.getInfrastructureZoneRegex())) {
-        return false;
-      }
-      if (!matches(key.getStreamDomain(), keyQuery.getStreamDomainRegex())) {
-        return false;
-      }
-      if (!matches(key.getStreamName(), keyQuery.getStreamNameRegex())) {
-        return false;
-      }
-      if (keyQuery.getStreamVersion() != null && key.getStreamVersion() != keyQuery.getStreamVersion()) {
-        return false;
-      }
-      if (!matches(key.getProducerName(), keyQuery.getProducerNameRegex())) {
-        return false;
-      }
+    return producerBindingKeyMatcher(keyQuery).test(key);
+  }
+
+  private static Predicate<ProducerBindingKey> producerBindingKeyMatcher(ProducerBindingKeyQuery keyQuery) {
+    if (keyQuery == null) {
+      return key -> true;
     }
-    return true;
+    Predicate<String> infrastructureName = regex(keyQuery.getInfrastructureNameRegex());
+    Predicate<String> infrastructureZone = regex(keyQuery.getInfrastructureZoneRegex());
+    Predicate<String> streamDomain = regex(keyQuery.getStreamDomainRegex());
+    Predicate<String> streamName = regex(keyQuery.getStreamNameRegex());
+    Predicate<String> producerName = regex(keyQuery.getProducerNameRegex());
+    Integer streamVersion = keyQuery.getStreamVersion();
+    return withKeyRegexes(key -> infrastructureName.test(key.getInfrastructureName())
+        && infrastructureZone.test(key.getInfrastructureZone())
+        && streamDomain.test(key.getStreamDomain())
+        && streamName.test(key.getStreamName())
+        && matchesInt(key.getStreamVersion(), streamVersion)
+        && producerName.test(key.getProducerName()),
+        keyQuery.getInfrastructureNameRegex(), keyQuery.getInfrastructureZoneRegex(), keyQuery.getStreamDomainRegex(), keyQuery.getStreamNameRegex(), keyQuery.getProducerNameRegex());
   }
 }
@@ -15,44 +15,57 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.filters;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matches;
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSpecification;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesInt;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.regex;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.specificationMatcher;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.withKeyRegexes;
 
 import java.util.function.Predicate;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ProducerKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Producer;
+import com.expediagroup.streamplatform.streamregistry.model.Specification;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerKey;
 
 public class ProducerFilter implements Predicate<Producer> {
 
-  private final ProducerKeyQuery keyQuery;
-  private final SpecificationQuery specQuery;
+  private final Predicate<ProducerKey> keyMatcher;
+  private final Predicate<Specification> specMatcher;
 
   public ProducerFilter(ProducerKeyQuery keyQuery, SpecificationQuery specQuery) {
-    this.keyQuery = keyQuery;
-    this.specQuery = specQuery;
+    this.keyMatcher = keyMatcher(keyQuery);
+    this.specMatcher = specificationMatcher(specQuery);
   }
 
   @Override
   public boolean test(Producer d) {
-    if (keyQuery != null) {
-      if (!matches(d.getKey().getName(), keyQuery.getNameRegex())) {
-        return false;
-      }
-      if (!matches(d.getKey().getStreamDomain(), keyQuery.getStreamDomainRegex())) {
-        return false;
-      }
-      if (!matches(d.getKey().getStreamName(), keyQuery.getStreamNameRegex())) {
-        return false;
-      }
-      if (!matches(d.getKey().getZone(), keyQuery.getZoneRegex())) {
-        return false;
-      }
-      if (keyQuery.getStreamVersion() != null && d.getKey().getStreamVersion() != keyQuery.getStreamVersion()) {
-        return false;
-      }
+    return matchesKey(d.getKey())
+      && specMatcher.test(d.getSpecification());
+  }
+
+  public boolean matchesKey(ProducerKey key) {
+    return keyMatcher.test(key);
+  }
+
+  public Predicate<ProducerKey> keyFilter() {
+    return keyMatcher;
+  }
+
+  private static Predicate<ProducerKey> keyMatcher(ProducerKeyQuery keyQuery) {
+    if (keyQuery == null) {
+      return key -> true;
     }
-    return matchesSpecification(d.getSpecification(), specQuery);
+    Predicate<String> name = regex(keyQuery.getNameRegex());
+    Predicate<String> streamDomain = regex(keyQuery.getStreamDomainRegex());
+    Predicate<String> streamName = regex(keyQuery.getStreamNameRegex());
+    Predicate<String> zone = regex(keyQuery.getZoneRegex());
+    Integer streamVersion = keyQuery.getStreamVersion();
+    return withKeyRegexes(key -> name.test(key.getName())
+        && streamDomain.test(key.getStreamDomain())
+        && streamName.test(key.getStreamName())
+        && zone.test(key.getZone())
+        && matchesInt(key.getStreamVersion(), streamVersion),
+        keyQuery.getNameRegex(), keyQuery.getStreamDomainRegex(), keyQuery.getStreamNameRegex(), keyQuery.getZoneRegex());
   }
 }
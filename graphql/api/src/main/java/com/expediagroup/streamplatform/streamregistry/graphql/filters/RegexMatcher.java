@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2018-2024 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.graphql.filters;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles the regular expressions of queries into predicates that match a whole value as
+ * {@link String#matches(String)} does. A null regex matches any value, including null, and any other regex does not
+ * match null.
+ * <p/>
+ * Literals, prefixes such as {@code foo.*}, substrings such as {@code .*foo.*} and {@code .*} are matched without
+ * the regex engine. Other expressions are compiled once and shared through a bounded cache, which is cleared when it
+ * is full.
+ */
+final class RegexMatcher {
+  static final int MAX_CACHED = 1024;
+  private static final String METACHARACTERS = "\\^$.|?*+()[]{}";
+  private static final String ANY = ".*";
+
+  private static final Map<String, Predicate<String>> CACHE = new ConcurrentHashMap<>();
+
+  private RegexMatcher() {}
+
+  static Predicate<String> compile(String nullableRegex) {
+    if (nullableRegex == null) {
+      return value -> true;
+    }
+    Predicate<String> matcher = CACHE.get(nullableRegex);
+    if (matcher == null) {
+      matcher = create(nullableRegex);
+      if (CACHE.size() >= MAX_CACHED) {
+        CACHE.clear();
+      }
+      CACHE.put(nullableRegex, matcher);
+    }
+    return matcher;
+  }
+
+  static int cached() {
+    return CACHE.size();
+  }
+
+  private static Predicate<String> create(String regex) {
+    if (isLiteral(regex)) {
+      return regex::equals;
+    }
+    // . does not match line terminators, so the remainder of the value must have none
+    if (regex.equals(ANY)) {
+      return value -> value != null && noLineTerminator(value);
+    }
+    if (regex.endsWith(ANY)) {
+      String head = regex.substring(0, regex.length() - ANY.length());
+      if (isLiteral(head)) {
+        return value -> value != null && value.startsWith(head) && noLineTerminator(value);
+      }
+      if (head.startsWith(ANY) && isLiteral(head.substring(ANY.length()))) {
+        String infix = head.substring(ANY.length());
+        return value -> value != null && value.contains(infix) && noLineTerminator(value);
+      }
+    }
+    Pattern pattern = Pattern.compile(regex);
+    return value -> value != null && pattern.matcher(value).matches();
+  }
+
+  private static boolean isLiteral(String regex) {
+    for (int i = 0; i < regex.length(); i++) {
+      char c = regex.charAt(i);
+      if (METACHARACTERS.indexOf(c) >= 0 || isLineTerminator(c)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean noLineTerminator(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      if (isLineTerminator(value.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isLineTerminator(char c) {
+    return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+}
@@ -15,28 +15,38 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.filters;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSchemaKey;
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSpecification;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.schemaKeyMatcher;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.specificationMatcher;
 
 import java.util.function.Predicate;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SchemaKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Schema;
+import com.expediagroup.streamplatform.streamregistry.model.Specification;
+import com.expediagroup.streamplatform.streamregistry.model.keys.SchemaKey;
 
 public class SchemaFilter implements Predicate<Schema> {
 
-  private final SchemaKeyQuery keyQuery;
-  private final SpecificationQuery specQuery;
+  private final Predicate<SchemaKey> keyMatcher;
+  private final Predicate<Specification> specMatcher;
 
   public SchemaFilter(SchemaKeyQuery schemaKeyQuery, SpecificationQuery specificationQuery) {
-    this.keyQuery = schemaKeyQuery;
-    this.specQuery = specificationQuery;
+    this.keyMatcher = schemaKeyMatcher(schemaKeyQuery);
+    this.specMatcher = specificationMatcher(specificationQuery);
   }
 
   @Override
   public boolean test(Schema schema) {
-    return matchesSchemaKey(schema.getKey(), keyQuery)
-        && matchesSpecification(schema.getSpecification(), specQuery);
+    return matchesKey(schema.getKey())
+        && specMatcher.test(schema.getSpecification());
+  }
+
+  public boolean matchesKey(SchemaKey key) {
+    return keyMatcher.test(key);
+  }
+
+  public Predicate<SchemaKey> keyFilter() {
+    return keyMatcher;
   }
 }
@@ -15,9 +15,12 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.filters;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matches;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.regex;
+import static java.util.stream.Collectors.toList;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SecurityQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Principal;
@@ -27,41 +30,54 @@ import com.expediagroup.streamplatform.streamregistry.model.Specification;
 public class SecurityMatchUtility {
 
   public static boolean matchesAllSecurityQueries(Specification specification, List<SecurityQuery> securityQueries) {
-    return matchesAllSecurityQueries(specification == null ? null : specification.getSecurity(), securityQueries);
+    return securityMatcher(securityQueries).test(specification);
   }
 
-  private static boolean matchesAllSecurityQueries(List<Security> security, List<SecurityQuery> securityQueries) {
+  /**
+   * Matches specifications with a role and principal matching every query.
+   */
+  public static Predicate<Specification> securityMatcher(List<SecurityQuery> securityQueries) {
     if (securityQueries == null || securityQueries.isEmpty()) {
-      return true;
-    }
-    if (security == null || security.isEmpty()) {
-      return false;
+      return specification -> true;
     }
-    for (SecurityQuery securityQuery : securityQueries) {
-      if (!matchesAnyRole(security, securityQuery)) {
+    List<RoleMatcher> roleMatchers = securityQueries.stream()
+        .filter(Objects::nonNull)
+        .map(RoleMatcher::new)
+        .collect(toList());
+    return specification -> {
+      List<Security> security = specification == null ? null : specification.getSecurity();
+      if (security == null || security.isEmpty()) {
         return false;
       }
-    }
-    return true;
+      for (RoleMatcher roleMatcher : roleMatchers) {
+        if (!roleMatcher.matchesAny(security)) {
+          return false;
+        }
+      }
+      return true;
+    };
   }
 
-  private static boolean matchesAnyRole(List<Security> security, SecurityQuery securityQuery) {
-    if (securityQuery == null) {
-      return true;
+  private static class RoleMatcher {
+    private final Predicate<String> role;
+    private final Predicate<String> principal;
+
+    RoleMatcher(SecurityQuery securityQuery) {
+      role = regex(securityQuery.getRoleRegex());
+      principal = regex(securityQuery.getPrincipalRegex());
     }
-    for (Security sec: security) {
-      if (matches(sec.getRole(), securityQuery.getRoleRegex())) {
-        for (Principal principal: sec.getPrincipals()) {
-          if (matchesPrincipal(principal, securityQuery)) {
-            return true;
+
+    boolean matchesAny(List<Security> security) {
+      for (Security sec : security) {
+        if (role.test(sec.getRole())) {
+          for (Principal p : sec.getPrincipals()) {
+            if (principal.test(p.getName())) {
+              return true;
+            }
           }
         }
       }
+      return false;
     }
-    return false;
-  }
-
-  private static boolean matchesPrincipal(Principal principal, SecurityQuery securityQuery) {
-    return matches(principal.getName(), securityQuery.getPrincipalRegex());
   }
 }
@@ -15,51 +15,61 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.filters;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matches;
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSpecification;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesInt;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.regex;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.specificationMatcher;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.withKeyRegexes;
 
 import java.util.function.Predicate;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.StreamBindingKeyQuery;
+import com.expediagroup.streamplatform.streamregistry.model.Specification;
 import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
 import com.expediagroup.streamplatform.streamregistry.model.keys.StreamBindingKey;
 
 public class StreamBindingFilter implements Predicate<StreamBinding> {
 
-  private final StreamBindingKeyQuery keyQuery;
-  private final SpecificationQuery specQuery;
+  private final Predicate<StreamBindingKey> keyMatcher;
+  private final Predicate<Specification> specMatcher;
 
   public StreamBindingFilter(StreamBindingKeyQuery keyQuery, SpecificationQuery specQuery) {
-    this.keyQuery = keyQuery;
-    this.specQuery = specQuery;
+    this.keyMatcher = streamBindingKeyMatcher(keyQuery);
+    this.specMatcher = specificationMatcher(specQuery);
   }
 
   @Override
   public boolean test(StreamBinding d) {
-    return matchesStreamBindingKey(d.getKey(), keyQuery) &&
-      matchesSpecification(d.getSpecification(), specQuery);
+    return matchesKey(d.getKey())
+      && specMatcher.test(d.getSpecification());
   }
 
-  public static boolean matchesStreamBindingKey(StreamBindingKey d, StreamBindingKeyQuery keyQuery) {
-    if (keyQuery != null) {
-      if (!matches(d.getInfrastructureName(), keyQuery.getInfrastructureNameRegex())) {
-        return false;
-      }
-      if (!matches(d.getInfrastructureZone(), keyQuery.getInfrastructureZoneRegex())) {
-        return false;
-      }
-      if (!matches(d.getStreamDomain(), keyQuery.getStreamDomainRegex())) {
-        return false;
-      }
-      if (!matches(d.getStreamName(), keyQuery.getStreamNameRegex())) {
-        return false;
-      }
-      if (keyQuery.getStreamVersion() != null && !d.getStreamVersion().equals(keyQuery.getStreamVersion())) {
-        return false;
-      }
-    }
+  public boolean matchesKey(StreamBindingKey key) {
+    return keyMatcher.test(key);
+  }
+
+  public Predicate<StreamBindingKey> keyFilter() {
+    return keyMatcher;
+  }
 
-    return true;
+  public static boolean matchesStreamBindingKey(StreamBindingKey key, StreamBindingKeyQuery keyQuery) {
+    return streamBindingKeyMatcher(keyQuery).test(key);
+  }
+
+  public static Predicate<StreamBindingKey> streamBindingKeyMatcher(StreamBindingKeyQuery keyQuery) {
+    if (keyQuery == null) {
+      return key -> true;
+    }
+    Predicate<String> infrastructureName = regex(keyQuery.getInfrastructureNameRegex());
+    Predicate<String> infrastructureZone = regex(keyQuery.getInfrastructureZoneRegex());
+    Predicate<String> streamDomain = regex(keyQuery.getStreamDomainRegex());
+    Predicate<String> streamName = regex(keyQuery.getStreamNameRegex());
+    Integer streamVersion = keyQuery.getStreamVersion();
+    return withKeyRegexes(key -> infrastructureName.test(key.getInfrastructureName())
+        && infrastructureZone.test(key.getInfrastructureZone())
+        && streamDomain.test(key.getStreamDomain())
+        && streamName.test(key.getStreamName())
+        && matchesInt(key.getStreamVersion(), streamVersion),
+        keyQuery.getInfrastructureNameRegex(), keyQuery.getInfrastructureZoneRegex(), keyQuery.getStreamDomainRegex(), keyQuery.getStreamNameRegex());
   }
 }
@@ -15,44 +15,62 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.filters;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matches;
 import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesInt;
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSchemaKey;
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSpecification;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.regex;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.schemaKeyMatcher;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.specificationMatcher;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.withKeyRegexes;
 
 import java.util.function.Predicate;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SchemaKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.StreamKeyQuery;
+import com.expediagroup.streamplatform.streamregistry.model.Specification;
 import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import com.expediagroup.streamplatform.streamregistry.model.keys.SchemaKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
 
 public class StreamFilter implements Predicate<Stream> {
 
-  private final StreamKeyQuery keyQuery;
-  private final SpecificationQuery specQuery;
-  private final SchemaKeyQuery schemaKeyQuery;
+  private final Predicate<StreamKey> keyMatcher;
+  private final Predicate<SchemaKey> schemaKeyMatcher;
+  private final Predicate<Specification> specMatcher;
 
   public StreamFilter(StreamKeyQuery keyQuery, SpecificationQuery specQuery, SchemaKeyQuery schemaKeyQuery) {
-    this.keyQuery = keyQuery;
-    this.specQuery = specQuery;
-    this.schemaKeyQuery = schemaKeyQuery;
+    this.keyMatcher = streamKeyMatcher(keyQuery);
+    this.schemaKeyMatcher = schemaKeyMatcher(schemaKeyQuery);
+    this.specMatcher = specificationMatcher(specQuery);
   }
 
   @Override
   public boolean test(Stream stream) {
-    return matchesStreamKey(stream.getKey(), keyQuery)
-        && matchesSchemaKey(stream.getSchemaKey(), schemaKeyQuery)
-        && matchesSpecification(stream.getSpecification(), specQuery);
+    return matchesKey(stream.getKey())
+        && schemaKeyMatcher.test(stream.getSchemaKey())
+        && specMatcher.test(stream.getSpecification());
+  }
+
+  public boolean matchesKey(StreamKey key) {
+    return keyMatcher.test(key);
+  }
+
+  public Predicate<StreamKey> keyFilter() {
+    return keyMatcher;
   }
 
   public static boolean matchesStreamKey(StreamKey key, StreamKeyQuery streamKeyQuery) {
+    return streamKeyMatcher(streamKeyQuery).test(key);
+  }
+
+  public static Predicate<StreamKey> streamKeyMatcher(StreamKeyQuery streamKeyQuery) {
     if (streamKeyQuery == null) {
-      return true;
+      return key -> true;
     }
-    return matches(key.getDomain(), streamKeyQuery.getDomainRegex())
-        && matches(key.getName(), streamKeyQuery.getNameRegex())
-        && matchesInt(key.getVersion(), streamKeyQuery.getVersion());
+    Predicate<String> domain = regex(streamKeyQuery.getDomainRegex());
+    Predicate<String> name = regex(streamKeyQuery.getNameRegex());
+    Integer version = streamKeyQuery.getVersion();
+    return withKeyRegexes(key -> domain.test(key.getDomain())
+        && name.test(key.getName())
+        && matchesInt(key.getVersion(), version), streamKeyQuery.getDomainRegex(), streamKeyQuery.getNameRegex());
   }
 }
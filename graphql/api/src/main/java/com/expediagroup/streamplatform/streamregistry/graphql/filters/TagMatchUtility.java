@@ -15,9 +15,12 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.filters;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matches;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.regex;
+import static java.util.stream.Collectors.toList;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.TagQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Specification;
@@ -26,30 +29,37 @@ import com.expediagroup.streamplatform.streamregistry.model.Tag;
 public class TagMatchUtility {
 
   public static boolean matchesAllTagQueries(Specification specification, List<TagQuery> tagQueries) {
-    return matchesAllTagQueries(specification == null ? null : specification.getTags(), tagQueries);
+    return tagsMatcher(tagQueries).test(specification);
   }
 
-  private static boolean matchesAllTagQueries(List<Tag> tags, List<TagQuery> tagQueries) {
+  /**
+   * Matches specifications with a matching tag for every query.
+   */
+  public static Predicate<Specification> tagsMatcher(List<TagQuery> tagQueries) {
     if (tagQueries == null || tagQueries.isEmpty()) {
-      return true;
-    }
-    if (tags == null || tags.isEmpty()) {
-      return false;
+      return specification -> true;
     }
-    for (TagQuery tagQuery : tagQueries) {
-      if (!matchesAnyTag(tags, tagQuery)) {
+    List<Predicate<Tag>> tagMatchers = tagQueries.stream()
+        .filter(Objects::nonNull)
+        .map(TagMatchUtility::tagMatcher)
+        .collect(toList());
+    return specification -> {
+      List<Tag> tags = specification == null ? null : specification.getTags();
+      if (tags == null || tags.isEmpty()) {
         return false;
       }
-    }
-    return true;
+      for (Predicate<Tag> tagMatcher : tagMatchers) {
+        if (!matchesAnyTag(tags, tagMatcher)) {
+          return false;
+        }
+      }
+      return true;
+    };
   }
 
-  private static boolean matchesAnyTag(List<Tag> tags, TagQuery tagQuery) {
-    if (tagQuery == null) {
-      return true;
-    }
+  private static boolean matchesAnyTag(List<Tag> tags, Predicate<Tag> tagMatcher) {
     for (Tag tag : tags) {
-      if (tag != null && matchesTag(tag, tagQuery)) {
+      if (tag != null && tagMatcher.test(tag)) {
         return true;
       }
     }
@@ -57,7 +67,12 @@ public class TagMatchUtility {
   }
 
   static boolean matchesTag(Tag tag, TagQuery tagQuery) {
-    return matches(tag.getName(), tagQuery.getNameRegex())
-        && matches(tag.getValue(), tagQuery.getValueRegex());
+    return tagMatcher(tagQuery).test(tag);
+  }
+
+  private static Predicate<Tag> tagMatcher(TagQuery tagQuery) {
+    Predicate<String> name = regex(tagQuery.getNameRegex());
+    Predicate<String> value = regex(tagQuery.getValueRegex());
+    return tag -> name.test(tag.getName()) && value.test(tag.getValue());
   }
 }
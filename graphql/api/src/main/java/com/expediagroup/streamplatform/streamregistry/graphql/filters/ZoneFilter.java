@@ -15,32 +15,47 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.filters;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matches;
-import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSpecification;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.regex;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.specificationMatcher;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.withKeyRegexes;
 
 import java.util.function.Predicate;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ZoneKeyQuery;
+import com.expediagroup.streamplatform.streamregistry.model.Specification;
 import com.expediagroup.streamplatform.streamregistry.model.Zone;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ZoneKey;
 
 public class ZoneFilter implements Predicate<Zone> {
 
-  private final ZoneKeyQuery keyQuery;
-  private final SpecificationQuery specQuery;
+  private final Predicate<ZoneKey> keyMatcher;
+  private final Predicate<Specification> specMatcher;
 
   public ZoneFilter(ZoneKeyQuery keyQuery, SpecificationQuery specQuery) {
-    this.keyQuery = keyQuery;
-    this.specQuery = specQuery;
+    this.keyMatcher = keyMatcher(keyQuery);
+    this.specMatcher = specificationMatcher(specQuery);
   }
 
   @Override
   public boolean test(Zone zone) {
-    if (keyQuery != null) {
-      if (!matches(zone.getKey().getName(), keyQuery.getNameRegex())) {
-        return false;
-      }
+    return matchesKey(zone.getKey())
+      && specMatcher.test(zone.getSpecification());
+  }
+
+  public boolean matchesKey(ZoneKey key) {
+    return keyMatcher.test(key);
+  }
+
+  public Predicate<ZoneKey> keyFilter() {
+    return keyMatcher;
+  }
+
+  private static Predicate<ZoneKey> keyMatcher(ZoneKeyQuery keyQuery) {
+    if (keyQuery == null) {
+      return key -> true;
     }
-    return matchesSpecification(zone.getSpecification(), specQuery);
+    Predicate<String> name = regex(keyQuery.getNameRegex());
+    return withKeyRegexes(key -> name.test(key.getName()), keyQuery.getNameRegex());
   }
 }
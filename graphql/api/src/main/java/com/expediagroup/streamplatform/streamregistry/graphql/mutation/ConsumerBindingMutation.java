@@ -15,6 +15,8 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ConsumerBindingKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
@@ -22,13 +24,13 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.Statu
 import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
 
 public interface ConsumerBindingMutation extends GraphQLApiType {
-  ConsumerBinding insert(ConsumerBindingKeyInput key, SpecificationInput specification);
+  CompletableFuture<ConsumerBinding> insert(ConsumerBindingKeyInput key, SpecificationInput specification);
 
-  ConsumerBinding update(ConsumerBindingKeyInput key, SpecificationInput specification);
+  CompletableFuture<ConsumerBinding> update(ConsumerBindingKeyInput key, SpecificationInput specification);
 
-  ConsumerBinding upsert(ConsumerBindingKeyInput key, SpecificationInput specification);
+  CompletableFuture<ConsumerBinding> upsert(ConsumerBindingKeyInput key, SpecificationInput specification);
 
-  Boolean delete(ConsumerBindingKeyInput key);
+  CompletableFuture<Boolean> delete(ConsumerBindingKeyInput key);
 
-  ConsumerBinding updateStatus(ConsumerBindingKeyInput key, StatusInput status);
+  CompletableFuture<ConsumerBinding> updateStatus(ConsumerBindingKeyInput key, StatusInput status);
 }
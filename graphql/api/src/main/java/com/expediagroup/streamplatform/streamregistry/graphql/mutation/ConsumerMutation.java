@@ -15,6 +15,8 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ConsumerKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
@@ -22,13 +24,13 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.Statu
 import com.expediagroup.streamplatform.streamregistry.model.Consumer;
 
 public interface ConsumerMutation extends GraphQLApiType {
-  Consumer insert(ConsumerKeyInput key, SpecificationInput specification);
+  CompletableFuture<Consumer> insert(ConsumerKeyInput key, SpecificationInput specification);
 
-  Consumer update(ConsumerKeyInput key, SpecificationInput specification);
+  CompletableFuture<Consumer> update(ConsumerKeyInput key, SpecificationInput specification);
 
-  Consumer upsert(ConsumerKeyInput key, SpecificationInput specification);
+  CompletableFuture<Consumer> upsert(ConsumerKeyInput key, SpecificationInput specification);
 
-  Boolean delete(ConsumerKeyInput key);
+  CompletableFuture<Boolean> delete(ConsumerKeyInput key);
 
-  Consumer updateStatus(ConsumerKeyInput key, StatusInput status);
+  CompletableFuture<Consumer> updateStatus(ConsumerKeyInput key, StatusInput status);
 }
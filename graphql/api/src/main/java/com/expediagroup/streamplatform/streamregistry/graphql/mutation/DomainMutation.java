@@ -15,6 +15,8 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.DomainKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
@@ -22,13 +24,13 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.Statu
 import com.expediagroup.streamplatform.streamregistry.model.Domain;
 
 public interface DomainMutation extends GraphQLApiType {
-  Domain insert(DomainKeyInput key, SpecificationInput specification);
+  CompletableFuture<Domain> insert(DomainKeyInput key, SpecificationInput specification);
 
-  Domain update(DomainKeyInput key, SpecificationInput specification);
+  CompletableFuture<Domain> update(DomainKeyInput key, SpecificationInput specification);
 
-  Domain upsert(DomainKeyInput key, SpecificationInput specification);
+  CompletableFuture<Domain> upsert(DomainKeyInput key, SpecificationInput specification);
 
-  Boolean delete(DomainKeyInput key);
+  CompletableFuture<Boolean> delete(DomainKeyInput key);
 
-  Domain updateStatus(DomainKeyInput key, StatusInput status);
+  CompletableFuture<Domain> updateStatus(DomainKeyInput key, StatusInput status);
 }
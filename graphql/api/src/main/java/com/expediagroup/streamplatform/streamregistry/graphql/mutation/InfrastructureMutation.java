@@ -15,6 +15,8 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.InfrastructureKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
@@ -22,13 +24,13 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.Statu
 import com.expediagroup.streamplatform.streamregistry.model.Infrastructure;
 
 public interface InfrastructureMutation extends GraphQLApiType {
-  Infrastructure insert(InfrastructureKeyInput key, SpecificationInput specification);
+  CompletableFuture<Infrastructure> insert(InfrastructureKeyInput key, SpecificationInput specification);
 
-  Infrastructure update(InfrastructureKeyInput key, SpecificationInput specification);
+  CompletableFuture<Infrastructure> update(InfrastructureKeyInput key, SpecificationInput specification);
 
-  Infrastructure upsert(InfrastructureKeyInput key, SpecificationInput specification);
+  CompletableFuture<Infrastructure> upsert(InfrastructureKeyInput key, SpecificationInput specification);
 
-  Boolean delete(InfrastructureKeyInput key);
+  CompletableFuture<Boolean> delete(InfrastructureKeyInput key);
 
-  Infrastructure updateStatus(InfrastructureKeyInput key, StatusInput status);
+  CompletableFuture<Infrastructure> updateStatus(InfrastructureKeyInput key, StatusInput status);
 }
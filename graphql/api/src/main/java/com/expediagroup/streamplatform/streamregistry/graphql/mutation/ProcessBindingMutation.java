@@ -16,22 +16,23 @@
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.*;
 import com.expediagroup.streamplatform.streamregistry.model.ProcessBinding;
 
 public interface ProcessBindingMutation extends GraphQLApiType {
-  ProcessBinding insert(ProcessBindingKeyInput key, SpecificationInput specification,
+  CompletableFuture<ProcessBinding> insert(ProcessBindingKeyInput key, SpecificationInput specification,
                  ZoneKeyInput zone, List<ProcessInputStreamBindingInput> inputs, List<ProcessOutputStreamBindingInput> outputs);
 
-  ProcessBinding update(ProcessBindingKeyInput key, SpecificationInput specification,
+  CompletableFuture<ProcessBinding> update(ProcessBindingKeyInput key, SpecificationInput specification,
                  ZoneKeyInput zone, List<ProcessInputStreamBindingInput> inputs, List<ProcessOutputStreamBindingInput> outputs);
 
-  ProcessBinding upsert(ProcessBindingKeyInput key, SpecificationInput specification,
+  CompletableFuture<ProcessBinding> upsert(ProcessBindingKeyInput key, SpecificationInput specification,
                         ZoneKeyInput zone, List<ProcessInputStreamBindingInput> inputs, List<ProcessOutputStreamBindingInput> outputs);
 
-  Boolean delete(ProcessBindingKeyInput key);
+  CompletableFuture<Boolean> delete(ProcessBindingKeyInput key);
 
-  ProcessBinding updateStatus(ProcessBindingKeyInput key, StatusInput status);
+  CompletableFuture<ProcessBinding> updateStatus(ProcessBindingKeyInput key, StatusInput status);
 }
@@ -16,22 +16,23 @@
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.*;
 import com.expediagroup.streamplatform.streamregistry.model.Process;
 
 public interface ProcessMutation extends GraphQLApiType {
-  Process insert(ProcessKeyInput key, SpecificationInput specification,
+  CompletableFuture<Process> insert(ProcessKeyInput key, SpecificationInput specification,
                  List<ZoneKeyInput> zones, List<ProcessInputStreamInput> inputs, List<ProcessOutputStreamInput> outputs);
 
-  Process update(ProcessKeyInput key, SpecificationInput specification,
+  CompletableFuture<Process> update(ProcessKeyInput key, SpecificationInput specification,
                  List<ZoneKeyInput> zones, List<ProcessInputStreamInput> inputs, List<ProcessOutputStreamInput> outputs);
 
-  Process upsert(ProcessKeyInput key, SpecificationInput specification,
+  CompletableFuture<Process> upsert(ProcessKeyInput key, SpecificationInput specification,
                  List<ZoneKeyInput> zones, List<ProcessInputStreamInput> inputs, List<ProcessOutputStreamInput> outputs);
 
-  Boolean delete(ProcessKeyInput key);
+  CompletableFuture<Boolean> delete(ProcessKeyInput key);
 
-  Process updateStatus(ProcessKeyInput key, StatusInput status);
+  CompletableFuture<Process> updateStatus(ProcessKeyInput key, StatusInput status);
 }
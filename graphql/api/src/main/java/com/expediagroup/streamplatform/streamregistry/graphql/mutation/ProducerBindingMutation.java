@@ -15,6 +15,8 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ProducerBindingKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
@@ -22,13 +24,13 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.Statu
 import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
 
 public interface ProducerBindingMutation extends GraphQLApiType {
-  ProducerBinding insert(ProducerBindingKeyInput key, SpecificationInput specification);
+  CompletableFuture<ProducerBinding> insert(ProducerBindingKeyInput key, SpecificationInput specification);
 
-  ProducerBinding update(ProducerBindingKeyInput key, SpecificationInput specification);
+  CompletableFuture<ProducerBinding> update(ProducerBindingKeyInput key, SpecificationInput specification);
 
-  ProducerBinding upsert(ProducerBindingKeyInput key, SpecificationInput specification);
+  CompletableFuture<ProducerBinding> upsert(ProducerBindingKeyInput key, SpecificationInput specification);
 
-  Boolean delete(ProducerBindingKeyInput key);
+  CompletableFuture<Boolean> delete(ProducerBindingKeyInput key);
 
-  ProducerBinding updateStatus(ProducerBindingKeyInput key, StatusInput status);
+  CompletableFuture<ProducerBinding> updateStatus(ProducerBindingKeyInput key, StatusInput status);
 }
@@ -15,6 +15,8 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ProducerKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
@@ -22,13 +24,13 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.Statu
 import com.expediagroup.streamplatform.streamregistry.model.Producer;
 
 public interface ProducerMutation extends GraphQLApiType {
-  Producer insert(ProducerKeyInput key, SpecificationInput specification);
+  CompletableFuture<Producer> insert(ProducerKeyInput key, SpecificationInput specification);
 
-  Producer update(ProducerKeyInput key, SpecificationInput specification);
+  CompletableFuture<Producer> update(ProducerKeyInput key, SpecificationInput specification);
 
-  Producer upsert(ProducerKeyInput key, SpecificationInput specification);
+  CompletableFuture<Producer> upsert(ProducerKeyInput key, SpecificationInput specification);
 
-  Boolean delete(ProducerKeyInput key);
+  CompletableFuture<Boolean> delete(ProducerKeyInput key);
 
-  Producer updateStatus(ProducerKeyInput key, StatusInput status);
+  CompletableFuture<Producer> updateStatus(ProducerKeyInput key, StatusInput status);
 }
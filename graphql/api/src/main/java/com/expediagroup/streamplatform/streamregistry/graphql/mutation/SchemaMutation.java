@@ -15,6 +15,8 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SchemaKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
@@ -22,13 +24,13 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.Statu
 import com.expediagroup.streamplatform.streamregistry.model.Schema;
 
 public interface SchemaMutation extends GraphQLApiType {
-  Schema insert(SchemaKeyInput key, SpecificationInput specification);
+  CompletableFuture<Schema> insert(SchemaKeyInput key, SpecificationInput specification);
 
-  Schema update(SchemaKeyInput key, SpecificationInput specification);
+  CompletableFuture<Schema> update(SchemaKeyInput key, SpecificationInput specification);
 
-  Schema upsert(SchemaKeyInput key, SpecificationInput specification);
+  CompletableFuture<Schema> upsert(SchemaKeyInput key, SpecificationInput specification);
 
-  Boolean delete(SchemaKeyInput key);
+  CompletableFuture<Boolean> delete(SchemaKeyInput key);
 
-  Schema updateStatus(SchemaKeyInput key, StatusInput status);
+  CompletableFuture<Schema> updateStatus(SchemaKeyInput key, StatusInput status);
 }
@@ -15,6 +15,8 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
@@ -22,13 +24,13 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.Strea
 import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
 
 public interface StreamBindingMutation extends GraphQLApiType {
-  StreamBinding insert(StreamBindingKeyInput key, SpecificationInput specification);
+  CompletableFuture<StreamBinding> insert(StreamBindingKeyInput key, SpecificationInput specification);
 
-  StreamBinding update(StreamBindingKeyInput key, SpecificationInput specification);
+  CompletableFuture<StreamBinding> update(StreamBindingKeyInput key, SpecificationInput specification);
 
-  StreamBinding upsert(StreamBindingKeyInput key, SpecificationInput specification);
+  CompletableFuture<StreamBinding> upsert(StreamBindingKeyInput key, SpecificationInput specification);
 
-  Boolean delete(StreamBindingKeyInput key);
+  CompletableFuture<Boolean> delete(StreamBindingKeyInput key);
 
-  StreamBinding updateStatus(StreamBindingKeyInput key, StatusInput status);
+  CompletableFuture<StreamBinding> updateStatus(StreamBindingKeyInput key, StatusInput status);
 }
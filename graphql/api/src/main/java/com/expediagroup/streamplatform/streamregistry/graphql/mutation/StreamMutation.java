@@ -15,6 +15,8 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SchemaKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
@@ -23,13 +25,13 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.Strea
 import com.expediagroup.streamplatform.streamregistry.model.Stream;
 
 public interface StreamMutation extends GraphQLApiType {
-  Stream insert(StreamKeyInput key, SpecificationInput specification, SchemaKeyInput schema);
+  CompletableFuture<Stream> insert(StreamKeyInput key, SpecificationInput specification, SchemaKeyInput schema);
 
-  Stream update(StreamKeyInput key, SpecificationInput specification);
+  CompletableFuture<Stream> update(StreamKeyInput key, SpecificationInput specification);
 
-  Stream upsert(StreamKeyInput key, SpecificationInput specification, SchemaKeyInput schema);
+  CompletableFuture<Stream> upsert(StreamKeyInput key, SpecificationInput specification, SchemaKeyInput schema);
 
-  Boolean delete(StreamKeyInput key);
+  CompletableFuture<Boolean> delete(StreamKeyInput key);
 
-  Stream updateStatus(StreamKeyInput key, StatusInput status);
+  CompletableFuture<Stream> updateStatus(StreamKeyInput key, StatusInput status);
 }
@@ -15,6 +15,8 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
@@ -22,13 +24,13 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ZoneK
 import com.expediagroup.streamplatform.streamregistry.model.Zone;
 
 public interface ZoneMutation extends GraphQLApiType {
-  Zone insert(ZoneKeyInput key, SpecificationInput specification);
+  CompletableFuture<Zone> insert(ZoneKeyInput key, SpecificationInput specification);
 
-  Zone update(ZoneKeyInput key, SpecificationInput specification);
+  CompletableFuture<Zone> update(ZoneKeyInput key, SpecificationInput specification);
 
-  Zone upsert(ZoneKeyInput key, SpecificationInput specification);
+  CompletableFuture<Zone> upsert(ZoneKeyInput key, SpecificationInput specification);
 
-  Boolean delete(ZoneKeyInput key);
+  CompletableFuture<Boolean> delete(ZoneKeyInput key);
 
-  Zone updateStatus(ZoneKeyInput key, StatusInput status);
+  CompletableFuture<Zone> updateStatus(ZoneKeyInput key, StatusInput status);
 }
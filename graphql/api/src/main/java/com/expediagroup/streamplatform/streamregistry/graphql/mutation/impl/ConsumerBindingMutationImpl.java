@@ -15,9 +15,13 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.AsyncHelper.deleted;
+import static com.expediagroup.streamplatform.streamregistry.graphql.AsyncHelper.result;
 import static com.expediagroup.streamplatform.streamregistry.graphql.StateHelper.maintainState;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import lombok.RequiredArgsConstructor;
 
@@ -44,40 +48,41 @@ public class ConsumerBindingMutationImpl implements ConsumerBindingMutation {
   private boolean checkExistEnabled;
 
   @Override
-  public ConsumerBinding insert(ConsumerBindingKeyInput key, SpecificationInput specification) {
-    return consumerBindingService.create(asConsumerBinding(key, specification)).get();
+  public CompletableFuture<ConsumerBinding> insert(ConsumerBindingKeyInput key, SpecificationInput specification) {
+    return result(consumerBindingService.createAsync(asConsumerBinding(key, specification)));
   }
 
   @Override
-  public ConsumerBinding update(ConsumerBindingKeyInput key, SpecificationInput specification) {
-    return consumerBindingService.update(asConsumerBinding(key, specification)).get();
+  public CompletableFuture<ConsumerBinding> update(ConsumerBindingKeyInput key, SpecificationInput specification) {
+    return result(consumerBindingService.updateAsync(asConsumerBinding(key, specification)));
   }
 
   @Override
-  public ConsumerBinding upsert(ConsumerBindingKeyInput key, SpecificationInput specification) {
+  public CompletableFuture<ConsumerBinding> upsert(ConsumerBindingKeyInput key, SpecificationInput specification) {
     ConsumerBinding consumerBinding = asConsumerBinding(key, specification);
     if (!consumerBindingView.get(consumerBinding.getKey()).isPresent()) {
-      return consumerBindingService.create(consumerBinding).get();
+      return result(consumerBindingService.createAsync(consumerBinding));
     } else {
-      return consumerBindingService.update(consumerBinding).get();
+      return result(consumerBindingService.updateAsync(consumerBinding));
     }
   }
 
   @Override
-  public Boolean delete(ConsumerBindingKeyInput key) {
+  public CompletableFuture<Boolean> delete(ConsumerBindingKeyInput key) {
     Optional<ConsumerBinding> consumerBinding = consumerBindingView.get(key.asConsumerBindingKey());
-    consumerBinding.ifPresentOrElse(consumerBindingService::delete, () -> {
-      if (!checkExistEnabled) {
-        consumerBindingService.delete(new ConsumerBinding(key.asConsumerBindingKey(), StateHelper.specification(), StateHelper.status()));
-      }
-    });
-    return true;
+    if (consumerBinding.isPresent()) {
+      return deleted(consumerBindingService.deleteAsync(consumerBinding.get()));
+    }
+    if (!checkExistEnabled) {
+      return deleted(consumerBindingService.deleteAsync(new ConsumerBinding(key.asConsumerBindingKey(), StateHelper.specification(), StateHelper.status())));
+    }
+    return completedFuture(true);
   }
 
   @Override
-  public ConsumerBinding updateStatus(ConsumerBindingKeyInput key, StatusInput status) {
+  public CompletableFuture<ConsumerBinding> updateStatus(ConsumerBindingKeyInput key, StatusInput status) {
     ConsumerBinding consumerBinding = consumerBindingView.get(key.asConsumerBindingKey()).get();
-    return consumerBindingService.updateStatus(consumerBinding, status.asStatus()).get();
+    return result(consumerBindingService.updateStatusAsync(consumerBinding, status.asStatus()));
   }
 
   private ConsumerBinding asConsumerBinding(ConsumerBindingKeyInput key, SpecificationInput specification) {
@@ -15,9 +15,13 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.AsyncHelper.deleted;
+import static com.expediagroup.streamplatform.streamregistry.graphql.AsyncHelper.result;
 import static com.expediagroup.streamplatform.streamregistry.graphql.StateHelper.maintainState;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import lombok.RequiredArgsConstructor;
 
@@ -44,40 +48,41 @@ public class ConsumerMutationImpl implements ConsumerMutation {
   private boolean checkExistEnabled;
 
   @Override
-  public Consumer insert(ConsumerKeyInput key, SpecificationInput specification) {
-    return consumerService.create(asConsumer(key, specification)).get();
+  public CompletableFuture<Consumer> insert(ConsumerKeyInput key, SpecificationInput specification) {
+    return result(consumerService.createAsync(asConsumer(key, specification)));
   }
 
   @Override
-  public Consumer update(ConsumerKeyInput key, SpecificationInput specification) {
-    return consumerService.update(asConsumer(key, specification)).get();
+  public CompletableFuture<Consumer> update(ConsumerKeyInput key, SpecificationInput specification) {
+    return result(consumerService.updateAsync(asConsumer(key, specification)));
   }
 
   @Override
-  public Consumer upsert(ConsumerKeyInput key, SpecificationInput specification) {
+  public CompletableFuture<Consumer> upsert(ConsumerKeyInput key, SpecificationInput specification) {
     Consumer consumer = asConsumer(key, specification);
     if (!consumerView.get(consumer.getKey()).isPresent()) {
-      return consumerService.create(consumer).get();
+      return result(consumerService.createAsync(consumer));
     } else {
-      return consumerService.update(consumer).get();
+      return result(consumerService.updateAsync(consumer));
     }
   }
 
   @Override
-  public Boolean delete(ConsumerKeyInput key) {
+  public CompletableFuture<Boolean> delete(ConsumerKeyInput key) {
     Optional<Consumer> consumer = consumerView.get(key.asConsumerKey());
-    consumer.ifPresentOrElse(consumerService::delete, () -> {
-      if (!checkExistEnabled) {
-        consumerService.delete(new Consumer(key.asConsumerKey(), StateHelper.specification(), StateHelper.status()));
-      }
-    });
-    return true;
+    if (consumer.isPresent()) {
+      return deleted(consumerService.deleteAsync(consumer.get()));
+    }
+    if (!checkExistEnabled) {
+      return deleted(consumerService.deleteAsync(new Consumer(key.asConsumerKey(), StateHelper.specification(), StateHelper.status())));
+    }
+    return completedFuture(true);
   }
 
   @Override
-  public Consumer updateStatus(ConsumerKeyInput key, StatusInput status) {
+  public CompletableFuture<Consumer> updateStatus(ConsumerKeyInput key, StatusInput status) {
     Consumer consumer = consumerView.get(key.asConsumerKey()).get();
-    return consumerService.updateStatus(consumer, status.asStatus()).get();
+    return result(consumerService.updateStatusAsync(consumer, status.asStatus()));
   }
 
   private Consumer asConsumer(ConsumerKeyInput key, SpecificationInput specification) {
@@ -15,7 +15,11 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.AsyncHelper.result;
 import static com.expediagroup.streamplatform.streamregistry.graphql.StateHelper.maintainState;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import java.util.concurrent.CompletableFuture;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,6 +27,7 @@ import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.DomainService;
 import com.expediagroup.streamplatform.streamregistry.core.views.DomainView;
+import com.expediagroup.streamplatform.streamregistry.graphql.AsyncHelper;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.DomainKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
@@ -37,35 +42,37 @@ public class DomainMutationImpl implements DomainMutation {
   private final DomainView domainView;
 
   @Override
-  public Domain insert(DomainKeyInput key, SpecificationInput specification) {
-    return domainService.create(asDomain(key, specification)).get();
+  public CompletableFuture<Domain> insert(DomainKeyInput key, SpecificationInput specification) {
+    return result(domainService.createAsync(asDomain(key, specification)));
   }
 
   @Override
-  public Domain update(DomainKeyInput key, SpecificationInput specification) {
-    return domainService.update(asDomain(key, specification)).get();
+  public CompletableFuture<Domain> update(DomainKeyInput key, SpecificationInput specification) {
+    return result(domainService.updateAsync(asDomain(key, specification)));
   }
 
   @Override
-  public Domain upsert(DomainKeyInput key, SpecificationInput specification) {
+  public CompletableFuture<Domain> upsert(DomainKeyInput key, SpecificationInput specification) {
     Domain domain = asDomain(key, specification);
     if (!domainView.get(domain.getKey()).isPresent()) {
-      return domainService.create(domain).get();
+      return result(domainService.createAsync(domain));
     } else {
-      return domainService.update(domain).get();
+      return result(domainService.updateAsync(domain));
     }
   }
 
   @Override
-  public Boolean delete(DomainKeyInput key) {
-    domainView.get(key.asDomainKey()).ifPresent(domainService::delete);
-    return true;
+  public CompletableFuture<Boolean> delete(DomainKeyInput key) {
+    return domainView.get(key.asDomainKey())
+      .map(domainService::deleteAsync)
+      .map(AsyncHelper::deleted)
+      .orElse(completedFuture(true));
   }
 
   @Override
-  public Domain updateStatus(DomainKeyInput key, StatusInput status) {
+  public CompletableFuture<Domain> updateStatus(DomainKeyInput key, StatusInput status) {
     Domain domain = domainView.get(key.asDomainKey()).get();
-    return domainService.updateStatus(domain, status.asStatus()).get();
+    return result(domainService.updateStatusAsync(domain, status.asStatus()));
   }
 
   private Domain asDomain(DomainKeyInput key, SpecificationInput specification) {
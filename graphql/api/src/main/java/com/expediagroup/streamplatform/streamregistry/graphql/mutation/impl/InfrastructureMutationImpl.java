@@ -15,7 +15,11 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.AsyncHelper.result;
 import static com.expediagroup.streamplatform.streamregistry.graphql.StateHelper.maintainState;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import java.util.concurrent.CompletableFuture;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,6 +27,7 @@ import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.InfrastructureService;
 import com.expediagroup.streamplatform.streamregistry.core.views.InfrastructureView;
+import com.expediagroup.streamplatform.streamregistry.graphql.AsyncHelper;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.InfrastructureKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
@@ -37,35 +42,37 @@ public class InfrastructureMutationImpl implements InfrastructureMutation {
   private final InfrastructureView infrastructureView;
 
   @Override
-  public Infrastructure insert(InfrastructureKeyInput key, SpecificationInput specification) {
-    return infrastructureService.create(asInfrastructure(key, specification)).get();
+  public CompletableFuture<Infrastructure> insert(InfrastructureKeyInput key, SpecificationInput specification) {
+    return result(infrastructureService.createAsync(asInfrastructure(key, specification)));
   }
 
   @Override
-  public Infrastructure update(InfrastructureKeyInput key, SpecificationInput specification) {
-    return infrastructureService.update(asInfrastructure(key, specification)).get();
+  public CompletableFuture<Infrastructure> update(InfrastructureKeyInput key, SpecificationInput specification) {
+    return result(infrastructureService.updateAsync(asInfrastructure(key, specification)));
   }
 
   @Override
-  public Infrastructure upsert(InfrastructureKeyInput key, SpecificationInput specification) {
+  public CompletableFuture<Infrastructure> upsert(InfrastructureKeyInput key, SpecificationInput specification) {
     Infrastructure infrastructure = asInfrastructure(key, specification);
     if (!infrastructureView.get(infrastructure.getKey()).isPresent()) {
-      return infrastructureService.create(infrastructure).get();
+      return result(infrastructureService.createAsync(infrastructure));
     } else {
-      return infrastructureService.update(infrastructure).get();
+      return result(infrastructureService.updateAsync(infrastructure));
     }
   }
 
   @Override
-  public Boolean delete(InfrastructureKeyInput key) {
-    infrastructureView.get(key.asInfrastructureKey()).ifPresent(infrastructureService::delete);
-    return true;
+  public CompletableFuture<Boolean> delete(InfrastructureKeyInput key) {
+    return infrastructureView.get(key.asInfrastructureKey())
+      .map(infrastructureService::deleteAsync)
+      .map(AsyncHelper::deleted)
+      .orElse(completedFuture(true));
   }
 
   @Override
-  public Infrastructure updateStatus(InfrastructureKeyInput key, StatusInput status) {
+  public CompletableFuture<Infrastructure> updateStatus(InfrastructureKeyInput key, StatusInput status) {
     Infrastructure infrastructure = infrastructureView.get(key.asInfrastructureKey()).get();
-    return infrastructureService.updateStatus(infrastructure, status.asStatus()).get();
+    return result(infrastructureService.updateStatusAsync(infrastructure, status.asStatus()));
   }
 
   private Infrastructure asInfrastructure(InfrastructureKeyInput key, SpecificationInput specification) {
@@ -15,9 +15,12 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.AsyncHelper.result;
 import static com.expediagroup.streamplatform.streamregistry.graphql.StateHelper.maintainState;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
@@ -26,6 +29,7 @@ import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.ProcessBindingService;
 import com.expediagroup.streamplatform.streamregistry.core.views.ProcessBindingView;
+import com.expediagroup.streamplatform.streamregistry.graphql.AsyncHelper;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.*;
 import com.expediagroup.streamplatform.streamregistry.graphql.mutation.ProcessBindingMutation;
 import com.expediagroup.streamplatform.streamregistry.model.ProcessBinding;
@@ -37,38 +41,40 @@ public class ProcessBindingMutationImpl implements ProcessBindingMutation {
   private final ProcessBindingView processBindingView;
 
   @Override
-  public ProcessBinding insert(ProcessBindingKeyInput key, SpecificationInput specification,
+  public CompletableFuture<ProcessBinding> insert(ProcessBindingKeyInput key, SpecificationInput specification,
                         ZoneKeyInput zone, List<ProcessInputStreamBindingInput> inputs, List<ProcessOutputStreamBindingInput> outputs) {
-    return processBindingService.create(asProcessBinding(key, specification, zone, inputs, outputs)).get();
+    return result(processBindingService.createAsync(asProcessBinding(key, specification, zone, inputs, outputs)));
   }
 
   @Override
-  public ProcessBinding update(ProcessBindingKeyInput key, SpecificationInput specification,
+  public CompletableFuture<ProcessBinding> update(ProcessBindingKeyInput key, SpecificationInput specification,
                         ZoneKeyInput zone, List<ProcessInputStreamBindingInput> inputs, List<ProcessOutputStreamBindingInput> outputs) {
-    return processBindingService.update(asProcessBinding(key, specification, zone, inputs, outputs)).get();
+    return result(processBindingService.updateAsync(asProcessBinding(key, specification, zone, inputs, outputs)));
   }
 
   @Override
-  public ProcessBinding upsert(ProcessBindingKeyInput key, SpecificationInput specification,
+  public CompletableFuture<ProcessBinding> upsert(ProcessBindingKeyInput key, SpecificationInput specification,
                         ZoneKeyInput zone, List<ProcessInputStreamBindingInput> inputs, List<ProcessOutputStreamBindingInput> outputs) {
     ProcessBinding processBinding = asProcessBinding(key, specification, zone, inputs, outputs);
     if (!processBindingView.exists(processBinding.getKey())) {
-      return processBindingService.create(processBinding).get();
+      return result(processBindingService.createAsync(processBinding));
     } else {
-      return processBindingService.update(processBinding).get();
+      return result(processBindingService.updateAsync(processBinding));
     }
   }
 
   @Override
-  public Boolean delete(ProcessBindingKeyInput key) {
-    processBindingView.get(key.asProcessBindingKey()).ifPresent(processBindingService::delete);
-    return true;
+  public CompletableFuture<Boolean> delete(ProcessBindingKeyInput key) {
+    return processBindingView.get(key.asProcessBindingKey())
+      .map(processBindingService::deleteAsync)
+      .map(AsyncHelper::deleted)
+      .orElse(completedFuture(true));
   }
 
   @Override
-  public ProcessBinding updateStatus(ProcessBindingKeyInput key, StatusInput status) {
+  public CompletableFuture<ProcessBinding> updateStatus(ProcessBindingKeyInput key, StatusInput status) {
     ProcessBinding processBinding = processBindingView.get(key.asProcessBindingKey()).get();
-    return processBindingService.updateStatus(processBinding, status.asStatus()).get();
+    return result(processBindingService.updateStatusAsync(processBinding, status.asStatus()));
   }
 
   private ProcessBinding asProcessBinding(ProcessBindingKeyInput key, SpecificationInput specification,
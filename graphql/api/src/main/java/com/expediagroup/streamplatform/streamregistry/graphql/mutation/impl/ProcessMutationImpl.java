@@ -15,9 +15,12 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.AsyncHelper.result;
 import static com.expediagroup.streamplatform.streamregistry.graphql.StateHelper.maintainState;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
@@ -26,6 +29,7 @@ import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.ProcessService;
 import com.expediagroup.streamplatform.streamregistry.core.views.ProcessView;
+import com.expediagroup.streamplatform.streamregistry.graphql.AsyncHelper;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.*;
 import com.expediagroup.streamplatform.streamregistry.graphql.mutation.ProcessMutation;
 import com.expediagroup.streamplatform.streamregistry.model.Process;
@@ -37,38 +41,40 @@ public class ProcessMutationImpl implements ProcessMutation {
   private final ProcessView processView;
 
   @Override
-  public Process insert(ProcessKeyInput key, SpecificationInput specification,
+  public CompletableFuture<Process> insert(ProcessKeyInput key, SpecificationInput specification,
                         List<ZoneKeyInput> zones, List<ProcessInputStreamInput> inputs, List<ProcessOutputStreamInput> outputs) {
-    return processService.create(asProcess(key, specification, zones, inputs, outputs)).get();
+    return result(processService.createAsync(asProcess(key, specification, zones, inputs, outputs)));
   }
 
   @Override
-  public Process update(ProcessKeyInput key, SpecificationInput specification,
+  public CompletableFuture<Process> update(ProcessKeyInput key, SpecificationInput specification,
                         List<ZoneKeyInput> zones, List<ProcessInputStreamInput> inputs, List<ProcessOutputStreamInput> outputs) {
-    return processService.update(asProcess(key, specification, zones, inputs, outputs)).get();
+    return result(processService.updateAsync(asProcess(key, specification, zones, inputs, outputs)));
   }
 
   @Override
-  public Process upsert(ProcessKeyInput key, SpecificationInput specification,
+  public CompletableFuture<Process> upsert(ProcessKeyInput key, SpecificationInput specification,
                         List<ZoneKeyInput> zones, List<ProcessInputStreamInput> inputs, List<ProcessOutputStreamInput> outputs) {
     Process stream = asProcess(key, specification, zones, inputs, outputs);
     if (!processView.exists(stream.getKey())) {
-      return processService.create(stream).get();
+      return result(processService.createAsync(stream));
     } else {
-      return processService.update(stream).get();
+      return result(processService.updateAsync(stream));
     }
   }
 
   @Override
-  public Boolean delete(ProcessKeyInput key) {
-    processView.get(key.asProcessKey()).ifPresent(processService::delete);
-    return true;
+  public CompletableFuture<Boolean> delete(ProcessKeyInput key) {
+    return processView.get(key.asProcessKey())
+      .map(processService::deleteAsync)
+      .map(AsyncHelper::deleted)
+      .orElse(completedFuture(true));
   }
 
   @Override
-  public Process updateStatus(ProcessKeyInput key, StatusInput status) {
+  public CompletableFuture<Process> updateStatus(ProcessKeyInput key, StatusInput status) {
     Process stream = processView.get(key.asProcessKey()).get();
-    return processService.updateStatus(stream, status.asStatus()).get();
+    return result(processService.updateStatusAsync(stream, status.asStatus()));
   }
 
   private Process asProcess(ProcessKeyInput key, SpecificationInput specification,
@@ -15,9 +15,13 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.AsyncHelper.deleted;
+import static com.expediagroup.streamplatform.streamregistry.graphql.AsyncHelper.result;
 import static com.expediagroup.streamplatform.streamregistry.graphql.StateHelper.maintainState;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import lombok.RequiredArgsConstructor;
 
@@ -44,40 +48,41 @@ public class ProducerBindingMutationImpl implements ProducerBindingMutation {
   private final ProducerBindingView producerBindingView;
 
   @Override
-  public ProducerBinding insert(ProducerBindingKeyInput key, SpecificationInput specification) {
-    return producerBindingService.create(asProducerBinding(key, specification)).get();
+  public CompletableFuture<ProducerBinding> insert(ProducerBindingKeyInput key, SpecificationInput specification) {
+    return result(producerBindingService.createAsync(asProducerBinding(key, specification)));
   }
 
   @Override
-  public ProducerBinding update(ProducerBindingKeyInput key, SpecificationInput specification) {
-    return producerBindingService.update(asProducerBinding(key, specification)).get();
+  public CompletableFuture<ProducerBinding> update(ProducerBindingKeyInput key, SpecificationInput specification) {
+    return result(producerBindingService.updateAsync(asProducerBinding(key, specification)));
   }
 
   @Override
-  public ProducerBinding upsert(ProducerBindingKeyInput key, SpecificationInput specification) {
+  public CompletableFuture<ProducerBinding> upsert(ProducerBindingKeyInput key, SpecificationInput specification) {
     ProducerBinding producerBinding = asProducerBinding(key, specification);
     if (!producerBindingView.get(producerBinding.getKey()).isPresent()) {
-      return producerBindingService.create(producerBinding).get();
+      return result(producerBindingService.createAsync(producerBinding));
     } else {
-      return producerBindingService.update(producerBinding).get();
+      return result(producerBindingService.updateAsync(producerBinding));
     }
   }
 
   @Override
-  public Boolean delete(ProducerBindingKeyInput key) {
+  public CompletableFuture<Boolean> delete(ProducerBindingKeyInput key) {
     Optional<ProducerBinding> producerBinding = producerBindingView.get(key.asProducerBindingKey());
-    producerBinding.ifPresentOrElse(producerBindingService::delete, () -> {
-      if (!checkExistEnabled) {
-        producerBindingService.delete(new ProducerBinding(key.asProducerBindingKey(), StateHelper.specification(), StateHelper.status()));
-      }
-    });
-    return true;
+    if (producerBinding.isPresent()) {
+      return deleted(producerBindingService.deleteAsync(producerBinding.get()));
+    }
+    if (!checkExistEnabled) {
+      return deleted(producerBindingService.deleteAsync(new ProducerBinding(key.asProducerBindingKey(), StateHelper.specification(), StateHelper.status())));
+    }
+    return completedFuture(true);
   }
 
   @Override
-  public ProducerBinding updateStatus(ProducerBindingKeyInput key, StatusInput status) {
+  public CompletableFuture<ProducerBinding> updateStatus(ProducerBindingKeyInput key, StatusInput status) {
     ProducerBinding producerBinding = producerBindingView.get(key.asProducerBindingKey()).get();
-    return producerBindingService.updateStatus(producerBinding, status.asStatus()).get();
+    return result(producerBindingService.updateStatusAsync(producerBinding, status.asStatus()));
   }
 
   private ProducerBinding asProducerBinding(ProducerBindingKeyInput key, SpecificationInput specification) {
@@ -15,9 +15,13 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.AsyncHelper.deleted;
+import static com.expediagroup.streamplatform.streamregistry.graphql.AsyncHelper.result;
 import static com.expediagroup.streamplatform.streamregistry.graphql.StateHelper.maintainState;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import lombok.RequiredArgsConstructor;
 
@@ -44,40 +48,41 @@ public class ProducerMutationImpl implements ProducerMutation {
   private final ProducerView producerView;
 
   @Override
-  public Producer insert(ProducerKeyInput key, SpecificationInput specification) {
-    return producerService.create(asProducer(key, specification)).get();
+  public CompletableFuture<Producer> insert(ProducerKeyInput key, SpecificationInput specification) {
+    return result(producerService.createAsync(asProducer(key, specification)));
   }
 
   @Override
-  public Producer update(ProducerKeyInput key, SpecificationInput specification) {
-    return producerService.update(asProducer(key, specification)).get();
+  public CompletableFuture<Producer> update(ProducerKeyInput key, SpecificationInput specification) {
+    return result(producerService.updateAsync(asProducer(key, specification)));
   }
 
   @Override
-  public Producer upsert(ProducerKeyInput key, SpecificationInput specification) {
+  public CompletableFuture<Producer> upsert(ProducerKeyInput key, SpecificationInput specification) {
     Producer producer = asProducer(key, specification);
     if (!producerView.get(producer.getKey()).isPresent()) {
-      return producerService.create(producer).get();
+      return result(producerService.createAsync(producer));
     } else {
-      return producerService.update(producer).get();
+      return result(producerService.updateAsync(producer));
     }
   }
 
   @Override
-  public Boolean delete(ProducerKeyInput key) {
+  public CompletableFuture<Boolean> delete(ProducerKeyInput key) {
     Optional<Producer> producer = producerView.get(key.asProducerKey());
-    producer.ifPresentOrElse(producerService::delete, () -> {
-      if (!checkExistEnabled) {
-        producerService.delete(new Producer(key.asProducerKey(), StateHelper.specification(), StateHelper.status()));
-      }
-    });
-    return true;
+    if (producer.isPresent()) {
+      return deleted(producerService.deleteAsync(producer.get()));
+    }
+    if (!checkExistEnabled) {
+      return deleted(producerService.deleteAsync(new Producer(key.asProducerKey(), StateHelper.specification(), StateHelper.status())));
+    }
+    return completedFuture(true);
   }
 
   @Override
-  public Producer updateStatus(ProducerKeyInput key, StatusInput status) {
+  public CompletableFuture<Producer> updateStatus(ProducerKeyInput key, StatusInput status) {
     Producer producer = producerView.get(key.asProducerKey()).get();
-    return producerService.updateStatus(producer, status.asStatus()).get();
+    return result(producerService.updateStatusAsync(producer, status.asStatus()));
   }
 
   private Producer asProducer(ProducerKeyInput key, SpecificationInput specification) {
@@ -15,8 +15,11 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.AsyncHelper.result;
 import static com.expediagroup.streamplatform.streamregistry.graphql.StateHelper.maintainState;
 
+import java.util.concurrent.CompletableFuture;
+
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
@@ -37,34 +40,34 @@ public class SchemaMutationImpl implements SchemaMutation {
   private final SchemaView schemaView;
 
   @Override
-  public Schema insert(SchemaKeyInput key, SpecificationInput specification) {
-    return schemaService.create(asSchema(key, specification)).get();
+  public CompletableFuture<Schema> insert(SchemaKeyInput key, SpecificationInput specification) {
+    return result(schemaService.createAsync(asSchema(key, specification)));
   }
 
   @Override
-  public Schema update(SchemaKeyInput key, SpecificationInput specification) {
-    return schemaService.update(asSchema(key, specification)).get();
+  public CompletableFuture<Schema> update(SchemaKeyInput key, SpecificationInput specification) {
+    return result(schemaService.updateAsync(asSchema(key, specification)));
   }
 
   @Override
-  public Schema upsert(SchemaKeyInput key, SpecificationInput specification) {
+  public CompletableFuture<Schema> upsert(SchemaKeyInput key, SpecificationInput specification) {
     Schema schema = asSchema(key, specification);
     if (!schemaView.get(schema.getKey()).isPresent()) {
-      return schemaService.create(schema).get();
+      return result(schemaService.createAsync(schema));
     } else {
-      return schemaService.update(schema).get();
+      return result(schemaService.updateAsync(schema));
     }
   }
 
   @Override
-  public Boolean delete(SchemaKeyInput key) {
+  public CompletableFuture<Boolean> delete(SchemaKeyInput key) {
     throw new UnsupportedOperationException("Please delete the stream associated with this schema instead.");
   }
 
   @Override
-  public Schema updateStatus(SchemaKeyInput key, StatusInput status) {
+  public CompletableFuture<Schema> updateStatus(SchemaKeyInput key, StatusInput status) {
     Schema schema = schemaView.get(key.asSchemaKey()).get();
-    return schemaService.updateStatus(schema, status.asStatus()).get();
+    return result(schemaService.updateStatusAsync(schema, status.asStatus()));
   }
 
   private Schema asSchema(SchemaKeyInput key, SpecificationInput specification) {
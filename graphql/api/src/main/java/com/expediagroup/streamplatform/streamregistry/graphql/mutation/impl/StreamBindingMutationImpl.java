@@ -15,9 +15,13 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.AsyncHelper.deleted;
+import static com.expediagroup.streamplatform.streamregistry.graphql.AsyncHelper.result;
 import static com.expediagroup.streamplatform.streamregistry.graphql.StateHelper.maintainState;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import lombok.RequiredArgsConstructor;
 
@@ -44,40 +48,41 @@ public class StreamBindingMutationImpl implements StreamBindingMutation {
   private final StreamBindingView streamBindingView;
 
   @Override
-  public StreamBinding insert(StreamBindingKeyInput key, SpecificationInput specification) {
-    return streamBindingService.create(asStreamBinding(key, specification)).get();
+  public CompletableFuture<StreamBinding> insert(StreamBindingKeyInput key, SpecificationInput specification) {
+    return result(streamBindingService.createAsync(asStreamBinding(key, specification)));
   }
 
   @Override
-  public StreamBinding update(StreamBindingKeyInput key, SpecificationInput specification) {
-    return streamBindingService.update(asStreamBinding(key, specification)).get();
+  public CompletableFuture<StreamBinding> update(StreamBindingKeyInput key, SpecificationInput specification) {
+    return result(streamBindingService.updateAsync(asStreamBinding(key, specification)));
   }
 
   @Override
-  public StreamBinding upsert(StreamBindingKeyInput key, SpecificationInput specification) {
+  public CompletableFuture<StreamBinding> upsert(StreamBindingKeyInput key, SpecificationInput specification) {
     StreamBinding streamBinding = asStreamBinding(key, specification);
     if (!streamBindingView.get(streamBinding.getKey()).isPresent()) {
-      return streamBindingService.create(streamBinding).get();
+      return result(streamBindingService.createAsync(streamBinding));
     } else {
-      return streamBindingService.update(streamBinding).get();
+      return result(streamBindingService.updateAsync(streamBinding));
     }
   }
 
   @Override
-  public Boolean delete(StreamBindingKeyInput key) {
+  public CompletableFuture<Boolean> delete(StreamBindingKeyInput key) {
     Optional<StreamBinding> streamBinding = streamBindingView.get(key.asStreamBindingKey());
-    streamBinding.ifPresentOrElse(streamBindingService::delete, () -> {
-      if (!checkExistEnabled) {
-        streamBindingService.delete(new StreamBinding(key.asStreamBindingKey(), StateHelper.specification(), StateHelper.status()));
-      }
-    });
-    return true;
+    if (streamBinding.isPresent()) {
+      return deleted(streamBindingService.deleteAsync(streamBinding.get()));
+    }
+    if (!checkExistEnabled) {
+      return deleted(streamBindingService.deleteAsync(new StreamBinding(key.asStreamBindingKey(), StateHelper.specification(), StateHelper.status())));
+    }
+    return completedFuture(true);
   }
 
   @Override
-  public StreamBinding updateStatus(StreamBindingKeyInput key, StatusInput status) {
+  public CompletableFuture<StreamBinding> updateStatus(StreamBindingKeyInput key, StatusInput status) {
     StreamBinding streamBinding = streamBindingView.get(key.asStreamBindingKey()).get();
-    return streamBindingService.updateStatus(streamBinding, status.asStatus()).get();
+    return result(streamBindingService.updateStatusAsync(streamBinding, status.asStatus()));
   }
 
   private StreamBinding asStreamBinding(StreamBindingKeyInput key, SpecificationInput specification) {
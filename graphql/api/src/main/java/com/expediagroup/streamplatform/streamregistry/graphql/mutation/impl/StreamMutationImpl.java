@@ -15,9 +15,13 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.AsyncHelper.deleted;
+import static com.expediagroup.streamplatform.streamregistry.graphql.AsyncHelper.result;
 import static com.expediagroup.streamplatform.streamregistry.graphql.StateHelper.maintainState;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import lombok.RequiredArgsConstructor;
 
@@ -45,40 +49,41 @@ public class StreamMutationImpl implements StreamMutation {
   private final StreamView streamView;
 
   @Override
-  public Stream insert(StreamKeyInput key, SpecificationInput specification, SchemaKeyInput schema) {
-    return streamService.create(asStream(key, specification, Optional.of(schema))).get();
+  public CompletableFuture<Stream> insert(StreamKeyInput key, SpecificationInput specification, SchemaKeyInput schema) {
+    return result(streamService.createAsync(asStream(key, specification, Optional.of(schema))));
   }
 
   @Override
-  public Stream update(StreamKeyInput key, SpecificationInput specification) {
-    return streamService.update(asStream(key, specification, Optional.empty())).get();
+  public CompletableFuture<Stream> update(StreamKeyInput key, SpecificationInput specification) {
+    return result(streamService.updateAsync(asStream(key, specification, Optional.empty())));
   }
 
   @Override
-  public Stream upsert(StreamKeyInput key, SpecificationInput specification, SchemaKeyInput schema) {
+  public CompletableFuture<Stream> upsert(StreamKeyInput key, SpecificationInput specification, SchemaKeyInput schema) {
     Stream stream = asStream(key, specification, Optional.ofNullable(schema));
     if (!streamView.get(stream.getKey()).isPresent()) {
-      return streamService.create(stream).get();
+      return result(streamService.createAsync(stream));
     } else {
-      return streamService.update(stream).get();
+      return result(streamService.updateAsync(stream));
     }
   }
 
   @Override
-  public Boolean delete(StreamKeyInput key) {
+  public CompletableFuture<Boolean> delete(StreamKeyInput key) {
     Optional<Stream> stream = streamView.get(key.asStreamKey());
-    stream.ifPresentOrElse(streamService::delete, () -> {
-      if (!checkExistEnabled) {
-        streamService.delete(new Stream(key.asStreamKey(), StateHelper.schemaKey(), StateHelper.specification(), StateHelper.status()));
-      }
-    });
-    return true;
+    if (stream.isPresent()) {
+      return deleted(streamService.deleteAsync(stream.get()));
+    }
+    if (!checkExistEnabled) {
+      return deleted(streamService.deleteAsync(new Stream(key.asStreamKey(), StateHelper.schemaKey(), StateHelper.specification(), StateHelper.status())));
+    }
+    return completedFuture(true);
   }
 
   @Override
-  public Stream updateStatus(StreamKeyInput key, StatusInput status) {
+  public CompletableFuture<Stream> updateStatus(StreamKeyInput key, StatusInput status) {
     Stream stream = streamView.get(key.asStreamKey()).get();
-    return streamService.updateStatus(stream, status.asStatus()).get();
+    return result(streamService.updateStatusAsync(stream, status.asStatus()));
   }
 
   private Stream asStream(StreamKeyInput key, SpecificationInput specification, Optional<SchemaKeyInput> schema) {
@@ -15,7 +15,11 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.AsyncHelper.result;
 import static com.expediagroup.streamplatform.streamregistry.graphql.StateHelper.maintainState;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import java.util.concurrent.CompletableFuture;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,6 +27,7 @@ import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.ZoneService;
 import com.expediagroup.streamplatform.streamregistry.core.views.ZoneView;
+import com.expediagroup.streamplatform.streamregistry.graphql.AsyncHelper;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ZoneKeyInput;
@@ -36,35 +41,37 @@ public class ZoneMutationImpl implements ZoneMutation {
   private final ZoneView zoneView;
 
   @Override
-  public Zone insert(ZoneKeyInput key, SpecificationInput specification) {
-    return zoneService.create(asZone(key, specification)).get();
+  public CompletableFuture<Zone> insert(ZoneKeyInput key, SpecificationInput specification) {
+    return result(zoneService.createAsync(asZone(key, specification)));
   }
 
   @Override
-  public Zone update(ZoneKeyInput key, SpecificationInput specification) {
-    return zoneService.update(asZone(key, specification)).get();
+  public CompletableFuture<Zone> update(ZoneKeyInput key, SpecificationInput specification) {
+    return result(zoneService.updateAsync(asZone(key, specification)));
   }
 
   @Override
-  public Zone upsert(ZoneKeyInput key, SpecificationInput specification) {
+  public CompletableFuture<Zone> upsert(ZoneKeyInput key, SpecificationInput specification) {
     Zone zone = asZone(key, specification);
     if (!zoneView.get(zone.getKey()).isPresent()) {
-      return zoneService.create(zone).get();
+      return result(zoneService.createAsync(zone));
     } else {
-      return zoneService.update(zone).get();
+      return result(zoneService.updateAsync(zone));
     }
   }
 
   @Override
-  public Boolean delete(ZoneKeyInput key) {
-    zoneView.get(key.asZoneKey()).ifPresent(zoneService::delete);
-    return true;
+  public CompletableFuture<Boolean> delete(ZoneKeyInput key) {
+    return zoneView.get(key.asZoneKey())
+      .map(zoneService::deleteAsync)
+      .map(AsyncHelper::deleted)
+      .orElse(completedFuture(true));
   }
 
   @Override
-  public Zone updateStatus(ZoneKeyInput key, StatusInput status) {
+  public CompletableFuture<Zone> updateStatus(ZoneKeyInput key, StatusInput status) {
     Zone zone = zoneView.get(key.asZoneKey()).get();
-    return zoneService.updateStatus(zone, status.asStatus()).get();
+    return result(zoneService.updateStatusAsync(zone, status.asStatus()));
   }
 
   private Zone asZone(ZoneKeyInput key, SpecificationInput specification) {
@@ -22,9 +22,12 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.Consu
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ConsumerBindingKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
+import graphql.relay.Connection;
 
 public interface ConsumerBindingQuery extends GraphQLApiType {
   Optional<ConsumerBinding> byKey(ConsumerBindingKeyInput key);
 
   Iterable<ConsumerBinding> byQuery(ConsumerBindingKeyQuery key, SpecificationQuery specification);
+
+  Connection<ConsumerBinding> byQueryConnection(ConsumerBindingKeyQuery key, SpecificationQuery specification, Integer first, String after);
 }
@@ -22,9 +22,12 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.Consu
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ConsumerKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Consumer;
+import graphql.relay.Connection;
 
 public interface ConsumerQuery extends GraphQLApiType {
   Optional<Consumer> byKey(ConsumerKeyInput key);
 
   Iterable<Consumer> byQuery(ConsumerKeyQuery key, SpecificationQuery specification);
+
+  Connection<Consumer> byQueryConnection(ConsumerKeyQuery key, SpecificationQuery specification, Integer first, String after);
 }
@@ -22,9 +22,12 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.Domai
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.DomainKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Domain;
+import graphql.relay.Connection;
 
 public interface DomainQuery extends GraphQLApiType {
   Optional<Domain> byKey(DomainKeyInput key);
 
   Iterable<Domain> byQuery(DomainKeyQuery key, SpecificationQuery specification);
+
+  Connection<Domain> byQueryConnection(DomainKeyQuery key, SpecificationQuery specification, Integer first, String after);
 }
@@ -22,9 +22,12 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.Infra
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.InfrastructureKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Infrastructure;
+import graphql.relay.Connection;
 
 public interface InfrastructureQuery extends GraphQLApiType {
   Optional<Infrastructure> byKey(InfrastructureKeyInput key);
 
   Iterable<Infrastructure> byQuery(InfrastructureKeyQuery key, SpecificationQuery specification);
+
+  Connection<Infrastructure> byQueryConnection(InfrastructureKeyQuery key, SpecificationQuery specification, Integer first, String after);
 }
@@ -22,10 +22,14 @@ import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ProcessBindingKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.*;
 import com.expediagroup.streamplatform.streamregistry.model.ProcessBinding;
+import graphql.relay.Connection;
 
 public interface ProcessBindingQuery extends GraphQLApiType {
   Optional<ProcessBinding> byKey(ProcessBindingKeyInput key);
 
   Iterable<ProcessBinding> byQuery(ProcessBindingKeyQuery key, SpecificationQuery specification,
                            ZoneKeyQuery zone, List<StreamBindingKeyQuery> inputs, List<StreamBindingKeyQuery> outputs);
+
+  Connection<ProcessBinding> byQueryConnection(ProcessBindingKeyQuery key, SpecificationQuery specification,
+                                               ZoneKeyQuery zone, List<StreamBindingKeyQuery> inputs, List<StreamBindingKeyQuery> outputs, Integer first, String after);
 }
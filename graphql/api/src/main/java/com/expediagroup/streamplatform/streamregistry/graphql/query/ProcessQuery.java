@@ -25,10 +25,14 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.Spec
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.StreamKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ZoneKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Process;
+import graphql.relay.Connection;
 
 public interface ProcessQuery extends GraphQLApiType {
   Optional<Process> byKey(ProcessKeyInput key);
 
   Iterable<Process> byQuery(ProcessKeyQuery key, SpecificationQuery specification,
                            List<ZoneKeyQuery> zones, List<StreamKeyQuery> inputs, List<StreamKeyQuery> outputs);
+
+  Connection<Process> byQueryConnection(ProcessKeyQuery key, SpecificationQuery specification,
+                                        List<ZoneKeyQuery> zones, List<StreamKeyQuery> inputs, List<StreamKeyQuery> outputs, Integer first, String after);
 }
@@ -22,9 +22,12 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.Produ
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ProducerBindingKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
+import graphql.relay.Connection;
 
 public interface ProducerBindingQuery extends GraphQLApiType {
   Optional<ProducerBinding> byKey(ProducerBindingKeyInput key);
 
   Iterable<ProducerBinding> byQuery(ProducerBindingKeyQuery key, SpecificationQuery specification);
+
+  Connection<ProducerBinding> byQueryConnection(ProducerBindingKeyQuery key, SpecificationQuery specification, Integer first, String after);
 }
@@ -22,9 +22,12 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.Produ
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ProducerKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Producer;
+import graphql.relay.Connection;
 
 public interface ProducerQuery extends GraphQLApiType {
   Optional<Producer> byKey(ProducerKeyInput key);
 
   Iterable<Producer> byQuery(ProducerKeyQuery key, SpecificationQuery specification);
+
+  Connection<Producer> byQueryConnection(ProducerKeyQuery key, SpecificationQuery specification, Integer first, String after);
 }
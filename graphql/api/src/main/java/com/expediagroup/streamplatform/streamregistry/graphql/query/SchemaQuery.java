@@ -22,9 +22,12 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.Schem
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SchemaKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Schema;
+import graphql.relay.Connection;
 
 public interface SchemaQuery extends GraphQLApiType {
   Optional<Schema> byKey(SchemaKeyInput key);
 
   Iterable<Schema> byQuery(SchemaKeyQuery key, SpecificationQuery specification);
+
+  Connection<Schema> byQueryConnection(SchemaKeyQuery key, SpecificationQuery specification, Integer first, String after);
 }
@@ -22,9 +22,12 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.Strea
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.StreamBindingKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
+import graphql.relay.Connection;
 
 public interface StreamBindingQuery extends GraphQLApiType {
   Optional<StreamBinding> byKey(StreamBindingKeyInput key);
 
   Iterable<StreamBinding> byQuery(StreamBindingKeyQuery key, SpecificationQuery specification);
+
+  Connection<StreamBinding> byQueryConnection(StreamBindingKeyQuery key, SpecificationQuery specification, Integer first, String after);
 }
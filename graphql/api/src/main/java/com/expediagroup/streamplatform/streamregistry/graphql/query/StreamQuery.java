@@ -23,9 +23,12 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.Sche
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.StreamKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import graphql.relay.Connection;
 
 public interface StreamQuery extends GraphQLApiType {
   Optional<Stream> byKey(StreamKeyInput key);
 
   Iterable<Stream> byQuery(StreamKeyQuery key, SpecificationQuery specification, SchemaKeyQuery schemaKeyQuery);
+
+  Connection<Stream> byQueryConnection(StreamKeyQuery key, SpecificationQuery specification, SchemaKeyQuery schemaKeyQuery, Integer first, String after);
 }
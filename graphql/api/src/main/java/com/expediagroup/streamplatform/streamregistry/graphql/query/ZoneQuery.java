@@ -22,9 +22,12 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ZoneK
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ZoneKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Zone;
+import graphql.relay.Connection;
 
 public interface ZoneQuery extends GraphQLApiType {
   Optional<Zone> byKey(ZoneKeyInput key);
 
   Iterable<Zone> byQuery(ZoneKeyQuery key, SpecificationQuery specification);
+
+  Connection<Zone> byQueryConnection(ZoneKeyQuery key, SpecificationQuery specification, Integer first, String after);
 }
@@ -15,6 +15,9 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.query.impl;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.securityQueries;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.tagQueries;
+
 import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
@@ -22,12 +25,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.ConsumerBindingService;
+import com.expediagroup.streamplatform.streamregistry.graphql.ConnectionHelper;
 import com.expediagroup.streamplatform.streamregistry.graphql.filters.ConsumerBindingFilter;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ConsumerBindingKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ConsumerBindingKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.query.ConsumerBindingQuery;
 import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerBindingKey;
+import graphql.relay.Connection;
 
 @Component
 @RequiredArgsConstructor
@@ -40,6 +46,13 @@ public class ConsumerBindingQueryImpl implements ConsumerBindingQuery {
   }
 
   public Iterable<ConsumerBinding> byQuery(ConsumerBindingKeyQuery key, SpecificationQuery specification) {
-    return consumerBindingService.findAll(new ConsumerBindingFilter(key, specification));
+    ConsumerBindingFilter filter = new ConsumerBindingFilter(key, specification);
+    return consumerBindingService.findAll(tagQueries(specification), securityQueries(specification), filter.keyFilter(), filter);
+  }
+
+  @Override
+  public Connection<ConsumerBinding> byQueryConnection(ConsumerBindingKeyQuery key, SpecificationQuery specification, Integer first, String after) {
+    ConsumerBindingFilter filter = new ConsumerBindingFilter(key, specification);
+    return ConnectionHelper.connection(first, after, ConsumerBindingKey.class, afterKey -> consumerBindingService.findAllAfter(afterKey, filter.keyFilter(), filter));
   }
 }
@@ -15,6 +15,9 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.query.impl;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.securityQueries;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.tagQueries;
+
 import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
@@ -22,12 +25,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.ConsumerService;
+import com.expediagroup.streamplatform.streamregistry.graphql.ConnectionHelper;
 import com.expediagroup.streamplatform.streamregistry.graphql.filters.ConsumerFilter;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ConsumerKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ConsumerKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.query.ConsumerQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Consumer;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerKey;
+import graphql.relay.Connection;
 
 @Component
 @RequiredArgsConstructor
@@ -41,6 +47,13 @@ public class ConsumerQueryImpl implements ConsumerQuery {
 
   @Override
   public Iterable<Consumer> byQuery(ConsumerKeyQuery key, SpecificationQuery specification) {
-    return consumerService.findAll(new ConsumerFilter(key, specification));
+    ConsumerFilter filter = new ConsumerFilter(key, specification);
+    return consumerService.findAll(tagQueries(specification), securityQueries(specification), filter.keyFilter(), filter);
+  }
+
+  @Override
+  public Connection<Consumer> byQueryConnection(ConsumerKeyQuery key, SpecificationQuery specification, Integer first, String after) {
+    ConsumerFilter filter = new ConsumerFilter(key, specification);
+    return ConnectionHelper.connection(first, after, ConsumerKey.class, afterKey -> consumerService.findAllAfter(afterKey, filter.keyFilter(), filter));
   }
 }
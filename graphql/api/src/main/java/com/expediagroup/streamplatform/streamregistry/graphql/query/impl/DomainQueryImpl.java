@@ -15,6 +15,9 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.query.impl;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.securityQueries;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.tagQueries;
+
 import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
@@ -22,12 +25,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.DomainService;
+import com.expediagroup.streamplatform.streamregistry.graphql.ConnectionHelper;
 import com.expediagroup.streamplatform.streamregistry.graphql.filters.DomainFilter;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.DomainKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.DomainKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.query.DomainQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Domain;
+import com.expediagroup.streamplatform.streamregistry.model.keys.DomainKey;
+import graphql.relay.Connection;
 
 @Component
 @RequiredArgsConstructor
@@ -41,6 +47,13 @@ public class DomainQueryImpl implements DomainQuery {
 
   @Override
   public Iterable<Domain> byQuery(DomainKeyQuery key, SpecificationQuery specification) {
-    return domainService.findAll(new DomainFilter(key, specification));
+    DomainFilter filter = new DomainFilter(key, specification);
+    return domainService.findAll(tagQueries(specification), securityQueries(specification), filter.keyFilter(), filter);
+  }
+
+  @Override
+  public Connection<Domain> byQueryConnection(DomainKeyQuery key, SpecificationQuery specification, Integer first, String after) {
+    DomainFilter filter = new DomainFilter(key, specification);
+    return ConnectionHelper.connection(first, after, DomainKey.class, afterKey -> domainService.findAllAfter(afterKey, filter.keyFilter(), filter));
   }
 }
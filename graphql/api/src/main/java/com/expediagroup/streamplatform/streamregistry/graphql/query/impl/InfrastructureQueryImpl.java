@@ -15,6 +15,9 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.query.impl;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.securityQueries;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.tagQueries;
+
 import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
@@ -22,12 +25,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.InfrastructureService;
+import com.expediagroup.streamplatform.streamregistry.graphql.ConnectionHelper;
 import com.expediagroup.streamplatform.streamregistry.graphql.filters.InfrastructureFilter;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.InfrastructureKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.InfrastructureKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.query.InfrastructureQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Infrastructure;
+import com.expediagroup.streamplatform.streamregistry.model.keys.InfrastructureKey;
+import graphql.relay.Connection;
 
 @Component
 @RequiredArgsConstructor
@@ -41,6 +47,13 @@ public class InfrastructureQueryImpl implements InfrastructureQuery {
 
   @Override
   public Iterable<Infrastructure> byQuery(InfrastructureKeyQuery key, SpecificationQuery specification) {
-    return infrastructureService.findAll(new InfrastructureFilter(key, specification));
+    InfrastructureFilter filter = new InfrastructureFilter(key, specification);
+    return infrastructureService.findAll(tagQueries(specification), securityQueries(specification), filter.keyFilter(), filter);
+  }
+
+  @Override
+  public Connection<Infrastructure> byQueryConnection(InfrastructureKeyQuery key, SpecificationQuery specification, Integer first, String after) {
+    InfrastructureFilter filter = new InfrastructureFilter(key, specification);
+    return ConnectionHelper.connection(first, after, InfrastructureKey.class, afterKey -> infrastructureService.findAllAfter(afterKey, filter.keyFilter(), filter));
   }
 }
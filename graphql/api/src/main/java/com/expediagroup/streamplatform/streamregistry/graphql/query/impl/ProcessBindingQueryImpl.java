@@ -15,6 +15,9 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.query.impl;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.securityQueries;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.tagQueries;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -23,11 +26,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.ProcessBindingService;
+import com.expediagroup.streamplatform.streamregistry.graphql.ConnectionHelper;
 import com.expediagroup.streamplatform.streamregistry.graphql.filters.ProcessBindingFilter;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ProcessBindingKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.*;
 import com.expediagroup.streamplatform.streamregistry.graphql.query.ProcessBindingQuery;
 import com.expediagroup.streamplatform.streamregistry.model.ProcessBinding;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProcessBindingKey;
+import graphql.relay.Connection;
 
 @Component
 @RequiredArgsConstructor
@@ -42,6 +48,14 @@ public class ProcessBindingQueryImpl implements ProcessBindingQuery {
   @Override
   public Iterable<ProcessBinding> byQuery(ProcessBindingKeyQuery key, SpecificationQuery specification,
                                           ZoneKeyQuery zone, List<StreamBindingKeyQuery> inputs, List<StreamBindingKeyQuery> outputs) {
-    return processBindingService.findAll(new ProcessBindingFilter(key, specification, zone, inputs, outputs));
+    ProcessBindingFilter filter = new ProcessBindingFilter(key, specification, zone, inputs, outputs);
+    return processBindingService.findAll(tagQueries(specification), securityQueries(specification), filter.keyFilter(), filter);
+  }
+
+  @Override
+  public Connection<ProcessBinding> byQueryConnection(ProcessBindingKeyQuery key, SpecificationQuery specification,
+                                                      ZoneKeyQuery zone, List<StreamBindingKeyQuery> inputs, List<StreamBindingKeyQuery> outputs, Integer first, String after) {
+    ProcessBindingFilter filter = new ProcessBindingFilter(key, specification, zone, inputs, outputs);
+    return ConnectionHelper.connection(first, after, ProcessBindingKey.class, afterKey -> processBindingService.findAllAfter(afterKey, filter.keyFilter(), filter));
   }
 }
@@ -15,6 +15,9 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.query.impl;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.securityQueries;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.tagQueries;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -23,11 +26,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.ProcessService;
+import com.expediagroup.streamplatform.streamregistry.graphql.ConnectionHelper;
 import com.expediagroup.streamplatform.streamregistry.graphql.filters.ProcessFilter;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ProcessKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.*;
 import com.expediagroup.streamplatform.streamregistry.graphql.query.ProcessQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Process;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProcessKey;
+import graphql.relay.Connection;
 
 @Component
 @RequiredArgsConstructor
@@ -42,6 +48,14 @@ public class ProcessQueryImpl implements ProcessQuery {
   @Override
   public Iterable<Process> byQuery(ProcessKeyQuery key, SpecificationQuery specification,
                                    List<ZoneKeyQuery> zones, List<StreamKeyQuery> inputs, List<StreamKeyQuery> outputs) {
-    return processService.findAll(new ProcessFilter(key, specification, zones, inputs, outputs));
+    ProcessFilter filter = new ProcessFilter(key, specification, zones, inputs, outputs);
+    return processService.findAll(tagQueries(specification), securityQueries(specification), filter.keyFilter(), filter);
+  }
+
+  @Override
+  public Connection<Process> byQueryConnection(ProcessKeyQuery key, SpecificationQuery specification,
+                                               List<ZoneKeyQuery> zones, List<StreamKeyQuery> inputs, List<StreamKeyQuery> outputs, Integer first, String after) {
+    ProcessFilter filter = new ProcessFilter(key, specification, zones, inputs, outputs);
+    return ConnectionHelper.connection(first, after, ProcessKey.class, afterKey -> processService.findAllAfter(afterKey, filter.keyFilter(), filter));
   }
 }
@@ -15,6 +15,9 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.query.impl;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.securityQueries;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.tagQueries;
+
 import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
@@ -22,12 +25,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.ProducerBindingService;
+import com.expediagroup.streamplatform.streamregistry.graphql.ConnectionHelper;
 import com.expediagroup.streamplatform.streamregistry.graphql.filters.ProducerBindingFilter;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ProducerBindingKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ProducerBindingKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.query.ProducerBindingQuery;
 import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerBindingKey;
+import graphql.relay.Connection;
 
 @Component
 @RequiredArgsConstructor
@@ -41,6 +47,13 @@ public class ProducerBindingQueryImpl implements ProducerBindingQuery {
 
   @Override
   public Iterable<ProducerBinding> byQuery(ProducerBindingKeyQuery key, SpecificationQuery specification) {
-    return producerBindingService.findAll(new ProducerBindingFilter(key, specification));
+    ProducerBindingFilter filter = new ProducerBindingFilter(key, specification);
+    return producerBindingService.findAll(tagQueries(specification), securityQueries(specification), filter.keyFilter(), filter);
+  }
+
+  @Override
+  public Connection<ProducerBinding> byQueryConnection(ProducerBindingKeyQuery key, SpecificationQuery specification, Integer first, String after) {
+    ProducerBindingFilter filter = new ProducerBindingFilter(key, specification);
+    return ConnectionHelper.connection(first, after, ProducerBindingKey.class, afterKey -> producerBindingService.findAllAfter(afterKey, filter.keyFilter(), filter));
   }
 }
@@ -15,6 +15,9 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.query.impl;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.securityQueries;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.tagQueries;
+
 import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
@@ -22,12 +25,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.ProducerService;
+import com.expediagroup.streamplatform.streamregistry.graphql.ConnectionHelper;
 import com.expediagroup.streamplatform.streamregistry.graphql.filters.ProducerFilter;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ProducerKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ProducerKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.query.ProducerQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Producer;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerKey;
+import graphql.relay.Connection;
 
 @Component
 @RequiredArgsConstructor
@@ -41,6 +47,13 @@ public class ProducerQueryImpl implements ProducerQuery {
 
   @Override
   public Iterable<Producer> byQuery(ProducerKeyQuery key, SpecificationQuery specification) {
-    return producerService.findAll(new ProducerFilter(key, specification));
+    ProducerFilter filter = new ProducerFilter(key, specification);
+    return producerService.findAll(tagQueries(specification), securityQueries(specification), filter.keyFilter(), filter);
+  }
+
+  @Override
+  public Connection<Producer> byQueryConnection(ProducerKeyQuery key, SpecificationQuery specification, Integer first, String after) {
+    ProducerFilter filter = new ProducerFilter(key, specification);
+    return ConnectionHelper.connection(first, after, ProducerKey.class, afterKey -> producerService.findAllAfter(afterKey, filter.keyFilter(), filter));
   }
 }
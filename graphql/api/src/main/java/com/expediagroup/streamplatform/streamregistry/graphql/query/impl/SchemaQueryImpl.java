@@ -15,6 +15,9 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.query.impl;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.securityQueries;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.tagQueries;
+
 import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
@@ -22,12 +25,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.SchemaService;
+import com.expediagroup.streamplatform.streamregistry.graphql.ConnectionHelper;
 import com.expediagroup.streamplatform.streamregistry.graphql.filters.SchemaFilter;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SchemaKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SchemaKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.query.SchemaQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Schema;
+import com.expediagroup.streamplatform.streamregistry.model.keys.SchemaKey;
+import graphql.relay.Connection;
 
 @Component
 @RequiredArgsConstructor
@@ -41,6 +47,13 @@ public class SchemaQueryImpl implements SchemaQuery {
 
   @Override
   public Iterable<Schema> byQuery(SchemaKeyQuery key, SpecificationQuery specification) {
-    return schemaService.findAll(new SchemaFilter(key, specification));
+    SchemaFilter filter = new SchemaFilter(key, specification);
+    return schemaService.findAll(tagQueries(specification), securityQueries(specification), filter.keyFilter(), filter);
+  }
+
+  @Override
+  public Connection<Schema> byQueryConnection(SchemaKeyQuery key, SpecificationQuery specification, Integer first, String after) {
+    SchemaFilter filter = new SchemaFilter(key, specification);
+    return ConnectionHelper.connection(first, after, SchemaKey.class, afterKey -> schemaService.findAllAfter(afterKey, filter.keyFilter(), filter));
   }
 }
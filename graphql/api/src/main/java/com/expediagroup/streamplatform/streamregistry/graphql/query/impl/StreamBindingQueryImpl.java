@@ -15,6 +15,9 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.query.impl;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.securityQueries;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.tagQueries;
+
 import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
@@ -22,12 +25,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.StreamBindingService;
+import com.expediagroup.streamplatform.streamregistry.graphql.ConnectionHelper;
 import com.expediagroup.streamplatform.streamregistry.graphql.filters.StreamBindingFilter;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StreamBindingKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.StreamBindingKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.query.StreamBindingQuery;
 import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamBindingKey;
+import graphql.relay.Connection;
 
 @Component
 @RequiredArgsConstructor
@@ -41,6 +47,13 @@ public class StreamBindingQueryImpl implements StreamBindingQuery {
 
   @Override
   public Iterable<StreamBinding> byQuery(StreamBindingKeyQuery key, SpecificationQuery specification) {
-    return streamBindingService.findAll(new StreamBindingFilter(key, specification));
+    StreamBindingFilter filter = new StreamBindingFilter(key, specification);
+    return streamBindingService.findAll(tagQueries(specification), securityQueries(specification), filter.keyFilter(), filter);
+  }
+
+  @Override
+  public Connection<StreamBinding> byQueryConnection(StreamBindingKeyQuery key, SpecificationQuery specification, Integer first, String after) {
+    StreamBindingFilter filter = new StreamBindingFilter(key, specification);
+    return ConnectionHelper.connection(first, after, StreamBindingKey.class, afterKey -> streamBindingService.findAllAfter(afterKey, filter.keyFilter(), filter));
   }
 }
@@ -15,6 +15,9 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.query.impl;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.securityQueries;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.tagQueries;
+
 import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
@@ -22,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.StreamService;
+import com.expediagroup.streamplatform.streamregistry.graphql.ConnectionHelper;
 import com.expediagroup.streamplatform.streamregistry.graphql.filters.StreamFilter;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StreamKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SchemaKeyQuery;
@@ -29,6 +33,8 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.Spec
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.StreamKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.query.StreamQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
+import graphql.relay.Connection;
 
 @Component
 @RequiredArgsConstructor
@@ -42,6 +48,13 @@ public class StreamQueryImpl implements StreamQuery {
 
   @Override
   public Iterable<Stream> byQuery(StreamKeyQuery key, SpecificationQuery specification, SchemaKeyQuery schemaKeyQuery) {
-    return streamService.findAll(new StreamFilter(key, specification, schemaKeyQuery));
+    StreamFilter filter = new StreamFilter(key, specification, schemaKeyQuery);
+    return streamService.findAll(tagQueries(specification), securityQueries(specification), filter.keyFilter(), filter);
+  }
+
+  @Override
+  public Connection<Stream> byQueryConnection(StreamKeyQuery key, SpecificationQuery specification, SchemaKeyQuery schemaKeyQuery, Integer first, String after) {
+    StreamFilter filter = new StreamFilter(key, specification, schemaKeyQuery);
+    return ConnectionHelper.connection(first, after, StreamKey.class, afterKey -> streamService.findAllAfter(afterKey, filter.keyFilter(), filter));
   }
 }
@@ -15,6 +15,9 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.query.impl;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.securityQueries;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.tagQueries;
+
 import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
@@ -22,12 +25,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.ZoneService;
+import com.expediagroup.streamplatform.streamregistry.graphql.ConnectionHelper;
 import com.expediagroup.streamplatform.streamregistry.graphql.filters.ZoneFilter;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ZoneKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ZoneKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.query.ZoneQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Zone;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ZoneKey;
+import graphql.relay.Connection;
 
 @Component
 @RequiredArgsConstructor
@@ -41,6 +47,13 @@ public class ZoneQueryImpl implements ZoneQuery {
 
   @Override
   public Iterable<Zone> byQuery(ZoneKeyQuery key, SpecificationQuery specification) {
-    return zoneService.findAll(new ZoneFilter(key, specification));
+    ZoneFilter filter = new ZoneFilter(key, specification);
+    return zoneService.findAll(tagQueries(specification), securityQueries(specification), filter.keyFilter(), filter);
+  }
+
+  @Override
+  public Connection<Zone> byQueryConnection(ZoneKeyQuery key, SpecificationQuery specification, Integer first, String after) {
+    ZoneFilter filter = new ZoneFilter(key, specification);
+    return ConnectionHelper.connection(first, after, ZoneKey.class, afterKey -> zoneService.findAllAfter(afterKey, filter.keyFilter(), filter));
   }
 }
@@ -15,27 +15,23 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.resolvers;
 
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Component;
 
-import com.expediagroup.streamplatform.streamregistry.core.services.ConsumerService;
-import com.expediagroup.streamplatform.streamregistry.core.services.StreamBindingService;
+import com.expediagroup.streamplatform.streamregistry.graphql.DataLoaders;
 import com.expediagroup.streamplatform.streamregistry.model.Consumer;
 import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
 import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
+import graphql.schema.DataFetchingEnvironment;
 
 @Component
-@RequiredArgsConstructor
 public class ConsumerBindingResolver implements Resolvers.ConsumerBindingResolver {
-  private final ConsumerService consumerService;
-  private final StreamBindingService streamBindingService;
-
-  public Consumer consumer(ConsumerBinding consumerBinding) {
-    return consumerService.get(consumerBinding.getKey().getConsumerKey()).orElse(null);
+  public CompletableFuture<Consumer> consumer(ConsumerBinding consumerBinding, DataFetchingEnvironment environment) {
+    return DataLoaders.load(environment, DataLoaders.CONSUMER, consumerBinding.getKey().getConsumerKey());
   }
 
-  public StreamBinding binding(ConsumerBinding consumerBinding) {
-    return streamBindingService.get(consumerBinding.getKey().getStreamBindingKey()).orElse(null);
+  public CompletableFuture<StreamBinding> binding(ConsumerBinding consumerBinding, DataFetchingEnvironment environment) {
+    return DataLoaders.load(environment, DataLoaders.STREAM_BINDING, consumerBinding.getKey().getStreamBindingKey());
   }
 }
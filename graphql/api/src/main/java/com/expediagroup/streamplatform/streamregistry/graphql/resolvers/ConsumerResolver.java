@@ -15,34 +15,28 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.resolvers;
 
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Component;
 
-import com.expediagroup.streamplatform.streamregistry.core.services.ConsumerBindingService;
-import com.expediagroup.streamplatform.streamregistry.core.services.StreamService;
-import com.expediagroup.streamplatform.streamregistry.core.services.ZoneService;
+import com.expediagroup.streamplatform.streamregistry.graphql.DataLoaders;
 import com.expediagroup.streamplatform.streamregistry.model.Consumer;
 import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
 import com.expediagroup.streamplatform.streamregistry.model.Stream;
 import com.expediagroup.streamplatform.streamregistry.model.Zone;
+import graphql.schema.DataFetchingEnvironment;
 
 @Component
-@RequiredArgsConstructor
 public class ConsumerResolver implements Resolvers.ConsumerResolver {
-  private final StreamService streamService;
-  private final ZoneService zoneService;
-  private final ConsumerBindingService consumerBindingService;
-
-  public Stream stream(Consumer consumer) {
-    return streamService.get(consumer.getKey().getStreamKey()).orElse(null);
+  public CompletableFuture<Stream> stream(Consumer consumer, DataFetchingEnvironment environment) {
+    return DataLoaders.load(environment, DataLoaders.STREAM, consumer.getKey().getStreamKey());
   }
 
-  public Zone zone(Consumer consumer) {
-    return zoneService.get(consumer.getKey().getZoneKey()).orElse(null);
+  public CompletableFuture<Zone> zone(Consumer consumer, DataFetchingEnvironment environment) {
+    return DataLoaders.load(environment, DataLoaders.ZONE, consumer.getKey().getZoneKey());
   }
 
-  public ConsumerBinding binding(Consumer consumer) {
-    return consumerBindingService.find(consumer.getKey()).orElse(null);
+  public CompletableFuture<ConsumerBinding> binding(Consumer consumer, DataFetchingEnvironment environment) {
+    return DataLoaders.load(environment, DataLoaders.CONSUMER_BINDING, consumer.getKey());
   }
 }
@@ -15,32 +15,28 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.resolvers;
 
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Component;
 
-import com.expediagroup.streamplatform.streamregistry.core.services.DomainService;
-import com.expediagroup.streamplatform.streamregistry.core.services.ProcessService;
+import com.expediagroup.streamplatform.streamregistry.graphql.DataLoaders;
 import com.expediagroup.streamplatform.streamregistry.model.Domain;
 import com.expediagroup.streamplatform.streamregistry.model.Process;
 import com.expediagroup.streamplatform.streamregistry.model.ProcessBinding;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ZoneKey;
+import graphql.schema.DataFetchingEnvironment;
 
 @Component
-@RequiredArgsConstructor
 public class ProcessBindingResolver implements Resolvers.ProcessBindingResolver {
-  private final DomainService domainService;
-  private final ProcessService processService;
-
-  public Domain domain(ProcessBinding processBinding) {
-    return domainService.get(processBinding.getKey().getDomainKey()).orElse(null);
+  public CompletableFuture<Domain> domain(ProcessBinding processBinding, DataFetchingEnvironment environment) {
+    return DataLoaders.load(environment, DataLoaders.DOMAIN, processBinding.getKey().getDomainKey());
   }
 
   public ZoneKey zone(ProcessBinding processBinding) {
     return processBinding.getZone();
   }
 
-  public Process process(ProcessBinding processBinding) {
-    return processService.get(processBinding.getKey().getProcessKey()).orElse(null);
+  public CompletableFuture<Process> process(ProcessBinding processBinding, DataFetchingEnvironment environment) {
+    return DataLoaders.load(environment, DataLoaders.PROCESS, processBinding.getKey().getProcessKey());
   }
 }
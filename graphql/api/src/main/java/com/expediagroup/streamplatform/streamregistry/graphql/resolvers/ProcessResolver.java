@@ -15,20 +15,18 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.resolvers;
 
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Component;
 
-import com.expediagroup.streamplatform.streamregistry.core.services.DomainService;
+import com.expediagroup.streamplatform.streamregistry.graphql.DataLoaders;
 import com.expediagroup.streamplatform.streamregistry.model.Domain;
 import com.expediagroup.streamplatform.streamregistry.model.Process;
+import graphql.schema.DataFetchingEnvironment;
 
 @Component
-@RequiredArgsConstructor
 public class ProcessResolver implements Resolvers.ProcessResolver {
-  private final DomainService domainService;
-
-  public Domain domain(Process process) {
-    return domainService.get(process.getKey().getDomainKey()).orElse(null);
+  public CompletableFuture<Domain> domain(Process process, DataFetchingEnvironment environment) {
+    return DataLoaders.load(environment, DataLoaders.DOMAIN, process.getKey().getDomainKey());
   }
 }
@@ -15,34 +15,28 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.resolvers;
 
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Component;
 
-import com.expediagroup.streamplatform.streamregistry.core.services.ProducerBindingService;
-import com.expediagroup.streamplatform.streamregistry.core.services.StreamService;
-import com.expediagroup.streamplatform.streamregistry.core.services.ZoneService;
+import com.expediagroup.streamplatform.streamregistry.graphql.DataLoaders;
 import com.expediagroup.streamplatform.streamregistry.model.Producer;
 import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
 import com.expediagroup.streamplatform.streamregistry.model.Stream;
 import com.expediagroup.streamplatform.streamregistry.model.Zone;
+import graphql.schema.DataFetchingEnvironment;
 
 @Component
-@RequiredArgsConstructor
 public class ProducerResolver implements Resolvers.ProducerResolver {
-  private final StreamService streamService;
-  private final ZoneService zoneService;
-  private final ProducerBindingService producerBindingService;
-
-  public Stream stream(Producer producer) {
-    return streamService.get(producer.getKey().getStreamKey()).get();
+  public CompletableFuture<Stream> stream(Producer producer, DataFetchingEnvironment environment) {
+    return DataLoaders.load(environment, DataLoaders.STREAM, producer.getKey().getStreamKey());
   }
 
-  public Zone zone(Producer producer) {
-    return zoneService.get(producer.getKey().getZoneKey()).orElse(null);
+  public CompletableFuture<Zone> zone(Producer producer, DataFetchingEnvironment environment) {
+    return DataLoaders.load(environment, DataLoaders.ZONE, producer.getKey().getZoneKey());
   }
 
-  public ProducerBinding binding(Producer producer) {
-    return producerBindingService.find(producer.getKey()).orElse(null);
+  public CompletableFuture<ProducerBinding> binding(Producer producer, DataFetchingEnvironment environment) {
+    return DataLoaders.load(environment, DataLoaders.PRODUCER_BINDING, producer.getKey());
   }
 }
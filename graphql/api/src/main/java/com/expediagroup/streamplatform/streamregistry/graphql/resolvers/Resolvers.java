@@ -17,6 +17,7 @@ package com.expediagroup.streamplatform.streamregistry.graphql.resolvers;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -24,7 +25,9 @@ import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
 import com.expediagroup.streamplatform.streamregistry.model.*;
 import com.expediagroup.streamplatform.streamregistry.model.Process;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ZoneKey;
+
 import graphql.kickstart.tools.GraphQLResolver;
+import graphql.schema.DataFetchingEnvironment;
 
 interface Resolvers {
   interface DomainResolver extends EntityResolver<Domain>, GraphQLResolver<Domain>, GraphQLApiType {
@@ -32,63 +35,63 @@ interface Resolvers {
   }
 
   interface SchemaResolver extends EntityResolver<Schema>, GraphQLResolver<Schema>, GraphQLApiType {
-    Domain domain(Schema schema);
+    CompletableFuture<Domain> domain(Schema schema, DataFetchingEnvironment environment);
   }
 
   interface StreamResolver extends EntityResolver<Stream>, GraphQLResolver<Stream>, GraphQLApiType {
-    Domain domain(Stream stream);
+    CompletableFuture<Domain> domain(Stream stream, DataFetchingEnvironment environment);
 
-    Schema schema(Stream stream);
+    CompletableFuture<Schema> schema(Stream stream, DataFetchingEnvironment environment);
   }
 
   interface ZoneResolver extends EntityResolver<Zone>, GraphQLResolver<Zone>, GraphQLApiType {}
 
   interface InfrastructureResolver extends EntityResolver<Infrastructure>, GraphQLResolver<Infrastructure>, GraphQLApiType {
-    Zone zone(Infrastructure infrastructure);
+    CompletableFuture<Zone> zone(Infrastructure infrastructure, DataFetchingEnvironment environment);
   }
 
   interface StreamBindingResolver extends EntityResolver<StreamBinding>, GraphQLResolver<StreamBinding>, GraphQLApiType {
-    Stream stream(StreamBinding streamBinding);
+    CompletableFuture<Stream> stream(StreamBinding streamBinding, DataFetchingEnvironment environment);
 
-    Infrastructure infrastructure(StreamBinding streamBinding);
+    CompletableFuture<Infrastructure> infrastructure(StreamBinding streamBinding, DataFetchingEnvironment environment);
   }
 
   interface ProducerResolver extends EntityResolver<Producer>, GraphQLResolver<Producer>, GraphQLApiType {
-    Stream stream(Producer producer);
+    CompletableFuture<Stream> stream(Producer producer, DataFetchingEnvironment environment);
 
-    Zone zone(Producer producer);
+    CompletableFuture<Zone> zone(Producer producer, DataFetchingEnvironment environment);
 
-    ProducerBinding binding(Producer producer);
+    CompletableFuture<ProducerBinding> binding(Producer producer, DataFetchingEnvironment environment);
   }
 
   interface ConsumerResolver extends EntityResolver<Consumer>, GraphQLResolver<Consumer>, GraphQLApiType {
-    Stream stream(Consumer consumer);
+    CompletableFuture<Stream> stream(Consumer consumer, DataFetchingEnvironment environment);
 
-    Zone zone(Consumer consumer);
+    CompletableFuture<Zone> zone(Consumer consumer, DataFetchingEnvironment environment);
 
-    ConsumerBinding binding(Consumer consumer);
+    CompletableFuture<ConsumerBinding> binding(Consumer consumer, DataFetchingEnvironment environment);
   }
 
   interface ProcessResolver extends EntityResolver<Process>, GraphQLResolver<Process>, GraphQLApiType {
-    Domain domain(Process process);
+    CompletableFuture<Domain> domain(Process process, DataFetchingEnvironment environment);
   }
 
   interface ConsumerBindingResolver extends EntityResolver<ConsumerBinding>, GraphQLResolver<ConsumerBinding>, GraphQLApiType {
-    Consumer consumer(ConsumerBinding consumerBinding);
+    CompletableFuture<Consumer> consumer(ConsumerBinding consumerBinding, DataFetchingEnvironment environment);
 
-    StreamBinding binding(ConsumerBinding consumerBinding);
+    CompletableFuture<StreamBinding> binding(ConsumerBinding consumerBinding, DataFetchingEnvironment environment);
   }
 
   interface ProducerBindingResolver extends EntityResolver<ProducerBinding>, GraphQLResolver<ProducerBinding>, GraphQLApiType {
-    Producer producer(ProducerBinding producerBinding);
+    CompletableFuture<Producer> producer(ProducerBinding producerBinding, DataFetchingEnvironment environment);
 
-    StreamBinding binding(ProducerBinding producerBinding);
+    CompletableFuture<StreamBinding> binding(ProducerBinding producerBinding, DataFetchingEnvironment environment);
   }
 
   interface ProcessBindingResolver extends EntityResolver<ProcessBinding>, GraphQLResolver<ProcessBinding>, GraphQLApiType {
-    Process process(ProcessBinding processBinding);
+    CompletableFuture<Process> process(ProcessBinding processBinding, DataFetchingEnvironment environment);
 
-    Domain domain(ProcessBinding processBinding);
+    CompletableFuture<Domain> domain(ProcessBinding processBinding, DataFetchingEnvironment environment);
 
     ZoneKey zone(ProcessBinding processBinding);
   }
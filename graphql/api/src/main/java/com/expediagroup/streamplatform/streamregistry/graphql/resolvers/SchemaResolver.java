@@ -15,20 +15,18 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.resolvers;
 
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Component;
 
-import com.expediagroup.streamplatform.streamregistry.core.services.DomainService;
+import com.expediagroup.streamplatform.streamregistry.graphql.DataLoaders;
 import com.expediagroup.streamplatform.streamregistry.model.Domain;
 import com.expediagroup.streamplatform.streamregistry.model.Schema;
+import graphql.schema.DataFetchingEnvironment;
 
 @Component
-@RequiredArgsConstructor
 public class SchemaResolver implements Resolvers.SchemaResolver {
-  private final DomainService domainService;
-
-  public Domain domain(Schema schema) {
-    return domainService.get(schema.getKey().getDomainKey()).orElse(null);
+  public CompletableFuture<Domain> domain(Schema schema, DataFetchingEnvironment environment) {
+    return DataLoaders.load(environment, DataLoaders.DOMAIN, schema.getKey().getDomainKey());
   }
 }
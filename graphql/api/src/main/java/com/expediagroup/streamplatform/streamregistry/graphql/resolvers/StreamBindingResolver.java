@@ -15,27 +15,23 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.resolvers;
 
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Component;
 
-import com.expediagroup.streamplatform.streamregistry.core.services.InfrastructureService;
-import com.expediagroup.streamplatform.streamregistry.core.services.StreamService;
+import com.expediagroup.streamplatform.streamregistry.graphql.DataLoaders;
 import com.expediagroup.streamplatform.streamregistry.model.Infrastructure;
 import com.expediagroup.streamplatform.streamregistry.model.Stream;
 import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
+import graphql.schema.DataFetchingEnvironment;
 
 @Component
-@RequiredArgsConstructor
 public class StreamBindingResolver implements Resolvers.StreamBindingResolver {
-  private final StreamService streamService;
-  private final InfrastructureService infrastructureService;
-
-  public Stream stream(StreamBinding streamBinding) {
-    return streamService.get(streamBinding.getKey().getStreamKey()).orElse(null);
+  public CompletableFuture<Stream> stream(StreamBinding streamBinding, DataFetchingEnvironment environment) {
+    return DataLoaders.load(environment, DataLoaders.STREAM, streamBinding.getKey().getStreamKey());
   }
 
-  public Infrastructure infrastructure(StreamBinding streamBinding) {
-    return infrastructureService.get(streamBinding.getKey().getInfrastructureKey()).orElse(null);
+  public CompletableFuture<Infrastructure> infrastructure(StreamBinding streamBinding, DataFetchingEnvironment environment) {
+    return DataLoaders.load(environment, DataLoaders.INFRASTRUCTURE, streamBinding.getKey().getInfrastructureKey());
   }
 }
@@ -15,27 +15,23 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.resolvers;
 
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Component;
 
-import com.expediagroup.streamplatform.streamregistry.core.services.DomainService;
-import com.expediagroup.streamplatform.streamregistry.core.services.SchemaService;
+import com.expediagroup.streamplatform.streamregistry.graphql.DataLoaders;
 import com.expediagroup.streamplatform.streamregistry.model.Domain;
 import com.expediagroup.streamplatform.streamregistry.model.Schema;
 import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import graphql.schema.DataFetchingEnvironment;
 
 @Component
-@RequiredArgsConstructor
 public class StreamResolver implements Resolvers.StreamResolver {
-  private final DomainService domainService;
-  private final SchemaService schemaService;
-
-  public Domain domain(Stream stream) {
-    return domainService.get(stream.getKey().getDomainKey()).orElse(null);
+  public CompletableFuture<Domain> domain(Stream stream, DataFetchingEnvironment environment) {
+    return DataLoaders.load(environment, DataLoaders.DOMAIN, stream.getKey().getDomainKey());
   }
 
-  public Schema schema(Stream stream) {
-    return schemaService.get(stream.getSchemaKey()).orElse(null);
+  public CompletableFuture<Schema> schema(Stream stream, DataFetchingEnvironment environment) {
+    return DataLoaders.load(environment, DataLoaders.SCHEMA, stream.getSchemaKey());
   }
 }
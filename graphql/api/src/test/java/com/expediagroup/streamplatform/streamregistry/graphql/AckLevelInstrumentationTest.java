@@ -0,0 +1,101 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.graphql;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.expediagroup.streamplatform.streamregistry.repository.AckLevel;
+import com.expediagroup.streamplatform.streamregistry.repository.AckLevelContext;
+
+import graphql.ErrorType;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+
+public class AckLevelInstrumentationTest {
+  private static final String SCHEMA = "enum AckLevel { FIRE_AND_FORGET BROKER APPLIED }\n"
+      + "directive @ack(level: AckLevel!) on MUTATION\n"
+      + "type Query { level: String }\n"
+      + "type Mutation { level: String }";
+
+  private GraphQL graphQL;
+
+  @Before
+  public void before() {
+    RuntimeWiring wiring = RuntimeWiring.newRuntimeWiring()
+        .type("Query", type -> type.dataFetcher("level", env -> AckLevelContext.get().name()))
+        .type("Mutation", type -> type.dataFetcher("level", env -> AckLevelContext.get().name()))
+        .build();
+    GraphQLSchema schema = new SchemaGenerator().makeExecutableSchema(new SchemaParser().parse(SCHEMA), wiring);
+    graphQL = GraphQL.newGraphQL(schema).instrumentation(new AckLevelInstrumentation()).build();
+  }
+
+  @Test
+  public void defaultLevel() {
+    assertThat(level(graphQL.execute("mutation { level }")), is("APPLIED"));
+  }
+
+  @Test
+  public void directiveLevel() {
+    assertThat(level(graphQL.execute("mutation @ack(level: BROKER) { level }")), is("BROKER"));
+    assertThat(AckLevelContext.get(), is(AckLevel.APPLIED));
+  }
+
+  @Test
+  public void variableLevel() {
+    ExecutionResult result = graphQL.execute(ExecutionInput.newExecutionInput()
+        .query("mutation ($level: AckLevel!) @ack(level: $level) { level }")
+        .variables(Map.of("level", "FIRE_AND_FORGET"))
+        .build());
+
+    assertThat(level(result), is("FIRE_AND_FORGET"));
+  }
+
+  @Test
+  public void invalidLevel() {
+    ExecutionResult result = graphQL.execute("mutation @ack(level: NONE) { level }");
+
+    assertThat(result.getErrors().size(), is(1));
+    assertThat(result.getErrors().get(0).getErrorType(), is(ErrorType.ValidationError));
+  }
+
+  @Test
+  public void invalidVariableLevel() {
+    ExecutionResult result = graphQL.execute(ExecutionInput.newExecutionInput()
+        .query("mutation ($level: AckLevel!) @ack(level: $level) { level }")
+        .variables(Map.of("level", "NONE"))
+        .build());
+
+    assertThat(result.getErrors().size(), is(1));
+    assertThat(result.isDataPresent(), is(false));
+  }
+
+  private static String level(ExecutionResult result) {
+    assertThat(result.getErrors().isEmpty(), is(true));
+    Map<String, String> data = result.getData();
+    return data.get("level");
+  }
+}
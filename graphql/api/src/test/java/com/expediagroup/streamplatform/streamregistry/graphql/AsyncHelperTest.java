@@ -0,0 +1,79 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.graphql;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+public class AsyncHelperTest {
+  private final Authentication authentication = new UsernamePasswordAuthenticationToken("user", null);
+
+  @After
+  public void after() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  public void resultCompletesWithRequestSecurityContext() throws Exception {
+    SecurityContextHolder.getContext().setAuthentication(authentication);
+    CompletableFuture<Optional<String>> write = new CompletableFuture<>();
+    AtomicReference<Authentication> continuationAuthentication = new AtomicReference<>();
+    AtomicReference<Thread> continuationThread = new AtomicReference<>();
+
+    CompletableFuture<String> result = AsyncHelper.result(write).whenComplete((value, e) -> {
+      continuationAuthentication.set(SecurityContextHolder.getContext().getAuthentication());
+      continuationThread.set(Thread.currentThread());
+    });
+    // Completed by a thread with no security context, as the event receiver would
+    Thread receiver = new Thread(() -> write.complete(Optional.of("value")));
+    receiver.start();
+    receiver.join();
+
+    assertThat(result.join(), is("value"));
+    assertThat(continuationAuthentication.get(), is(authentication));
+    assertThat(continuationThread.get(), is(not(sameInstance(receiver))));
+  }
+
+  @Test
+  public void deleted() {
+    assertThat(AsyncHelper.deleted(CompletableFuture.completedFuture(null)).join(), is(true));
+  }
+
+  @Test
+  public void failurePropagates() {
+    RuntimeException failure = new RuntimeException("failed");
+    try {
+      AsyncHelper.deleted(CompletableFuture.failedFuture(failure)).join();
+      fail("Expected exception");
+    } catch (CompletionException e) {
+      assertThat(e.getCause(), is(failure));
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.graphql;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.expediagroup.streamplatform.streamregistry.model.Domain;
+import com.expediagroup.streamplatform.streamregistry.model.keys.DomainKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
+
+import graphql.relay.Connection;
+import graphql.relay.Edge;
+
+public class ConnectionHelperTest {
+  private final List<Domain> domains = IntStream.range(0, 5)
+      .mapToObj(i -> new Domain(new DomainKey("domain" + i), null))
+      .collect(toList());
+
+  @Test
+  public void pagesFollowCursors() {
+    Connection<Domain> first = ConnectionHelper.connection(2, null, DomainKey.class, this::after);
+
+    assertThat(names(first), is(List.of("domain0", "domain1")));
+    assertThat(first.getPageInfo().isHasNextPage(), is(true));
+    assertThat(first.getPageInfo().isHasPreviousPage(), is(false));
+    assertThat(first.getPageInfo().getEndCursor(), is(first.getEdges().get(1).getCursor()));
+
+    Connection<Domain> last = ConnectionHelper.connection(3, first.getPageInfo().getEndCursor().getValue(), DomainKey.class, this::after);
+
+    assertThat(names(last), is(List.of("domain2", "domain3", "domain4")));
+    assertThat(last.getPageInfo().isHasNextPage(), is(false));
+    assertThat(last.getPageInfo().isHasPreviousPage(), is(true));
+  }
+
+  @Test
+  public void readsOneMoreThanPageSize() {
+    AtomicInteger read = new AtomicInteger();
+
+    ConnectionHelper.connection(2, null, DomainKey.class, after -> after(after).peek(domain -> read.incrementAndGet()));
+
+    assertThat(read.get(), is(3));
+  }
+
+  @Test
+  public void emptyPage() {
+    Connection<Domain> result = ConnectionHelper.connection(null, null, DomainKey.class, after -> Stream.empty());
+
+    assertThat(result.getEdges().isEmpty(), is(true));
+    assertThat(result.getPageInfo().getStartCursor(), is(nullValue()));
+    assertThat(result.getPageInfo().isHasNextPage(), is(false));
+  }
+
+  @Test
+  public void pageSize() {
+    assertThat(ConnectionHelper.pageSize(null), is(ConnectionHelper.DEFAULT_PAGE_SIZE));
+    assertThat(ConnectionHelper.pageSize(0), is(0));
+    assertThat(ConnectionHelper.pageSize(Integer.MAX_VALUE), is(ConnectionHelper.MAX_PAGE_SIZE));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void negativePageSize() {
+    ConnectionHelper.pageSize(-1);
+  }
+
+  @Test
+  public void cursorRoundTrip() {
+    StreamKey key = new StreamKey("domain", "stream", 1);
+
+    assertThat(ConnectionHelper.decode(ConnectionHelper.encode(key), StreamKey.class), is(key));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidCursor() {
+    ConnectionHelper.decode("not a cursor", StreamKey.class);
+  }
+
+  private Stream<Domain> after(DomainKey after) {
+    return domains.stream().filter(domain -> after == null || domain.getKey().getName().compareTo(after.getName()) > 0);
+  }
+
+  private static List<String> names(Connection<Domain> connection) {
+    return connection.getEdges().stream().map(Edge::getNode).map(domain -> domain.getKey().getName()).collect(toList());
+  }
+}
@@ -0,0 +1,147 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.graphql;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.security.access.AccessDeniedException;
+
+import com.expediagroup.streamplatform.streamregistry.core.services.ConsumerBindingService;
+import com.expediagroup.streamplatform.streamregistry.core.services.ConsumerService;
+import com.expediagroup.streamplatform.streamregistry.core.services.DomainService;
+import com.expediagroup.streamplatform.streamregistry.core.services.InfrastructureService;
+import com.expediagroup.streamplatform.streamregistry.core.services.ProcessService;
+import com.expediagroup.streamplatform.streamregistry.core.services.ProducerBindingService;
+import com.expediagroup.streamplatform.streamregistry.core.services.ProducerService;
+import com.expediagroup.streamplatform.streamregistry.core.services.SchemaService;
+import com.expediagroup.streamplatform.streamregistry.core.services.StreamBindingService;
+import com.expediagroup.streamplatform.streamregistry.core.services.StreamService;
+import com.expediagroup.streamplatform.streamregistry.core.services.ZoneService;
+import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DataLoadersTest {
+  @Mock private DomainService domainService;
+  @Mock private SchemaService schemaService;
+  @Mock private StreamService streamService;
+  @Mock private ZoneService zoneService;
+  @Mock private InfrastructureService infrastructureService;
+  @Mock private ProducerService producerService;
+  @Mock private ConsumerService consumerService;
+  @Mock private ProcessService processService;
+  @Mock private StreamBindingService streamBindingService;
+  @Mock private ProducerBindingService producerBindingService;
+  @Mock private ConsumerBindingService consumerBindingService;
+
+  private final StreamKey streamKey = new StreamKey("domain", "stream", 1);
+  private final StreamKey missingKey = new StreamKey("domain", "missing", 1);
+  private final Stream stream = new Stream(streamKey, null, null);
+
+  private DataLoaders underTest;
+
+  @Before
+  public void before() {
+    underTest = new DataLoaders(domainService, schemaService, streamService, zoneService, infrastructureService,
+        producerService, consumerService, processService, streamBindingService, producerBindingService, consumerBindingService);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void loadsDistinctKeysInOneBatch() {
+    when(streamService.getAll(any())).thenReturn(List.of(stream));
+    DataLoaderRegistry registry = underTest.registry();
+    DataLoader<StreamKey, Stream> loader = registry.getDataLoader(DataLoaders.STREAM);
+
+    CompletableFuture<Stream> first = loader.load(streamKey);
+    CompletableFuture<Stream> second = loader.load(new StreamKey("domain", "stream", 1));
+    CompletableFuture<Stream> missing = loader.load(missingKey);
+    registry.dispatchAll();
+
+    ArgumentCaptor<Collection<StreamKey>> keys = ArgumentCaptor.forClass(Collection.class);
+    verify(streamService).getAll(keys.capture());
+    assertThat(Set.copyOf(keys.getValue()), is(Set.of(streamKey, missingKey)));
+    assertThat(first.join(), is(stream));
+    assertThat(second.join(), is(stream));
+    assertThat(missing.join(), is(nullValue()));
+  }
+
+  @Test
+  public void deniedKeyFailsLikeDirectLookup() {
+    when(streamService.getAll(any())).thenReturn(List.of());
+    when(streamService.get(streamKey)).thenThrow(new AccessDeniedException("denied"));
+    DataLoaderRegistry registry = underTest.registry();
+    DataLoader<StreamKey, Stream> loader = registry.getDataLoader(DataLoaders.STREAM);
+
+    CompletableFuture<Stream> denied = loader.load(streamKey);
+    CompletableFuture<Stream> missing = loader.load(missingKey);
+    registry.dispatchAll();
+
+    try {
+      denied.join();
+      fail("Expected AccessDeniedException");
+    } catch (CompletionException e) {
+      assertThat(e.getCause(), is(instanceOf(AccessDeniedException.class)));
+    }
+    assertThat(missing.join(), is(nullValue()));
+  }
+
+  @Test
+  public void loadsBindingsByParentKey() {
+    ProducerKey producerKey = new ProducerKey("domain", "stream", 1, "zone", "producer");
+    ProducerBinding binding = new ProducerBinding(new ProducerBindingKey("domain", "stream", 1, "zone", "infrastructure", "producer"), null, null);
+    when(producerBindingService.find(anyCollection())).thenReturn(List.of(binding));
+    DataLoaderRegistry registry = underTest.registry();
+    DataLoader<ProducerKey, ProducerBinding> loader = registry.getDataLoader(DataLoaders.PRODUCER_BINDING);
+
+    CompletableFuture<ProducerBinding> result = loader.load(producerKey);
+    registry.dispatchAll();
+
+    assertThat(result.join(), is(binding));
+  }
+
+  @Test
+  public void registryPerRequest() {
+    assertThat(underTest.registry(), is(not(sameInstance(underTest.registry()))));
+  }
+}
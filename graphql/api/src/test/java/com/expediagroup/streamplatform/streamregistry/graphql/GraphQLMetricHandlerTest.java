@@ -22,12 +22,15 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Method;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import io.micrometer.core.instrument.MeterRegistry;
@@ -45,6 +48,9 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.DomainKeyInput;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
+import com.expediagroup.streamplatform.streamregistry.graphql.mutation.DomainMutation;
+import com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl.DomainMutationImpl;
 import com.expediagroup.streamplatform.streamregistry.graphql.query.DomainQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.query.impl.DomainQueryImpl;
 import com.expediagroup.streamplatform.streamregistry.model.Domain;
@@ -105,6 +111,39 @@ public class GraphQLMetricHandlerTest {
     verify(timer).record(any(Duration.class));
   }
 
+  @Test
+  public void asyncRecordedOnCompletion() throws Throwable {
+    DomainMutationImpl mutationDelegate = mock(DomainMutationImpl.class);
+    CompletableFuture<Domain> future = new CompletableFuture<>();
+    when(mutationDelegate.insert(key, null)).thenReturn(future);
+    underTest = new GraphQLMetricHandler(mutationDelegate, registry, authenticationSupplier);
+    Method insert = DomainMutation.class.getDeclaredMethod("insert", DomainKeyInput.class, SpecificationInput.class);
+
+    CompletableFuture<?> result = (CompletableFuture<?>) underTest.invoke(null, insert, new Object[] { key, null });
+    verify(timer, never()).record(any(Duration.class));
+
+    future.complete(domain);
+    assertThat(result.join(), is(domain));
+    verify(registry).timer("graphql_api", Tags.of("api", "DomainMutation").and("method", "insert")
+        .and("result", "success").and("authentication_group", ANONYMOUS.name()));
+    verify(timer).record(any(Duration.class));
+  }
+
+  @Test
+  public void asyncFailure() throws Throwable {
+    DomainMutationImpl mutationDelegate = mock(DomainMutationImpl.class);
+    CompletableFuture<Domain> future = new CompletableFuture<>();
+    when(mutationDelegate.insert(key, null)).thenReturn(future);
+    underTest = new GraphQLMetricHandler(mutationDelegate, registry, authenticationSupplier);
+    Method insert = DomainMutation.class.getDeclaredMethod("insert", DomainKeyInput.class, SpecificationInput.class);
+
+    underTest.invoke(null, insert, new Object[] { key, null });
+    future.completeExceptionally(new RuntimeException("failed"));
+
+    verify(registry).timer("graphql_api", Tags.of("api", "DomainMutation").and("method", "insert")
+        .and("result", "failure").and("authentication_group", ANONYMOUS.name()));
+  }
+
   @Test
   public void authenticated() throws Throwable {
     when(authenticationSupplier.get()).thenReturn(new UsernamePasswordAuthenticationToken(null, null));
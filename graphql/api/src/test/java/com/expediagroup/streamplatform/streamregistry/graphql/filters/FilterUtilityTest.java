@@ -16,15 +16,24 @@
 package com.expediagroup.streamplatform.streamregistry.graphql.filters;
 
 import static com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SchemaKeyQuery.builder;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.function.Predicate;
+
 import org.junit.Test;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SchemaKeyQuery;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SecurityQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.TagQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Specification;
 import com.expediagroup.streamplatform.streamregistry.model.keys.SchemaKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
+import com.expediagroup.streamplatform.streamregistry.repository.KeyFilter;
 
 public class FilterUtilityTest {
 
@@ -97,4 +106,29 @@ public class FilterUtilityTest {
     specification = new Specification(null, null, null, null, null, FAIL);
     assertFalse(FilterUtility.matchesSpecification(specification, query));
   }
+
+  @Test
+  public void attributeQueries() {
+    assertEquals(emptyList(), FilterUtility.tagQueries(null));
+    assertEquals(emptyList(), FilterUtility.securityQueries(SpecificationQuery.builder().build()));
+
+    SpecificationQuery query = SpecificationQuery.builder()
+        .tags(asList(TagQuery.builder().nameRegex("team").valueRegex(REGEX).build(), null))
+        .security(asList(SecurityQuery.builder().roleRegex("admin").build()))
+        .build();
+    assertEquals(asList(new AttributeQuery("team", REGEX)), FilterUtility.tagQueries(query));
+    assertEquals(asList(new AttributeQuery("admin", null)), FilterUtility.securityQueries(query));
+  }
+
+  @Test
+  public void keyRegexes() {
+    SchemaKeyQuery query = builder().nameRegex(REGEX).build();
+    Predicate<SchemaKey> keyFilter = FilterUtility.schemaKeyMatcher(query);
+
+    assertTrue(keyFilter instanceof KeyFilter);
+    assertEquals(asList(REGEX), ((KeyFilter<?>) keyFilter).getRegexes());
+    assertTrue(keyFilter.test(new SchemaKey(FAIL, MATCH)));
+    assertFalse(keyFilter.test(new SchemaKey(MATCH, FAIL)));
+    assertFalse(FilterUtility.schemaKeyMatcher(builder().build()) instanceof KeyFilter);
+  }
 }
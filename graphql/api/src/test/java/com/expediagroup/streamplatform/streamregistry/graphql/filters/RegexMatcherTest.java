@@ -0,0 +1,64 @@
+/**
+ * Copyright (C) 2018-2024 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.graphql.filters;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+public class RegexMatcherTest {
+
+  private static final String[] REGEXES = {
+      "abc", "abc.*", ".*abc.*", ".*", "a.c", "(abc|xyz)", "ab[c-d]+", ".*abc", "", "a\\.c", "a\nb"
+  };
+  private static final String[] VALUES = {
+      "abc", "abcdef", "xabcx", "xyz", "a.c", "axc", "abcd", "ab", "", "abc\ndef", "\n", "abc\u2028", "a\nb"
+  };
+
+  @Test
+  public void matchesAsStringMatches() {
+    for (String regex : REGEXES) {
+      for (String value : VALUES) {
+        assertThat(regex + " ~ " + value, RegexMatcher.compile(regex).test(value), is(value.matches(regex)));
+      }
+    }
+  }
+
+  @Test
+  public void nulls() {
+    assertThat(RegexMatcher.compile(null).test(null), is(true));
+    assertThat(RegexMatcher.compile(null).test("abc"), is(true));
+    for (String regex : REGEXES) {
+      assertThat(regex, RegexMatcher.compile(regex).test(null), is(false));
+    }
+  }
+
+  @Test
+  public void cachesCompiledRegex() {
+    assertThat(RegexMatcher.compile("(abc|xyz)"), is(sameInstance(RegexMatcher.compile("(abc|xyz)"))));
+  }
+
+  @Test
+  public void cacheIsBounded() {
+    for (int i = 0; i < RegexMatcher.MAX_CACHED * 2; i++) {
+      RegexMatcher.compile("a{" + i + "}");
+    }
+    assertThat(RegexMatcher.cached(), is(lessThanOrEqualTo(RegexMatcher.MAX_CACHED)));
+  }
+}
@@ -55,6 +55,20 @@ public class SchemaFilterTest {
     assertFalse(schemaFilter.test(schema));
   }
 
+  @Test
+  public void matchesKeyOnly() {
+    SchemaKeyQuery schemaKeyQuery = builder().domainRegex(REGEX).nameRegex(REGEX).build();
+    SchemaFilter schemaFilter = new SchemaFilter(schemaKeyQuery, null);
+
+    assertTrue(schemaFilter.matchesKey(matchingSchemaKey()));
+
+    SchemaKey schemaKey = matchingSchemaKey();
+    schemaKey.setName(FAIL);
+    assertFalse(schemaFilter.matchesKey(schemaKey));
+
+    assertTrue(new SchemaFilter(null, null).matchesKey(schemaKey));
+  }
+
   @Test
   public void filterBySpecificationQuery() {
 
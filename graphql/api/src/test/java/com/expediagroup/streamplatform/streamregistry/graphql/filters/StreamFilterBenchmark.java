@@ -0,0 +1,180 @@
+/**
+ * Copyright (C) 2018-2024 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.graphql.filters;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SecurityQuery;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.StreamKeyQuery;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.TagQuery;
+import com.expediagroup.streamplatform.streamregistry.model.Principal;
+import com.expediagroup.streamplatform.streamregistry.model.Security;
+import com.expediagroup.streamplatform.streamregistry.model.Specification;
+import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import com.expediagroup.streamplatform.streamregistry.model.Tag;
+import com.expediagroup.streamplatform.streamregistry.model.keys.SchemaKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
+
+/**
+ * Filters 100k streams with a {@link StreamFilter} and with the previous evaluation, which called
+ * {@link String#matches(String)} for every field tested. Run {@link #main(String[])} or
+ * {@code org.openjdk.jmh.Main StreamFilterBenchmark} with the test classpath of this module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StreamFilterBenchmark {
+  private static final int STREAMS = 100_000;
+
+  /**
+   * prefix: a domain prefix and a literal tag; regex: a name pattern, a tag value prefix and a security role.
+   */
+  @Param({"prefix", "regex"})
+  public String query;
+
+  private List<Stream> streams;
+  private StreamKeyQuery keyQuery;
+  private SpecificationQuery specQuery;
+
+  @Setup
+  public void setup() {
+    streams = new ArrayList<>(STREAMS);
+    for (int i = 0; i < STREAMS; i++) {
+      Specification specification = new Specification(
+          "stream " + i,
+          asList(new Tag("team", "team-" + i % 50), new Tag("tier", String.valueOf(i % 3))),
+          "kafka",
+          null,
+          asList(
+              new Security("admin", singletonList(new Principal("user-" + i % 20))),
+              new Security("reader", asList(new Principal("user-1"), new Principal("user-2")))
+          ),
+          ""
+      );
+      streams.add(new Stream(new StreamKey("domain-" + i % 100, "stream-" + i, 1), specification, new SchemaKey("domain-" + i % 100, "schema-" + i)));
+    }
+    if (query.equals("prefix")) {
+      keyQuery = StreamKeyQuery.builder().domainRegex("domain-1.*").build();
+      specQuery = SpecificationQuery.builder().tags(singletonList(TagQuery.builder().nameRegex("team").valueRegex("team-10").build())).build();
+    } else {
+      keyQuery = StreamKeyQuery.builder().nameRegex("stream-[0-9]*5").build();
+      specQuery = SpecificationQuery.builder()
+          .tags(singletonList(TagQuery.builder().nameRegex("team").valueRegex("team-1.*").build()))
+          .security(singletonList(SecurityQuery.builder().roleRegex("(admin|owner)").principalRegex("user-1.*").build()))
+          .build();
+    }
+  }
+
+  @Benchmark
+  public long compiled() {
+    StreamFilter filter = new StreamFilter(keyQuery, specQuery, null);
+    return streams.stream().filter(filter).count();
+  }
+
+  @Benchmark
+  public long stringMatches() {
+    return streams.stream().filter(stream -> Previous.matches(stream, keyQuery, specQuery)).count();
+  }
+
+  public static void main(String[] args) throws Exception {
+    new Runner(new OptionsBuilder().include(StreamFilterBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  /**
+   * The evaluation prior to compiling queries, kept here as the baseline.
+   */
+  private static class Previous {
+    static boolean matches(Stream stream, StreamKeyQuery keyQuery, SpecificationQuery specQuery) {
+      StreamKey key = stream.getKey();
+      if (!matches(key.getDomain(), keyQuery.getDomainRegex()) || !matches(key.getName(), keyQuery.getNameRegex())) {
+        return false;
+      }
+      Specification specification = stream.getSpecification();
+      if (!matches(specification.getDescription(), specQuery.getDescriptionRegex())
+          || !matches(specification.getType(), specQuery.getTypeRegex())) {
+        return false;
+      }
+      if (specQuery.getSecurity() != null) {
+        for (SecurityQuery securityQuery : specQuery.getSecurity()) {
+          if (!matchesAnyRole(specification.getSecurity(), securityQuery)) {
+            return false;
+          }
+        }
+      }
+      if (!matches(specification.getFunction(), specQuery.getFunctionRegex())) {
+        return false;
+      }
+      for (TagQuery tagQuery : specQuery.getTags()) {
+        if (!matchesAnyTag(specification.getTags(), tagQuery)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static boolean matchesAnyRole(List<Security> security, SecurityQuery securityQuery) {
+      for (Security sec : security) {
+        if (matches(sec.getRole(), securityQuery.getRoleRegex())) {
+          for (Principal principal : sec.getPrincipals()) {
+            if (matches(principal.getName(), securityQuery.getPrincipalRegex())) {
+              return true;
+            }
+          }
+        }
+      }
+      return false;
+    }
+
+    private static boolean matchesAnyTag(List<Tag> tags, TagQuery tagQuery) {
+      for (Tag tag : tags) {
+        if (matches(tag.getName(), tagQuery.getNameRegex()) && matches(tag.getValue(), tagQuery.getValueRegex())) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private static boolean matches(String value, String regex) {
+      if (value == null) {
+        return regex == null;
+      }
+      return regex == null || value.matches(regex);
+    }
+  }
+}
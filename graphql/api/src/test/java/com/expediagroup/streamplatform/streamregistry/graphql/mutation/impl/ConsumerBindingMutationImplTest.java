@@ -15,6 +15,7 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
@@ -58,9 +59,10 @@ public class ConsumerBindingMutationImplTest {
     ConsumerBindingKeyInput key = getConsumerBindingInputKey();
     Optional<ConsumerBinding> consumerBinding = Optional.of(getConsumer(key));
     when(consumerBindingView.get(any())).thenReturn(consumerBinding);
-    Boolean result = consumerBindingMutation.delete(key);
+    when(consumerBindingService.deleteAsync(any())).thenReturn(completedFuture(null));
+    Boolean result = consumerBindingMutation.delete(key).join();
     verify(consumerBindingView, times(1)).get(key.asConsumerBindingKey());
-    verify(consumerBindingService, times(1)).delete(consumerBinding.get());
+    verify(consumerBindingService, times(1)).deleteAsync(consumerBinding.get());
     assertTrue(result);
   }
 
@@ -70,9 +72,9 @@ public class ConsumerBindingMutationImplTest {
     ConsumerBindingKeyInput key = getConsumerBindingInputKey();
     Optional<ConsumerBinding> consumerBinding = Optional.of(getConsumer(key));
     when(consumerBindingView.get(any())).thenReturn(Optional.empty());
-    Boolean result = consumerBindingMutation.delete(key);
+    Boolean result = consumerBindingMutation.delete(key).join();
     verify(consumerBindingView, times(1)).get(key.asConsumerBindingKey());
-    verify(consumerBindingService, times(0)).delete(any());
+    verify(consumerBindingService, times(0)).deleteAsync(any());
     assertTrue(result);
   }
 
@@ -82,9 +84,10 @@ public class ConsumerBindingMutationImplTest {
     ConsumerBindingKeyInput key = getConsumerBindingInputKey();
     Optional<ConsumerBinding> consumerBinding = Optional.of(getConsumer(key));
     when(consumerBindingView.get(any())).thenReturn(consumerBinding);
-    Boolean result = consumerBindingMutation.delete(key);
+    when(consumerBindingService.deleteAsync(any())).thenReturn(completedFuture(null));
+    Boolean result = consumerBindingMutation.delete(key).join();
     verify(consumerBindingView, times(1)).get(key.asConsumerBindingKey());
-    verify(consumerBindingService, times(1)).delete(consumerBinding.get());
+    verify(consumerBindingService, times(1)).deleteAsync(consumerBinding.get());
     assertTrue(result);
   }
 
@@ -94,9 +97,10 @@ public class ConsumerBindingMutationImplTest {
     ConsumerBindingKeyInput key = getConsumerBindingInputKey();
     Optional<ConsumerBinding> consumerBinding = Optional.of(getConsumer(key));
     when(consumerBindingView.get(any())).thenReturn(Optional.empty());
-    Boolean result = consumerBindingMutation.delete(key);
+    when(consumerBindingService.deleteAsync(any())).thenReturn(completedFuture(null));
+    Boolean result = consumerBindingMutation.delete(key).join();
     verify(consumerBindingView, times(1)).get(key.asConsumerBindingKey());
-    verify(consumerBindingService, times(1)).delete(any());
+    verify(consumerBindingService, times(1)).deleteAsync(any());
     assertTrue(result);
   }
 
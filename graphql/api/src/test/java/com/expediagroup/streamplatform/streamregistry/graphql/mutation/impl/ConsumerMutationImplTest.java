@@ -15,6 +15,7 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
@@ -57,9 +58,10 @@ public class ConsumerMutationImplTest {
     ReflectionTestUtils.setField(consumerMutation, "checkExistEnabled", true);
     ConsumerKeyInput key = getConsumerInputKey();
     when(consumerView.get(any())).thenReturn(Optional.of(getConsumer(key)));
-    Boolean result = consumerMutation.delete(key);
+    when(consumerService.deleteAsync(any())).thenReturn(completedFuture(null));
+    Boolean result = consumerMutation.delete(key).join();
     verify(consumerView, times(1)).get(key.asConsumerKey());
-    verify(consumerService, times(1)).delete(getConsumer(key));
+    verify(consumerService, times(1)).deleteAsync(getConsumer(key));
     assertTrue(result);
   }
 
@@ -68,9 +70,9 @@ public class ConsumerMutationImplTest {
     ReflectionTestUtils.setField(consumerMutation, "checkExistEnabled", true);
     ConsumerKeyInput key = getConsumerInputKey();
     when(consumerView.get(any())).thenReturn(Optional.empty());
-    Boolean result = consumerMutation.delete(key);
+    Boolean result = consumerMutation.delete(key).join();
     verify(consumerView, times(1)).get(key.asConsumerKey());
-    verify(consumerService, times(0)).delete(any());
+    verify(consumerService, times(0)).deleteAsync(any());
     assertTrue(result);
   }
 
@@ -79,9 +81,10 @@ public class ConsumerMutationImplTest {
     ReflectionTestUtils.setField(consumerMutation, "checkExistEnabled", false);
     ConsumerKeyInput key = getConsumerInputKey();
     when(consumerView.get(any())).thenReturn(Optional.of(getConsumer(key)));
-    Boolean result = consumerMutation.delete(key);
+    when(consumerService.deleteAsync(any())).thenReturn(completedFuture(null));
+    Boolean result = consumerMutation.delete(key).join();
     verify(consumerView, times(1)).get(key.asConsumerKey());
-    verify(consumerService, times(1)).delete(getConsumer(key));
+    verify(consumerService, times(1)).deleteAsync(getConsumer(key));
     assertTrue(result);
   }
 
@@ -90,9 +93,10 @@ public class ConsumerMutationImplTest {
     ReflectionTestUtils.setField(consumerMutation, "checkExistEnabled", false);
     ConsumerKeyInput key = getConsumerInputKey();
     when(consumerView.get(any())).thenReturn(Optional.of(getConsumer(key)));
-    Boolean result = consumerMutation.delete(key);
+    when(consumerService.deleteAsync(any())).thenReturn(completedFuture(null));
+    Boolean result = consumerMutation.delete(key).join();
     verify(consumerView, times(1)).get(key.asConsumerKey());
-    verify(consumerService, times(1)).delete(getConsumer(key));
+    verify(consumerService, times(1)).deleteAsync(getConsumer(key));
     assertTrue(result);
   }
 
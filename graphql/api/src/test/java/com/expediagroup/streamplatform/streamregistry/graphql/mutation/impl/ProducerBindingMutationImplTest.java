@@ -15,6 +15,7 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
@@ -57,9 +58,10 @@ public class ProducerBindingMutationImplTest {
     ReflectionTestUtils.setField(producerBindingMutation, "checkExistEnabled", true);
     ProducerBindingKeyInput key = getproducerBindingInputKey();
     when(producerBindingView.get(any())).thenReturn(Optional.of(getProducer(key)));
-    Boolean result = producerBindingMutation.delete(key);
+    when(producerBindingService.deleteAsync(any())).thenReturn(completedFuture(null));
+    Boolean result = producerBindingMutation.delete(key).join();
     verify(producerBindingView, times(1)).get(key.asProducerBindingKey());
-    verify(producerBindingService, times(1)).delete(any());
+    verify(producerBindingService, times(1)).deleteAsync(any());
     assertTrue(result);
   }
 
@@ -68,9 +70,9 @@ public class ProducerBindingMutationImplTest {
     ReflectionTestUtils.setField(producerBindingMutation, "checkExistEnabled", true);
     ProducerBindingKeyInput key = getproducerBindingInputKey();
     when(producerBindingView.get(any())).thenReturn(Optional.empty());
-    Boolean result = producerBindingMutation.delete(key);
+    Boolean result = producerBindingMutation.delete(key).join();
     verify(producerBindingView, times(1)).get(key.asProducerBindingKey());
-    verify(producerBindingService, times(0)).delete(any());
+    verify(producerBindingService, times(0)).deleteAsync(any());
     assertTrue(result);
   }
 
@@ -79,9 +81,10 @@ public class ProducerBindingMutationImplTest {
     ReflectionTestUtils.setField(producerBindingMutation, "checkExistEnabled", false);
     ProducerBindingKeyInput key = getproducerBindingInputKey();
     when(producerBindingView.get(any())).thenReturn(Optional.of(getProducer(key)));
-    Boolean result = producerBindingMutation.delete(key);
+    when(producerBindingService.deleteAsync(any())).thenReturn(completedFuture(null));
+    Boolean result = producerBindingMutation.delete(key).join();
     verify(producerBindingView, times(1)).get(key.asProducerBindingKey());
-    verify(producerBindingService, times(1)).delete(getProducer(key));
+    verify(producerBindingService, times(1)).deleteAsync(getProducer(key));
     assertTrue(result);
   }
 
@@ -90,9 +93,10 @@ public class ProducerBindingMutationImplTest {
     ReflectionTestUtils.setField(producerBindingMutation, "checkExistEnabled", false);
     ProducerBindingKeyInput key = getproducerBindingInputKey();
     when(producerBindingView.get(any())).thenReturn(Optional.empty());
-    Boolean result = producerBindingMutation.delete(key);
+    when(producerBindingService.deleteAsync(any())).thenReturn(completedFuture(null));
+    Boolean result = producerBindingMutation.delete(key).join();
     verify(producerBindingView, times(1)).get(key.asProducerBindingKey());
-    verify(producerBindingService, times(1)).delete(getProducer(key));
+    verify(producerBindingService, times(1)).deleteAsync(getProducer(key));
     assertTrue(result);
   }
 
@@ -15,6 +15,7 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
@@ -57,9 +58,10 @@ public class ProducerMutationImplTest {
     ReflectionTestUtils.setField(producerMutation, "checkExistEnabled", true);
     ProducerKeyInput key = getProducerInputKey();
     when(producerView.get(any())).thenReturn(Optional.of(getProducer(key)));
-    Boolean result = producerMutation.delete(key);
+    when(producerService.deleteAsync(any())).thenReturn(completedFuture(null));
+    Boolean result = producerMutation.delete(key).join();
     verify(producerView, times(1)).get(key.asProducerKey());
-    verify(producerService, times(1)).delete(any());
+    verify(producerService, times(1)).deleteAsync(any());
     assertTrue(result);
   }
 
@@ -68,9 +70,9 @@ public class ProducerMutationImplTest {
     ReflectionTestUtils.setField(producerMutation, "checkExistEnabled", true);
     ProducerKeyInput key = getProducerInputKey();
     when(producerView.get(any())).thenReturn(Optional.empty());
-    Boolean result = producerMutation.delete(key);
+    Boolean result = producerMutation.delete(key).join();
     verify(producerView, times(1)).get(key.asProducerKey());
-    verify(producerService, times(0)).delete(any());
+    verify(producerService, times(0)).deleteAsync(any());
     assertTrue(result);
   }
 
@@ -80,9 +82,10 @@ public class ProducerMutationImplTest {
     ReflectionTestUtils.setField(producerMutation, "checkExistEnabled", false);
     ProducerKeyInput key = getProducerInputKey();
     when(producerView.get(any())).thenReturn(Optional.of(getProducer(key)));;
-    Boolean result = producerMutation.delete(key);
+    when(producerService.deleteAsync(any())).thenReturn(completedFuture(null));
+    Boolean result = producerMutation.delete(key).join();
     verify(producerView, times(1)).get(key.asProducerKey());
-    verify(producerService, times(1)).delete(any());
+    verify(producerService, times(1)).deleteAsync(any());
     assertTrue(result);
   }
 
@@ -92,9 +95,10 @@ public class ProducerMutationImplTest {
     ReflectionTestUtils.setField(producerMutation, "checkExistEnabled", false);
     ProducerKeyInput key = getProducerInputKey();
     when(producerView.get(any())).thenReturn(Optional.of(getProducer(key)));;
-    Boolean result = producerMutation.delete(key);
+    when(producerService.deleteAsync(any())).thenReturn(completedFuture(null));
+    Boolean result = producerMutation.delete(key).join();
     verify(producerView, times(1)).get(key.asProducerKey());
-    verify(producerService, times(1)).delete(getProducer(key));
+    verify(producerService, times(1)).deleteAsync(getProducer(key));
     assertTrue(result);
   }
 
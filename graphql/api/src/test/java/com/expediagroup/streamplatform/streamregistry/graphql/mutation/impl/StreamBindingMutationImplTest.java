@@ -15,6 +15,7 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
@@ -57,9 +58,10 @@ public class StreamBindingMutationImplTest {
     ReflectionTestUtils.setField(streamBindingMutation, "checkExistEnabled", true);
     StreamBindingKeyInput key = getStreamBindingInputKey();
     when(streamBindingView.get(any())).thenReturn(Optional.of(getStream(key)));
-    Boolean result = streamBindingMutation.delete(key);
+    when(streamBindingService.deleteAsync(any())).thenReturn(completedFuture(null));
+    Boolean result = streamBindingMutation.delete(key).join();
     verify(streamBindingView, times(1)).get(key.asStreamBindingKey());
-    verify(streamBindingService, times(1)).delete(any());
+    verify(streamBindingService, times(1)).deleteAsync(any());
     assertTrue(result);
   }
 
@@ -68,9 +70,9 @@ public class StreamBindingMutationImplTest {
     ReflectionTestUtils.setField(streamBindingMutation, "checkExistEnabled", true);
     StreamBindingKeyInput key = getStreamBindingInputKey();
     when(streamBindingView.get(any())).thenReturn(Optional.empty());
-    Boolean result = streamBindingMutation.delete(key);
+    Boolean result = streamBindingMutation.delete(key).join();
     verify(streamBindingView, times(1)).get(key.asStreamBindingKey());
-    verify(streamBindingService, times(0)).delete(any());
+    verify(streamBindingService, times(0)).deleteAsync(any());
     assertTrue(result);
   }
 
@@ -79,9 +81,10 @@ public class StreamBindingMutationImplTest {
     ReflectionTestUtils.setField(streamBindingMutation, "checkExistEnabled", false);
     StreamBindingKeyInput key = getStreamBindingInputKey();
     when(streamBindingView.get(any())).thenReturn(Optional.of(getStream(key)));
-    Boolean result = streamBindingMutation.delete(key);
+    when(streamBindingService.deleteAsync(any())).thenReturn(completedFuture(null));
+    Boolean result = streamBindingMutation.delete(key).join();
     verify(streamBindingView, times(1)).get(key.asStreamBindingKey());
-    verify(streamBindingService, times(1)).delete(any());
+    verify(streamBindingService, times(1)).deleteAsync(any());
     assertTrue(result);
   }
 
@@ -90,9 +93,10 @@ public class StreamBindingMutationImplTest {
     ReflectionTestUtils.setField(streamBindingMutation, "checkExistEnabled", false);
     StreamBindingKeyInput key = getStreamBindingInputKey();
     when(streamBindingView.get(any())).thenReturn(Optional.empty());
-    Boolean result = streamBindingMutation.delete(key);
+    when(streamBindingService.deleteAsync(any())).thenReturn(completedFuture(null));
+    Boolean result = streamBindingMutation.delete(key).join();
     verify(streamBindingView, times(1)).get(key.asStreamBindingKey());
-    verify(streamBindingService, times(1)).delete(any());
+    verify(streamBindingService, times(1)).deleteAsync(any());
     assertTrue(result);
   }
 
@@ -15,6 +15,7 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
@@ -56,9 +57,10 @@ public class StreamMutationImplTest {
     ReflectionTestUtils.setField(streamMutation, "checkExistEnabled", true);
     StreamKeyInput key = getStreamInputKey();
     when(streamView.get(any())).thenReturn(Optional.of(getStream(key)));
-    Boolean result = streamMutation.delete(key);
+    when(streamService.deleteAsync(any())).thenReturn(completedFuture(null));
+    Boolean result = streamMutation.delete(key).join();
     verify(streamView, times(1)).get(key.asStreamKey());
-    verify(streamService, times(1)).delete(any());
+    verify(streamService, times(1)).deleteAsync(any());
     assertTrue(result);
   }
 
@@ -67,9 +69,9 @@ public class StreamMutationImplTest {
     ReflectionTestUtils.setField(streamMutation, "checkExistEnabled", true);
     StreamKeyInput key = getStreamInputKey();
     when(streamView.get(any())).thenReturn(Optional.empty());
-    Boolean result = streamMutation.delete(key);
+    Boolean result = streamMutation.delete(key).join();
     verify(streamView, times(1)).get(key.asStreamKey());
-    verify(streamService, times(0)).delete(any());
+    verify(streamService, times(0)).deleteAsync(any());
     assertTrue(result);
   }
 
@@ -78,9 +80,10 @@ public class StreamMutationImplTest {
     ReflectionTestUtils.setField(streamMutation, "checkExistEnabled", false);
     StreamKeyInput key = getStreamInputKey();
     when(streamView.get(any())).thenReturn(Optional.of(getStream(key)));
-    Boolean result = streamMutation.delete(key);
+    when(streamService.deleteAsync(any())).thenReturn(completedFuture(null));
+    Boolean result = streamMutation.delete(key).join();
     verify(streamView, times(1)).get(key.asStreamKey());
-    verify(streamService, times(1)).delete(any());
+    verify(streamService, times(1)).deleteAsync(any());
     assertTrue(result);
   }
 
@@ -89,9 +92,10 @@ public class StreamMutationImplTest {
     ReflectionTestUtils.setField(streamMutation, "checkExistEnabled", false);
     StreamKeyInput key = getStreamInputKey();
     when(streamView.get(any())).thenReturn(Optional.empty());
-    Boolean result = streamMutation.delete(key);
+    when(streamService.deleteAsync(any())).thenReturn(completedFuture(null));
+    Boolean result = streamMutation.delete(key).join();
     verify(streamView, times(1)).get(key.asStreamKey());
-    verify(streamService, times(1)).delete(any());
+    verify(streamService, times(1)).deleteAsync(any());
     assertTrue(result);
   }
 
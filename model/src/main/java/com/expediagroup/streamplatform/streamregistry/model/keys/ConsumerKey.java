@@ -24,7 +24,7 @@ import lombok.NoArgsConstructor;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-public class ConsumerKey implements Serializable {
+public class ConsumerKey implements Serializable, ParentKey {
 
   private String streamDomain;
 
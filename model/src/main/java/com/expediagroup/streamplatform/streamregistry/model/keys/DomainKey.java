@@ -24,7 +24,7 @@ import lombok.NoArgsConstructor;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-public class DomainKey implements Serializable {
+public class DomainKey implements Serializable, ParentKey {
 
   private String name;
 }
\ No newline at end of file
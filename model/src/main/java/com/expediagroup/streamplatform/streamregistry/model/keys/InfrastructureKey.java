@@ -24,7 +24,7 @@ import lombok.NoArgsConstructor;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-public class InfrastructureKey implements Serializable {
+public class InfrastructureKey implements Serializable, ParentKey {
 
   private String zone;
   private String name;
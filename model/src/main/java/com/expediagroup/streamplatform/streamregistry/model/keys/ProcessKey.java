@@ -24,7 +24,7 @@ import lombok.NoArgsConstructor;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-public class ProcessKey implements Serializable {
+public class ProcessKey implements Serializable, ParentKey {
 
   private String domain;
   private String name;
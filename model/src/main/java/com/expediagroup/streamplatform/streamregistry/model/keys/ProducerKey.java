@@ -24,7 +24,7 @@ import lombok.NoArgsConstructor;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-public class ProducerKey implements Serializable {
+public class ProducerKey implements Serializable, ParentKey {
 
   private String streamDomain;
   private String streamName;
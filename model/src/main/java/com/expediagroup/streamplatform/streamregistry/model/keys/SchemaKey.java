@@ -26,7 +26,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 @EqualsAndHashCode
-public class SchemaKey implements Serializable {
+public class SchemaKey implements Serializable, ParentKey {
 
   private String domain;
   private String name;
@@ -24,7 +24,7 @@ import lombok.NoArgsConstructor;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-public class StreamBindingKey implements Serializable {
+public class StreamBindingKey implements Serializable, ParentKey {
 
   private String streamDomain;
   private String streamName;
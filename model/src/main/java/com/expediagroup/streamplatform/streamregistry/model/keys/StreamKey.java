@@ -24,7 +24,7 @@ import lombok.NoArgsConstructor;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-public class StreamKey implements Serializable {
+public class StreamKey implements Serializable, ParentKey {
 
   private String domain;
   private String name;
@@ -24,7 +24,7 @@ import lombok.NoArgsConstructor;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-public class ZoneKey implements Serializable {
+public class ZoneKey implements Serializable, ParentKey {
 
   private String name;
 }
\ No newline at end of file
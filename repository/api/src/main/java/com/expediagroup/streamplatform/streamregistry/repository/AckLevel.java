@@ -0,0 +1,34 @@
+/**
+ * Copyright (C) 2018-2024 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository;
+
+/**
+ * How far a write must have got before the future returned by a {@link Repository} completes.
+ */
+public enum AckLevel {
+  /**
+   * Completes once the write has been handed to the underlying store. Failures are not reported.
+   */
+  FIRE_AND_FORGET,
+  /**
+   * Completes once the underlying store has acknowledged the write.
+   */
+  BROKER,
+  /**
+   * Completes once the write can be read back from this node.
+   */
+  APPLIED
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (C) 2018-2024 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * Holds the {@link AckLevel} of the writes made by the current thread, {@link AckLevel#APPLIED} unless set.
+ * Repositories read it when sending, so that it can be chosen per request without passing it through every service.
+ * Writes continued on another thread, such as the later waves of a cascading delete, must capture the level first and
+ * send within {@link #call(AckLevel, Callable)}.
+ */
+public final class AckLevelContext {
+  private static final ThreadLocal<AckLevel> CURRENT = new ThreadLocal<>();
+
+  private AckLevelContext() {}
+
+  public static AckLevel get() {
+    AckLevel ackLevel = CURRENT.get();
+    return ackLevel == null ? AckLevel.APPLIED : ackLevel;
+  }
+
+  /**
+   * Calls the callable with the given level, then restores the previous level.
+   */
+  public static <T> T call(AckLevel ackLevel, Callable<T> callable) throws Exception {
+    Objects.requireNonNull(ackLevel, "ackLevel");
+    AckLevel previous = CURRENT.get();
+    CURRENT.set(ackLevel);
+    try {
+      return callable.call();
+    } finally {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+}
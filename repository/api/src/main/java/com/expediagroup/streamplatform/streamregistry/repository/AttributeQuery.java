@@ -0,0 +1,59 @@
+/**
+ * Copyright (C) 2018-2024 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository;
+
+import java.util.Objects;
+
+/**
+ * Selects entities by a tag or by a principal of a security role of their specification, for
+ * {@link Repository#stream(java.util.List, java.util.List, java.util.function.Predicate)}. The name is matched against
+ * the tag name or role and the value against the tag value or principal name. Both are regular expressions that must
+ * match the whole string, and a null expression matches anything.
+ */
+public final class AttributeQuery {
+  private final String nameRegex;
+  private final String valueRegex;
+
+  public AttributeQuery(String nameRegex, String valueRegex) {
+    this.nameRegex = nameRegex;
+    this.valueRegex = valueRegex;
+  }
+
+  public String getNameRegex() {
+    return nameRegex;
+  }
+
+  public String getValueRegex() {
+    return valueRegex;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof AttributeQuery)) {
+      return false;
+    }
+    AttributeQuery that = (AttributeQuery) o;
+    return Objects.equals(nameRegex, that.nameRegex) && Objects.equals(valueRegex, that.valueRegex);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(nameRegex, valueRegex);
+  }
+}
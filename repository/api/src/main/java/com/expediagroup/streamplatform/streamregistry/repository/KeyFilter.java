@@ -0,0 +1,47 @@
+/**
+ * Copyright (C) 2018-2024 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * A key predicate together with the regular expressions it applies to the names within a key, such as the name of a
+ * producer or the domain or name of its stream. Every key accepted by the predicate has, for each expression, a name
+ * that the expression matches as a whole. A repository given a {@link KeyFilter} may therefore look up candidate keys
+ * by name rather than testing every key, but must still test the predicate on each candidate.
+ *
+ * @param <ID> the key type.
+ */
+public final class KeyFilter<ID> implements Predicate<ID> {
+  private final List<String> regexes;
+  private final Predicate<? super ID> predicate;
+
+  public KeyFilter(List<String> regexes, Predicate<? super ID> predicate) {
+    this.regexes = List.copyOf(regexes);
+    this.predicate = Objects.requireNonNull(predicate);
+  }
+
+  public List<String> getRegexes() {
+    return regexes;
+  }
+
+  @Override
+  public boolean test(ID key) {
+    return predicate.test(key);
+  }
+}
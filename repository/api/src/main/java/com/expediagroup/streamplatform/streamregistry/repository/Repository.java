@@ -16,23 +16,103 @@
 package com.expediagroup.streamplatform.streamregistry.repository;
 
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import com.expediagroup.streamplatform.streamregistry.model.keys.ParentKey;
 
 public interface Repository<T, ID> {
   T saveSpecification(T entity);
 
   T saveStatus(T entity);
 
+  /**
+   * Sends the specification of the entity without waiting for it to be applied.
+   *
+   * @return a future completed with the entity once the specification has been applied.
+   */
+  default CompletableFuture<T> saveSpecificationAsync(T entity) {
+    return CompletableFuture.completedFuture(saveSpecification(entity));
+  }
+
+  /**
+   * Sends the status of the entity without waiting for it to be applied.
+   *
+   * @return a future completed with the entity once the status has been applied.
+   */
+  default CompletableFuture<T> saveStatusAsync(T entity) {
+    return CompletableFuture.completedFuture(saveStatus(entity));
+  }
+
   Optional<T> findById(ID id);
 
   List<T> findAll();
 
   /**
-   * @deprecated Use {link {@link #findAll()}} and filter the results with predicates.
+   * Returns the entities with the given keys in a single call. Keys of entities that do not exist are skipped, so the
+   * result may be shorter than the keys.
+   */
+  List<T> findAllById(Collection<ID> ids);
+
+  /**
+   * Returns a lazy stream of the entities whose keys match the predicate. The predicate is tested against the key of
+   * each entity before the entity itself is read, and entities are only read as the stream is consumed, so
+   * short-circuiting operations such as {@code findAny} stop early. If the predicate is a {@link KeyFilter} it is
+   * only tested against the keys with names matching its regexes where the repository can look them up.
+   *
+   * @param keyFilter the predicate the keys must match.
+   */
+  Stream<T> stream(Predicate<? super ID> keyFilter);
+
+  /**
+   * Returns a lazy stream of the entities whose keys follow the given key and match the predicate, in a stable key
+   * order. Reading the first {@code n} entities costs in proportion to {@code n} rather than to the number of entities,
+   * so results can be read a page at a time by passing the key of the last entity of a page to read the next.
+   *
+   * @param after     the key to start after, or {@code null} to start with the first key. It need not exist.
+   * @param keyFilter the predicate the keys must match.
+   */
+  Stream<T> streamAfter(ID after, Predicate<? super ID> keyFilter);
+
+  /**
+   * Returns a lazy stream of the entities with, for each tag query, a tag matching it and, for each security query, a
+   * principal of a role matching it, and whose keys match the predicate. The entities are looked up from an index of
+   * tags and principals rather than by testing every entity. With no queries this is {@link #stream(Predicate)}.
+   *
+   * @param tagQueries      the queries the tags must match.
+   * @param securityQueries the queries the security principals must match.
+   * @param keyFilter       the predicate the keys must match.
+   */
+  Stream<T> stream(List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries, Predicate<? super ID> keyFilter);
+
+  /**
+   * Returns all entities that reference the given parent key, either as part of their own key or from their
+   * specification. This is an index lookup rather than a scan.
+   *
+   * @param parentKey the model key of the parent, e.g. a {@code StreamKey} or a {@code ZoneKey}
+   */
+  List<T> findAllByParent(ParentKey parentKey);
+
+  /**
+   * @deprecated Use {@link #findAllByParent(ParentKey)} to find the entities related to a key, or {@link #stream(Predicate)}
+   * and filter the results with predicates.
    */
   @Deprecated
   List<T> findAll(T example);
 
   void delete(T entity);
+
+  /**
+   * Sends the deletion of the entity without waiting for it to be applied, so that several deletions can be pipelined.
+   *
+   * @return a future completed once the deletion has been applied.
+   */
+  default CompletableFuture<Void> deleteAsync(T entity) {
+    delete(entity);
+    return CompletableFuture.completedFuture(null);
+  }
 }
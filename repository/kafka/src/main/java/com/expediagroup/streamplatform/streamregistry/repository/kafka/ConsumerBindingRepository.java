@@ -15,15 +15,16 @@
  */
 package com.expediagroup.streamplatform.streamregistry.repository.kafka;
 
-import static java.util.stream.Collectors.toList;
-
 import java.util.List;
 
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ParentKey;
 import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ConsumerBindingConverter;
+import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ParentKeyConverter;
 import com.expediagroup.streamplatform.streamregistry.state.EntityView;
 import com.expediagroup.streamplatform.streamregistry.state.EventSender;
 import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
@@ -33,16 +34,17 @@ import com.expediagroup.streamplatform.streamregistry.state.model.specification.
 public class ConsumerBindingRepository
     extends DefaultRepository<ConsumerBinding, ConsumerBindingKey, Entity.ConsumerBindingKey, DefaultSpecification>
     implements com.expediagroup.streamplatform.streamregistry.repository.ConsumerBindingRepository {
-  ConsumerBindingRepository(EntityView view, EventSender sender, ConsumerBindingConverter converter) {
-    super(view, sender, converter, Entity.ConsumerBindingKey.class);
+  ConsumerBindingRepository(EntityView view, EventSender sender, ConsumerBindingConverter converter,
+      ParentKeyConverter parentKeyConverter, ConversionCache conversionCache) {
+    super(view, sender, converter, Entity.ConsumerBindingKey.class, parentKeyConverter, conversionCache);
   }
 
+  /**
+   * @deprecated Use {@link #findAllByParent(ParentKey)} with the {@link ConsumerKey} of the binding.
+   */
   @Override
+  @Deprecated
   public List<ConsumerBinding> findAll(ConsumerBinding example) {
-    // This method is deprecated. It only supports the existing use case
-    // of searching for the ConsumerBinding associated with a Consumer
-    return findAll().stream()
-        .filter(cb -> cb.getKey().getConsumerKey().equals(example.getKey().getConsumerKey()))
-        .collect(toList());
+    return findAllByParent(example.getKey().getConsumerKey());
   }
 }
@@ -15,15 +15,16 @@
  */
 package com.expediagroup.streamplatform.streamregistry.repository.kafka;
 
-import static java.util.stream.Collectors.toList;
-
 import java.util.List;
 
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.model.Consumer;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ParentKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
 import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ConsumerConverter;
+import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ParentKeyConverter;
 import com.expediagroup.streamplatform.streamregistry.state.EntityView;
 import com.expediagroup.streamplatform.streamregistry.state.EventSender;
 import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
@@ -33,14 +34,17 @@ import com.expediagroup.streamplatform.streamregistry.state.model.specification.
 public class ConsumerRepository
     extends DefaultRepository<Consumer, ConsumerKey, Entity.ConsumerKey, DefaultSpecification>
     implements com.expediagroup.streamplatform.streamregistry.repository.ConsumerRepository {
-  ConsumerRepository(EntityView view, EventSender sender, ConsumerConverter converter) {
-    super(view, sender, converter, Entity.ConsumerKey.class);
+  ConsumerRepository(EntityView view, EventSender sender, ConsumerConverter converter,
+      ParentKeyConverter parentKeyConverter, ConversionCache conversionCache) {
+    super(view, sender, converter, Entity.ConsumerKey.class, parentKeyConverter, conversionCache);
   }
 
+  /**
+   * @deprecated Use {@link #findAllByParent(ParentKey)} with the {@link StreamKey} of the consumer.
+   */
   @Override
+  @Deprecated
   public List<Consumer> findAll(Consumer example) {
-    return findAll().stream()
-            .filter(pb -> pb.getKey().getStreamKey().equals(example.getKey().getStreamKey()))
-            .collect(toList());
+    return findAllByParent(example.getKey().getStreamKey());
   }
 }
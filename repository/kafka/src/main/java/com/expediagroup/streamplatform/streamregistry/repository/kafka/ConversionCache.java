@@ -0,0 +1,82 @@
+/**
+ * Copyright (C) 2018-2024 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.kafka;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.NonNull;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.Specification;
+
+/**
+ * Remembers the model entity converted from each entity of the view, so that an entity is converted once per change
+ * rather than on every read. A conversion is reused only while the view holds the very same state entity instance, and
+ * is dropped by {@link PurgingEntityViewListener} when the view applies an event for the entity.
+ * <p/>
+ * Every read returns a new model entity from {@link Converter#copy}, so callers may set its fields. Each read also has
+ * its own {@link SpecificationView}, which copies the state specification only if it is modified. The status and other
+ * field values are shared between reads and must not be modified.
+ * <p/>
+ * Reads are counted by {@code stream_registry_repository.conversion}, tagged with a {@code result} of {@code hit} or
+ * {@code miss}.
+ */
+class ConversionCache {
+  private final Map<Entity.Key<?>, Conversion> conversions = new ConcurrentHashMap<>();
+  private final Counter hits;
+  private final Counter misses;
+
+  ConversionCache(@NonNull MeterRegistry meterRegistry) {
+    hits = meterRegistry.counter("stream_registry_repository.conversion", Tags.of("result", "hit"));
+    misses = meterRegistry.counter("stream_registry_repository.conversion", Tags.of("result", "miss"));
+    meterRegistry.gauge("stream_registry_repository.conversion.size", Tags.empty(), conversions, Map::size);
+  }
+
+  @SuppressWarnings("unchecked")
+  <ME extends com.expediagroup.streamplatform.streamregistry.model.Entity<MK>, MK, SK extends Entity.Key<SS>, SS extends Specification>
+  ME convert(Entity<SK, SS> entity, Converter<ME, MK, SK, SS> converter) {
+    Conversion conversion = conversions.get(entity.getKey());
+    ME model;
+    if (conversion != null && conversion.entity == entity) {
+      hits.increment();
+      model = (ME) conversion.model;
+    } else {
+      misses.increment();
+      model = converter.convertEntity(entity);
+      conversions.put(entity.getKey(), new Conversion(entity, model));
+    }
+    return converter.copy(model);
+  }
+
+  void invalidate(Entity.Key<?> key) {
+    conversions.remove(key);
+  }
+
+  private static final class Conversion {
+    private final Entity<?, ?> entity;
+    private final Object model;
+
+    private Conversion(Entity<?, ?> entity, Object model) {
+      this.entity = entity;
+      this.model = model;
+    }
+  }
+}
@@ -50,6 +50,7 @@ import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerBinding
 import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.DomainKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.InfrastructureKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ParentKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProcessBindingKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProcessKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerBindingKey;
@@ -81,6 +82,13 @@ interface Converter<ME extends com.expediagroup.streamplatform.streamregistry.mo
 
   Entity<SK, SS> convertEntity(ME entity);
 
+  /**
+   * @return a new entity with the same key, specification, status and other fields as the given one. The field values
+   * are shared, not copied, except that an unmodified {@link SpecificationView} is replaced by a new view of the same
+   * state specification.
+   */
+  ME copy(ME entity);
+
   interface EntityFactory<ME extends com.expediagroup.streamplatform.streamregistry.model.Entity<MK>, MK> {
     ME create(MK key, Specification specification, Status status);
   }
@@ -94,21 +102,7 @@ interface Converter<ME extends com.expediagroup.streamplatform.streamregistry.mo
 
     @Override
     public Specification convertSpecification(SS specification) {
-      return new Specification(
-          specification.getDescription(),
-          specification.getTags().stream()
-              .map(tag -> new com.expediagroup.streamplatform.streamregistry.model.Tag(tag.getName(), tag.getValue()))
-              .collect(toList()),
-          specification.getType(),
-          specification.getConfiguration(),
-          specification.getSecurity().entrySet().stream().map(entry ->
-              new Security(
-                  entry.getKey(),
-                  entry.getValue().stream().map(principal -> new com.expediagroup.streamplatform.streamregistry.model.Principal(principal.getName())).collect(toList())
-              )
-          ).collect(Collectors.toList()),
-          convertFunction(specification.getFunction())
-      );
+      return new SpecificationView(specification);
     }
 
     @Override
@@ -127,12 +121,11 @@ interface Converter<ME extends com.expediagroup.streamplatform.streamregistry.mo
     }
 
     protected com.expediagroup.streamplatform.streamregistry.state.model.status.Status convert(Status status) {
-      DefaultStatus defaultStatus = new DefaultStatus();
       ObjectNode value = Optional.ofNullable(status).map(Status::getObjectNode).orElse(null);
       if (value != null) {
-        defaultStatus = (DefaultStatus) defaultStatus.with(new StatusEntry("agentStatus", value));
+        return DefaultStatus.empty().with(new StatusEntry("agentStatus", value));
       }
-      return defaultStatus;
+      return DefaultStatus.empty();
     }
 
     protected List<com.expediagroup.streamplatform.streamregistry.state.model.specification.Tag> convertTags(List<Tag> tags) {
@@ -174,6 +167,11 @@ interface Converter<ME extends com.expediagroup.streamplatform.streamregistry.mo
       );
     }
 
+    @Override
+    public ME copy(ME entity) {
+      return entityFactory.create(entity.getKey(), SpecificationView.fork(entity.getSpecification()), entity.getStatus());
+    }
+
     @Override
     public DefaultSpecification convertSpecification(ME entity) {
       Specification specification = entity.getSpecification();
@@ -282,6 +280,11 @@ interface Converter<ME extends com.expediagroup.streamplatform.streamregistry.mo
           convertStatus(entity.getStatus())
       );
     }
+
+    @Override
+    public Stream copy(Stream entity) {
+      return new Stream(entity.getKey(), entity.getSchemaKey(), SpecificationView.fork(entity.getSpecification()), entity.getStatus());
+    }
   }
 
   @Component
@@ -355,6 +358,11 @@ interface Converter<ME extends com.expediagroup.streamplatform.streamregistry.mo
         convertStatus(entity.getStatus())
       );
     }
+
+    @Override
+    public Process copy(Process entity) {
+      return new Process(entity.getKey(), SpecificationView.fork(entity.getSpecification()), entity.getZones(), entity.getInputs(), entity.getOutputs(), entity.getStatus());
+    }
   }
 
   @Component
@@ -559,6 +567,11 @@ interface Converter<ME extends com.expediagroup.streamplatform.streamregistry.mo
         convertStatus(entity.getStatus())
       );
     }
+
+    @Override
+    public ProcessBinding copy(ProcessBinding entity) {
+      return new ProcessBinding(entity.getKey(), SpecificationView.fork(entity.getSpecification()), entity.getZone(), entity.getInputs(), entity.getOutputs(), entity.getStatus());
+    }
   }
 
   @Component
@@ -624,4 +637,45 @@ interface Converter<ME extends com.expediagroup.streamplatform.streamregistry.mo
       );
     }
   }
+
+  /**
+   * Converts the model key of any entity type that can be referenced by other entities to its state key.
+   */
+  @Component
+  @RequiredArgsConstructor
+  class ParentKeyConverter {
+    private final DomainConverter domainConverter;
+    private final SchemaConverter schemaConverter;
+    private final StreamConverter streamConverter;
+    private final ZoneConverter zoneConverter;
+    private final InfrastructureConverter infrastructureConverter;
+    private final ProducerConverter producerConverter;
+    private final ConsumerConverter consumerConverter;
+    private final ProcessConverter processConverter;
+    private final StreamBindingConverter streamBindingConverter;
+
+    public Entity.Key<?> convertKey(ParentKey key) {
+      if (key instanceof DomainKey) {
+        return domainConverter.convertKey((DomainKey) key);
+      } else if (key instanceof SchemaKey) {
+        return schemaConverter.convertKey((SchemaKey) key);
+      } else if (key instanceof StreamKey) {
+        return streamConverter.convertKey((StreamKey) key);
+      } else if (key instanceof ZoneKey) {
+        return zoneConverter.convertKey((ZoneKey) key);
+      } else if (key instanceof InfrastructureKey) {
+        return infrastructureConverter.convertKey((InfrastructureKey) key);
+      } else if (key instanceof ProducerKey) {
+        return producerConverter.convertKey((ProducerKey) key);
+      } else if (key instanceof ConsumerKey) {
+        return consumerConverter.convertKey((ConsumerKey) key);
+      } else if (key instanceof ProcessKey) {
+        return processConverter.convertKey((ProcessKey) key);
+      } else if (key instanceof StreamBindingKey) {
+        return streamBindingConverter.convertKey((StreamBindingKey) key);
+      } else {
+        throw new IllegalArgumentException("Unsupported parent key " + key);
+      }
+    }
+  }
 }
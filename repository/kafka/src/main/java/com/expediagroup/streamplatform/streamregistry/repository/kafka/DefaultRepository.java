@@ -18,16 +18,28 @@ package com.expediagroup.streamplatform.streamregistry.repository.kafka;
 import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import lombok.RequiredArgsConstructor;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.expediagroup.streamplatform.streamregistry.model.keys.ParentKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AckLevelContext;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
+import com.expediagroup.streamplatform.streamregistry.repository.KeyFilter;
+import com.expediagroup.streamplatform.streamregistry.state.AckLevel;
+import com.expediagroup.streamplatform.streamregistry.state.CoalescingEventSender;
 import com.expediagroup.streamplatform.streamregistry.state.EntityView;
 import com.expediagroup.streamplatform.streamregistry.state.EventSender;
 import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
 import com.expediagroup.streamplatform.streamregistry.state.model.event.Event;
+import com.expediagroup.streamplatform.streamregistry.state.model.status.Status;
 import com.expediagroup.streamplatform.streamregistry.state.model.status.StatusEntry;
 
 /**
@@ -47,59 +59,109 @@ abstract class DefaultRepository<
   private final EventSender sender;
   private final Converter<ME, MK, SK, SS> converter;
   private final Class<SK> stateKeyClass;
+  private final Converter.ParentKeyConverter parentKeyConverter;
+  private final ConversionCache conversionCache;
 
   @Override
   public ME saveSpecification(ME entity) {
+    return saveSpecificationAsync(entity).join();
+  }
+
+  @Override
+  public CompletableFuture<ME> saveSpecificationAsync(ME entity) {
     Optional<ME> existing = findById(entity.getKey());
     Entity<SK, SS> stateEntity = converter.convertEntity(entity);
     if (existing.isPresent()) {
       Entity<SK, SS> existingStateEntity = converter.convertEntity(existing.get());
-      if (!existingStateEntity.getSpecification().equals(stateEntity.getSpecification())) {
-        sender.send(Event.specification(stateEntity.getKey(), stateEntity.getSpecification())).join();
+      if (existingStateEntity.getSpecification().equals(stateEntity.getSpecification())) {
+        return CompletableFuture.completedFuture(entity);
       }
-    } else {
-      sender.send(Event.specification(stateEntity.getKey(), stateEntity.getSpecification())).join();
     }
-    return entity;
+    return sender.send(Event.specification(stateEntity.getKey(), stateEntity.getSpecification()), ackLevel()).thenApply(v -> entity);
   }
 
   @Override
   public ME saveStatus(ME entity) {
+    return saveStatusAsync(entity).join();
+  }
+
+  @Override
+  public CompletableFuture<ME> saveStatusAsync(ME entity) {
     Optional<ME> existing = findById(entity.getKey());
     Entity<SK, SS> stateEntity = converter.convertEntity(entity);
-    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    List<Event<?, ?>> events = new ArrayList<>();
     if (existing.isPresent()) {
-      Entity<SK, SS> existingStateEntity = converter.convertEntity(existing.get());
+      Status existingStatus = converter.convertEntity(existing.get()).getStatus();
+      // A coalescing sender may still hold a different value than the view, so an unchanged value must replace it
+      boolean coalescing = sender instanceof CoalescingEventSender;
       for (StatusEntry entry : stateEntity.getStatus().getEntries()) {
-        if (existingStateEntity.getStatus().getNames().contains(entry.getName())
-          && !entry.getValue().equals(existingStateEntity.getStatus().getValue(entry.getName()))) {
-          send(Event.status(stateEntity.getKey(), entry), futures);
+        ObjectNode existingValue = existingStatus.getValue(entry.getName());
+        if (existingValue != null && (coalescing || !entry.getValue().equals(existingValue))) {
+          events.add(Event.status(stateEntity.getKey(), entry));
         }
       }
     } else {
       for (StatusEntry entry : stateEntity.getStatus().getEntries()) {
-        send(Event.status(stateEntity.getKey(), entry), futures);
+        events.add(Event.status(stateEntity.getKey(), entry));
       }
     }
-    futures.forEach(CompletableFuture::join);
-    return entity;
-  }
-
-  private void send(Event<SK, SS> event, List<CompletableFuture<Void>> futures) {
-    futures.add(sender.send(event));
+    if (events.isEmpty()) {
+      return CompletableFuture.completedFuture(entity);
+    }
+    return sender.sendAll(events, ackLevel()).thenApply(v -> entity);
   }
 
   @Override
   public Optional<ME> findById(MK key) {
     return view
         .get(converter.convertKey(key))
-        .map(converter::convertEntity);
+        .map(this::convert);
   }
 
   @Override
   public List<ME> findAll() {
     return view.all(stateKeyClass)
-        .map(converter::convertEntity)
+        .map(this::convert)
+        .collect(toList());
+  }
+
+  @Override
+  public List<ME> findAllById(Collection<MK> keys) {
+    return keys.stream()
+        .map(key -> view.get(converter.convertKey(key)))
+        .flatMap(Optional::stream)
+        .map(this::convert)
+        .collect(toList());
+  }
+
+  @Override
+  public Stream<ME> stream(Predicate<? super MK> keyFilter) {
+    return view.all(stateKeyClass, stateKeyFilter(keyFilter))
+        .map(this::convert);
+  }
+
+  @Override
+  public Stream<ME> streamAfter(MK after, Predicate<? super MK> keyFilter) {
+    return view.allAfter(stateKeyClass, after == null ? null : converter.convertKey(after), stateKeyFilter(keyFilter))
+        .map(this::convert);
+  }
+
+  @Override
+  public Stream<ME> stream(List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries, Predicate<? super MK> keyFilter) {
+    if (tagQueries.isEmpty() && securityQueries.isEmpty()) {
+      return stream(keyFilter);
+    }
+    return view.keysMatching(stateKeyClass, convert(tagQueries), convert(securityQueries)).stream()
+        .filter(key -> keyFilter.test(converter.convertKey(key)))
+        .map(view::get)
+        .flatMap(Optional::stream)
+        .map(this::convert);
+  }
+
+  @Override
+  public List<ME> findAllByParent(ParentKey parentKey) {
+    return view.children(parentKeyConverter.convertKey(parentKey), stateKeyClass)
+        .map(this::convert)
         .collect(toList());
   }
 
@@ -111,10 +173,44 @@ abstract class DefaultRepository<
 
   @Override
   public void delete(ME entity) {
-    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    deleteAsync(entity).join();
+  }
+
+  @Override
+  public CompletableFuture<Void> deleteAsync(ME entity) {
     Entity<SK, SS> stateEntity = converter.convertEntity(entity);
-    stateEntity.getStatus().getEntries().forEach(e -> send(Event.statusDeletion(stateEntity.getKey(), e.getName()), futures));
-    send(Event.specificationDeletion(stateEntity.getKey()), futures);
-    futures.forEach(CompletableFuture::join);
+    List<Event<?, ?>> events = new ArrayList<>();
+    stateEntity.getStatus().getEntries().forEach(e -> events.add(Event.statusDeletion(stateEntity.getKey(), e.getName())));
+    events.add(Event.specificationDeletion(stateEntity.getKey()));
+    return sender.sendAll(events, ackLevel());
+  }
+
+  private ME convert(Entity<SK, SS> entity) {
+    return conversionCache.convert(entity, converter);
+  }
+
+  /**
+   * @return the key filter converting state keys to model keys, keeping the regexes of a {@link KeyFilter} so that the
+   * view can look up candidate keys.
+   */
+  private Predicate<SK> stateKeyFilter(Predicate<? super MK> keyFilter) {
+    Predicate<SK> predicate = key -> keyFilter.test(converter.convertKey(key));
+    if (keyFilter instanceof KeyFilter) {
+      return new com.expediagroup.streamplatform.streamregistry.state.KeyFilter<>(((KeyFilter<?>) keyFilter).getRegexes(), predicate);
+    }
+    return predicate;
+  }
+
+  private static List<com.expediagroup.streamplatform.streamregistry.state.AttributeQuery> convert(List<AttributeQuery> queries) {
+    return queries.stream()
+        .map(query -> new com.expediagroup.streamplatform.streamregistry.state.AttributeQuery(query.getNameRegex(), query.getValueRegex()))
+        .collect(toList());
+  }
+
+  /**
+   * @return the state level matching the {@link AckLevelContext} of the current thread.
+   */
+  private static AckLevel ackLevel() {
+    return AckLevel.valueOf(AckLevelContext.get().name());
   }
 }
@@ -20,6 +20,7 @@ import org.springframework.stereotype.Component;
 import com.expediagroup.streamplatform.streamregistry.model.Domain;
 import com.expediagroup.streamplatform.streamregistry.model.keys.DomainKey;
 import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.DomainConverter;
+import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ParentKeyConverter;
 import com.expediagroup.streamplatform.streamregistry.state.EntityView;
 import com.expediagroup.streamplatform.streamregistry.state.EventSender;
 import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
@@ -29,7 +30,8 @@ import com.expediagroup.streamplatform.streamregistry.state.model.specification.
 public class DomainRepository
     extends DefaultRepository<Domain, DomainKey, Entity.DomainKey, DefaultSpecification>
     implements com.expediagroup.streamplatform.streamregistry.repository.DomainRepository {
-  DomainRepository(EntityView view, EventSender sender, DomainConverter converter) {
-    super(view, sender, converter, Entity.DomainKey.class);
+  DomainRepository(EntityView view, EventSender sender, DomainConverter converter,
+      ParentKeyConverter parentKeyConverter, ConversionCache conversionCache) {
+    super(view, sender, converter, Entity.DomainKey.class, parentKeyConverter, conversionCache);
   }
 }
@@ -20,6 +20,7 @@ import org.springframework.stereotype.Component;
 import com.expediagroup.streamplatform.streamregistry.model.Infrastructure;
 import com.expediagroup.streamplatform.streamregistry.model.keys.InfrastructureKey;
 import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.InfrastructureConverter;
+import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ParentKeyConverter;
 import com.expediagroup.streamplatform.streamregistry.state.EntityView;
 import com.expediagroup.streamplatform.streamregistry.state.EventSender;
 import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
@@ -29,7 +30,8 @@ import com.expediagroup.streamplatform.streamregistry.state.model.specification.
 public class InfrastructureRepository
     extends DefaultRepository<Infrastructure, InfrastructureKey, Entity.InfrastructureKey, DefaultSpecification>
     implements com.expediagroup.streamplatform.streamregistry.repository.InfrastructureRepository {
-  InfrastructureRepository(EntityView view, EventSender sender, InfrastructureConverter converter) {
-    super(view, sender, converter, Entity.InfrastructureKey.class);
+  InfrastructureRepository(EntityView view, EventSender sender, InfrastructureConverter converter,
+      ParentKeyConverter parentKeyConverter, ConversionCache conversionCache) {
+    super(view, sender, converter, Entity.InfrastructureKey.class, parentKeyConverter, conversionCache);
   }
 }
@@ -19,15 +19,21 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import com.expediagroup.streamplatform.streamregistry.state.DefaultEventCorrelator;
+import com.expediagroup.streamplatform.streamregistry.state.BoundedEventCorrelator;
+import com.expediagroup.streamplatform.streamregistry.state.CoalescingEventSender;
 import com.expediagroup.streamplatform.streamregistry.state.EntityView;
 import com.expediagroup.streamplatform.streamregistry.state.EntityViews;
 import com.expediagroup.streamplatform.streamregistry.state.EventReceiver;
@@ -39,8 +45,18 @@ import com.expediagroup.streamplatform.streamregistry.state.kafka.KafkaEventSend
 @Configuration
 public class KafkaConfiguration {
   @Bean
-  EventCorrelator eventCorrelator() {
-    return new DefaultEventCorrelator();
+  EventCorrelator eventCorrelator(
+    @Value("${repository.kafka.correlator.timeoutSeconds:30}") long timeoutSeconds,
+    @Value("${repository.kafka.correlator.maxInFlight:10000}") int maxInFlight,
+    @Value("${repository.kafka.correlator.nodeId:}") String nodeId,
+    ObjectProvider<MeterRegistry> meterRegistry
+  ) {
+    BoundedEventCorrelator.Config config = BoundedEventCorrelator.Config.builder()
+      .nodeId(nodeId.isEmpty() ? null : Integer.valueOf(nodeId))
+      .timeout(Duration.ofSeconds(timeoutSeconds))
+      .maxInFlight(maxInFlight)
+      .build();
+    return new BoundedEventCorrelator(config, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
   }
 
   @Bean
@@ -50,7 +66,10 @@ public class KafkaConfiguration {
     @Value("${repository.kafka.schemaRegistryUrl}") String schemaRegistryUrl,
     @Value("${repository.kafka.propertiesPath:}") String propertiesPath,
     @Value("${repository.kafka.entity.status.enabled:true}") Boolean entityStatusEnabled,
-    EventCorrelator eventCorrelator
+    @Value("${repository.kafka.avro.reflective:false}") Boolean reflectiveAvroConversion,
+    @Value("${repository.kafka.entity.status.coalesceMillis:0}") long statusCoalesceMillis,
+    EventCorrelator eventCorrelator,
+    ObjectProvider<MeterRegistry> meterRegistry
   ) {
     KafkaEventSender.Config config = KafkaEventSender.Config.builder()
       .bootstrapServers(bootstrapServers)
@@ -58,8 +77,14 @@ public class KafkaConfiguration {
       .schemaRegistryUrl(schemaRegistryUrl)
       .properties(readPropertiesFile(propertiesPath))
       .entityStatusEnabled(entityStatusEnabled)
+      .reflectiveAvroConversion(reflectiveAvroConversion)
       .build();
-    return new KafkaEventSender(config, eventCorrelator);
+    MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+    EventSender eventSender = new KafkaEventSender(config, eventCorrelator, kafkaProducer -> {}, registry);
+    if (statusCoalesceMillis > 0) {
+      return new CoalescingEventSender(eventSender, Duration.ofMillis(statusCoalesceMillis), registry);
+    }
+    return eventSender;
   }
 
   @Bean
@@ -70,6 +95,10 @@ public class KafkaConfiguration {
     @Value("${repository.kafka.schemaRegistryUrl}") String schemaRegistryUrl,
     @Value("${repository.kafka.propertiesPath:}") String propertiesPath,
     @Value("${repository.kafka.entity.status.enabled:true}") Boolean entityStatusEnabled,
+    @Value("${repository.kafka.snapshot.path:}") String snapshotPath,
+    @Value("${repository.kafka.snapshot.intervalSeconds:300}") long snapshotIntervalSeconds,
+    @Value("${repository.kafka.bootstrap.keyFirst:false}") Boolean keyFirstBootstrap,
+    @Value("${repository.kafka.avro.reflective:false}") Boolean reflectiveAvroConversion,
     EventCorrelator eventCorrelator
   ) {
     KafkaEventReceiver.Config receiverConfig = KafkaEventReceiver.Config.builder()
@@ -79,14 +108,23 @@ public class KafkaConfiguration {
       .schemaRegistryUrl(schemaRegistryUrl)
       .properties(readPropertiesFile(propertiesPath))
       .entityStatusEnabled(entityStatusEnabled)
+      .snapshotPath(snapshotPath.isEmpty() ? null : snapshotPath)
+      .snapshotInterval(Duration.ofSeconds(snapshotIntervalSeconds))
+      .keyFirstBootstrap(keyFirstBootstrap)
+      .reflectiveAvroConversion(reflectiveAvroConversion)
       .build();
     return new KafkaEventReceiver(receiverConfig, eventCorrelator);
   }
 
   @Bean
-  EntityView entityView(EventReceiver eventReceiver) {
+  ConversionCache conversionCache(ObjectProvider<MeterRegistry> meterRegistry) {
+    return new ConversionCache(meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+  }
+
+  @Bean
+  EntityView entityView(EventReceiver eventReceiver, ConversionCache conversionCache) {
     EntityView entityView = EntityViews.defaultEntityView(eventReceiver);
-    PurgingEntityViewListener entityViewListener = new PurgingEntityViewListener(entityView);
+    PurgingEntityViewListener entityViewListener = new PurgingEntityViewListener(entityView, conversionCache);
     entityView.load(entityViewListener)
       .thenAccept(s -> entityViewListener.purgeAll())
       .join();
@@ -19,6 +19,7 @@ import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.model.ProcessBinding;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProcessBindingKey;
+import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ParentKeyConverter;
 import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ProcessBindingConverter;
 import com.expediagroup.streamplatform.streamregistry.state.EntityView;
 import com.expediagroup.streamplatform.streamregistry.state.EventSender;
@@ -29,7 +30,8 @@ import com.expediagroup.streamplatform.streamregistry.state.model.specification.
 public class ProcessBindingRepository
     extends DefaultRepository<ProcessBinding, ProcessBindingKey, Entity.ProcessBindingKey, ProcessBindingSpecification>
     implements com.expediagroup.streamplatform.streamregistry.repository.ProcessBindingRepository {
-  ProcessBindingRepository(EntityView view, EventSender sender, ProcessBindingConverter converter) {
-    super(view, sender, converter, Entity.ProcessBindingKey.class);
+  ProcessBindingRepository(EntityView view, EventSender sender, ProcessBindingConverter converter,
+      ParentKeyConverter parentKeyConverter, ConversionCache conversionCache) {
+    super(view, sender, converter, Entity.ProcessBindingKey.class, parentKeyConverter, conversionCache);
   }
 }
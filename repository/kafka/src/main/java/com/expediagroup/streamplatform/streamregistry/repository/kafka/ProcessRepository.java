@@ -19,6 +19,7 @@ import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.model.Process;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProcessKey;
+import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ParentKeyConverter;
 import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ProcessConverter;
 import com.expediagroup.streamplatform.streamregistry.state.EntityView;
 import com.expediagroup.streamplatform.streamregistry.state.EventSender;
@@ -29,7 +30,8 @@ import com.expediagroup.streamplatform.streamregistry.state.model.specification.
 public class ProcessRepository
     extends DefaultRepository<Process, ProcessKey, Entity.ProcessKey, ProcessSpecification>
     implements com.expediagroup.streamplatform.streamregistry.repository.ProcessRepository {
-  ProcessRepository(EntityView view, EventSender sender, ProcessConverter converter) {
-    super(view, sender, converter, Entity.ProcessKey.class);
+  ProcessRepository(EntityView view, EventSender sender, ProcessConverter converter,
+      ParentKeyConverter parentKeyConverter, ConversionCache conversionCache) {
+    super(view, sender, converter, Entity.ProcessKey.class, parentKeyConverter, conversionCache);
   }
 }
@@ -15,14 +15,15 @@
  */
 package com.expediagroup.streamplatform.streamregistry.repository.kafka;
 
-import static java.util.stream.Collectors.toList;
-
 import java.util.List;
 
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ParentKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerKey;
+import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ParentKeyConverter;
 import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ProducerBindingConverter;
 import com.expediagroup.streamplatform.streamregistry.state.EntityView;
 import com.expediagroup.streamplatform.streamregistry.state.EventSender;
@@ -33,17 +34,18 @@ import com.expediagroup.streamplatform.streamregistry.state.model.specification.
 public class ProducerBindingRepository
     extends DefaultRepository<ProducerBinding, ProducerBindingKey, Entity.ProducerBindingKey, DefaultSpecification>
     implements com.expediagroup.streamplatform.streamregistry.repository.ProducerBindingRepository {
-  ProducerBindingRepository(EntityView view, EventSender sender, ProducerBindingConverter converter) {
-    super(view, sender, converter, Entity.ProducerBindingKey.class);
+  ProducerBindingRepository(EntityView view, EventSender sender, ProducerBindingConverter converter,
+      ParentKeyConverter parentKeyConverter, ConversionCache conversionCache) {
+    super(view, sender, converter, Entity.ProducerBindingKey.class, parentKeyConverter, conversionCache);
   }
 
+  /**
+   * @deprecated Use {@link #findAllByParent(ParentKey)} with the {@link ProducerKey} of the binding.
+   */
   @Override
+  @Deprecated
   public List<ProducerBinding> findAll(ProducerBinding example) {
-    // This method is deprecated. It only supports the existing use case
-    // of searching for the ProducerBinding associated with a Producer
-    return findAll().stream()
-        .filter(pb -> pb.getKey().getProducerKey().equals(example.getKey().getProducerKey()))
-        .collect(toList());
+    return findAllByParent(example.getKey().getProducerKey());
   }
 
 }
@@ -15,14 +15,15 @@
  */
 package com.expediagroup.streamplatform.streamregistry.repository.kafka;
 
-import static java.util.stream.Collectors.toList;
-
 import java.util.List;
 
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.model.Producer;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ParentKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ParentKeyConverter;
 import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ProducerConverter;
 import com.expediagroup.streamplatform.streamregistry.state.EntityView;
 import com.expediagroup.streamplatform.streamregistry.state.EventSender;
@@ -33,14 +34,17 @@ import com.expediagroup.streamplatform.streamregistry.state.model.specification.
 public class ProducerRepository
     extends DefaultRepository<Producer, ProducerKey, Entity.ProducerKey, DefaultSpecification>
     implements com.expediagroup.streamplatform.streamregistry.repository.ProducerRepository {
-  ProducerRepository(EntityView view, EventSender sender, ProducerConverter converter) {
-    super(view, sender, converter, Entity.ProducerKey.class);
+  ProducerRepository(EntityView view, EventSender sender, ProducerConverter converter,
+      ParentKeyConverter parentKeyConverter, ConversionCache conversionCache) {
+    super(view, sender, converter, Entity.ProducerKey.class, parentKeyConverter, conversionCache);
   }
 
+  /**
+   * @deprecated Use {@link #findAllByParent(ParentKey)} with the {@link StreamKey} of the producer.
+   */
   @Override
+  @Deprecated
   public List<Producer> findAll(Producer example) {
-    return findAll().stream()
-            .filter(pb -> pb.getKey().getStreamKey().equals(example.getKey().getStreamKey()))
-            .collect(toList());
+    return findAllByParent(example.getKey().getStreamKey());
   }
 }
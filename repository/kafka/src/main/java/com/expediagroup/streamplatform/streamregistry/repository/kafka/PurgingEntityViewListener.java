@@ -28,9 +28,11 @@ import com.expediagroup.streamplatform.streamregistry.state.model.specification.
 @AllArgsConstructor
 class PurgingEntityViewListener implements EntityViewListener {
   private final EntityView entityView;
+  private final ConversionCache conversionCache;
 
   @Override
   public <K extends Entity.Key<S>, S extends Specification> void onEvent(Entity<K, S> oldEntity, @NonNull Event<K, S> event) {
+    conversionCache.invalidate(event.getKey());
     if (event instanceof SpecificationDeletionEvent) {
       entityView.purgeDeleted(event.getKey());
     }
@@ -19,6 +19,7 @@ import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.model.Schema;
 import com.expediagroup.streamplatform.streamregistry.model.keys.SchemaKey;
+import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ParentKeyConverter;
 import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.SchemaConverter;
 import com.expediagroup.streamplatform.streamregistry.state.EntityView;
 import com.expediagroup.streamplatform.streamregistry.state.EventSender;
@@ -29,7 +30,8 @@ import com.expediagroup.streamplatform.streamregistry.state.model.specification.
 public class SchemaRepository
     extends DefaultRepository<Schema, SchemaKey, Entity.SchemaKey, DefaultSpecification>
     implements com.expediagroup.streamplatform.streamregistry.repository.SchemaRepository {
-  SchemaRepository(EntityView view, EventSender sender, SchemaConverter converter) {
-    super(view, sender, converter, Entity.SchemaKey.class);
+  SchemaRepository(EntityView view, EventSender sender, SchemaConverter converter,
+      ParentKeyConverter parentKeyConverter, ConversionCache conversionCache) {
+    super(view, sender, converter, Entity.SchemaKey.class, parentKeyConverter, conversionCache);
   }
 }
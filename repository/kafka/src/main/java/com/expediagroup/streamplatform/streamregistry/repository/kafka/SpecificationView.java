@@ -0,0 +1,219 @@
+/**
+ * Copyright (C) 2018-2024 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.kafka;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import lombok.NonNull;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.expediagroup.streamplatform.streamregistry.model.Principal;
+import com.expediagroup.streamplatform.streamregistry.model.Security;
+import com.expediagroup.streamplatform.streamregistry.model.Specification;
+import com.expediagroup.streamplatform.streamregistry.model.Tag;
+
+/**
+ * A {@link Specification} that reads its fields from a state specification on access instead of copying them. The
+ * tags, security and principals are list views that map each element when it is read.
+ * <p/>
+ * The first call to a setter, or the first change to the tags or security lists, copies the fields into the
+ * specification, which behaves as a plain {@link Specification} from then on. The state specification is never
+ * modified.
+ */
+final class SpecificationView extends Specification {
+  private final com.expediagroup.streamplatform.streamregistry.state.model.specification.Specification source;
+  private final List<Tag> tags = new DetachingList<>(this::sourceTags, SpecificationView::tag, super::getTags);
+  private final List<Security> security = new DetachingList<>(this::sourceSecurity, SpecificationView::security, super::getSecurity);
+  private List<Map.Entry<String, List<com.expediagroup.streamplatform.streamregistry.state.model.specification.Principal>>> securityEntries;
+  private volatile boolean detached;
+
+  SpecificationView(@NonNull com.expediagroup.streamplatform.streamregistry.state.model.specification.Specification source) {
+    this.source = source;
+  }
+
+  /**
+   * @return a new view over the same state specification if the given specification is a view that has not been
+   * modified, otherwise the given specification.
+   */
+  static Specification fork(Specification specification) {
+    if (specification instanceof SpecificationView && !((SpecificationView) specification).detached) {
+      return new SpecificationView(((SpecificationView) specification).source);
+    }
+    return specification;
+  }
+
+  @Override
+  public String getDescription() {
+    return detached ? super.getDescription() : source.getDescription();
+  }
+
+  @Override
+  public List<Tag> getTags() {
+    return tags;
+  }
+
+  @Override
+  public String getType() {
+    return detached ? super.getType() : source.getType();
+  }
+
+  @Override
+  public ObjectNode getConfiguration() {
+    return detached ? super.getConfiguration() : source.getConfiguration();
+  }
+
+  @Override
+  public List<Security> getSecurity() {
+    return security;
+  }
+
+  @Override
+  public String getFunction() {
+    if (detached) {
+      return super.getFunction();
+    }
+    return source.getFunction() == null ? "" : source.getFunction();
+  }
+
+  @Override
+  public void setDescription(String description) {
+    detach();
+    super.setDescription(description);
+  }
+
+  @Override
+  public void setTags(List<Tag> tags) {
+    detach();
+    super.setTags(tags);
+  }
+
+  @Override
+  public void setType(String type) {
+    detach();
+    super.setType(type);
+  }
+
+  @Override
+  public void setConfiguration(ObjectNode configuration) {
+    detach();
+    super.setConfiguration(configuration);
+  }
+
+  @Override
+  public void setSecurity(List<Security> security) {
+    detach();
+    super.setSecurity(security);
+  }
+
+  @Override
+  public void setFunction(String function) {
+    detach();
+    super.setFunction(function);
+  }
+
+  private synchronized void detach() {
+    if (!detached) {
+      super.setDescription(getDescription());
+      super.setTags(new ArrayList<>(tags));
+      super.setType(getType());
+      super.setConfiguration(getConfiguration());
+      super.setSecurity(new ArrayList<>(security));
+      super.setFunction(getFunction());
+      detached = true;
+    }
+  }
+
+  private List<com.expediagroup.streamplatform.streamregistry.state.model.specification.Tag> sourceTags() {
+    return source.getTags();
+  }
+
+  private List<Map.Entry<String, List<com.expediagroup.streamplatform.streamregistry.state.model.specification.Principal>>> sourceSecurity() {
+    if (securityEntries == null) {
+      securityEntries = new ArrayList<>(source.getSecurity().entrySet());
+    }
+    return securityEntries;
+  }
+
+  private static Tag tag(com.expediagroup.streamplatform.streamregistry.state.model.specification.Tag tag) {
+    return new Tag(tag.getName(), tag.getValue());
+  }
+
+  private static Security security(Map.Entry<String, List<com.expediagroup.streamplatform.streamregistry.state.model.specification.Principal>> entry) {
+    List<com.expediagroup.streamplatform.streamregistry.state.model.specification.Principal> principals = entry.getValue();
+    return new Security(entry.getKey(), new AbstractList<Principal>() {
+      @Override
+      public Principal get(int index) {
+        return new Principal(principals.get(index).getName());
+      }
+
+      @Override
+      public int size() {
+        return principals.size();
+      }
+    });
+  }
+
+  /**
+   * Maps the elements of a state list until the specification is detached, then reads and writes the detached list.
+   */
+  private final class DetachingList<S, T> extends AbstractList<T> {
+    private final Supplier<List<S>> source;
+    private final Function<S, T> mapper;
+    private final Supplier<List<T>> detachedList;
+
+    private DetachingList(Supplier<List<S>> source, Function<S, T> mapper, Supplier<List<T>> detachedList) {
+      this.source = source;
+      this.mapper = mapper;
+      this.detachedList = detachedList;
+    }
+
+    @Override
+    public T get(int index) {
+      return detached ? detachedList.get().get(index) : mapper.apply(source.get().get(index));
+    }
+
+    @Override
+    public int size() {
+      return detached ? detachedList.get().size() : source.get().size();
+    }
+
+    @Override
+    public T set(int index, T element) {
+      return writable().set(index, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+      writable().add(index, element);
+    }
+
+    @Override
+    public T remove(int index) {
+      return writable().remove(index);
+    }
+
+    private List<T> writable() {
+      detach();
+      return detachedList.get();
+    }
+  }
+}
@@ -15,14 +15,15 @@
  */
 package com.expediagroup.streamplatform.streamregistry.repository.kafka;
 
-import static java.util.stream.Collectors.toList;
-
 import java.util.List;
 
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ParentKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.StreamBindingKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ParentKeyConverter;
 import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.StreamBindingConverter;
 import com.expediagroup.streamplatform.streamregistry.state.EntityView;
 import com.expediagroup.streamplatform.streamregistry.state.EventSender;
@@ -33,15 +34,18 @@ import com.expediagroup.streamplatform.streamregistry.state.model.specification.
 public class StreamBindingRepository
     extends DefaultRepository<StreamBinding, StreamBindingKey, Entity.StreamBindingKey, DefaultSpecification>
     implements com.expediagroup.streamplatform.streamregistry.repository.StreamBindingRepository {
-  StreamBindingRepository(EntityView view, EventSender sender, StreamBindingConverter converter) {
-    super(view, sender, converter, Entity.StreamBindingKey.class);
+  StreamBindingRepository(EntityView view, EventSender sender, StreamBindingConverter converter,
+      ParentKeyConverter parentKeyConverter, ConversionCache conversionCache) {
+    super(view, sender, converter, Entity.StreamBindingKey.class, parentKeyConverter, conversionCache);
   }
 
+  /**
+   * @deprecated Use {@link #findAllByParent(ParentKey)} with the {@link StreamKey} of the stream binding.
+   */
   @Override
+  @Deprecated
   public List<StreamBinding> findAll(StreamBinding example) {
-    return findAll().stream()
-            .filter(sb -> sb.getKey().getStreamKey().equals(example.getKey().getStreamKey()))
-            .collect(toList());
+    return findAllByParent(example.getKey().getStreamKey());
   }
 
 }
@@ -19,6 +19,7 @@ import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.model.Stream;
 import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ParentKeyConverter;
 import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.StreamConverter;
 import com.expediagroup.streamplatform.streamregistry.state.EntityView;
 import com.expediagroup.streamplatform.streamregistry.state.EventSender;
@@ -29,7 +30,8 @@ import com.expediagroup.streamplatform.streamregistry.state.model.specification.
 public class StreamRepository
     extends DefaultRepository<Stream, StreamKey, Entity.StreamKey, StreamSpecification>
     implements com.expediagroup.streamplatform.streamregistry.repository.StreamRepository {
-  StreamRepository(EntityView view, EventSender sender, StreamConverter converter) {
-    super(view, sender, converter, Entity.StreamKey.class);
+  StreamRepository(EntityView view, EventSender sender, StreamConverter converter,
+      ParentKeyConverter parentKeyConverter, ConversionCache conversionCache) {
+    super(view, sender, converter, Entity.StreamKey.class, parentKeyConverter, conversionCache);
   }
 }
@@ -19,6 +19,7 @@ import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.model.Zone;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ZoneKey;
+import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ParentKeyConverter;
 import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ZoneConverter;
 import com.expediagroup.streamplatform.streamregistry.state.EntityView;
 import com.expediagroup.streamplatform.streamregistry.state.EventSender;
@@ -29,7 +30,8 @@ import com.expediagroup.streamplatform.streamregistry.state.model.specification.
 public class ZoneRepository
     extends DefaultRepository<Zone, ZoneKey, Entity.ZoneKey, DefaultSpecification>
     implements com.expediagroup.streamplatform.streamregistry.repository.ZoneRepository {
-  ZoneRepository(EntityView view, EventSender sender, ZoneConverter converter) {
-    super(view, sender, converter, Entity.ZoneKey.class);
+  ZoneRepository(EntityView view, EventSender sender, ZoneConverter converter,
+      ParentKeyConverter parentKeyConverter, ConversionCache conversionCache) {
+    super(view, sender, converter, Entity.ZoneKey.class, parentKeyConverter, conversionCache);
   }
 }
@@ -18,6 +18,8 @@ package com.expediagroup.streamplatform.streamregistry.repository.kafka;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import java.util.Collections;
 import java.util.List;
@@ -49,23 +51,23 @@ public class ConsumerBindingRepositoryTest {
   private ConsumerBindingRepository underTest;
 
   @Test
-  public void findAllMatch() {
+  public void findAllUsesParentIndex() {
     ConsumerBinding consumerBinding = SampleModel.consumerBinding();
-    doReturn(Collections.singletonList(consumerBinding)).when(underTest).findAll();
+    doReturn(Collections.singletonList(consumerBinding)).when(underTest).findAllByParent(consumerBinding.getKey().getConsumerKey());
 
     List<ConsumerBinding> result = underTest.findAll(SampleModel.consumerBinding());
 
     assertThat(result.size(), is(1));
     assertThat(result.get(0), is(SampleModel.consumerBinding()));
+    verify(underTest, never()).findAll();
   }
 
   @Test
   public void findAllNoMatch() {
     ConsumerBinding consumerBinding = SampleModel.consumerBinding();
-    consumerBinding.getKey().setConsumerName("different consumer");
-    doReturn(Collections.singletonList(consumerBinding)).when(underTest).findAll();
+    doReturn(Collections.emptyList()).when(underTest).findAllByParent(consumerBinding.getKey().getConsumerKey());
 
-    List<ConsumerBinding> result = underTest.findAll(SampleModel.consumerBinding());
+    List<ConsumerBinding> result = underTest.findAll(consumerBinding);
 
     assertThat(result.size(), is(0));
   }
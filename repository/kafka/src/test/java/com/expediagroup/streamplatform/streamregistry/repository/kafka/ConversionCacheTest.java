@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2018-2021 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.kafka;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.Test;
+
+import com.expediagroup.streamplatform.streamregistry.model.Domain;
+import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.DomainConverter;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.DefaultSpecification;
+
+public class ConversionCacheTest {
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final DomainConverter converter = new DomainConverter();
+  private final ConversionCache underTest = new ConversionCache(meterRegistry);
+
+  private final Entity<Entity.DomainKey, DefaultSpecification> entity = SampleState.domain();
+
+  @Test
+  public void convertsUnchangedEntityOnce() {
+    Domain first = underTest.convert(entity, converter);
+    Domain second = underTest.convert(entity, converter);
+
+    assertThat(first, is(SampleModel.domain()));
+    assertThat(second, is(SampleModel.domain()));
+    assertThat(second.getStatus(), is(sameInstance(first.getStatus())));
+    assertThat(misses(), is(1.0));
+    assertThat(hits(), is(1.0));
+  }
+
+  @Test
+  public void readsAreIndependentCopies() {
+    Domain first = underTest.convert(entity, converter);
+    first.setStatus(null);
+    first.getSpecification().setDescription("changed");
+
+    Domain second = underTest.convert(entity, converter);
+
+    assertThat(second, is(not(sameInstance(first))));
+    assertThat(second, is(SampleModel.domain()));
+  }
+
+  @Test
+  public void changedEntityIsConvertedAgain() {
+    underTest.convert(entity, converter);
+
+    Domain result = underTest.convert(entity.withSpecification(entity.getSpecification().withDescription("updated")), converter);
+
+    assertThat(result.getSpecification().getDescription(), is("updated"));
+    assertThat(misses(), is(2.0));
+  }
+
+  @Test
+  public void invalidate() {
+    underTest.convert(entity, converter);
+    underTest.invalidate(entity.getKey());
+
+    underTest.convert(entity, converter);
+
+    assertThat(misses(), is(2.0));
+    assertThat(meterRegistry.get("stream_registry_repository.conversion.size").gauge().value(), is(1.0));
+  }
+
+  private double hits() {
+    return meterRegistry.counter("stream_registry_repository.conversion", "result", "hit").count();
+  }
+
+  private double misses() {
+    return meterRegistry.counter("stream_registry_repository.conversion", "result", "miss").count();
+  }
+}
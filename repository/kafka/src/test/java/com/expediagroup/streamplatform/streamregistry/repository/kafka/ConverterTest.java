@@ -24,6 +24,7 @@ import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter
 import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ConsumerConverter;
 import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.DomainConverter;
 import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.InfrastructureConverter;
+import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ParentKeyConverter;
 import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ProcessBindingConverter;
 import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ProcessConverter;
 import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ProducerBindingConverter;
@@ -47,11 +48,14 @@ public class ConverterTest {
   private final ProducerBindingConverter producerBindingConverter = new ProducerBindingConverter(producerConverter, streamBindingConverter);
   private final ConsumerBindingConverter consumerBindingConverter = new ConsumerBindingConverter(consumerConverter, streamBindingConverter);
   private final ProcessBindingConverter processBindingConverter = new ProcessBindingConverter(domainConverter, zoneConverter, streamBindingConverter);
+  private final ParentKeyConverter parentKeyConverter = new ParentKeyConverter(domainConverter, schemaConverter, streamConverter,
+      zoneConverter, infrastructureConverter, producerConverter, consumerConverter, processConverter, streamBindingConverter);
 
   @Test
   public void domain() {
     assertThat(domainConverter.convertEntity(SampleModel.domain()), is(SampleState.domain()));
     assertThat(domainConverter.convertEntity(SampleState.domain()), is(SampleModel.domain()));
+    assertThat(domainConverter.copy(SampleModel.domain()), is(SampleModel.domain()));
   }
 
   @Test
@@ -64,12 +68,14 @@ public class ConverterTest {
   public void stream() {
     assertThat(streamConverter.convertEntity(SampleModel.stream()), is(SampleState.stream()));
     assertThat(streamConverter.convertEntity(SampleState.stream()), is(SampleModel.stream()));
+    assertThat(streamConverter.copy(SampleModel.stream()), is(SampleModel.stream()));
   }
 
   @Test
   public void process() {
     assertThat(processConverter.convertEntity(SampleModel.process()), is(SampleState.process()));
     assertThat(processConverter.convertEntity(SampleState.process()), is(SampleModel.process()));
+    assertThat(processConverter.copy(SampleModel.process()), is(SampleModel.process()));
   }
 
   @Test
@@ -118,6 +124,7 @@ public class ConverterTest {
   public void processBinding() {
     assertThat(processBindingConverter.convertEntity(SampleModel.processBinding()), is(SampleState.processBinding()));
     assertThat(processBindingConverter.convertEntity(SampleState.processBinding()), is(SampleModel.processBinding()));
+    assertThat(processBindingConverter.copy(SampleModel.processBinding()), is(SampleModel.processBinding()));
   }
 
   @Test
@@ -127,4 +134,13 @@ public class ConverterTest {
     assertThat(processConverter.convertEntity(SampleModel.processWithoutFunction()), is(SampleState.processWithoutFunction()));
     assertThat(processBindingConverter.convertEntity(SampleModel.processBindingWithoutFunction()), is(SampleState.processBindingWithoutFunction()));
   }
+
+  @Test
+  public void parentKey() {
+    assertThat(parentKeyConverter.convertKey(SampleModel.domainKey()), is(SampleState.domainKey()));
+    assertThat(parentKeyConverter.convertKey(SampleModel.streamKey()), is(SampleState.streamKey()));
+    assertThat(parentKeyConverter.convertKey(SampleModel.zoneKey()), is(SampleState.zoneKey()));
+    assertThat(parentKeyConverter.convertKey(SampleModel.consumerKey()), is(SampleState.consumerKey()));
+    assertThat(parentKeyConverter.convertKey(SampleModel.streamBindingKey()), is(SampleState.streamBindingKey()));
+  }
 }
@@ -15,20 +15,34 @@
  */
 package com.expediagroup.streamplatform.streamregistry.repository.kafka;
 
+import static com.expediagroup.streamplatform.streamregistry.state.AckLevel.APPLIED;
+import static com.expediagroup.streamplatform.streamregistry.state.AckLevel.BROKER;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -36,13 +50,20 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import com.expediagroup.streamplatform.streamregistry.model.Domain;
+import com.expediagroup.streamplatform.streamregistry.model.Status;
+import com.expediagroup.streamplatform.streamregistry.model.keys.DomainKey;
+import com.expediagroup.streamplatform.streamregistry.repository.AckLevel;
+import com.expediagroup.streamplatform.streamregistry.repository.AckLevelContext;
+import com.expediagroup.streamplatform.streamregistry.repository.AttributeQuery;
+import com.expediagroup.streamplatform.streamregistry.repository.KeyFilter;
 import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.DomainConverter;
+import com.expediagroup.streamplatform.streamregistry.repository.kafka.Converter.ParentKeyConverter;
+import com.expediagroup.streamplatform.streamregistry.state.CoalescingEventSender;
 import com.expediagroup.streamplatform.streamregistry.state.EntityView;
 import com.expediagroup.streamplatform.streamregistry.state.EventSender;
 import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
 import com.expediagroup.streamplatform.streamregistry.state.model.event.Event;
 import com.expediagroup.streamplatform.streamregistry.state.model.event.SpecificationEvent;
-import com.expediagroup.streamplatform.streamregistry.state.model.event.StatusEvent;
 import com.expediagroup.streamplatform.streamregistry.state.model.specification.DefaultSpecification;
 import com.expediagroup.streamplatform.streamregistry.state.model.status.DefaultStatus;
 import com.expediagroup.streamplatform.streamregistry.state.model.status.StatusEntry;
@@ -53,13 +74,14 @@ public class DefaultRepositoryTest {
 
   @Mock private EntityView view;
   @Mock private EventSender sender;
+  @Mock private ParentKeyConverter parentKeyConverter;
   private DomainConverter converter = new DomainConverter();
 
   private DomainRepository underTest;
 
   @Before
   public void before() {
-    underTest = new DomainRepository(view, sender, converter);
+    underTest = new DomainRepository(view, sender, converter, parentKeyConverter, new ConversionCache(new SimpleMeterRegistry()));
   }
 
   @Test
@@ -69,7 +91,7 @@ public class DefaultRepositoryTest {
 
     when(view.get(SampleState.domainKey())).thenReturn(Optional.of(domain));
 
-    when(sender.send(any(SpecificationEvent.class))).thenReturn(completedFuture(null));
+    when(sender.send(any(SpecificationEvent.class), eq(APPLIED))).thenReturn(completedFuture(null));
 
     Domain result = underTest.saveSpecification(SampleModel.domain());
 
@@ -77,8 +99,8 @@ public class DefaultRepositoryTest {
 
     Entity<Entity.DomainKey, DefaultSpecification> expected = SampleState.domain();
 
-    verify(sender).send(Event.specification(expected.getKey(), expected.getSpecification()));
-    verify(sender, never()).send(Event.status(expected.getKey(), new StatusEntry("agentStatus", mapper.createObjectNode())));
+    verify(sender).send(Event.specification(expected.getKey(), expected.getSpecification()), APPLIED);
+    verify(sender, never()).send(Event.status(expected.getKey(), new StatusEntry("agentStatus", mapper.createObjectNode())), APPLIED);
   }
 
   @Test
@@ -89,7 +111,7 @@ public class DefaultRepositoryTest {
 
     when(view.get(SampleState.domainKey())).thenReturn(Optional.of(domain));
 
-    when(sender.send(any(StatusEvent.class))).thenReturn(completedFuture(null));
+    when(sender.sendAll(any(), eq(APPLIED))).thenReturn(completedFuture(null));
 
     Domain result = underTest.saveStatus(SampleModel.domain());
 
@@ -97,15 +119,32 @@ public class DefaultRepositoryTest {
 
     Entity<Entity.DomainKey, DefaultSpecification> expected = SampleState.domain();
 
-    verify(sender, never()).send(Event.specification(expected.getKey(), expected.getSpecification()));
-    verify(sender).send(Event.status(expected.getKey(), new StatusEntry("agentStatus", mapper.createObjectNode())));
+    verify(sender, never()).send(Event.specification(expected.getKey(), expected.getSpecification()), APPLIED);
+    verify(sender).sendAll(singletonList(Event.status(expected.getKey(), new StatusEntry("agentStatus", mapper.createObjectNode()))), APPLIED);
+  }
+
+  @Test
+  public void saveStatusBackToViewValueWhileCoalescing() throws Exception {
+    when(view.get(SampleState.domainKey())).thenReturn(Optional.of(SampleState.domain()));
+    when(sender.sendAll(any(), eq(APPLIED))).thenReturn(completedFuture(null));
+    CoalescingEventSender coalescing = new CoalescingEventSender(sender, Duration.ofHours(1));
+    underTest = new DomainRepository(view, coalescing, converter, parentKeyConverter, new ConversionCache(new SimpleMeterRegistry()));
+
+    Domain changed = SampleModel.domain();
+    changed.setStatus(new Status(mapper.createObjectNode().put("foo", "bar")));
+    underTest.saveStatusAsync(changed);
+    CompletableFuture<Domain> reverted = underTest.saveStatusAsync(SampleModel.domain());
+    coalescing.close();
+
+    assertThat(reverted.join(), is(SampleModel.domain()));
+    verify(sender).sendAll(singletonList(Event.status(SampleState.domainKey(), new StatusEntry("agentStatus", mapper.createObjectNode()))), APPLIED);
   }
 
   @Test
   public void saveNewSpecification() {
     when(view.get(SampleState.domainKey())).thenReturn(Optional.empty());
 
-    when(sender.send(any(SpecificationEvent.class))).thenReturn(completedFuture(null));
+    when(sender.send(any(SpecificationEvent.class), eq(APPLIED))).thenReturn(completedFuture(null));
 
     Domain result = underTest.saveSpecification(SampleModel.domain());
 
@@ -113,15 +152,42 @@ public class DefaultRepositoryTest {
 
     Entity<Entity.DomainKey, DefaultSpecification> expected = SampleState.domain();
 
-    verify(sender).send(Event.specification(expected.getKey(), expected.getSpecification()));
-    verify(sender, never()).send(Event.status(expected.getKey(), new StatusEntry("agentStatus", mapper.createObjectNode())));
+    verify(sender).send(Event.specification(expected.getKey(), expected.getSpecification()), APPLIED);
+    verify(sender, never()).send(Event.status(expected.getKey(), new StatusEntry("agentStatus", mapper.createObjectNode())), APPLIED);
+  }
+
+  @Test
+  public void saveSpecificationAsyncDoesNotWait() {
+    when(view.get(SampleState.domainKey())).thenReturn(Optional.empty());
+
+    CompletableFuture<Void> sent = new CompletableFuture<>();
+    when(sender.send(any(SpecificationEvent.class), eq(APPLIED))).thenReturn(sent);
+
+    CompletableFuture<Domain> result = underTest.saveSpecificationAsync(SampleModel.domain());
+
+    assertThat(result.isDone(), is(false));
+    sent.complete(null);
+    assertThat(result.join(), is(SampleModel.domain()));
+  }
+
+  @Test
+  public void saveSpecificationWithAckLevel() throws Exception {
+    when(view.get(SampleState.domainKey())).thenReturn(Optional.empty());
+
+    when(sender.send(any(SpecificationEvent.class), eq(BROKER))).thenReturn(completedFuture(null));
+
+    AckLevelContext.call(AckLevel.BROKER, () -> underTest.saveSpecification(SampleModel.domain()));
+
+    Entity<Entity.DomainKey, DefaultSpecification> expected = SampleState.domain();
+    verify(sender).send(Event.specification(expected.getKey(), expected.getSpecification()), BROKER);
+    assertThat(AckLevelContext.get(), is(AckLevel.APPLIED));
   }
 
   @Test
   public void saveNewEntityStatus() {
     when(view.get(SampleState.domainKey())).thenReturn(Optional.empty());
 
-    when(sender.send(any(StatusEvent.class))).thenReturn(completedFuture(null));
+    when(sender.sendAll(any(), eq(APPLIED))).thenReturn(completedFuture(null));
 
     Domain result = underTest.saveStatus(SampleModel.domain());
 
@@ -129,8 +195,8 @@ public class DefaultRepositoryTest {
 
     Entity<Entity.DomainKey, DefaultSpecification> expected = SampleState.domain();
 
-    verify(sender, never()).send(Event.specification(expected.getKey(), expected.getSpecification()));
-    verify(sender).send(Event.status(expected.getKey(), new StatusEntry("agentStatus", mapper.createObjectNode())));
+    verify(sender, never()).send(Event.specification(expected.getKey(), expected.getSpecification()), APPLIED);
+    verify(sender).sendAll(singletonList(Event.status(expected.getKey(), new StatusEntry("agentStatus", mapper.createObjectNode()))), APPLIED);
   }
 
   @Test
@@ -143,6 +209,16 @@ public class DefaultRepositoryTest {
     assertThat(result.get(), is(SampleModel.domain()));
   }
 
+  @Test
+  public void findAllByIdSkipsMissingKeys() {
+    when(view.get(SampleState.domainKey())).thenReturn(Optional.of(SampleState.domain()));
+    when(view.get(new Entity.DomainKey("missing"))).thenReturn(Optional.empty());
+
+    List<Domain> result = underTest.findAllById(List.of(SampleModel.domainKey(), new DomainKey("missing")));
+
+    assertThat(result, is(List.of(SampleModel.domain())));
+  }
+
   @Test
   public void findAll() {
     when(view.all(Entity.DomainKey.class)).thenReturn(Stream.of(SampleState.domain()));
@@ -153,6 +229,89 @@ public class DefaultRepositoryTest {
     assertThat(result.get(0), is(SampleModel.domain()));
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void streamFiltersModelKeys() {
+    Entity<Entity.DomainKey, DefaultSpecification> domain = SampleState.domain();
+    Entity<Entity.DomainKey, DefaultSpecification> other = new Entity<>(new Entity.DomainKey("other"), domain.getSpecification(), domain.getStatus());
+    when(view.all(eq(Entity.DomainKey.class), any())).thenAnswer(invocation ->
+        Stream.of(domain, other).filter(entity -> invocation.getArgument(1, Predicate.class).test(entity.getKey())));
+
+    List<Domain> result = underTest.stream(key -> key.getName().equals("other")).collect(toList());
+
+    assertThat(result.size(), is(1));
+    assertThat(result.get(0).getKey().getName(), is("other"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void streamAfterConvertsKeys() {
+    Entity<Entity.DomainKey, DefaultSpecification> domain = SampleState.domain();
+    Entity<Entity.DomainKey, DefaultSpecification> other = new Entity<>(new Entity.DomainKey("other"), domain.getSpecification(), domain.getStatus());
+    when(view.allAfter(eq(Entity.DomainKey.class), eq(SampleState.domainKey()), any())).thenAnswer(invocation ->
+        Stream.of(domain, other).filter(entity -> invocation.getArgument(2, Predicate.class).test(entity.getKey())));
+
+    List<Domain> result = underTest.streamAfter(SampleModel.domain().getKey(), key -> key.getName().equals("other")).collect(toList());
+
+    assertThat(result.size(), is(1));
+    assertThat(result.get(0).getKey().getName(), is("other"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void streamPassesKeyRegexesToView() {
+    Entity<Entity.DomainKey, DefaultSpecification> domain = SampleState.domain();
+    when(view.all(eq(Entity.DomainKey.class), any())).thenAnswer(invocation -> {
+      com.expediagroup.streamplatform.streamregistry.state.KeyFilter<Entity.DomainKey> keyFilter = invocation.getArgument(1);
+      assertThat(keyFilter.getRegexes(), is(singletonList("dom.*")));
+      return Stream.of(domain).filter(entity -> keyFilter.test(entity.getKey()));
+    });
+
+    List<Domain> result = underTest.stream(new KeyFilter<DomainKey>(singletonList("dom.*"), key -> true)).collect(toList());
+
+    assertThat(result, is(singletonList(SampleModel.domain())));
+  }
+
+  @Test
+  public void streamLooksUpIndexedKeys() {
+    Entity<Entity.DomainKey, DefaultSpecification> domain = SampleState.domain();
+    Entity.DomainKey otherKey = new Entity.DomainKey("other");
+    List<com.expediagroup.streamplatform.streamregistry.state.AttributeQuery> tagQueries =
+        singletonList(new com.expediagroup.streamplatform.streamregistry.state.AttributeQuery("team", "x"));
+    when(view.keysMatching(Entity.DomainKey.class, tagQueries, emptyList())).thenReturn(Set.of(domain.getKey(), otherKey));
+    when(view.get(domain.getKey())).thenReturn(Optional.of(domain));
+
+    List<Domain> result = underTest.stream(singletonList(new AttributeQuery("team", "x")), emptyList(), key -> !key.getName().equals("other")).collect(toList());
+
+    assertThat(result, is(singletonList(SampleModel.domain())));
+    verify(view, never()).get(otherKey);
+  }
+
+  @Test
+  public void findAllByParent() {
+    Entity.DomainKey parentKey = new Entity.DomainKey("parent");
+    doReturn(parentKey).when(parentKeyConverter).convertKey(new DomainKey("parent"));
+    when(view.children(parentKey, Entity.DomainKey.class)).thenReturn(Stream.of(SampleState.domain()));
+
+    List<Domain> result = underTest.findAllByParent(new DomainKey("parent"));
+
+    assertThat(result.size(), is(1));
+    assertThat(result.get(0), is(SampleModel.domain()));
+  }
+
+  @Test
+  public void deleteSendsOneBatch() {
+    when(sender.sendAll(any(), eq(APPLIED))).thenReturn(completedFuture(null));
+
+    underTest.delete(SampleModel.domain());
+
+    Entity<Entity.DomainKey, DefaultSpecification> expected = SampleState.domain();
+    verify(sender).sendAll(asList(
+        Event.statusDeletion(expected.getKey(), "agentStatus"),
+        Event.specificationDeletion(expected.getKey())
+    ), APPLIED);
+  }
+
   @Test(expected = UnsupportedOperationException.class)
   public void findAllExample() {
     underTest.findAll(null);
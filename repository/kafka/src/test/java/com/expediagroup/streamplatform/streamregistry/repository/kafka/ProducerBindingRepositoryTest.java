@@ -18,6 +18,8 @@ package com.expediagroup.streamplatform.streamregistry.repository.kafka;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import java.util.Collections;
 import java.util.List;
@@ -49,23 +51,23 @@ public class ProducerBindingRepositoryTest {
   private ProducerBindingRepository underTest;
 
   @Test
-  public void findAllMatch() {
+  public void findAllUsesParentIndex() {
     ProducerBinding producerBinding = SampleModel.producerBinding();
-    doReturn(Collections.singletonList(producerBinding)).when(underTest).findAll();
+    doReturn(Collections.singletonList(producerBinding)).when(underTest).findAllByParent(producerBinding.getKey().getProducerKey());
 
     List<ProducerBinding> result = underTest.findAll(SampleModel.producerBinding());
 
     assertThat(result.size(), is(1));
     assertThat(result.get(0), is(SampleModel.producerBinding()));
+    verify(underTest, never()).findAll();
   }
 
   @Test
   public void findAllNoMatch() {
     ProducerBinding producerBinding = SampleModel.producerBinding();
-    producerBinding.getKey().setProducerName("different producer");
-    doReturn(Collections.singletonList(producerBinding)).when(underTest).findAll();
+    doReturn(Collections.emptyList()).when(underTest).findAllByParent(producerBinding.getKey().getProducerKey());
 
-    List<ProducerBinding> result = underTest.findAll(SampleModel.producerBinding());
+    List<ProducerBinding> result = underTest.findAll(producerBinding);
 
     assertThat(result.size(), is(0));
   }
@@ -35,11 +35,13 @@ public class PurgingEntityViewListenerTest {
 
   @Mock
   private EntityView view;
+  @Mock
+  private ConversionCache conversionCache;
   private PurgingEntityViewListener purgingEntityViewListener;
   
   @Before
   public void before() {
-    purgingEntityViewListener = new PurgingEntityViewListener(view);
+    purgingEntityViewListener = new PurgingEntityViewListener(view, conversionCache);
   }
 
   @Test
@@ -57,4 +59,11 @@ public class PurgingEntityViewListenerTest {
 
     verifyNoInteractions(view);
   }
+
+  @Test
+  public void invalidateConversions() {
+    purgingEntityViewListener.onEvent(null, domainStatusEvent());
+
+    verify(conversionCache).invalidate(domainStatusEvent().getKey());
+  }
 }
\ No newline at end of file
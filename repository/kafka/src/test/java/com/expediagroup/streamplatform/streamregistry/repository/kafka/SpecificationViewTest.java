@@ -0,0 +1,78 @@
+/**
+ * Copyright (C) 2018-2021 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.kafka;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import com.expediagroup.streamplatform.streamregistry.model.Specification;
+import com.expediagroup.streamplatform.streamregistry.model.Tag;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.DefaultSpecification;
+
+public class SpecificationViewTest {
+  private final DefaultSpecification source = SampleState.domain().getSpecification();
+  private final Specification expected = SampleModel.domain().getSpecification();
+
+  @Test
+  public void readsSource() {
+    SpecificationView underTest = new SpecificationView(source);
+
+    assertThat(underTest, is(expected));
+    assertThat(expected, is(underTest));
+    assertThat(underTest.hashCode(), is(expected.hashCode()));
+    assertThat(underTest.getConfiguration(), is(sameInstance(source.getConfiguration())));
+  }
+
+  @Test
+  public void setterDetaches() {
+    SpecificationView underTest = new SpecificationView(source);
+
+    underTest.setDescription("changed");
+
+    assertThat(underTest.getDescription(), is("changed"));
+    assertThat(underTest.getTags(), is(expected.getTags()));
+    assertThat(underTest.getSecurity(), is(expected.getSecurity()));
+    assertThat(source, is(SampleState.domain().getSpecification()));
+  }
+
+  @Test
+  public void listChangeDetaches() {
+    SpecificationView underTest = new SpecificationView(source);
+
+    underTest.getTags().add(new Tag("other", "value"));
+
+    assertThat(underTest.getTags().size(), is(2));
+    assertThat(underTest.getDescription(), is(expected.getDescription()));
+    assertThat(source.getTags().size(), is(1));
+  }
+
+  @Test
+  public void forkUnmodifiedView() {
+    SpecificationView view = new SpecificationView(source);
+
+    Specification fork = SpecificationView.fork(view);
+    view.setDescription("changed");
+
+    assertThat(fork, is(not(sameInstance(view))));
+    assertThat(fork, is(expected));
+    assertThat(SpecificationView.fork(view), is(sameInstance(view)));
+    assertThat(SpecificationView.fork(expected), is(sameInstance(expected)));
+  }
+}
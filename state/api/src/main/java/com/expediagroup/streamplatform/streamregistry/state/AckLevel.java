@@ -0,0 +1,36 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state;
+
+/**
+ * How far a sent {@link com.expediagroup.streamplatform.streamregistry.state.model.event.Event} must have got before
+ * the future returned by the {@link EventSender} completes.
+ */
+public enum AckLevel {
+  /**
+   * Completes once the event has been handed to the sender. Failures are only logged.
+   */
+  FIRE_AND_FORGET,
+  /**
+   * Completes once the event has been acknowledged by the broker.
+   */
+  BROKER,
+  /**
+   * Completes once the event has been received back by this node, if the sender has a correlator, so that it can be
+   * read from the local view. Otherwise the same as {@link #BROKER}.
+   */
+  APPLIED
+}
@@ -0,0 +1,59 @@
+/**
+ * Copyright (C) 2018-2024 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.Value;
+
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.Principal;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.Specification;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.Tag;
+
+/**
+ * Selects entities by a tag or by a principal of a security role of their specification. The name is matched against
+ * the tag name or role and the value against the tag value or principal name. Both are regular expressions that must
+ * match the whole string, and a null expression matches anything.
+ */
+@Value
+public class AttributeQuery {
+  String nameRegex;
+  String valueRegex;
+
+  /**
+   * @return whether the specification has a tag matching this query.
+   */
+  public boolean matchesTags(Specification specification) {
+    List<Tag> tags = specification.getTags();
+    return tags != null && tags.stream().anyMatch(tag -> matches(tag.getName(), nameRegex) && matches(tag.getValue(), valueRegex));
+  }
+
+  /**
+   * @return whether the specification has a principal of a role matching this query.
+   */
+  public boolean matchesSecurity(Specification specification) {
+    Map<String, List<Principal>> security = specification.getSecurity();
+    return security != null && security.entrySet().stream()
+        .filter(role -> matches(role.getKey(), nameRegex))
+        .flatMap(role -> role.getValue().stream())
+        .anyMatch(principal -> matches(principal.getName(), valueRegex));
+  }
+
+  private static boolean matches(String value, String regex) {
+    return regex == null || value != null && value.matches(regex);
+  }
+}
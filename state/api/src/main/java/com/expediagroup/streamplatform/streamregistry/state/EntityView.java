@@ -15,13 +15,19 @@
  */
 package com.expediagroup.streamplatform.streamregistry.state;
 
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
 import com.expediagroup.streamplatform.streamregistry.state.model.Entity.Key;
+import com.expediagroup.streamplatform.streamregistry.state.model.KeyComparator;
 import com.expediagroup.streamplatform.streamregistry.state.model.specification.Specification;
 
 /**
@@ -77,6 +83,74 @@ public interface EntityView {
    */
   <K extends Key<S>, S extends Specification> Stream<Entity<K, S>> all(Class<K> keyClass);
 
+  /**
+   * Returns a {@link Stream} containing all entities of the given {@link Key} type whose keys match the given
+   * predicate. The predicate is only given keys, so implementations may test it without reading the entities or
+   * answer it from an index, such as an index of the names within keys for a {@link KeyFilter}. The default
+   * implementation filters {@link #all(Class)}.
+   *
+   * @param keyClass  the key class of an entity type.
+   * @param keyFilter the predicate the keys must match.
+   * @param <K>       the key type.
+   * @param <S>       the specification type.
+   * @return a stream containing all entities of the given key type whose keys match the predicate.
+   */
+  default <K extends Key<S>, S extends Specification> Stream<Entity<K, S>> all(Class<K> keyClass, Predicate<? super K> keyFilter) {
+    return this.<K, S>all(keyClass).filter(entity -> keyFilter.test(entity.getKey()));
+  }
+
+  /**
+   * Returns the keys of the existing entities of the given {@link Key} type with, for each tag query, a tag matching
+   * it and, for each security query, a principal of a role matching it. Implementations may answer this from an index
+   * of tags and principals. The default implementation tests the specification of every entity.
+   *
+   * @param keyClass        the key class of an entity type.
+   * @param tagQueries      the queries the tags must match.
+   * @param securityQueries the queries the security principals must match.
+   * @param <K>             the key type.
+   * @param <S>             the specification type.
+   * @return the keys of the entities matching every query.
+   */
+  default <K extends Key<S>, S extends Specification> Set<K> keysMatching(Class<K> keyClass, List<AttributeQuery> tagQueries, List<AttributeQuery> securityQueries) {
+    return this.<K, S>all(keyClass)
+        .filter(entity -> tagQueries.stream().allMatch(query -> query.matchesTags(entity.getSpecification())))
+        .filter(entity -> securityQueries.stream().allMatch(query -> query.matchesSecurity(entity.getSpecification())))
+        .map(Entity::getKey)
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * Returns a {@link Stream} containing the entities of the given {@link Key} type whose keys follow the given key in
+   * {@link KeyComparator} order and match the given predicate, in that order. This allows the entities to be read a
+   * page at a time. The default implementation sorts {@link #all(Class, Predicate)}.
+   *
+   * @param keyClass  the key class of an entity type.
+   * @param after     the key to start after, or {@code null} to start with the first key. It need not exist.
+   * @param keyFilter the predicate the keys must match.
+   * @param <K>       the key type.
+   * @param <S>       the specification type.
+   * @return a stream containing the matching entities following the given key, in key order.
+   */
+  default <K extends Key<S>, S extends Specification> Stream<Entity<K, S>> allAfter(Class<K> keyClass, K after, Predicate<? super K> keyFilter) {
+    return this.<K, S>all(keyClass, keyFilter)
+        .filter(entity -> after == null || KeyComparator.INSTANCE.compare(entity.getKey(), after) > 0)
+        .sorted(Comparator.comparing(Entity::getKey, KeyComparator.INSTANCE));
+  }
+
+  /**
+   * Returns a {@link Stream} containing all entities of the given {@link Key} type that reference the given parent
+   * key. An entity references every key nested within its own key (e.g. a producer references its stream, the
+   * stream's domain and its zone) and every key referenced by its specification (e.g. the input and output streams of
+   * a process or the schema of a stream). Deleted entities are not returned.
+   *
+   * @param parentKey     the key of the parent entity.
+   * @param childKeyClass the key class of the child entity type.
+   * @param <K>           the child key type.
+   * @param <S>           the child specification type.
+   * @return a stream containing all entities of the given key type that reference the parent key.
+   */
+  <K extends Key<S>, S extends Specification> Stream<Entity<K, S>> children(Key<?> parentKey, Class<K> childKeyClass);
+
   /**
    * Returns a {@link Map} containing all keys of the given {@link Key} type which have been deleted but not
    * purged ({@link #purgeDeleted(Key)}) mapped to the deleted Entity (if known).
@@ -24,7 +24,8 @@ import com.expediagroup.streamplatform.streamregistry.state.model.specification.
  */
 public interface EventReceiverListener {
   /**
-   * Method invoked upon receiving an {@link Event} by the {@link EventReceiver}.
+   * Method invoked upon receiving an {@link Event} by the {@link EventReceiver}. Events of the same entity are received
+   * in order, but an {@link EventReceiver} may invoke this concurrently for events of different entities.
    *
    * @param event the event.
    * @param <K>   the key type.
@@ -16,8 +16,11 @@
 package com.expediagroup.streamplatform.streamregistry.state;
 
 import java.io.Closeable;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import lombok.NonNull;
+
 import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
 import com.expediagroup.streamplatform.streamregistry.state.model.event.Event;
 import com.expediagroup.streamplatform.streamregistry.state.model.specification.Specification;
@@ -35,4 +38,46 @@ public interface EventSender extends Closeable {
    * @return a future that completes when the event has successfully sent or when received if using a correlator.
    */
   <K extends Entity.Key<S>, S extends Specification> CompletableFuture<Void> send(Event<K, S> event);
+
+  /**
+   * Method for sending several {@link Event Events} in order. The default implementation sends each event without
+   * waiting for the previous one.
+   *
+   * @param events the events.
+   * @return a future that completes when all events have successfully sent or when received if using a correlator,
+   * or completes exceptionally as soon as one of them fails.
+   */
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  default CompletableFuture<Void> sendAll(@NonNull List<Event<?, ?>> events) {
+    return CompletableFuture.allOf(events.stream()
+      .map(event -> send((Event) event))
+      .toArray(CompletableFuture[]::new));
+  }
+
+  /**
+   * Method for sending an {@link Event} that completes at the given {@link AckLevel}. The default implementation
+   * ignores the level and completes as {@link #send(Event)} does, which satisfies every level.
+   *
+   * @param event    the event.
+   * @param ackLevel the acknowledgement to wait for.
+   * @param <K>      the key type.
+   * @param <S>      the specification type.
+   * @return a future that completes when the event has reached the given level.
+   */
+  default <K extends Entity.Key<S>, S extends Specification> CompletableFuture<Void> send(Event<K, S> event, @NonNull AckLevel ackLevel) {
+    return send(event);
+  }
+
+  /**
+   * Method for sending several {@link Event Events} in order that completes at the given {@link AckLevel}. The default
+   * implementation ignores the level and completes as {@link #sendAll(List)} does, which satisfies every level.
+   *
+   * @param events   the events.
+   * @param ackLevel the acknowledgement to wait for.
+   * @return a future that completes when all events have reached the given level, or completes exceptionally as soon
+   * as one of them fails.
+   */
+  default CompletableFuture<Void> sendAll(@NonNull List<Event<?, ?>> events, @NonNull AckLevel ackLevel) {
+    return sendAll(events);
+  }
 }
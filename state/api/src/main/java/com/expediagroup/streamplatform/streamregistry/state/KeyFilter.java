@@ -0,0 +1,43 @@
+/**
+ * Copyright (C) 2018-2024 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import lombok.NonNull;
+import lombok.Value;
+
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
+
+/**
+ * A key predicate for {@link EntityView#all(Class, Predicate)} and
+ * {@link EntityView#allAfter(Class, Entity.Key, Predicate)} that also states which names the accepted keys contain.
+ * For each regex, every key accepted by the predicate has a name that the regex matches as a whole. The names of a key
+ * are its own name, if it has one, and the names of the keys nested within it.
+ *
+ * @param <K> the key type.
+ */
+@Value
+public class KeyFilter<K extends Entity.Key<?>> implements Predicate<K> {
+  @NonNull List<String> regexes;
+  @NonNull Predicate<? super K> predicate;
+
+  @Override
+  public boolean test(K key) {
+    return predicate.test(key);
+  }
+}
@@ -0,0 +1,35 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state;
+
+import java.util.stream.Stream;
+
+import com.expediagroup.streamplatform.streamregistry.state.model.event.Event;
+
+/**
+ * An {@link EventReceiverListener} whose state can be captured as a snapshot. An {@link EventReceiver} may persist
+ * snapshots and, on the next start, replay a snapshot into the listener in place of the events it was built from.
+ */
+public interface SnapshotEventReceiverListener extends EventReceiverListener {
+  /**
+   * Returns the minimal sequence of {@link Event Events} that recreates the current state of this listener when
+   * passed to {@link #onEvent(Event)} of an empty listener. Never called concurrently with
+   * {@link #onEvent(Event)}, so the snapshot is consistent with the events received so far.
+   *
+   * @return the events of the snapshot.
+   */
+  Stream<Event<?, ?>> snapshot();
+}
@@ -15,6 +15,8 @@
  */
 package com.expediagroup.streamplatform.streamregistry.state.internal;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.util.concurrent.CompletableFuture;
 
 import com.expediagroup.streamplatform.streamregistry.state.EventReceiver;
@@ -38,6 +40,29 @@ public interface EventCorrelator {
    */
   String register(CompletableFuture<Void> future);
 
+  /**
+   * Register a {@link CompletableFuture} that completes once the {@link EventReceiver} has received the given number
+   * of events with the returned correlation id. The {@link EventSender} calls this method for a batch of events and
+   * passes the same correlation id along with each of them.
+   *
+   * @param future a future
+   * @param events the number of events in the batch.
+   * @return a correlation id.
+   */
+  String register(CompletableFuture<Void> future, int events);
+
+  /**
+   * Register a {@link CompletableFuture} for a batch of the given number of events and return the correlation id
+   * encoded as the value of the {@link #CORRELATION_ID} header. The default encoding is the UTF-8 string id.
+   *
+   * @param future a future
+   * @param events the number of events in the batch.
+   * @return the header value.
+   */
+  default byte[] registerHeader(CompletableFuture<Void> future, int events) {
+    return register(future, events).getBytes(UTF_8);
+  }
+
   /**
    * The {@link EventReceiver} calls this method when the event has been successfully received.
    *
@@ -45,6 +70,16 @@ public interface EventCorrelator {
    */
   void received(String correlationId);
 
+  /**
+   * The {@link EventReceiver} calls this method with the value of the {@link #CORRELATION_ID} header when the event
+   * has been successfully received.
+   *
+   * @param header the header value received along with the event.
+   */
+  default void received(byte[] header) {
+    received(new String(header, UTF_8));
+  }
+
   /**
    * The {@link EventSender} calls this method if it was unable to send the event.
    *
@@ -52,4 +87,15 @@ public interface EventCorrelator {
    * @param e
    */
   void failed(String correlationId, Exception e);
+
+  /**
+   * The {@link EventSender} calls this method with the value of the {@link #CORRELATION_ID} header if it was unable
+   * to send the event.
+   *
+   * @param header the header value associated with the event.
+   * @param e
+   */
+  default void failed(byte[] header, Exception e) {
+    failed(new String(header, UTF_8), e);
+  }
 }
@@ -16,6 +16,7 @@
 package com.expediagroup.streamplatform.streamregistry.state.model;
 
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.Value;
 import lombok.With;
@@ -40,23 +41,30 @@ public class Entity<K extends Entity.Key<S>, S extends Specification> {
   public Entity(K key, S specification) {
     this.key = key;
     this.specification = specification;
-    this.status = new DefaultStatus();
+    this.status = DefaultStatus.empty();
   }
 
+  /**
+   * Keys are immutable and cache their hash code. Equal keys compare by reference first, so keys that share their
+   * nested keys, such as those interned by the entity view, compare quickly.
+   */
   public interface Key<S extends Specification> {}
 
   @Value
+  @EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
   public static class DomainKey implements Entity.Key<DefaultSpecification> {
     @NonNull String name;
   }
 
   @Value
+  @EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
   public static class SchemaKey implements Entity.Key<DefaultSpecification> {
     @NonNull DomainKey domainKey;
     @NonNull String name;
   }
 
   @Value
+  @EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
   public static class StreamKey implements Entity.Key<StreamSpecification> {
     @NonNull DomainKey domainKey;
     @NonNull String name;
@@ -64,17 +72,20 @@ public class Entity<K extends Entity.Key<S>, S extends Specification> {
   }
 
   @Value
+  @EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
   public static class ZoneKey implements Entity.Key<DefaultSpecification> {
     @NonNull String name;
   }
 
   @Value
+  @EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
   public static class InfrastructureKey implements Entity.Key<DefaultSpecification> {
     @NonNull ZoneKey zoneKey;
     @NonNull String name;
   }
 
   @Value
+  @EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
   public static class ProducerKey implements Entity.Key<DefaultSpecification> {
     @NonNull StreamKey streamKey;
     @NonNull ZoneKey zoneKey;
@@ -82,6 +93,7 @@ public class Entity<K extends Entity.Key<S>, S extends Specification> {
   }
 
   @Value
+  @EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
   public static class ConsumerKey implements Entity.Key<DefaultSpecification> {
     @NonNull StreamKey streamKey;
     @NonNull ZoneKey zoneKey;
@@ -89,30 +101,35 @@ public class Entity<K extends Entity.Key<S>, S extends Specification> {
   }
 
   @Value
+  @EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
   public static class ProcessKey implements Entity.Key<ProcessSpecification> {
     @NonNull DomainKey domainKey;
     @NonNull String name;
   }
 
   @Value
+  @EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
   public static class StreamBindingKey implements Entity.Key<DefaultSpecification> {
     @NonNull StreamKey streamKey;
     @NonNull InfrastructureKey infrastructureKey;
   }
 
   @Value
+  @EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
   public static class ProducerBindingKey implements Entity.Key<DefaultSpecification> {
     @NonNull ProducerKey producerKey;
     @NonNull StreamBindingKey streamBindingKey;
   }
 
   @Value
+  @EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
   public static class ConsumerBindingKey implements Entity.Key<DefaultSpecification> {
     @NonNull ConsumerKey consumerKey;
     @NonNull StreamBindingKey streamBindingKey;
   }
 
   @Value
+  @EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
   public static class ProcessBindingKey implements Entity.Key<ProcessBindingSpecification> {
     @NonNull ProcessKey processKey;
     @NonNull ZoneKey zoneKey;
@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2018-2024 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state.model;
+
+import static java.util.Comparator.comparing;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ConsumerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ConsumerKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.DomainKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.InfrastructureKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProcessBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProcessKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProducerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProducerKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.SchemaKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.StreamBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ZoneKey;
+
+/**
+ * Orders {@link Entity.Key keys} of the same type by their fields in declaration order, comparing nested keys field by
+ * field. Keys of different types are ordered by the name of their type.
+ */
+public final class KeyComparator implements Comparator<Entity.Key<?>> {
+  public static final KeyComparator INSTANCE = new KeyComparator();
+
+  private static final Comparator<DomainKey> DOMAIN = comparing(DomainKey::getName);
+  private static final Comparator<ZoneKey> ZONE = comparing(ZoneKey::getName);
+  private static final Comparator<SchemaKey> SCHEMA = comparing(SchemaKey::getDomainKey, DOMAIN)
+      .thenComparing(SchemaKey::getName);
+  private static final Comparator<StreamKey> STREAM = comparing(StreamKey::getDomainKey, DOMAIN)
+      .thenComparing(StreamKey::getName)
+      .thenComparingInt(StreamKey::getVersion);
+  private static final Comparator<InfrastructureKey> INFRASTRUCTURE = comparing(InfrastructureKey::getZoneKey, ZONE)
+      .thenComparing(InfrastructureKey::getName);
+  private static final Comparator<ProducerKey> PRODUCER = comparing(ProducerKey::getStreamKey, STREAM)
+      .thenComparing(ProducerKey::getZoneKey, ZONE)
+      .thenComparing(ProducerKey::getName);
+  private static final Comparator<ConsumerKey> CONSUMER = comparing(ConsumerKey::getStreamKey, STREAM)
+      .thenComparing(ConsumerKey::getZoneKey, ZONE)
+      .thenComparing(ConsumerKey::getName);
+  private static final Comparator<ProcessKey> PROCESS = comparing(ProcessKey::getDomainKey, DOMAIN)
+      .thenComparing(ProcessKey::getName);
+  private static final Comparator<StreamBindingKey> STREAM_BINDING = comparing(StreamBindingKey::getStreamKey, STREAM)
+      .thenComparing(StreamBindingKey::getInfrastructureKey, INFRASTRUCTURE);
+  private static final Comparator<ProducerBindingKey> PRODUCER_BINDING = comparing(ProducerBindingKey::getProducerKey, PRODUCER)
+      .thenComparing(ProducerBindingKey::getStreamBindingKey, STREAM_BINDING);
+  private static final Comparator<ConsumerBindingKey> CONSUMER_BINDING = comparing(ConsumerBindingKey::getConsumerKey, CONSUMER)
+      .thenComparing(ConsumerBindingKey::getStreamBindingKey, STREAM_BINDING);
+  private static final Comparator<ProcessBindingKey> PROCESS_BINDING = comparing(ProcessBindingKey::getProcessKey, PROCESS)
+      .thenComparing(ProcessBindingKey::getZoneKey, ZONE);
+
+  private static final Map<Class<?>, Comparator<?>> COMPARATORS = new HashMap<>();
+
+  static {
+    COMPARATORS.put(DomainKey.class, DOMAIN);
+    COMPARATORS.put(ZoneKey.class, ZONE);
+    COMPARATORS.put(SchemaKey.class, SCHEMA);
+    COMPARATORS.put(StreamKey.class, STREAM);
+    COMPARATORS.put(InfrastructureKey.class, INFRASTRUCTURE);
+    COMPARATORS.put(ProducerKey.class, PRODUCER);
+    COMPARATORS.put(ConsumerKey.class, CONSUMER);
+    COMPARATORS.put(ProcessKey.class, PROCESS);
+    COMPARATORS.put(StreamBindingKey.class, STREAM_BINDING);
+    COMPARATORS.put(ProducerBindingKey.class, PRODUCER_BINDING);
+    COMPARATORS.put(ConsumerBindingKey.class, CONSUMER_BINDING);
+    COMPARATORS.put(ProcessBindingKey.class, PROCESS_BINDING);
+  }
+
+  private KeyComparator() {}
+
+  @Override
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  public int compare(Entity.Key<?> first, Entity.Key<?> second) {
+    if (first == second) {
+      return 0;
+    }
+    if (first.getClass() != second.getClass()) {
+      return first.getClass().getName().compareTo(second.getClass().getName());
+    }
+    Comparator comparator = COMPARATORS.get(first.getClass());
+    if (comparator == null) {
+      throw new IllegalArgumentException("Unsupported key " + first);
+    }
+    return comparator.compare(first, second);
+  }
+}
@@ -15,36 +15,41 @@
  */
 package com.expediagroup.streamplatform.streamregistry.state.model.status;
 
-import static lombok.AccessLevel.PACKAGE;
+import static lombok.AccessLevel.PRIVATE;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
-import lombok.val;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 @EqualsAndHashCode
 @ToString
-@RequiredArgsConstructor(access = PACKAGE)
+@RequiredArgsConstructor(access = PRIVATE)
 public class DefaultStatus implements Status {
+  private static final DefaultStatus EMPTY = new DefaultStatus(StatusMap.EMPTY);
+
   @NonNull
-  private final Map<String, ObjectNode> statusMap;
+  private final StatusMap statusMap;
 
   public DefaultStatus() {
-    this(new HashMap<>());
+    this(StatusMap.EMPTY);
+  }
+
+  /**
+   * @return the shared status without entries.
+   */
+  public static DefaultStatus empty() {
+    return EMPTY;
   }
 
   @Override
   public Set<String> getNames() {
-    return statusMap.keySet();
+    return statusMap.names();
   }
 
   @Override
@@ -52,25 +57,25 @@ public class DefaultStatus implements Status {
     return statusMap.get(name);
   }
 
+  /**
+   * @return an unmodifiable view of the entries. No entries are copied.
+   */
   @Override
   public List<StatusEntry> getEntries() {
-    return statusMap
-        .entrySet().stream()
-        .map(e -> new StatusEntry(e.getKey(), e.getValue()))
-        .collect(Collectors.toList());
+    return statusMap.entries();
   }
 
   @Override
   public DefaultStatus with(@NonNull StatusEntry entry) {
-    val statusMap = new HashMap<>(this.statusMap);
-    statusMap.put(entry.getName(), entry.getValue());
-    return new DefaultStatus(statusMap);
+    return new DefaultStatus(statusMap.with(entry));
   }
 
   @Override
   public Status without(@NonNull String name) {
-    val statusMap = new HashMap<>(this.statusMap);
-    statusMap.remove(name);
-    return new DefaultStatus(statusMap);
+    StatusMap statusMap = this.statusMap.without(name);
+    if (statusMap == this.statusMap) {
+      return this;
+    }
+    return statusMap.size() == 0 ? EMPTY : new DefaultStatus(statusMap);
   }
 }
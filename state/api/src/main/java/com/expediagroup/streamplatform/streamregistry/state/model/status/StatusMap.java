@@ -0,0 +1,384 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state.model.status;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Immutable map of status name to {@link StatusEntry} where {@link #with(StatusEntry)} and {@link #without(String)}
+ * share structure with the original instead of copying it. Up to {@value #ARRAY_THRESHOLD} entries, the usual case,
+ * are held in a flat array in insertion order. Larger maps are held in a hash array mapped trie, so updates copy
+ * only the O(log n) nodes on the path to the entry.
+ */
+final class StatusMap {
+  static final int ARRAY_THRESHOLD = 8;
+  static final StatusMap EMPTY = new StatusMap(new StatusEntry[0], null, 0);
+
+  private static final int BITS = 5;
+  private static final int MASK = (1 << BITS) - 1;
+  private static final int MAX_SHIFT = 30;
+
+  /** The entries when there are at most {@link #ARRAY_THRESHOLD}, otherwise null. */
+  private final StatusEntry[] array;
+  /** The trie root when there are more than {@link #ARRAY_THRESHOLD} entries, otherwise null. */
+  private final Node root;
+  private final int size;
+  private final List<StatusEntry> arrayEntries;
+  private volatile List<StatusEntry> trieEntries;
+  private int hashCode;
+
+  private StatusMap(StatusEntry[] array, Node root, int size) {
+    this.array = array;
+    this.root = root;
+    this.size = size;
+    this.arrayEntries = array == null ? null : Collections.unmodifiableList(Arrays.asList(array));
+  }
+
+  int size() {
+    return size;
+  }
+
+  ObjectNode get(String name) {
+    StatusEntry entry = entry(name);
+    return entry == null ? null : entry.getValue();
+  }
+
+  StatusEntry entry(String name) {
+    if (array != null) {
+      int index = indexOf(array, name);
+      return index < 0 ? null : array[index];
+    }
+    return get(root, hash(name), name);
+  }
+
+  StatusMap with(StatusEntry entry) {
+    String name = entry.getName();
+    if (array != null) {
+      int index = indexOf(array, name);
+      if (index >= 0) {
+        StatusEntry[] copy = array.clone();
+        copy[index] = entry;
+        return new StatusMap(copy, null, size);
+      }
+      if (size < ARRAY_THRESHOLD) {
+        StatusEntry[] copy = Arrays.copyOf(array, size + 1);
+        copy[size] = entry;
+        return new StatusMap(copy, null, size + 1);
+      }
+      Node trie = new Node(0, new Object[0]);
+      for (StatusEntry existing : array) {
+        trie = put(trie, 0, hash(existing.getName()), existing);
+      }
+      return new StatusMap(null, put(trie, 0, hash(name), entry), size + 1);
+    }
+    int hash = hash(name);
+    int newSize = get(root, hash, name) == null ? size + 1 : size;
+    return new StatusMap(null, put(root, 0, hash, entry), newSize);
+  }
+
+  StatusMap without(String name) {
+    if (array != null) {
+      int index = indexOf(array, name);
+      if (index < 0) {
+        return this;
+      }
+      if (size == 1) {
+        return EMPTY;
+      }
+      StatusEntry[] copy = new StatusEntry[size - 1];
+      System.arraycopy(array, 0, copy, 0, index);
+      System.arraycopy(array, index + 1, copy, index, size - index - 1);
+      return new StatusMap(copy, null, size - 1);
+    }
+    int hash = hash(name);
+    if (get(root, hash, name) == null) {
+      return this;
+    }
+    Node newRoot = (Node) remove(root, 0, hash, name);
+    if (size - 1 > ARRAY_THRESHOLD) {
+      return new StatusMap(null, newRoot, size - 1);
+    }
+    List<StatusEntry> remaining = new ArrayList<>(size - 1);
+    collect(newRoot, remaining);
+    return new StatusMap(remaining.toArray(new StatusEntry[0]), null, size - 1);
+  }
+
+  /**
+   * @return an unmodifiable view of the entries, built at most once per instance.
+   */
+  List<StatusEntry> entries() {
+    if (arrayEntries != null) {
+      return arrayEntries;
+    }
+    List<StatusEntry> entries = trieEntries;
+    if (entries == null) {
+      List<StatusEntry> collected = new ArrayList<>(size);
+      collect(root, collected);
+      entries = Collections.unmodifiableList(collected);
+      trieEntries = entries;
+    }
+    return entries;
+  }
+
+  /**
+   * @return an unmodifiable view of the names.
+   */
+  Set<String> names() {
+    return new AbstractSet<String>() {
+      @Override
+      public boolean contains(Object o) {
+        return o instanceof String && entry((String) o) != null;
+      }
+
+      @Override
+      public Iterator<String> iterator() {
+        Iterator<StatusEntry> entries = entries().iterator();
+        return new Iterator<String>() {
+          @Override
+          public boolean hasNext() {
+            return entries.hasNext();
+          }
+
+          @Override
+          public String next() {
+            return entries.next().getName();
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof StatusMap)) {
+      return false;
+    }
+    StatusMap other = (StatusMap) o;
+    if (size != other.size) {
+      return false;
+    }
+    for (StatusEntry entry : entries()) {
+      if (!entry.getValue().equals(other.get(entry.getName()))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = hashCode;
+    if (result == 0 && size > 0) {
+      for (StatusEntry entry : entries()) {
+        result += entry.getName().hashCode() ^ entry.getValue().hashCode();
+      }
+      hashCode = result;
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringJoiner joiner = new StringJoiner(", ", "{", "}");
+    entries().forEach(entry -> joiner.add(entry.getName() + "=" + entry.getValue()));
+    return joiner.toString();
+  }
+
+  private static int indexOf(StatusEntry[] array, String name) {
+    for (int i = 0; i < array.length; i++) {
+      if (array[i].getName().equals(name)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static int hash(String name) {
+    int hash = name.hashCode();
+    return hash ^ (hash >>> 16);
+  }
+
+  private static int bit(int hash, int shift) {
+    return 1 << ((hash >>> shift) & MASK);
+  }
+
+  private static StatusEntry get(Node node, int hash, String name) {
+    int shift = 0;
+    while (true) {
+      if (shift > MAX_SHIFT) {
+        for (Object slot : node.slots) {
+          if (((StatusEntry) slot).getName().equals(name)) {
+            return (StatusEntry) slot;
+          }
+        }
+        return null;
+      }
+      int bit = bit(hash, shift);
+      if ((node.bitmap & bit) == 0) {
+        return null;
+      }
+      Object slot = node.slots[node.index(bit)];
+      if (slot instanceof Node) {
+        node = (Node) slot;
+        shift += BITS;
+      } else {
+        StatusEntry entry = (StatusEntry) slot;
+        return entry.getName().equals(name) ? entry : null;
+      }
+    }
+  }
+
+  private static Node put(Node node, int shift, int hash, StatusEntry entry) {
+    if (shift > MAX_SHIFT) {
+      // Every entry in a collision node has the same hash
+      for (int i = 0; i < node.slots.length; i++) {
+        if (((StatusEntry) node.slots[i]).getName().equals(entry.getName())) {
+          return new Node(0, replace(node.slots, i, entry));
+        }
+      }
+      return new Node(0, insert(node.slots, node.slots.length, entry));
+    }
+    int bit = bit(hash, shift);
+    int index = node.index(bit);
+    if ((node.bitmap & bit) == 0) {
+      return new Node(node.bitmap | bit, insert(node.slots, index, entry));
+    }
+    Object slot = node.slots[index];
+    Object replacement;
+    if (slot instanceof Node) {
+      replacement = put((Node) slot, shift + BITS, hash, entry);
+    } else {
+      StatusEntry existing = (StatusEntry) slot;
+      if (existing.getName().equals(entry.getName())) {
+        replacement = entry;
+      } else {
+        replacement = pair(shift + BITS, existing, hash(existing.getName()), entry, hash);
+      }
+    }
+    return new Node(node.bitmap, replace(node.slots, index, replacement));
+  }
+
+  private static Node pair(int shift, StatusEntry first, int firstHash, StatusEntry second, int secondHash) {
+    if (shift > MAX_SHIFT) {
+      return new Node(0, new Object[]{first, second});
+    }
+    int firstBit = bit(firstHash, shift);
+    int secondBit = bit(secondHash, shift);
+    if (firstBit == secondBit) {
+      return new Node(firstBit, new Object[]{pair(shift + BITS, first, firstHash, second, secondHash)});
+    }
+    boolean firstIsLower = ((firstHash >>> shift) & MASK) < ((secondHash >>> shift) & MASK);
+    return new Node(firstBit | secondBit, firstIsLower ? new Object[]{first, second} : new Object[]{second, first});
+  }
+
+  /**
+   * @return the node without the entry, or null if it would be empty. A node left holding a single entry is replaced
+   * by that entry so that the trie stays as shallow as possible.
+   */
+  private static Object remove(Node node, int shift, int hash, String name) {
+    if (shift > MAX_SHIFT) {
+      for (int i = 0; i < node.slots.length; i++) {
+        if (((StatusEntry) node.slots[i]).getName().equals(name)) {
+          return node.slots.length == 1 ? null : collapse(new Node(0, delete(node.slots, i)));
+        }
+      }
+      return node;
+    }
+    int bit = bit(hash, shift);
+    int index = node.index(bit);
+    Object slot = node.slots[index];
+    Object replacement = slot instanceof Node ? remove((Node) slot, shift + BITS, hash, name) : null;
+    Node remaining;
+    if (replacement != null) {
+      remaining = new Node(node.bitmap, replace(node.slots, index, replacement));
+    } else if (node.bitmap == bit) {
+      return shift == 0 ? new Node(0, new Object[0]) : null;
+    } else {
+      remaining = new Node(node.bitmap & ~bit, delete(node.slots, index));
+    }
+    return shift == 0 ? remaining : collapse(remaining);
+  }
+
+  private static Object collapse(Node node) {
+    return node.slots.length == 1 && node.slots[0] instanceof StatusEntry ? node.slots[0] : node;
+  }
+
+  private static void collect(Node node, List<StatusEntry> entries) {
+    for (Object slot : node.slots) {
+      if (slot instanceof Node) {
+        collect((Node) slot, entries);
+      } else {
+        entries.add((StatusEntry) slot);
+      }
+    }
+  }
+
+  private static Object[] insert(Object[] slots, int index, Object slot) {
+    Object[] copy = new Object[slots.length + 1];
+    System.arraycopy(slots, 0, copy, 0, index);
+    copy[index] = slot;
+    System.arraycopy(slots, index, copy, index + 1, slots.length - index);
+    return copy;
+  }
+
+  private static Object[] replace(Object[] slots, int index, Object slot) {
+    Object[] copy = slots.clone();
+    copy[index] = slot;
+    return copy;
+  }
+
+  private static Object[] delete(Object[] slots, int index) {
+    Object[] copy = new Object[slots.length - 1];
+    System.arraycopy(slots, 0, copy, 0, index);
+    System.arraycopy(slots, index + 1, copy, index, slots.length - index - 1);
+    return copy;
+  }
+
+  /**
+   * A trie node. Below {@link #MAX_SHIFT} each set bit of the bitmap has a slot holding either a {@link StatusEntry}
+   * or a child node. Beyond it the bitmap is zero and the slots hold the entries whose hashes fully collide.
+   */
+  private static final class Node {
+    private final int bitmap;
+    private final Object[] slots;
+
+    private Node(int bitmap, Object[] slots) {
+      this.bitmap = bitmap;
+      this.slots = slots;
+    }
+
+    private int index(int bit) {
+      return Integer.bitCount(bitmap & (bit - 1));
+    }
+  }
+}
@@ -0,0 +1,432 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state.avro;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import lombok.val;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ConsumerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ConsumerKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.DomainKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.InfrastructureKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProcessBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProcessKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProducerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProducerKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.SchemaKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.StreamBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ZoneKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.DefaultSpecification;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.Principal;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.ProcessBindingSpecification;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.ProcessInputStream;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.ProcessInputStreamBinding;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.ProcessOutputStream;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.ProcessOutputStreamBinding;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.ProcessSpecification;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.StreamSpecification;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.Tag;
+
+/**
+ * Converts between the Avro records and the state model by calling constructors and getters directly. Produces the
+ * same objects as converting through Jackson with {@link AvroObjectModule}, without the intermediate token buffer and
+ * reflective field access.
+ */
+class AvroCodec {
+  private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+  private final Map<Class<?>, Function<Object, Object>> converters = new HashMap<>();
+
+  AvroCodec() {
+    register(AvroDomainKey.class, DomainKey.class, AvroCodec::toModel);
+    register(AvroSchemaKey.class, SchemaKey.class, AvroCodec::toModel);
+    register(AvroStreamKey.class, StreamKey.class, AvroCodec::toModel);
+    register(AvroZoneKey.class, ZoneKey.class, AvroCodec::toModel);
+    register(AvroInfrastructureKey.class, InfrastructureKey.class, AvroCodec::toModel);
+    register(AvroProducerKey.class, ProducerKey.class, AvroCodec::toModel);
+    register(AvroConsumerKey.class, ConsumerKey.class, AvroCodec::toModel);
+    register(AvroProcessKey.class, ProcessKey.class, AvroCodec::toModel);
+    register(AvroStreamBindingKey.class, StreamBindingKey.class, AvroCodec::toModel);
+    register(AvroProducerBindingKey.class, ProducerBindingKey.class, AvroCodec::toModel);
+    register(AvroConsumerBindingKey.class, ConsumerBindingKey.class, AvroCodec::toModel);
+    register(AvroProcessBindingKey.class, ProcessBindingKey.class, AvroCodec::toModel);
+    register(AvroSpecification.class, DefaultSpecification.class, AvroCodec::toModel);
+    register(AvroStreamSpecification.class, StreamSpecification.class, AvroCodec::toModel);
+    register(AvroProcessSpecification.class, ProcessSpecification.class, AvroCodec::toModel);
+    register(AvroProcessBindingSpecification.class, ProcessBindingSpecification.class, AvroCodec::toModel);
+    register(AvroObject.class, ObjectNode.class, AvroCodec::toModel);
+
+    register(DomainKey.class, AvroDomainKey.class, AvroCodec::toAvro);
+    register(SchemaKey.class, AvroSchemaKey.class, AvroCodec::toAvro);
+    register(StreamKey.class, AvroStreamKey.class, AvroCodec::toAvro);
+    register(ZoneKey.class, AvroZoneKey.class, AvroCodec::toAvro);
+    register(InfrastructureKey.class, AvroInfrastructureKey.class, AvroCodec::toAvro);
+    register(ProducerKey.class, AvroProducerKey.class, AvroCodec::toAvro);
+    register(ConsumerKey.class, AvroConsumerKey.class, AvroCodec::toAvro);
+    register(ProcessKey.class, AvroProcessKey.class, AvroCodec::toAvro);
+    register(StreamBindingKey.class, AvroStreamBindingKey.class, AvroCodec::toAvro);
+    register(ProducerBindingKey.class, AvroProducerBindingKey.class, AvroCodec::toAvro);
+    register(ConsumerBindingKey.class, AvroConsumerBindingKey.class, AvroCodec::toAvro);
+    register(ProcessBindingKey.class, AvroProcessBindingKey.class, AvroCodec::toAvro);
+    register(DefaultSpecification.class, AvroSpecification.class, AvroCodec::toAvro);
+    register(StreamSpecification.class, AvroStreamSpecification.class, AvroCodec::toAvro);
+    register(ProcessSpecification.class, AvroProcessSpecification.class, AvroCodec::toAvro);
+    register(ProcessBindingSpecification.class, AvroProcessBindingSpecification.class, AvroCodec::toAvro);
+    register(ObjectNode.class, AvroObject.class, AvroCodec::toAvro);
+  }
+
+  private <S, T> void register(Class<S> sourceClass, Class<T> targetClass, Function<S, T> converter) {
+    converters.put(targetClass, object -> converter.apply(sourceClass.cast(object)));
+  }
+
+  <T> T convert(Object object, Class<T> targetClass) {
+    if (object == null) {
+      return null;
+    }
+    val converter = requireNonNull(converters.get(targetClass), () -> "Unsupported conversion to " + targetClass);
+    return targetClass.cast(converter.apply(object));
+  }
+
+  static DomainKey toModel(AvroDomainKey key) {
+    return new DomainKey(key.getName());
+  }
+
+  static SchemaKey toModel(AvroSchemaKey key) {
+    return new SchemaKey(toModel(key.getDomainKey()), key.getName());
+  }
+
+  static StreamKey toModel(AvroStreamKey key) {
+    return new StreamKey(toModel(key.getDomainKey()), key.getName(), key.getVersion());
+  }
+
+  static ZoneKey toModel(AvroZoneKey key) {
+    return new ZoneKey(key.getName());
+  }
+
+  static InfrastructureKey toModel(AvroInfrastructureKey key) {
+    return new InfrastructureKey(toModel(key.getZoneKey()), key.getName());
+  }
+
+  static ProducerKey toModel(AvroProducerKey key) {
+    return new ProducerKey(toModel(key.getStreamKey()), toModel(key.getZoneKey()), key.getName());
+  }
+
+  static ConsumerKey toModel(AvroConsumerKey key) {
+    return new ConsumerKey(toModel(key.getStreamKey()), toModel(key.getZoneKey()), key.getName());
+  }
+
+  static ProcessKey toModel(AvroProcessKey key) {
+    return new ProcessKey(toModel(key.getDomainKey()), key.getName());
+  }
+
+  static StreamBindingKey toModel(AvroStreamBindingKey key) {
+    return new StreamBindingKey(toModel(key.getStreamKey()), toModel(key.getInfrastructureKey()));
+  }
+
+  static ProducerBindingKey toModel(AvroProducerBindingKey key) {
+    return new ProducerBindingKey(toModel(key.getProducerKey()), toModel(key.getStreamBindingKey()));
+  }
+
+  static ConsumerBindingKey toModel(AvroConsumerBindingKey key) {
+    return new ConsumerBindingKey(toModel(key.getConsumerKey()), toModel(key.getStreamBindingKey()));
+  }
+
+  static ProcessBindingKey toModel(AvroProcessBindingKey key) {
+    return new ProcessBindingKey(toModel(key.getProcessKey()), toModel(key.getZoneKey()));
+  }
+
+  static DefaultSpecification toModel(AvroSpecification specification) {
+    return new DefaultSpecification(
+      specification.getDescription(),
+      tagsToModel(specification.getTags()),
+      specification.getType(),
+      toModel(specification.getConfiguration()),
+      securityToModel(specification.getSecurity()),
+      specification.getFunction()
+    );
+  }
+
+  static StreamSpecification toModel(AvroStreamSpecification specification) {
+    return new StreamSpecification(
+      specification.getDescription(),
+      tagsToModel(specification.getTags()),
+      specification.getType(),
+      toModel(specification.getConfiguration()),
+      securityToModel(specification.getSecurity()),
+      specification.getFunction(),
+      toModel(specification.getSchemaKey())
+    );
+  }
+
+  static ProcessSpecification toModel(AvroProcessSpecification specification) {
+    return new ProcessSpecification(
+      convertList(specification.getZones(), AvroCodec::toModel),
+      specification.getDescription(),
+      tagsToModel(specification.getTags()),
+      specification.getType(),
+      toModel(specification.getConfiguration()),
+      securityToModel(specification.getSecurity()),
+      specification.getFunction(),
+      convertList(specification.getInputs(), input -> new ProcessInputStream(toModel(input.getStream()), toModel(input.getConfiguration()))),
+      convertList(specification.getOutputs(), output -> new ProcessOutputStream(toModel(output.getStream()), toModel(output.getConfiguration())))
+    );
+  }
+
+  static ProcessBindingSpecification toModel(AvroProcessBindingSpecification specification) {
+    return new ProcessBindingSpecification(
+      toModel(specification.getZone()),
+      specification.getDescription(),
+      tagsToModel(specification.getTags()),
+      specification.getType(),
+      toModel(specification.getConfiguration()),
+      securityToModel(specification.getSecurity()),
+      specification.getFunction(),
+      convertList(specification.getInputs(),
+        input -> new ProcessInputStreamBinding(toModel(input.getStreamBindingKey()), toModel(input.getConfiguration()))),
+      convertList(specification.getOutputs(),
+        output -> new ProcessOutputStreamBinding(toModel(output.getStreamBindingKey()), toModel(output.getConfiguration())))
+    );
+  }
+
+  private static List<Tag> tagsToModel(List<AvroTag> tags) {
+    return convertList(tags, tag -> new Tag(tag.getName(), tag.getValue()));
+  }
+
+  private static Map<String, List<Principal>> securityToModel(Map<String, List<AvroPrincipal>> security) {
+    if (security == null) {
+      return null;
+    }
+    Map<String, List<Principal>> result = new LinkedHashMap<>();
+    security.forEach((role, principals) -> result.put(role, convertList(principals, principal -> new Principal(principal.getName()))));
+    return result;
+  }
+
+  private static <S, T> List<T> convertList(List<S> list, Function<S, T> converter) {
+    if (list == null) {
+      return null;
+    }
+    List<T> result = new ArrayList<>(list.size());
+    for (S item : list) {
+      result.add(converter.apply(item));
+    }
+    return result;
+  }
+
+  static ObjectNode toModel(AvroObject object) {
+    if (object == null) {
+      return null;
+    }
+    val node = NODES.objectNode();
+    object.getValue().forEach((name, value) -> node.set(name, valueToModel(value)));
+    return node;
+  }
+
+  private static ArrayNode toModel(AvroArray array) {
+    val node = NODES.arrayNode(array.getValue().size());
+    array.getValue().forEach(value -> node.add(valueToModel(value)));
+    return node;
+  }
+
+  private static JsonNode valueToModel(Object value) {
+    if (value instanceof AvroObject) {
+      return toModel((AvroObject) value);
+    } else if (value instanceof AvroArray) {
+      return toModel((AvroArray) value);
+    } else if (value instanceof String) {
+      return NODES.textNode((String) value);
+    } else if (value instanceof Double) {
+      return NODES.numberNode((double) value);
+    } else if (value instanceof Float) {
+      return NODES.numberNode((float) value);
+    } else if (value instanceof Long) {
+      return NODES.numberNode((long) value);
+    } else if (value instanceof Integer) {
+      return NODES.numberNode((int) value);
+    } else if (value instanceof Boolean) {
+      return NODES.booleanNode((boolean) value);
+    } else if (value == null) {
+      return NODES.nullNode();
+    } else {
+      throw new IllegalStateException("Unexpected value " + value.getClass() + ": " + value);
+    }
+  }
+
+  static AvroDomainKey toAvro(DomainKey key) {
+    return new AvroDomainKey(key.getName());
+  }
+
+  static AvroSchemaKey toAvro(SchemaKey key) {
+    return new AvroSchemaKey(toAvro(key.getDomainKey()), key.getName());
+  }
+
+  static AvroStreamKey toAvro(StreamKey key) {
+    return new AvroStreamKey(toAvro(key.getDomainKey()), key.getName(), key.getVersion());
+  }
+
+  static AvroZoneKey toAvro(ZoneKey key) {
+    return new AvroZoneKey(key.getName());
+  }
+
+  static AvroInfrastructureKey toAvro(InfrastructureKey key) {
+    return new AvroInfrastructureKey(toAvro(key.getZoneKey()), key.getName());
+  }
+
+  static AvroProducerKey toAvro(ProducerKey key) {
+    return new AvroProducerKey(toAvro(key.getStreamKey()), toAvro(key.getZoneKey()), key.getName());
+  }
+
+  static AvroConsumerKey toAvro(ConsumerKey key) {
+    return new AvroConsumerKey(toAvro(key.getStreamKey()), toAvro(key.getZoneKey()), key.getName());
+  }
+
+  static AvroProcessKey toAvro(ProcessKey key) {
+    return new AvroProcessKey(toAvro(key.getDomainKey()), key.getName());
+  }
+
+  static AvroStreamBindingKey toAvro(StreamBindingKey key) {
+    return new AvroStreamBindingKey(toAvro(key.getStreamKey()), toAvro(key.getInfrastructureKey()));
+  }
+
+  static AvroProducerBindingKey toAvro(ProducerBindingKey key) {
+    return new AvroProducerBindingKey(toAvro(key.getProducerKey()), toAvro(key.getStreamBindingKey()));
+  }
+
+  static AvroConsumerBindingKey toAvro(ConsumerBindingKey key) {
+    return new AvroConsumerBindingKey(toAvro(key.getConsumerKey()), toAvro(key.getStreamBindingKey()));
+  }
+
+  static AvroProcessBindingKey toAvro(ProcessBindingKey key) {
+    return new AvroProcessBindingKey(toAvro(key.getProcessKey()), toAvro(key.getZoneKey()));
+  }
+
+  static AvroSpecification toAvro(DefaultSpecification specification) {
+    return new AvroSpecification(
+      specification.getDescription(),
+      tagsToAvro(specification.getTags()),
+      specification.getType(),
+      toAvro(specification.getConfiguration()),
+      securityToAvro(specification.getSecurity()),
+      specification.getFunction()
+    );
+  }
+
+  static AvroStreamSpecification toAvro(StreamSpecification specification) {
+    return new AvroStreamSpecification(
+      specification.getDescription(),
+      tagsToAvro(specification.getTags()),
+      specification.getType(),
+      toAvro(specification.getConfiguration()),
+      securityToAvro(specification.getSecurity()),
+      specification.getFunction(),
+      toAvro(specification.getSchemaKey())
+    );
+  }
+
+  static AvroProcessSpecification toAvro(ProcessSpecification specification) {
+    return new AvroProcessSpecification(
+      convertList(specification.getZones(), AvroCodec::toAvro),
+      specification.getDescription(),
+      tagsToAvro(specification.getTags()),
+      specification.getType(),
+      toAvro(specification.getConfiguration()),
+      securityToAvro(specification.getSecurity()),
+      specification.getFunction(),
+      convertList(specification.getInputs(), input -> new AvroProcessInputStream(toAvro(input.getStream()), toAvro(input.getConfiguration()))),
+      convertList(specification.getOutputs(), output -> new AvroProcessOutputStream(toAvro(output.getStream()), toAvro(output.getConfiguration())))
+    );
+  }
+
+  static AvroProcessBindingSpecification toAvro(ProcessBindingSpecification specification) {
+    return new AvroProcessBindingSpecification(
+      toAvro(specification.getZone()),
+      specification.getDescription(),
+      tagsToAvro(specification.getTags()),
+      specification.getType(),
+      toAvro(specification.getConfiguration()),
+      securityToAvro(specification.getSecurity()),
+      specification.getFunction(),
+      convertList(specification.getInputs(),
+        input -> new AvroProcessInputStreamBinding(toAvro(input.getStreamBindingKey()), toAvro(input.getConfiguration()))),
+      convertList(specification.getOutputs(),
+        output -> new AvroProcessOutputStreamBinding(toAvro(output.getStreamBindingKey()), toAvro(output.getConfiguration())))
+    );
+  }
+
+  private static List<AvroTag> tagsToAvro(List<Tag> tags) {
+    return convertList(tags, tag -> new AvroTag(tag.getName(), tag.getValue()));
+  }
+
+  private static Map<String, List<AvroPrincipal>> securityToAvro(Map<String, List<Principal>> security) {
+    if (security == null) {
+      return null;
+    }
+    Map<String, List<AvroPrincipal>> result = new LinkedHashMap<>();
+    security.forEach((role, principals) -> result.put(role, convertList(principals, principal -> new AvroPrincipal(principal.getName()))));
+    return result;
+  }
+
+  static AvroObject toAvro(ObjectNode node) {
+    if (node == null) {
+      return null;
+    }
+    Map<String, Object> fields = new HashMap<>();
+    for (Iterator<Map.Entry<String, JsonNode>> iterator = node.fields(); iterator.hasNext(); ) {
+      val field = iterator.next();
+      fields.put(field.getKey(), valueToAvro(field.getValue()));
+    }
+    return new AvroObject(fields);
+  }
+
+  private static Object valueToAvro(JsonNode node) {
+    if (node.isObject()) {
+      return toAvro((ObjectNode) node);
+    } else if (node.isArray()) {
+      List<Object> items = new ArrayList<>(node.size());
+      node.forEach(item -> items.add(valueToAvro(item)));
+      return new AvroArray(items);
+    } else if (node.isTextual()) {
+      return node.textValue();
+    } else if (node.isIntegralNumber()) {
+      if (!node.canConvertToLong()) {
+        throw new IllegalStateException("Numeric value out of range of long: " + node);
+      }
+      return node.longValue();
+    } else if (node.isNumber()) {
+      return node.doubleValue();
+    } else if (node.isBoolean()) {
+      return node.booleanValue();
+    } else if (node.isNull() || node.isMissingNode()) {
+      return null;
+    } else {
+      throw new IllegalStateException("Unexpected node " + node.getNodeType() + ": " + node);
+    }
+  }
+}
@@ -60,11 +60,24 @@ import com.expediagroup.streamplatform.streamregistry.state.model.specification.
 import com.expediagroup.streamplatform.streamregistry.state.model.specification.StreamSpecification;
 import com.expediagroup.streamplatform.streamregistry.state.model.status.StatusEntry;
 
-@RequiredArgsConstructor
 public class AvroConverter {
   private final ObjectMapper mapper = new ObjectMapper()
       .setVisibility(new Std(NONE).withFieldVisibility(ANY))
       .registerModule(new AvroObjectModule());
+  private final AvroCodec codec = new AvroCodec();
+  private final boolean reflective;
+
+  public AvroConverter() {
+    this(false);
+  }
+
+  /**
+   * @param reflective whether to convert keys, specifications and statuses through Jackson instead of the direct
+   *                   {@link AvroCodec}.
+   */
+  public AvroConverter(boolean reflective) {
+    this.reflective = reflective;
+  }
 
   private final List<EntityConverter<?, ?>> entityConverters = new ArrayList<EntityConverter<?, ?>>() {{
     add(new EntityConverter<>(DomainKey.class, DefaultSpecification.class,
@@ -216,6 +229,9 @@ public class AvroConverter {
   }
 
   protected <T> T convertObject(Object object, Class<T> tClass) {
-    return mapper.convertValue(object, tClass);
+    if (reflective) {
+      return mapper.convertValue(object, tClass);
+    }
+    return codec.convert(object, tClass);
   }
 }
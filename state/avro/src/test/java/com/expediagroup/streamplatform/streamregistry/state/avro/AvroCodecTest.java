@@ -0,0 +1,140 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state.avro;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.val;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.junit.Test;
+
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ConsumerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ConsumerKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.DomainKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.InfrastructureKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProcessBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProcessKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProducerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProducerKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.SchemaKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.StreamBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ZoneKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.event.Event;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.DefaultSpecification;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.Principal;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.ProcessBindingSpecification;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.ProcessInputStream;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.ProcessInputStreamBinding;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.ProcessOutputStream;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.ProcessOutputStreamBinding;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.ProcessSpecification;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.StreamSpecification;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.Tag;
+import com.expediagroup.streamplatform.streamregistry.state.model.status.StatusEntry;
+
+public class AvroCodecTest {
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final AvroConverter direct = new AvroConverter();
+  private final AvroConverter reflective = new AvroConverter(true);
+
+  private final DomainKey domainKey = new DomainKey("domain");
+  private final SchemaKey schemaKey = new SchemaKey(domainKey, "schema");
+  private final StreamKey streamKey = new StreamKey(domainKey, "stream", 1);
+  private final ZoneKey zoneKey = new ZoneKey("zone");
+  private final InfrastructureKey infrastructureKey = new InfrastructureKey(zoneKey, "infrastructure");
+  private final ProducerKey producerKey = new ProducerKey(streamKey, zoneKey, "producer");
+  private final ConsumerKey consumerKey = new ConsumerKey(streamKey, zoneKey, "consumer");
+  private final ProcessKey processKey = new ProcessKey(domainKey, "process");
+  private final StreamBindingKey streamBindingKey = new StreamBindingKey(streamKey, infrastructureKey);
+  private final ProducerBindingKey producerBindingKey = new ProducerBindingKey(producerKey, streamBindingKey);
+  private final ConsumerBindingKey consumerBindingKey = new ConsumerBindingKey(consumerKey, streamBindingKey);
+  private final ProcessBindingKey processBindingKey = new ProcessBindingKey(processKey, zoneKey);
+
+  private final ObjectNode configuration = configuration();
+  private final List<Tag> tags = asList(new Tag("name", "value"), new Tag("other", null));
+  private final Map<String, List<Principal>> security = new HashMap<String, List<Principal>>() {{
+    put("admin", singletonList(new Principal("user1")));
+    put("creator", asList(new Principal("user2"), new Principal("user3")));
+  }};
+  private final DefaultSpecification specification = new DefaultSpecification("description", tags, "type", configuration, security, "function");
+
+  private ObjectNode configuration() {
+    val node = mapper.createObjectNode()
+      .put("string", "value")
+      .put("long", 42L)
+      .put("double", 1.5d)
+      .put("boolean", true)
+      .putNull("null");
+    node.putObject("object").put("nested", 7L);
+    node.putArray("array").add("item").add(3L).add(2.5d).add(false).addNull().addObject().put("in", "array");
+    return node;
+  }
+
+  @Test
+  public void keysAndDefaultSpecifications() {
+    List<Entity.Key<DefaultSpecification>> keys = asList(domainKey, schemaKey, zoneKey, infrastructureKey, producerKey,
+      consumerKey, streamBindingKey, producerBindingKey, consumerBindingKey);
+    for (val key : keys) {
+      assertParity(Event.specification(key, specification));
+      assertParity(Event.specificationDeletion(key));
+      assertParity(Event.status(key, new StatusEntry("agent", configuration)));
+      assertParity(Event.statusDeletion(key, "agent"));
+    }
+  }
+
+  @Test
+  public void streamSpecification() {
+    assertParity(Event.specification(streamKey,
+      new StreamSpecification("description", tags, "type", configuration, security, "function", schemaKey)));
+  }
+
+  @Test
+  public void processSpecification() {
+    assertParity(Event.specification(processKey, new ProcessSpecification(
+      singletonList(zoneKey), "description", tags, "type", configuration, security, "function",
+      singletonList(new ProcessInputStream(streamKey, configuration)),
+      singletonList(new ProcessOutputStream(streamKey, mapper.createObjectNode()))
+    )));
+  }
+
+  @Test
+  public void processBindingSpecification() {
+    assertParity(Event.specification(processBindingKey, new ProcessBindingSpecification(
+      zoneKey, "description", tags, "type", configuration, security, "function",
+      singletonList(new ProcessInputStreamBinding(streamBindingKey, configuration)),
+      singletonList(new ProcessOutputStreamBinding(streamBindingKey, mapper.createObjectNode()))
+    )));
+  }
+
+  private void assertParity(Event<?, ?> event) {
+    val avroEvent = direct.toAvro(event);
+    assertThat(avroEvent, is(reflective.toAvro(event)));
+    assertThat(direct.toModel(avroEvent.getKey(), avroEvent.getValue()), is(reflective.toModel(avroEvent.getKey(), avroEvent.getValue())));
+    assertThat(direct.toModel(avroEvent.getKey(), avroEvent.getValue()), is(event));
+  }
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state.avro;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import lombok.val;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.DomainKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.InfrastructureKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.StreamBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ZoneKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.event.Event;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.DefaultSpecification;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.Principal;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.Tag;
+import com.expediagroup.streamplatform.streamregistry.state.model.status.StatusEntry;
+
+/**
+ * Compares the direct {@link AvroCodec} with the reflective Jackson conversion for a stream binding specification
+ * and an agent status, the most frequent events on the registry topic. Run {@link #main(String[])} or
+ * {@code org.openjdk.jmh.Main AvroConverterBenchmark} with the test classpath of this module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AvroConverterBenchmark {
+  @Param({"false", "true"})
+  public boolean reflective;
+
+  private AvroConverter converter;
+  private Event<?, ?> specificationEvent;
+  private Event<?, ?> statusEvent;
+  private AvroEvent avroSpecificationEvent;
+  private AvroEvent avroStatusEvent;
+
+  @Setup
+  public void setup() {
+    val mapper = new ObjectMapper();
+    converter = new AvroConverter(reflective);
+
+    val key = new StreamBindingKey(
+      new StreamKey(new DomainKey("domain"), "stream", 1),
+      new InfrastructureKey(new ZoneKey("zone"), "infrastructure")
+    );
+    ObjectNode configuration = mapper.createObjectNode().put("partitions", 12L).put("replicationFactor", 3L).put("cleanup.policy", "compact");
+    configuration.putArray("brokers").add("broker-1:9092").add("broker-2:9092");
+    val specification = new DefaultSpecification(
+      "description",
+      asList(new Tag("team", "platform"), new Tag("tier", "1")),
+      "kafka",
+      configuration,
+      new HashMap<String, List<Principal>>() {{
+        put("admin", singletonList(new Principal("user1")));
+      }},
+      "function"
+    );
+    ObjectNode status = mapper.createObjectNode().put("state", "RUNNING").put("lag", 42L).put("rate", 12.5d);
+
+    specificationEvent = Event.specification(key, specification);
+    statusEvent = Event.status(key, new StatusEntry("agentStatus", status));
+    avroSpecificationEvent = converter.toAvro(specificationEvent);
+    avroStatusEvent = converter.toAvro(statusEvent);
+  }
+
+  @Benchmark
+  public AvroEvent specificationToAvro() {
+    return converter.toAvro(specificationEvent);
+  }
+
+  @Benchmark
+  public Event<?, ?> specificationToModel() {
+    return converter.toModel(avroSpecificationEvent.getKey(), avroSpecificationEvent.getValue());
+  }
+
+  @Benchmark
+  public AvroEvent statusToAvro() {
+    return converter.toAvro(statusEvent);
+  }
+
+  @Benchmark
+  public Event<?, ?> statusToModel() {
+    return converter.toModel(avroStatusEvent.getKey(), avroStatusEvent.getValue());
+  }
+
+  public static void main(String[] args) throws Exception {
+    new Runner(new OptionsBuilder().include(AvroConverterBenchmark.class.getSimpleName()).build()).run();
+  }
+}
@@ -0,0 +1,206 @@
+/**
+ * Copyright (C) 2018-2024 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import lombok.NonNull;
+
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.Principal;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.Specification;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.Tag;
+
+/**
+ * Inverted indexes of existing entities from tag name to tag value to keys, and from security role to principal name
+ * to keys, partitioned by key class.
+ * <p/>
+ * An {@link AttributeQuery} with a literal name or value is answered with a hash lookup. Regular expressions are only
+ * evaluated against the distinct names and values of the key class, not against every entity. Compiled expressions
+ * are shared through the {@link PatternCache}.
+ */
+class AttributeIndex {
+  private static final String METACHARACTERS = "\\^$.|?*+()[]{}";
+
+  private final Map<Class<?>, Map<String, Postings>> tags = new ConcurrentHashMap<>();
+  private final Map<Class<?>, Map<String, Postings>> security = new ConcurrentHashMap<>();
+
+  void add(@NonNull Entity<?, ?> entity) {
+    Entity.Key<?> key = entity.getKey();
+    Specification specification = entity.getSpecification();
+    if (specification.getTags() != null) {
+      for (Tag tag : specification.getTags()) {
+        add(tags, key.getClass(), tag.getName(), tag.getValue(), key);
+      }
+    }
+    if (specification.getSecurity() != null) {
+      for (Map.Entry<String, List<Principal>> role : specification.getSecurity().entrySet()) {
+        for (Principal principal : role.getValue()) {
+          add(security, key.getClass(), role.getKey(), principal.getName(), key);
+        }
+      }
+    }
+  }
+
+  void remove(@NonNull Entity<?, ?> entity) {
+    Entity.Key<?> key = entity.getKey();
+    Specification specification = entity.getSpecification();
+    if (specification.getTags() != null) {
+      for (Tag tag : specification.getTags()) {
+        remove(tags, key.getClass(), tag.getName(), tag.getValue(), key);
+      }
+    }
+    if (specification.getSecurity() != null) {
+      for (Map.Entry<String, List<Principal>> role : specification.getSecurity().entrySet()) {
+        for (Principal principal : role.getValue()) {
+          remove(security, key.getClass(), role.getKey(), principal.getName(), key);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the keys of the given class matching every tag query and every security query, intersecting the keys of
+   * each query starting with the smallest.
+   */
+  Set<Entity.Key<?>> keys(@NonNull Class<?> keyClass, @NonNull List<AttributeQuery> tagQueries, @NonNull List<AttributeQuery> securityQueries) {
+    List<Set<Entity.Key<?>>> matches = new ArrayList<>();
+    for (AttributeQuery query : tagQueries) {
+      matches.add(keys(tags, keyClass, query));
+    }
+    for (AttributeQuery query : securityQueries) {
+      matches.add(keys(security, keyClass, query));
+    }
+    if (matches.isEmpty()) {
+      throw new IllegalArgumentException("At least one tag or security query is required");
+    }
+    matches.sort((a, b) -> Integer.compare(a.size(), b.size()));
+    Set<Entity.Key<?>> result = new HashSet<>(matches.get(0));
+    for (int i = 1; i < matches.size() && !result.isEmpty(); i++) {
+      result.retainAll(matches.get(i));
+    }
+    return result;
+  }
+
+  void clear() {
+    tags.clear();
+    security.clear();
+  }
+
+  private static Set<Entity.Key<?>> keys(Map<Class<?>, Map<String, Postings>> index, Class<?> keyClass, AttributeQuery query) {
+    Map<String, Postings> byName = index.getOrDefault(keyClass, Collections.emptyMap());
+    Set<Entity.Key<?>> keys = new HashSet<>();
+    for (Postings postings : select(byName, query.getNameRegex())) {
+      if (query.getValueRegex() == null) {
+        keys.addAll(postings.all);
+      } else {
+        select(postings.byValue, query.getValueRegex()).forEach(keys::addAll);
+      }
+    }
+    return keys;
+  }
+
+  /**
+   * @return the values whose names match the regex, looked up directly if it is a literal.
+   */
+  private static <V> Collection<V> select(Map<String, V> byName, String regex) {
+    if (regex == null) {
+      return byName.values();
+    }
+    if (isLiteral(regex)) {
+      V value = byName.get(regex);
+      return value == null ? Collections.emptyList() : Collections.singletonList(value);
+    }
+    Predicate<String> matcher = PatternCache.compile(regex).asMatchPredicate();
+    Collection<V> selected = new ArrayList<>();
+    byName.forEach((name, value) -> {
+      if (matcher.test(name)) {
+        selected.add(value);
+      }
+    });
+    return selected;
+  }
+
+  /**
+   * Adds within compute on the class and the name so that a concurrent remove cannot drop the postings being added to.
+   */
+  private static void add(Map<Class<?>, Map<String, Postings>> index, Class<?> keyClass, String name, String value, Entity.Key<?> key) {
+    index.compute(keyClass, (c, byName) -> {
+      Map<String, Postings> result = byName == null ? new ConcurrentHashMap<>() : byName;
+      result.compute(name, (n, postings) -> {
+        Postings added = postings == null ? new Postings() : postings;
+        added.add(value, key);
+        return added;
+      });
+      return result;
+    });
+  }
+
+  private static void remove(Map<Class<?>, Map<String, Postings>> index, Class<?> keyClass, String name, String value, Entity.Key<?> key) {
+    index.computeIfPresent(keyClass, (c, byName) -> {
+      byName.computeIfPresent(name, (n, postings) -> postings.remove(value, key) ? null : postings);
+      return byName.isEmpty() ? null : byName;
+    });
+  }
+
+  private static boolean isLiteral(String regex) {
+    for (int i = 0; i < regex.length(); i++) {
+      if (METACHARACTERS.indexOf(regex.charAt(i)) >= 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * The keys with a given tag name or role, in total and by value. A tag without a value is only in the total.
+   */
+  private static class Postings {
+    private final Set<Entity.Key<?>> all = ConcurrentHashMap.newKeySet();
+    private final Map<String, Set<Entity.Key<?>>> byValue = new ConcurrentHashMap<>();
+
+    void add(String value, Entity.Key<?> key) {
+      all.add(key);
+      if (value != null) {
+        byValue.computeIfAbsent(value, v -> ConcurrentHashMap.newKeySet()).add(key);
+      }
+    }
+
+    /**
+     * Removes the key from the total as well, as the whole entity is removed from the index at once.
+     *
+     * @return whether no keys are left.
+     */
+    boolean remove(String value, Entity.Key<?> key) {
+      if (value != null) {
+        byValue.computeIfPresent(value, (v, keys) -> {
+          keys.remove(key);
+          return keys.isEmpty() ? null : keys;
+        });
+      }
+      all.remove(key);
+      return all.isEmpty();
+    }
+  }
+}
@@ -0,0 +1,336 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.expediagroup.streamplatform.streamregistry.state.internal.EventCorrelator;
+
+/**
+ * An {@link EventCorrelator} that bounds both the number of writes in flight and how long each may wait for its
+ * events to be received.
+ * <p/>
+ * Correlation ids are longs made of a 16 bit node id followed by a 48 bit sequence, so ids registered by different
+ * nodes sharing a topic do not collide. They are sent as 8 byte big-endian header values. Headers of any other length,
+ * such as the UUIDs of {@link DefaultEventCorrelator}, are ignored.
+ * <p/>
+ * A hashed timing wheel fails writes that have not been received within the timeout with a {@link TimeoutException}.
+ * Registration fails straight away with a {@link RejectedExecutionException} while the maximum number of writes are in
+ * flight, unless an admission timeout is configured to wait for one to complete. The sender then fails the write
+ * rather than blocking its caller.
+ * <p/>
+ * The following meters are published:
+ * <ul>
+ *   <li>{@code stream_registry_state.correlator.inflight} - the number of writes in flight.</li>
+ *   <li>{@code stream_registry_state.correlator.oldest} - the age in seconds of the oldest write in flight.</li>
+ *   <li>{@code stream_registry_state.correlator.age} - the time from registration to receipt.</li>
+ *   <li>{@code stream_registry_state.correlator.expired} - the writes failed by the timeout.</li>
+ *   <li>{@code stream_registry_state.correlator.rejected} - the registrations refused by admission control.</li>
+ * </ul>
+ */
+@Slf4j
+public class BoundedEventCorrelator implements EventCorrelator, Closeable {
+  static final int HEADER_LENGTH = Long.BYTES;
+  private static final int SEQUENCE_BITS = 48;
+  private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+  private final long nodePrefix;
+  private final AtomicLong sequence;
+  private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+  private final Semaphore permits;
+  private final long admissionTimeoutNanos;
+  private final long tickNanos;
+  private final long timeoutTicks;
+  private final Queue<Pending>[] wheel;
+  private final ScheduledExecutorService ticker;
+  private volatile long tick;
+
+  private final Timer age;
+  private final Counter expired;
+  private final Counter rejected;
+
+  public BoundedEventCorrelator() {
+    this(Config.builder().build(), new SimpleMeterRegistry());
+  }
+
+  @SuppressWarnings("unchecked")
+  public BoundedEventCorrelator(@NonNull Config config, @NonNull MeterRegistry meterRegistry) {
+    int nodeId = config.getNodeId() == null ? ThreadLocalRandom.current().nextInt(1 << 16) : config.getNodeId();
+    if (nodeId < 0 || nodeId >= 1 << 16) {
+      throw new IllegalArgumentException("Node id must be between 0 and 65535, got " + nodeId);
+    }
+    int wheelSize = config.getWheelSize();
+    if (Integer.bitCount(wheelSize) != 1) {
+      throw new IllegalArgumentException("Wheel size must be a power of 2, got " + wheelSize);
+    }
+    nodePrefix = (long) nodeId << SEQUENCE_BITS;
+    // A random start makes collisions unlikely even if two nodes pick the same id
+    sequence = new AtomicLong(ThreadLocalRandom.current().nextLong(1L << 32));
+    permits = new Semaphore(config.getMaxInFlight());
+    admissionTimeoutNanos = config.getAdmissionTimeout().toNanos();
+    tickNanos = config.getTickDuration().toNanos();
+    timeoutTicks = Math.max(1, (config.getTimeout().toNanos() + tickNanos - 1) / tickNanos);
+    wheel = new Queue[wheelSize];
+    for (int i = 0; i < wheelSize; i++) {
+      wheel[i] = new ConcurrentLinkedQueue<>();
+    }
+
+    meterRegistry.gauge("stream_registry_state.correlator.inflight", Tags.empty(), pending, Map::size);
+    meterRegistry.gauge("stream_registry_state.correlator.oldest", Tags.empty(), this, BoundedEventCorrelator::oldestSeconds);
+    age = meterRegistry.timer("stream_registry_state.correlator.age");
+    expired = meterRegistry.counter("stream_registry_state.correlator.expired");
+    rejected = meterRegistry.counter("stream_registry_state.correlator.rejected");
+
+    ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "event-correlator-timeout");
+      thread.setDaemon(true);
+      return thread;
+    });
+    ticker.scheduleAtFixedRate(this::advance, tickNanos, tickNanos, NANOSECONDS);
+  }
+
+  @Override
+  public String register(CompletableFuture<Void> future) {
+    return register(future, 1);
+  }
+
+  @Override
+  public String register(CompletableFuture<Void> future, int events) {
+    return Long.toString(registerId(future, events));
+  }
+
+  @Override
+  public byte[] registerHeader(CompletableFuture<Void> future, int events) {
+    return encode(registerId(future, events));
+  }
+
+  @Override
+  public void received(String correlationId) {
+    parse(correlationId).ifPresent(this::receivedId);
+  }
+
+  @Override
+  public void received(byte[] header) {
+    if (header.length == HEADER_LENGTH) {
+      receivedId(decode(header));
+    }
+  }
+
+  @Override
+  public void failed(String correlationId, Exception e) {
+    parse(correlationId).ifPresent(id -> failedId(id, e));
+  }
+
+  @Override
+  public void failed(byte[] header, Exception e) {
+    if (header.length == HEADER_LENGTH) {
+      failedId(decode(header), e);
+    }
+  }
+
+  /**
+   * Stops the timing wheel and cancels the writes in flight.
+   */
+  @Override
+  public void close() {
+    ticker.shutdownNow();
+    pending.keySet().forEach(id -> failedId(id, new CancellationException("Correlator closed")));
+  }
+
+  private long registerId(CompletableFuture<Void> future, int events) {
+    try {
+      if (!(admissionTimeoutNanos == 0 ? permits.tryAcquire() : permits.tryAcquire(admissionTimeoutNanos, NANOSECONDS))) {
+        rejected.increment();
+        throw new RejectedExecutionException("Too many writes in flight: " + pending.size());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RejectedExecutionException("Interrupted waiting to register", e);
+    }
+    long id = nodePrefix | (sequence.getAndIncrement() & SEQUENCE_MASK);
+    long deadline = tick + timeoutTicks + 1;
+    Pending entry = new Pending(id, future, events, deadline);
+    pending.put(id, entry);
+    wheel[(int) (deadline & (wheel.length - 1))].add(entry);
+    log.debug("registered: {} for {} events", id, events);
+    return id;
+  }
+
+  private void receivedId(long id) {
+    Pending entry = pending.get(id);
+    if (entry == null || Pending.REMAINING.decrementAndGet(entry) > 0) {
+      return;
+    }
+    if (pending.remove(id, entry)) {
+      permits.release();
+      age.record(System.nanoTime() - entry.registered, NANOSECONDS);
+      log.debug("received: {}", id);
+      entry.future.complete(null);
+    }
+  }
+
+  private void failedId(long id, Exception e) {
+    Pending entry = pending.remove(id);
+    if (entry != null) {
+      permits.release();
+      log.debug("failed: {}", id);
+      entry.future.completeExceptionally(e);
+    }
+  }
+
+  /**
+   * Moves the wheel on by one tick, expiring the writes in the reached bucket whose deadline has passed. Writes that
+   * completed earlier are dropped from the bucket here rather than on completion.
+   */
+  private void advance() {
+    long current = ++tick;
+    Queue<Pending> bucket = wheel[(int) (current & (wheel.length - 1))];
+    bucket.removeIf(entry -> {
+      if (pending.get(entry.id) != entry) {
+        return true;
+      }
+      if (entry.deadline > current) {
+        return false;
+      }
+      if (pending.remove(entry.id, entry)) {
+        permits.release();
+        expired.increment();
+        log.warn("Expired correlation {} after {} ms", entry.id, NANOSECONDS.toMillis(System.nanoTime() - entry.registered));
+        entry.future.completeExceptionally(new TimeoutException("Event not received within " + MILLISECONDS.convert(timeoutTicks * tickNanos, NANOSECONDS) + " ms"));
+      }
+      return true;
+    });
+  }
+
+  private double oldestSeconds() {
+    long now = System.nanoTime();
+    return pending.values().stream()
+        .mapToLong(entry -> now - entry.registered)
+        .max()
+        .orElse(0L) / 1e9;
+  }
+
+  static byte[] encode(long id) {
+    byte[] header = new byte[HEADER_LENGTH];
+    for (int i = HEADER_LENGTH - 1; i >= 0; i--) {
+      header[i] = (byte) id;
+      id >>>= 8;
+    }
+    return header;
+  }
+
+  static long decode(byte[] header) {
+    long id = 0;
+    for (byte b : header) {
+      id = (id << 8) | (b & 0xFF);
+    }
+    return id;
+  }
+
+  private static Optional<Long> parse(String correlationId) {
+    try {
+      return Optional.of(Long.parseLong(correlationId));
+    } catch (NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static final class Pending {
+    static final AtomicIntegerFieldUpdater<Pending> REMAINING = AtomicIntegerFieldUpdater.newUpdater(Pending.class, "remaining");
+
+    final long id;
+    final CompletableFuture<Void> future;
+    final long deadline;
+    final long registered = System.nanoTime();
+    volatile int remaining;
+
+    Pending(long id, CompletableFuture<Void> future, int remaining, long deadline) {
+      this.id = id;
+      this.future = future;
+      this.remaining = remaining;
+      this.deadline = deadline;
+    }
+  }
+
+  @Value
+  @Builder
+  public static class Config {
+    /**
+     * The id of this node, from 0 to 65535. Random if not set, which risks two nodes sharing a topic picking the same
+     * id.
+     */
+    Integer nodeId;
+    /**
+     * How long a write may wait for its events to be received.
+     */
+    @NonNull
+    @Builder.Default
+    Duration timeout = Duration.ofSeconds(30);
+    /**
+     * The maximum number of writes in flight.
+     */
+    @Builder.Default
+    int maxInFlight = 10_000;
+    /**
+     * How long a registration waits for a write in flight to complete when the maximum is reached. By default it
+     * fails straight away.
+     */
+    @NonNull
+    @Builder.Default
+    Duration admissionTimeout = Duration.ZERO;
+    /**
+     * The resolution of the timeout.
+     */
+    @NonNull
+    @Builder.Default
+    Duration tickDuration = Duration.ofMillis(100);
+    /**
+     * The number of buckets of the timing wheel, a power of 2.
+     */
+    @Builder.Default
+    int wheelSize = 512;
+  }
+}
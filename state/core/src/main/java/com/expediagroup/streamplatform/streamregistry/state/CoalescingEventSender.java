@@ -0,0 +1,259 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.toList;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.locks.ReentrantLock;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
+import com.expediagroup.streamplatform.streamregistry.state.model.event.Event;
+import com.expediagroup.streamplatform.streamregistry.state.model.event.StatusEvent;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.Specification;
+
+/**
+ * An {@link EventSender} that holds {@link StatusEvent StatusEvents} for a window before sending them to a delegate,
+ * so that repeated updates of the same status become a single record. Within the window the last value of each status
+ * of an entity wins, and the held statuses of the entity are sent as one batch at the strongest {@link AckLevel}
+ * requested. The futures of every merged send complete with that batch.
+ * <p/>
+ * Any other event is sent straight away, after the held statuses of its entity, so the records of an entity keep their
+ * order. A batch containing any other event is sent as a whole in the same way.
+ * <p/>
+ * The number of status events merged into a later one is counted by {@code stream_registry_state.coalescer.merged}.
+ */
+@Slf4j
+public class CoalescingEventSender implements EventSender {
+  private static final int STRIPES = 64;
+
+  private final EventSender delegate;
+  private final long windowNanos;
+  /** The held statuses of each entity. Guarded by this, which is never held while calling the delegate. */
+  private final Map<Entity.Key<?>, Pending> pending = new HashMap<>();
+  /**
+   * The delegate is called for an entity holding the stripe of its key, so the records of an entity are sent in order
+   * while a slow send only holds up the entities sharing its stripe.
+   */
+  private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+  private final ScheduledExecutorService scheduler;
+  private final Counter merged;
+
+  public CoalescingEventSender(@NonNull EventSender delegate, @NonNull Duration window) {
+    this(delegate, window, new SimpleMeterRegistry());
+  }
+
+  public CoalescingEventSender(@NonNull EventSender delegate, @NonNull Duration window, @NonNull MeterRegistry meterRegistry) {
+    this(delegate, window, meterRegistry, scheduler());
+  }
+
+  CoalescingEventSender(EventSender delegate, Duration window, MeterRegistry meterRegistry, ScheduledExecutorService scheduler) {
+    if (window.isNegative() || window.isZero()) {
+      throw new IllegalArgumentException("Window must be positive, got " + window);
+    }
+    this.delegate = delegate;
+    this.windowNanos = window.toNanos();
+    this.merged = meterRegistry.counter("stream_registry_state.coalescer.merged");
+    this.scheduler = scheduler;
+    for (int i = 0; i < STRIPES; i++) {
+      stripes[i] = new ReentrantLock();
+    }
+  }
+
+  @Override
+  public <K extends Entity.Key<S>, S extends Specification> CompletableFuture<Void> send(Event<K, S> event) {
+    return send(event, AckLevel.APPLIED);
+  }
+
+  @Override
+  public <K extends Entity.Key<S>, S extends Specification> CompletableFuture<Void> send(@NonNull Event<K, S> event, @NonNull AckLevel ackLevel) {
+    if (event instanceof StatusEvent) {
+      return hold((StatusEvent<?, ?>) event, ackLevel);
+    }
+    ReentrantLock stripe = stripe(event.getKey());
+    stripe.lock();
+    try {
+      flush(event.getKey());
+      return delegate.send(event, ackLevel);
+    } finally {
+      stripe.unlock();
+    }
+  }
+
+  @Override
+  public CompletableFuture<Void> sendAll(List<Event<?, ?>> events) {
+    return sendAll(events, AckLevel.APPLIED);
+  }
+
+  @Override
+  public CompletableFuture<Void> sendAll(@NonNull List<Event<?, ?>> events, @NonNull AckLevel ackLevel) {
+    if (events.stream().allMatch(event -> event instanceof StatusEvent)) {
+      return CompletableFuture.allOf(events.stream()
+          .map(event -> hold((StatusEvent<?, ?>) event, ackLevel))
+          .toArray(CompletableFuture[]::new));
+    }
+    // Stripes are always locked in index order so that batches of several entities cannot deadlock
+    List<ReentrantLock> locked = events.stream()
+        .map(event -> stripeIndex(event.getKey()))
+        .distinct()
+        .sorted()
+        .map(index -> stripes[index])
+        .collect(toList());
+    locked.forEach(ReentrantLock::lock);
+    try {
+      events.forEach(event -> flush(event.getKey()));
+      return delegate.sendAll(events, ackLevel);
+    } finally {
+      locked.forEach(ReentrantLock::unlock);
+    }
+  }
+
+  /**
+   * Sends the held statuses, then closes the delegate.
+   */
+  @Override
+  public void close() throws IOException {
+    scheduler.shutdownNow();
+    List<Entity.Key<?>> keys;
+    synchronized (this) {
+      keys = new ArrayList<>(pending.keySet());
+    }
+    for (Entity.Key<?> key : keys) {
+      ReentrantLock stripe = stripe(key);
+      stripe.lock();
+      try {
+        flush(key);
+      } finally {
+        stripe.unlock();
+      }
+    }
+    delegate.close();
+  }
+
+  private synchronized CompletableFuture<Void> hold(StatusEvent<?, ?> event, AckLevel ackLevel) {
+    Entity.Key<?> key = event.getKey();
+    Pending entry = pending.get(key);
+    if (entry == null) {
+      Pending created = new Pending();
+      created.timer = scheduler.schedule(() -> scheduledFlush(key, created), windowNanos, NANOSECONDS);
+      pending.put(key, created);
+      entry = created;
+    }
+    if (entry.events.put(event.getStatusEntry().getName(), event) != null) {
+      merged.increment();
+    }
+    if (ackLevel.compareTo(entry.ackLevel) > 0) {
+      entry.ackLevel = ackLevel;
+    }
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    entry.futures.add(future);
+    return future;
+  }
+
+  /**
+   * Sends the given held statuses unless they have been sent already.
+   */
+  private void scheduledFlush(Entity.Key<?> key, Pending entry) {
+    ReentrantLock stripe = stripe(key);
+    stripe.lock();
+    try {
+      synchronized (this) {
+        if (!pending.remove(key, entry)) {
+          return;
+        }
+      }
+      send(key, entry);
+    } finally {
+      stripe.unlock();
+    }
+  }
+
+  /**
+   * Sends the held statuses of the entity, if any, cancelling their timer. Must be called holding the stripe of the key.
+   */
+  private void flush(Entity.Key<?> key) {
+    Pending entry;
+    synchronized (this) {
+      entry = pending.remove(key);
+    }
+    if (entry != null) {
+      entry.timer.cancel(false);
+      send(key, entry);
+    }
+  }
+
+  private void send(Entity.Key<?> key, Pending entry) {
+    CompletableFuture<Void> sent;
+    try {
+      sent = delegate.sendAll(new ArrayList<>(entry.events.values()), entry.ackLevel);
+    } catch (RuntimeException e) {
+      log.error("Error sending statuses of {}", key, e);
+      sent = CompletableFuture.failedFuture(e);
+    }
+    sent.whenComplete((v, e) -> entry.futures.forEach(future -> {
+      if (e == null) {
+        future.complete(null);
+      } else {
+        future.completeExceptionally(e);
+      }
+    }));
+  }
+
+  private ReentrantLock stripe(Entity.Key<?> key) {
+    return stripes[stripeIndex(key)];
+  }
+
+  private static int stripeIndex(Entity.Key<?> key) {
+    return Math.floorMod(key.hashCode(), STRIPES);
+  }
+
+  private static ScheduledExecutorService scheduler() {
+    ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+      Thread thread = new Thread(runnable, "event-sender-coalescer");
+      thread.setDaemon(true);
+      return thread;
+    });
+    // Statuses flushed early cancel their timer, which would otherwise be kept for the whole window
+    scheduler.setRemoveOnCancelPolicy(true);
+    return scheduler;
+  }
+
+  private static final class Pending {
+    /** The latest event of each status name, in the order the names were first held. */
+    private final Map<String, Event<?, ?>> events = new LinkedHashMap<>();
+    private final List<CompletableFuture<Void>> futures = new ArrayList<>();
+    private AckLevel ackLevel = AckLevel.FIRE_AND_FORGET;
+    private ScheduledFuture<?> timer;
+  }
+}
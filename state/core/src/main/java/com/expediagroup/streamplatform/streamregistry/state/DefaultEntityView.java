@@ -18,10 +18,12 @@ package com.expediagroup.streamplatform.streamregistry.state;
 import static com.expediagroup.streamplatform.streamregistry.state.model.event.Event.LOAD_COMPLETE;
 import static lombok.AccessLevel.PACKAGE;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -31,24 +33,31 @@ import lombok.RequiredArgsConstructor;
 import lombok.val;
 
 import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
+import com.expediagroup.streamplatform.streamregistry.state.model.KeyComparator;
 import com.expediagroup.streamplatform.streamregistry.state.model.event.Event;
 import com.expediagroup.streamplatform.streamregistry.state.model.specification.Specification;
 
 @RequiredArgsConstructor(access = PACKAGE)
 public class DefaultEntityView implements EntityView {
+  /**
+   * A page is read from the candidate keys of a {@link KeyFilter} when there are at most this fraction of the keys,
+   * as they have to be sorted. Otherwise the keys are read in order until the page is filled.
+   */
+  static final int SORTED_CANDIDATES_DIVISOR = 4;
+
   @NonNull
   private final EventReceiver receiver;
   @NonNull
-  private final Map<Entity.Key<?>, StateValue> entities;
+  private final EntityStore entities;
   @NonNull
   private final EntityViewUpdater updater;
 
-  DefaultEntityView(EventReceiver receiver, Map<Entity.Key<?>, StateValue> entities) {
+  DefaultEntityView(EventReceiver receiver, EntityStore entities) {
     this(receiver, entities, new DefaultEntityViewUpdater(entities));
   }
 
   public DefaultEntityView(EventReceiver receiver) {
-    this(receiver, new ConcurrentHashMap<>());
+    this(receiver, new EntityStore());
   }
 
   @Override
@@ -65,17 +74,51 @@ public class DefaultEntityView implements EntityView {
 
   @Override
   public <K extends Entity.Key<S>, S extends Specification> Stream<Entity<K, S>> all(Class<K> keyClass) {
-    return entities.values().stream()
-      .filter(it -> !it.deleted)
-      .filter(it -> it.entity.getKey().getClass().equals(keyClass))
+    return entities.existing(keyClass).stream()
+      .map(it -> (Entity<K, S>) it.entity);
+  }
+
+  @Override
+  public <K extends Entity.Key<S>, S extends Specification> Stream<Entity<K, S>> all(Class<K> keyClass, @NonNull Predicate<? super K> keyFilter) {
+    Set<Entity.Key<?>> candidates = candidates(keyClass, keyFilter);
+    if (candidates == null) {
+      return this.<K, S>all(keyClass).filter(entity -> keyFilter.test(entity.getKey()));
+    }
+    return existing(candidates.stream(), keyFilter);
+  }
+
+  @Override
+  public <K extends Entity.Key<S>, S extends Specification> Stream<Entity<K, S>> allAfter(Class<K> keyClass, K after, @NonNull Predicate<? super K> keyFilter) {
+    Set<Entity.Key<?>> candidates = candidates(keyClass, keyFilter);
+    if (candidates != null && candidates.size() <= entities.existing(keyClass).size() / SORTED_CANDIDATES_DIVISOR) {
+      return existing(candidates.stream()
+        .filter(key -> after == null || KeyComparator.INSTANCE.compare(key, after) > 0)
+        .sorted(KeyComparator.INSTANCE), keyFilter);
+    }
+    return entities.existingAfter(keyClass, after)
+      .map(it -> (Entity<K, S>) it.entity)
+      .filter(entity -> keyFilter.test(entity.getKey()));
+  }
+
+  @Override
+  public <K extends Entity.Key<S>, S extends Specification> Set<K> keysMatching(@NonNull Class<K> keyClass, @NonNull List<AttributeQuery> tagQueries, @NonNull List<AttributeQuery> securityQueries) {
+    if (tagQueries.isEmpty() && securityQueries.isEmpty()) {
+      return entities.existing(keyClass).stream()
+        .map(it -> (K) it.entity.getKey())
+        .collect(Collectors.toSet());
+    }
+    return (Set<K>) (Set<?>) entities.matching(keyClass, tagQueries, securityQueries);
+  }
+
+  @Override
+  public <K extends Entity.Key<S>, S extends Specification> Stream<Entity<K, S>> children(@NonNull Entity.Key<?> parentKey, @NonNull Class<K> childKeyClass) {
+    return entities.children(parentKey, childKeyClass)
       .map(it -> (Entity<K, S>) it.entity);
   }
 
   @Override
   public <K extends Entity.Key<S>, S extends Specification> Map<K, Optional<Entity<K, S>>> allDeleted(Class<K> keyClass) {
-    return entities.entrySet().stream()
-      .filter(it -> it.getValue().deleted)
-      .filter(it -> it.getKey().getClass().equals(keyClass))
+    return entities.deleted(keyClass).stream()
       .collect(Collectors.toMap(
         entry -> (K) entry.getKey(),
         entry -> Optional.ofNullable((Entity<K, S>) entry.getValue().entity))
@@ -87,9 +130,56 @@ public class DefaultEntityView implements EntityView {
     return updater.purge(key);
   }
 
+  /**
+   * @return the candidate keys of a {@link KeyFilter}, or {@code null} if the filter cannot be looked up.
+   */
+  private Set<Entity.Key<?>> candidates(Class<?> keyClass, Predicate<?> keyFilter) {
+    if (keyFilter instanceof KeyFilter) {
+      return entities.candidates(keyClass, ((KeyFilter<?>) keyFilter).getRegexes());
+    }
+    return null;
+  }
+
+  private <K extends Entity.Key<S>, S extends Specification> Stream<Entity<K, S>> existing(Stream<Entity.Key<?>> keys, Predicate<? super K> keyFilter) {
+    return keys
+      .map(entities::get)
+      .filter(value -> value != null && !value.deleted)
+      .map(value -> (Entity<K, S>) value.entity)
+      .filter(entity -> keyFilter.test(entity.getKey()));
+  }
+
+  /**
+   * @return the events that recreate the entry when applied to an empty view.
+   */
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  static Stream<Event<?, ?>> snapshot(Map.Entry<Entity.Key<?>, StateValue> entry) {
+    return events((Entity.Key) entry.getKey(), entry.getValue());
+  }
+
+  /**
+   * @return the events that recreate the existing entity when applied to an empty view.
+   */
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  static Stream<Event<?, ?>> snapshot(Entity<?, ?> entity) {
+    return events((Entity.Key) entity.getKey(), StateValue.existing(entity));
+  }
+
+  private static <K extends Entity.Key<S>, S extends Specification> Stream<Event<?, ?>> events(K key, StateValue value) {
+    val entity = (Entity<K, S>) value.entity;
+    val events = Stream.<Event<?, ?>>builder();
+    if (entity != null) {
+      events.add(Event.specification(key, entity.getSpecification()));
+      entity.getStatus().getEntries().forEach(entry -> events.add(Event.status(key, entry)));
+    }
+    if (value.deleted) {
+      events.add(Event.specificationDeletion(key));
+    }
+    return events.build();
+  }
+
   @Getter // for testing
   @RequiredArgsConstructor
-  class ReceiverListener implements EventReceiverListener {
+  class ReceiverListener implements SnapshotEventReceiverListener {
     private final EntityViewListener listener;
     private final CompletableFuture<Void> future;
 
@@ -104,5 +194,10 @@ public class DefaultEntityView implements EntityView {
         }
       }
     }
+
+    @Override
+    public Stream<Event<?, ?>> snapshot() {
+      return entities.entrySet().stream().flatMap(DefaultEntityView::snapshot);
+    }
   }
 }
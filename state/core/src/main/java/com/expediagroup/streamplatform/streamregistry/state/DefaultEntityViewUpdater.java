@@ -18,7 +18,6 @@ package com.expediagroup.streamplatform.streamregistry.state;
 import static com.expediagroup.streamplatform.streamregistry.state.StateValue.deleted;
 import static com.expediagroup.streamplatform.streamregistry.state.StateValue.existing;
 
-import java.util.Map;
 import java.util.Optional;
 
 import lombok.NonNull;
@@ -39,7 +38,8 @@ import com.expediagroup.streamplatform.streamregistry.state.model.status.Default
 @RequiredArgsConstructor
 class DefaultEntityViewUpdater implements EntityViewUpdater {
   @NonNull
-  private final Map<Entity.Key<?>, StateValue> entities;
+  private final EntityStore entities;
+  private final KeyPool keys = new KeyPool();
 
   @Override
   public <K extends Entity.Key<S>, S extends Specification> Entity<K, S> update(Event<K, S> event) {
@@ -71,9 +71,11 @@ class DefaultEntityViewUpdater implements EntityViewUpdater {
     val oldEntity = (Entity<K, S>) getExistingEntity(event.getKey());
     val status = Optional.ofNullable(oldEntity)
       .map(Entity::getStatus)
-      .orElseGet(DefaultStatus::new);
-    val entity = new Entity<>(event.getKey(), event.getSpecification(), status);
-    entities.put(event.getKey(), existing(entity));
+      .orElseGet(DefaultStatus::empty);
+    // Reuse the key of the stored entity, or intern the key of a new one, so equal keys share one instance
+    val key = oldEntity != null ? oldEntity.getKey() : keys.intern(event.getKey());
+    val entity = new Entity<>(key, event.getSpecification(), status);
+    entities.put(key, existing(entity));
     log.debug("Updated {} with {}", event.getKey(), event.getSpecification());
     return oldEntity;
   }
@@ -84,15 +86,15 @@ class DefaultEntityViewUpdater implements EntityViewUpdater {
       log.info("Received status {} non existent entity {}", event.getStatusEntry().getName(), event.getKey());
       return null;
     }
-    val entity = new Entity<>(event.getKey(), oldEntity.getSpecification(), oldEntity.getStatus().with(event.getStatusEntry()));
-    entities.put(event.getKey(), existing(entity));
+    val entity = oldEntity.withStatus(oldEntity.getStatus().with(event.getStatusEntry()));
+    entities.put(entity.getKey(), existing(entity));
     log.debug("Updated {} with {}", event.getKey(), event.getStatusEntry());
     return oldEntity;
   }
 
   private <K extends Entity.Key<S>, S extends Specification> Entity<K, S> delete(SpecificationDeletionEvent<K, S> event) {
     val oldEntity = (Entity<K, S>) getEntity(event.getKey());
-    entities.put(event.getKey(), deleted(oldEntity));
+    entities.put(oldEntity != null ? oldEntity.getKey() : event.getKey(), deleted(oldEntity));
     log.debug("Deleted entity for {}", event.getKey());
     return oldEntity;
   }
@@ -104,7 +106,7 @@ class DefaultEntityViewUpdater implements EntityViewUpdater {
       return null;
     }
     val entity = oldEntity.withStatus(oldEntity.getStatus().without(event.getStatusName()));
-    entities.put(event.getKey(), existing(entity));
+    entities.put(entity.getKey(), existing(entity));
     log.debug("Deleted status {} for {}", event.getStatusName(), event.getKey());
     return oldEntity;
   }
@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +34,8 @@ import com.expediagroup.streamplatform.streamregistry.state.internal.EventCorrel
 @RequiredArgsConstructor(access = PACKAGE)
 public class DefaultEventCorrelator implements EventCorrelator {
   private final Map<String, CompletableFuture<Void>> futures;
+  /** The number of events still to be received for each batch of more than one event. */
+  private final Map<String, AtomicInteger> remaining = new ConcurrentHashMap<>();
 
   public DefaultEventCorrelator() {
     this(new ConcurrentHashMap<>());
@@ -46,9 +49,25 @@ public class DefaultEventCorrelator implements EventCorrelator {
     return correlationId;
   }
 
+  @Override
+  public String register(CompletableFuture<Void> future, int events) {
+    if (events == 1) {
+      return register(future);
+    }
+    val correlationId = randomUUID().toString();
+    remaining.put(correlationId, new AtomicInteger(events));
+    futures.put(correlationId, future);
+    log.debug("registered: {} for {} events", correlationId, events);
+    return correlationId;
+  }
+
   @Override
   public void received(String correlationId) {
     log.debug("received: {}", correlationId);
+    val count = remaining.get(correlationId);
+    if (count != null && count.decrementAndGet() > 0) {
+      return;
+    }
     remove(correlationId).ifPresent(future -> future.complete(null));
   }
 
@@ -59,6 +78,7 @@ public class DefaultEventCorrelator implements EventCorrelator {
   }
 
   private Optional<CompletableFuture<Void>> remove(String correlationId) {
+    remaining.remove(correlationId);
     return Optional.ofNullable(futures.remove(correlationId));
   }
 }
@@ -0,0 +1,233 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+import lombok.NonNull;
+
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
+import com.expediagroup.streamplatform.streamregistry.state.model.KeyComparator;
+
+/**
+ * Holds the {@link StateValue StateValues} of an {@link EntityView} partitioned by {@link Entity.Key} type.
+ * <p/>
+ * Existing entities and deleted entities (tombstones) are held in separate areas, each of which has one sub-map per
+ * key class. This means iterating the entities of a single type only touches the entities of that type rather than
+ * the whole registry. A {@link Map} view over all partitions is still provided for gauges and tests.
+ * <p/>
+ * Every write also maintains a {@link RelationshipIndex} of existing entities so children of a key can be found
+ * with hash lookups, and a set of the keys of existing entities per key class in {@link KeyComparator} order so a page
+ * of entities following a given key can be read without sorting the whole partition. An {@link AttributeIndex} of the
+ * tags and security principals of existing entities answers tag and security queries without reading every entity,
+ * and a trigram {@link KeyIndex} of the names within their keys narrows key regex queries down to candidate keys.
+ */
+class EntityStore extends AbstractMap<Entity.Key<?>, StateValue> {
+  private final Map<Class<?>, Map<Entity.Key<?>, StateValue>> existing = new ConcurrentHashMap<>();
+  private final Map<Class<?>, Map<Entity.Key<?>, StateValue>> deleted = new ConcurrentHashMap<>();
+  private final Map<Class<?>, ConcurrentSkipListSet<Entity.Key<?>>> ordered = new ConcurrentHashMap<>();
+  private final RelationshipIndex relationships = new RelationshipIndex();
+  private final AttributeIndex attributes = new AttributeIndex();
+  private final KeyIndex names = new KeyIndex();
+
+  /**
+   * Returns the values of all existing (not deleted) entities of the given key class.
+   */
+  Collection<StateValue> existing(@NonNull Class<?> keyClass) {
+    return partition(existing, keyClass).values();
+  }
+
+  /**
+   * Returns the entries of all deleted but not purged entities of the given key class.
+   */
+  Set<Map.Entry<Entity.Key<?>, StateValue>> deleted(@NonNull Class<?> keyClass) {
+    return partition(deleted, keyClass).entrySet();
+  }
+
+  /**
+   * Returns the values of the existing entities of the given key class whose keys follow the given key in
+   * {@link KeyComparator} order, in that order.
+   *
+   * @param after the key to start after, or {@code null} to start with the first key. It need not exist.
+   */
+  Stream<StateValue> existingAfter(@NonNull Class<?> keyClass, Entity.Key<?> after) {
+    ConcurrentSkipListSet<Entity.Key<?>> keys = ordered.get(keyClass);
+    if (keys == null) {
+      return Stream.empty();
+    }
+    Map<Entity.Key<?>, StateValue> partition = partition(existing, keyClass);
+    return (after == null ? keys : keys.tailSet(after, false)).stream()
+      .map(partition::get)
+      .filter(Objects::nonNull);
+  }
+
+  /**
+   * Returns the values of all existing entities of the given key class that reference the given parent key.
+   */
+  Stream<StateValue> children(@NonNull Entity.Key<?> parentKey, @NonNull Class<?> childKeyClass) {
+    Map<Entity.Key<?>, StateValue> partition = partition(existing, childKeyClass);
+    return relationships.children(parentKey, childKeyClass).stream()
+      .map(partition::get)
+      .filter(Objects::nonNull);
+  }
+
+  /**
+   * Returns the keys of the existing entities of the given key class matching every tag query and every security
+   * query. At least one query is required.
+   */
+  Set<Entity.Key<?>> matching(@NonNull Class<?> keyClass, @NonNull List<AttributeQuery> tagQueries, @NonNull List<AttributeQuery> securityQueries) {
+    return attributes.keys(keyClass, tagQueries, securityQueries);
+  }
+
+  /**
+   * Returns a superset of the keys of the existing entities of the given key class with a name matching each regex,
+   * or {@code null} if none of the regexes can be looked up.
+   */
+  Set<Entity.Key<?>> candidates(@NonNull Class<?> keyClass, @NonNull List<String> regexes) {
+    return names.candidates(keyClass, regexes);
+  }
+
+  @Override
+  public StateValue get(Object key) {
+    if (key == null) {
+      return null;
+    }
+    // Check the existing area first so a concurrent reader always sees one of the two values during a delete.
+    StateValue value = partition(existing, key.getClass()).get(key);
+    return value != null ? value : partition(deleted, key.getClass()).get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public StateValue put(@NonNull Entity.Key<?> key, @NonNull StateValue value) {
+    Map<Entity.Key<?>, StateValue> target = writablePartition(value.deleted ? deleted : existing, key.getClass());
+    Map<Entity.Key<?>, StateValue> other = partition(value.deleted ? existing : deleted, key.getClass());
+    StateValue previous = target.put(key, value);
+    StateValue otherPrevious = other.remove(key);
+    previous = previous != null ? previous : otherPrevious;
+    if (value.deleted) {
+      orderedKeys(key.getClass()).remove(key);
+    } else {
+      orderedKeys(key.getClass()).add(key);
+    }
+    updateIndexes(previous, value);
+    return previous;
+  }
+
+  @Override
+  public StateValue remove(Object key) {
+    if (key == null) {
+      return null;
+    }
+    StateValue previousExisting = partition(existing, key.getClass()).remove(key);
+    StateValue previousDeleted = partition(deleted, key.getClass()).remove(key);
+    Set<Entity.Key<?>> keys = ordered.get(key.getClass());
+    if (keys != null) {
+      keys.remove(key);
+    }
+    updateIndexes(previousExisting, null);
+    return previousExisting != null ? previousExisting : previousDeleted;
+  }
+
+  @Override
+  public int size() {
+    return size(existing) + size(deleted);
+  }
+
+  @Override
+  public void clear() {
+    existing.clear();
+    deleted.clear();
+    ordered.clear();
+    relationships.clear();
+    attributes.clear();
+    names.clear();
+  }
+
+  @Override
+  public Set<Entry<Entity.Key<?>, StateValue>> entrySet() {
+    return new AbstractSet<Entry<Entity.Key<?>, StateValue>>() {
+      @Override
+      public Iterator<Entry<Entity.Key<?>, StateValue>> iterator() {
+        return Stream.concat(existing.values().stream(), deleted.values().stream())
+          .flatMap(partition -> partition.entrySet().stream())
+          .iterator();
+      }
+
+      @Override
+      public int size() {
+        return EntityStore.this.size();
+      }
+    };
+  }
+
+  private void updateIndexes(StateValue previous, StateValue value) {
+    Entity<?, ?> previousEntity = indexed(previous);
+    Entity<?, ?> entity = indexed(value);
+    if (previousEntity == null && entity != null) {
+      names.add(entity.getKey());
+    } else if (previousEntity != null && entity == null) {
+      names.remove(previousEntity.getKey());
+    }
+    if (previousEntity != null && entity != null && previousEntity.getSpecification() == entity.getSpecification()) {
+      // Status only change, the relationships and attributes are unchanged
+      return;
+    }
+    if (previousEntity != null) {
+      relationships.remove(previousEntity);
+      attributes.remove(previousEntity);
+    }
+    if (entity != null) {
+      relationships.add(entity);
+      attributes.add(entity);
+    }
+  }
+
+  private ConcurrentSkipListSet<Entity.Key<?>> orderedKeys(Class<?> keyClass) {
+    return ordered.computeIfAbsent(keyClass, k -> new ConcurrentSkipListSet<>(KeyComparator.INSTANCE));
+  }
+
+  private static Entity<?, ?> indexed(StateValue value) {
+    return value == null || value.deleted ? null : value.entity;
+  }
+
+  private static int size(Map<Class<?>, Map<Entity.Key<?>, StateValue>> area) {
+    return area.values().stream().mapToInt(Map::size).sum();
+  }
+
+  private static Map<Entity.Key<?>, StateValue> partition(Map<Class<?>, Map<Entity.Key<?>, StateValue>> area, Class<?> keyClass) {
+    return area.getOrDefault(keyClass, Collections.emptyMap());
+  }
+
+  private static Map<Entity.Key<?>, StateValue> writablePartition(Map<Class<?>, Map<Entity.Key<?>, StateValue>> area, Class<?> keyClass) {
+    return area.computeIfAbsent(keyClass, k -> new ConcurrentHashMap<>());
+  }
+}
@@ -0,0 +1,319 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
+import com.expediagroup.streamplatform.streamregistry.state.model.event.Event;
+import com.expediagroup.streamplatform.streamregistry.state.model.event.StatusDeletionEvent;
+import com.expediagroup.streamplatform.streamregistry.state.model.event.StatusEvent;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.Specification;
+
+/**
+ * An {@link EntityViewListener} that fans each event out to any number of subscribed listeners. Each subscription has
+ * its own bounded queue drained by its own thread, so the thread applying events to the {@link EntityView} only
+ * enqueues and never runs listener code. Pass the dispatcher to {@link EntityView#load(EntityViewListener)} and
+ * {@link #subscribe(EntityViewListener, SubscriptionConfig) subscribe} listeners before or after loading.
+ * <p/>
+ * Every subscription publishes the following meters tagged with its name:
+ * <ul>
+ *   <li>{@code stream_registry_state.dispatcher.pending} - the number of queued events.</li>
+ *   <li>{@code stream_registry_state.dispatcher.lag} - the time between queueing an event and invoking the listener.</li>
+ *   <li>{@code stream_registry_state.dispatcher.dropped} - the events discarded by {@link OverflowPolicy#DROP_OLDEST}.</li>
+ *   <li>{@code stream_registry_state.dispatcher.collapsed} - the events merged by {@link OverflowPolicy#COLLAPSE_BY_KEY}.</li>
+ * </ul>
+ */
+@Slf4j
+public class EntityViewDispatcher implements EntityViewListener, AutoCloseable {
+  private final MeterRegistry meterRegistry;
+  private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+  public EntityViewDispatcher() {
+    this(new SimpleMeterRegistry());
+  }
+
+  public EntityViewDispatcher(@NonNull MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Subscribes a listener. It receives every event dispatched after this call, in order, on a dedicated thread.
+   *
+   * @param listener the listener.
+   * @param config   the queue configuration of the subscription.
+   * @return the subscription, to be closed to unsubscribe.
+   */
+  public Subscription subscribe(@NonNull EntityViewListener listener, @NonNull SubscriptionConfig config) {
+    if (config.getQueueCapacity() < 1) {
+      throw new IllegalArgumentException("Queue capacity must be at least 1, got " + config.getQueueCapacity());
+    }
+    Subscription subscription = new Subscription(listener, config, meterRegistry);
+    subscriptions.add(subscription);
+    return subscription;
+  }
+
+  @Override
+  public <K extends Entity.Key<S>, S extends Specification> void onEvent(Entity<K, S> oldEntity, @NonNull Event<K, S> event) {
+    for (Subscription subscription : subscriptions) {
+      subscription.offer(oldEntity, event);
+    }
+  }
+
+  /**
+   * Closes every subscription.
+   */
+  @Override
+  public void close() {
+    subscriptions.forEach(Subscription::close);
+  }
+
+  /**
+   * What a subscription does with a new event when its queue is full.
+   */
+  public enum OverflowPolicy {
+    /**
+     * Waits for the listener to make room. This applies back pressure to the thread applying events to the view.
+     */
+    BLOCK,
+    /**
+     * Discards the oldest queued event.
+     */
+    DROP_OLDEST,
+    /**
+     * Replaces the most recently queued event of the same entity if it is of the same type (and for statuses has the
+     * same name), keeping the entity state prior to the replaced event. Otherwise waits as {@link #BLOCK} does.
+     */
+    COLLAPSE_BY_KEY
+  }
+
+  @Value
+  @Builder
+  public static class SubscriptionConfig {
+    /**
+     * The name of the subscription, used for its thread and to tag its meters.
+     */
+    @NonNull String name;
+    /**
+     * The maximum number of queued events.
+     */
+    @Builder.Default
+    int queueCapacity = 10_000;
+    @NonNull
+    @Builder.Default
+    OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+  }
+
+  public final class Subscription implements AutoCloseable {
+    private final EntityViewListener listener;
+    @Getter
+    private final String name;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Deque<Item> queue = new ArrayDeque<>();
+    /** The most recently queued item of each entity with queued items. */
+    private final Map<Entity.Key<?>, Item> latest = new HashMap<>();
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+    private final Gauge pendingGauge;
+    private final Timer lag;
+    private final Counter dropped;
+    private final Counter collapsed;
+    private volatile boolean closed;
+
+    private Subscription(EntityViewListener listener, SubscriptionConfig config, MeterRegistry meterRegistry) {
+      this.listener = listener;
+      this.name = config.getName();
+      this.capacity = config.getQueueCapacity();
+      this.overflowPolicy = config.getOverflowPolicy();
+      Tags tags = Tags.of("listener", name);
+      this.meterRegistry = meterRegistry;
+      this.pendingGauge = Gauge.builder("stream_registry_state.dispatcher.pending", this, Subscription::getPending)
+        .tags(tags)
+        .register(meterRegistry);
+      this.lag = meterRegistry.timer("stream_registry_state.dispatcher.lag", tags);
+      this.dropped = meterRegistry.counter("stream_registry_state.dispatcher.dropped", tags);
+      this.collapsed = meterRegistry.counter("stream_registry_state.dispatcher.collapsed", tags);
+      this.executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "entity-view-listener-" + name);
+        thread.setDaemon(true);
+        return thread;
+      });
+      executor.execute(this::run);
+    }
+
+    /**
+     * @return the number of queued events.
+     */
+    public int getPending() {
+      lock.lock();
+      try {
+        return queue.size();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * Unsubscribes the listener, discarding any queued events, and removes its meters. Does not wait for an event
+     * being processed.
+     */
+    @Override
+    public void close() {
+      subscriptions.remove(this);
+      lock.lock();
+      try {
+        closed = true;
+        queue.clear();
+        latest.clear();
+        notEmpty.signalAll();
+        notFull.signalAll();
+      } finally {
+        lock.unlock();
+      }
+      executor.shutdown();
+      meterRegistry.remove(pendingGauge);
+      meterRegistry.remove(lag);
+      meterRegistry.remove(dropped);
+      meterRegistry.remove(collapsed);
+    }
+
+    void offer(Entity<?, ?> oldEntity, Event<?, ?> event) {
+      lock.lock();
+      try {
+        if (queue.size() >= capacity) {
+          if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+            forget(queue.removeFirst());
+            dropped.increment();
+          } else if (overflowPolicy == OverflowPolicy.COLLAPSE_BY_KEY && collapse(event)) {
+            return;
+          }
+        }
+        while (queue.size() >= capacity && !closed) {
+          notFull.awaitUninterruptibly();
+        }
+        if (closed) {
+          return;
+        }
+        Item item = new Item(oldEntity, event, System.nanoTime());
+        queue.addLast(item);
+        latest.put(event.getKey(), item);
+        notEmpty.signal();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private boolean collapse(Event<?, ?> event) {
+      Item pending = latest.get(event.getKey());
+      if (pending == null || !sameSubject(pending.event, event)) {
+        return false;
+      }
+      pending.event = event;
+      collapsed.increment();
+      return true;
+    }
+
+    private void run() {
+      while (true) {
+        Item item;
+        lock.lock();
+        try {
+          while (queue.isEmpty() && !closed) {
+            notEmpty.awaitUninterruptibly();
+          }
+          if (closed) {
+            return;
+          }
+          item = queue.removeFirst();
+          forget(item);
+          notFull.signal();
+        } finally {
+          lock.unlock();
+        }
+        lag.record(System.nanoTime() - item.enqueued, NANOSECONDS);
+        try {
+          dispatch(listener, item);
+        } catch (Exception e) {
+          log.error("Listener {} failed for event {}", name, item.event, e);
+        }
+      }
+    }
+
+    private void forget(Item item) {
+      latest.remove(item.event.getKey(), item);
+    }
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static void dispatch(EntityViewListener listener, Item item) {
+    listener.onEvent((Entity) item.oldEntity, (Event) item.event);
+  }
+
+  private static boolean sameSubject(Event<?, ?> pending, Event<?, ?> event) {
+    if (pending.getClass() != event.getClass()) {
+      return false;
+    }
+    if (event instanceof StatusEvent) {
+      return Objects.equals(((StatusEvent<?, ?>) pending).getStatusEntry().getName(), ((StatusEvent<?, ?>) event).getStatusEntry().getName());
+    }
+    if (event instanceof StatusDeletionEvent) {
+      return Objects.equals(((StatusDeletionEvent<?, ?>) pending).getStatusName(), ((StatusDeletionEvent<?, ?>) event).getStatusName());
+    }
+    return true;
+  }
+
+  private static final class Item {
+    private final Entity<?, ?> oldEntity;
+    private final long enqueued;
+    /** Guarded by the subscription lock while queued. */
+    private Event<?, ?> event;
+
+    private Item(Entity<?, ?> oldEntity, Event<?, ?> event, long enqueued) {
+      this.oldEntity = oldEntity;
+      this.event = event;
+      this.enqueued = enqueued;
+    }
+  }
+}
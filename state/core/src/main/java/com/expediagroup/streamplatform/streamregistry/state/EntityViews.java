@@ -19,9 +19,7 @@ import static lombok.AccessLevel.PACKAGE;
 
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -43,7 +41,7 @@ public final class EntityViews {
 
   @NonNull
   public static EntityView meteredEntityView(EventReceiver receiver, MeterRegistry meterRegistry) {
-    Map<Entity.Key<?>, StateValue> entities = new ConcurrentHashMap<>();
+    EntityStore entities = new EntityStore();
     meterRegistry.gaugeMapSize("stream_registry_state.view.entities", Tags.empty(), entities);
 
     DefaultEntityViewUpdater defaultEntityViewUpdater = new DefaultEntityViewUpdater(entities);
@@ -0,0 +1,386 @@
+/**
+ * Copyright (C) 2018-2024 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+import java.util.function.Predicate;
+
+import lombok.NonNull;
+
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ConsumerKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.DomainKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.InfrastructureKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProcessKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProducerKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.SchemaKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ZoneKey;
+
+/**
+ * A trigram index of the names within the keys of existing entities, partitioned by key class. Each distinct name maps
+ * to the keys containing it, and each trigram to the distinct names containing it.
+ * <p/>
+ * A regular expression is looked up by the trigrams of the literal strings that every match must contain, as in
+ * Google Code Search. The expression itself is then evaluated against the names containing all of those trigrams only,
+ * and the keys of the matching names are the candidates. Expressions without such a literal of three characters or
+ * more, like {@code .*} or {@code a|b}, cannot be looked up.
+ */
+class KeyIndex {
+  private final Map<Class<?>, Names> names = new ConcurrentHashMap<>();
+
+  void add(@NonNull Entity.Key<?> key) {
+    Names partition = names.computeIfAbsent(key.getClass(), c -> new Names());
+    for (String name : names(key)) {
+      partition.add(name, key);
+    }
+  }
+
+  void remove(@NonNull Entity.Key<?> key) {
+    Names partition = names.get(key.getClass());
+    if (partition != null) {
+      for (String name : names(key)) {
+        partition.remove(name, key);
+      }
+    }
+  }
+
+  /**
+   * Returns a superset of the keys of the given class with a name matching each regex, or {@code null} if none of the
+   * regexes can be looked up.
+   */
+  Set<Entity.Key<?>> candidates(@NonNull Class<?> keyClass, @NonNull List<String> regexes) {
+    Names partition = names.get(keyClass);
+    Set<Entity.Key<?>> result = null;
+    for (String regex : regexes) {
+      Set<Long> trigrams = new HashSet<>();
+      literals(regex).forEach(literal -> forEachTrigram(literal, trigrams::add));
+      if (trigrams.isEmpty()) {
+        continue;
+      }
+      Set<Entity.Key<?>> keys = partition == null ? new HashSet<>() : partition.keys(trigrams, PatternCache.compile(regex).asMatchPredicate());
+      if (result == null) {
+        result = keys;
+      } else if (keys.size() < result.size()) {
+        keys.retainAll(result);
+        result = keys;
+      } else {
+        result.retainAll(keys);
+      }
+      if (result.isEmpty()) {
+        break;
+      }
+    }
+    return result;
+  }
+
+  void clear() {
+    names.clear();
+  }
+
+  /**
+   * Returns literal strings that every string matched as a whole by the regex contains. Only runs of literal
+   * characters outside of groups and character classes are taken, and a repeated or optional character ends a run.
+   * Nothing is taken from a regex with an alternation or an inline flag, or with an escape sequence that is not
+   * understood here, so an empty list is always a safe answer.
+   */
+  static List<String> literals(String regex) {
+    List<String> literals = new ArrayList<>();
+    StringBuilder run = new StringBuilder();
+    int i = 0;
+    while (i < regex.length()) {
+      char c = regex.charAt(i);
+      String atom = null;
+      int next;
+      if (c == '\\') {
+        if (i + 1 >= regex.length()) {
+          return Collections.emptyList();
+        }
+        char escaped = regex.charAt(i + 1);
+        if (escaped == 'Q') {
+          int end = regex.indexOf("\\E", i + 2);
+          atom = end < 0 ? regex.substring(i + 2) : regex.substring(i + 2, end);
+          next = end < 0 ? regex.length() : end + 2;
+          if (atom.isEmpty()) {
+            return Collections.emptyList();
+          }
+        } else if (!Character.isLetterOrDigit(escaped)) {
+          atom = String.valueOf(escaped);
+          next = i + 2;
+        } else if ("dDsSwWhHvVbBAGZztnrfaeR".indexOf(escaped) >= 0) {
+          next = i + 2;
+        } else {
+          return Collections.emptyList();
+        }
+      } else if (c == '(') {
+        if (regex.startsWith("(?", i)) {
+          return Collections.emptyList();
+        }
+        next = skipGroup(regex, i);
+      } else if (c == '[') {
+        next = skipClass(regex, i);
+      } else if (c == '.' || c == '^' || c == '$') {
+        next = i + 1;
+      } else if ("|)]{}*+?".indexOf(c) >= 0) {
+        return Collections.emptyList();
+      } else {
+        atom = String.valueOf(c);
+        next = i + 1;
+      }
+      if (next < 0) {
+        return Collections.emptyList();
+      }
+
+      int quantified = quantifier(regex, next);
+      if (quantified == -1) {
+        return Collections.emptyList();
+      }
+      if (atom == null) {
+        flush(run, literals);
+      } else if (quantified == next) {
+        run.append(atom);
+      } else {
+        boolean optional = regex.charAt(next) == '*' || regex.charAt(next) == '?' || regex.startsWith("{0", next);
+        // Only the last character of a quoted atom is repeated
+        run.append(atom, 0, optional ? atom.length() - 1 : atom.length());
+        flush(run, literals);
+      }
+      i = Math.max(next, quantified);
+    }
+    flush(run, literals);
+    return literals;
+  }
+
+  /**
+   * @return the index following the quantifier at the given index, the index itself if there is none, or -1 if the
+   * quantifier is not understood.
+   */
+  private static int quantifier(String regex, int i) {
+    if (i >= regex.length()) {
+      return i;
+    }
+    char c = regex.charAt(i);
+    int next;
+    if (c == '*' || c == '+' || c == '?') {
+      next = i + 1;
+    } else if (c == '{') {
+      int end = regex.indexOf('}', i);
+      if (end < 0 || !regex.substring(i + 1, end).matches("\\d+(,\\d*)?")) {
+        return -1;
+      }
+      next = end + 1;
+    } else {
+      return i;
+    }
+    if (next < regex.length() && (regex.charAt(next) == '?' || regex.charAt(next) == '+')) {
+      next++;
+    }
+    return next;
+  }
+
+  /**
+   * @return the index following the group starting at the given index, or -1 if it does not end.
+   */
+  private static int skipGroup(String regex, int i) {
+    int depth = 0;
+    while (i < regex.length()) {
+      char c = regex.charAt(i);
+      if (c == '\\') {
+        if (regex.startsWith("\\Q", i)) {
+          return -1;
+        }
+        i += 2;
+      } else if (c == '[') {
+        i = skipClass(regex, i);
+        if (i < 0) {
+          return -1;
+        }
+      } else {
+        if (c == '(') {
+          depth++;
+        } else if (c == ')' && --depth == 0) {
+          return i + 1;
+        }
+        i++;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return the index following the character class starting at the given index, or -1 if it does not end.
+   */
+  private static int skipClass(String regex, int i) {
+    i++;
+    if (i < regex.length() && regex.charAt(i) == '^') {
+      i++;
+    }
+    if (i < regex.length() && regex.charAt(i) == ']') {
+      i++;
+    }
+    while (i < regex.length()) {
+      char c = regex.charAt(i);
+      if (c == '\\') {
+        if (regex.startsWith("\\Q", i)) {
+          return -1;
+        }
+        i += 2;
+      } else if (c == '[') {
+        i = skipClass(regex, i);
+        if (i < 0) {
+          return -1;
+        }
+      } else if (c == ']') {
+        return i + 1;
+      } else {
+        i++;
+      }
+    }
+    return -1;
+  }
+
+  private static void flush(StringBuilder run, List<String> literals) {
+    if (run.length() >= 3) {
+      literals.add(run.toString());
+    }
+    run.setLength(0);
+  }
+
+  private static void forEachTrigram(String value, LongConsumer consumer) {
+    for (int i = 0; i + 3 <= value.length(); i++) {
+      consumer.accept(trigram(value, i));
+    }
+  }
+
+  private static long trigram(String value, int i) {
+    return (long) value.charAt(i) << 32 | (long) value.charAt(i + 1) << 16 | value.charAt(i + 2);
+  }
+
+  /**
+   * @return the name of the key, if it has one, followed by the names of the keys nested within it.
+   */
+  static Set<String> names(Entity.Key<?> key) {
+    Set<String> names = new LinkedHashSet<>();
+    RelationshipIndex.nestedKeys(key).forEach(nested -> {
+      String name = name(nested);
+      if (name != null) {
+        names.add(name);
+      }
+    });
+    return names;
+  }
+
+  private static String name(Entity.Key<?> key) {
+    if (key instanceof DomainKey) {
+      return ((DomainKey) key).getName();
+    } else if (key instanceof SchemaKey) {
+      return ((SchemaKey) key).getName();
+    } else if (key instanceof StreamKey) {
+      return ((StreamKey) key).getName();
+    } else if (key instanceof ZoneKey) {
+      return ((ZoneKey) key).getName();
+    } else if (key instanceof InfrastructureKey) {
+      return ((InfrastructureKey) key).getName();
+    } else if (key instanceof ProducerKey) {
+      return ((ProducerKey) key).getName();
+    } else if (key instanceof ConsumerKey) {
+      return ((ConsumerKey) key).getName();
+    } else if (key instanceof ProcessKey) {
+      return ((ProcessKey) key).getName();
+    }
+    return null;
+  }
+
+  /**
+   * The names within the keys of one key class.
+   */
+  private static class Names {
+    private final Map<String, Set<Entity.Key<?>>> keysByName = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> namesByTrigram = new ConcurrentHashMap<>();
+
+    void add(String name, Entity.Key<?> key) {
+      keysByName.compute(name, (n, keys) -> {
+        if (keys == null) {
+          keys = ConcurrentHashMap.newKeySet();
+          forEachTrigram(n, trigram -> namesByTrigram.compute(trigram, (t, names) -> {
+            Set<String> added = names == null ? ConcurrentHashMap.newKeySet() : names;
+            added.add(n);
+            return added;
+          }));
+        }
+        keys.add(key);
+        return keys;
+      });
+    }
+
+    void remove(String name, Entity.Key<?> key) {
+      keysByName.computeIfPresent(name, (n, keys) -> {
+        keys.remove(key);
+        if (!keys.isEmpty()) {
+          return keys;
+        }
+        forEachTrigram(n, trigram -> namesByTrigram.computeIfPresent(trigram, (t, names) -> {
+          names.remove(n);
+          return names.isEmpty() ? null : names;
+        }));
+        return null;
+      });
+    }
+
+    /**
+     * @return the keys with a name containing every trigram and matching the predicate.
+     */
+    Set<Entity.Key<?>> keys(Set<Long> trigrams, Predicate<String> matcher) {
+      List<Set<String>> postings = new ArrayList<>();
+      for (Long trigram : trigrams) {
+        Set<String> names = namesByTrigram.get(trigram);
+        if (names == null) {
+          return new HashSet<>();
+        }
+        postings.add(names);
+      }
+      postings.sort((a, b) -> Integer.compare(a.size(), b.size()));
+      Set<Entity.Key<?>> keys = new HashSet<>();
+      for (String name : postings.get(0)) {
+        if (containsAll(postings, name) && matcher.test(name)) {
+          Set<Entity.Key<?>> named = keysByName.get(name);
+          if (named != null) {
+            keys.addAll(named);
+          }
+        }
+      }
+      return keys;
+    }
+
+    private static boolean containsAll(List<Set<String>> postings, String name) {
+      for (int i = 1; i < postings.size(); i++) {
+        if (!postings.get(i).contains(name)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+  }
+}
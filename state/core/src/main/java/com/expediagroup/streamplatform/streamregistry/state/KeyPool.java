@@ -0,0 +1,173 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.NonNull;
+
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ConsumerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ConsumerKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.DomainKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.InfrastructureKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProcessBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProcessKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProducerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProducerKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.SchemaKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.StreamBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ZoneKey;
+
+/**
+ * Interns {@link Entity.Key keys} so that equal keys, and every key nested within them, share a single instance. A
+ * {@link ConsumerBindingKey} interned after its {@link ConsumerKey}, for example, refers to the same
+ * {@link StreamKey} and {@link DomainKey} instances as the consumer key and as every other key of that stream.
+ * <p/>
+ * This keeps one copy of each parent key however many children refer to it, and lets the equality checks of map
+ * lookups between interned keys succeed by reference.
+ * <p/>
+ * Keys are held weakly and leave the pool once nothing else refers to them.
+ */
+class KeyPool {
+  private final Map<Ref, Ref> pool = new ConcurrentHashMap<>();
+  private final ReferenceQueue<Entity.Key<?>> queue = new ReferenceQueue<>();
+
+  /**
+   * @return the pooled key equal to the given key, adding the key with its nested keys interned if there is none.
+   */
+  @SuppressWarnings("unchecked")
+  <K extends Entity.Key<?>> K intern(@NonNull K key) {
+    expunge();
+    return (K) internKey(key);
+  }
+
+  int size() {
+    expunge();
+    return pool.size();
+  }
+
+  private Entity.Key<?> internKey(Entity.Key<?> key) {
+    Ref pooled = pool.get(new Ref(key, null));
+    Entity.Key<?> canonical = pooled == null ? null : pooled.get();
+    if (canonical != null) {
+      return canonical;
+    }
+    Entity.Key<?> interned = withInternedParts(key);
+    Ref ref = new Ref(interned, queue);
+    Ref existing = pool.putIfAbsent(ref, ref);
+    canonical = existing == null ? null : existing.get();
+    return canonical == null ? interned : canonical;
+  }
+
+  private Entity.Key<?> withInternedParts(Entity.Key<?> key) {
+    if (key instanceof SchemaKey) {
+      SchemaKey k = (SchemaKey) key;
+      DomainKey domainKey = part(k.getDomainKey());
+      return domainKey == k.getDomainKey() ? k : new SchemaKey(domainKey, k.getName());
+    } else if (key instanceof StreamKey) {
+      StreamKey k = (StreamKey) key;
+      DomainKey domainKey = part(k.getDomainKey());
+      return domainKey == k.getDomainKey() ? k : new StreamKey(domainKey, k.getName(), k.getVersion());
+    } else if (key instanceof InfrastructureKey) {
+      InfrastructureKey k = (InfrastructureKey) key;
+      ZoneKey zoneKey = part(k.getZoneKey());
+      return zoneKey == k.getZoneKey() ? k : new InfrastructureKey(zoneKey, k.getName());
+    } else if (key instanceof ProducerKey) {
+      ProducerKey k = (ProducerKey) key;
+      StreamKey streamKey = part(k.getStreamKey());
+      ZoneKey zoneKey = part(k.getZoneKey());
+      return streamKey == k.getStreamKey() && zoneKey == k.getZoneKey() ? k : new ProducerKey(streamKey, zoneKey, k.getName());
+    } else if (key instanceof ConsumerKey) {
+      ConsumerKey k = (ConsumerKey) key;
+      StreamKey streamKey = part(k.getStreamKey());
+      ZoneKey zoneKey = part(k.getZoneKey());
+      return streamKey == k.getStreamKey() && zoneKey == k.getZoneKey() ? k : new ConsumerKey(streamKey, zoneKey, k.getName());
+    } else if (key instanceof ProcessKey) {
+      ProcessKey k = (ProcessKey) key;
+      DomainKey domainKey = part(k.getDomainKey());
+      return domainKey == k.getDomainKey() ? k : new ProcessKey(domainKey, k.getName());
+    } else if (key instanceof StreamBindingKey) {
+      StreamBindingKey k = (StreamBindingKey) key;
+      StreamKey streamKey = part(k.getStreamKey());
+      InfrastructureKey infrastructureKey = part(k.getInfrastructureKey());
+      return streamKey == k.getStreamKey() && infrastructureKey == k.getInfrastructureKey() ? k : new StreamBindingKey(streamKey, infrastructureKey);
+    } else if (key instanceof ProducerBindingKey) {
+      ProducerBindingKey k = (ProducerBindingKey) key;
+      ProducerKey producerKey = part(k.getProducerKey());
+      StreamBindingKey streamBindingKey = part(k.getStreamBindingKey());
+      return producerKey == k.getProducerKey() && streamBindingKey == k.getStreamBindingKey() ? k : new ProducerBindingKey(producerKey, streamBindingKey);
+    } else if (key instanceof ConsumerBindingKey) {
+      ConsumerBindingKey k = (ConsumerBindingKey) key;
+      ConsumerKey consumerKey = part(k.getConsumerKey());
+      StreamBindingKey streamBindingKey = part(k.getStreamBindingKey());
+      return consumerKey == k.getConsumerKey() && streamBindingKey == k.getStreamBindingKey() ? k : new ConsumerBindingKey(consumerKey, streamBindingKey);
+    } else if (key instanceof ProcessBindingKey) {
+      ProcessBindingKey k = (ProcessBindingKey) key;
+      ProcessKey processKey = part(k.getProcessKey());
+      ZoneKey zoneKey = part(k.getZoneKey());
+      return processKey == k.getProcessKey() && zoneKey == k.getZoneKey() ? k : new ProcessBindingKey(processKey, zoneKey);
+    }
+    return key;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <K extends Entity.Key<?>> K part(K key) {
+    return (K) internKey(key);
+  }
+
+  private void expunge() {
+    Ref ref;
+    while ((ref = (Ref) queue.poll()) != null) {
+      pool.remove(ref, ref);
+    }
+  }
+
+  /**
+   * A weak reference to a key that is equal to another reference to an equal key. A cleared reference is only equal
+   * to itself.
+   */
+  private static final class Ref extends WeakReference<Entity.Key<?>> {
+    private final int hash;
+
+    private Ref(Entity.Key<?> key, ReferenceQueue<Entity.Key<?>> queue) {
+      super(key, queue);
+      this.hash = key.hashCode();
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof Ref) || hash != ((Ref) other).hash) {
+        return false;
+      }
+      Entity.Key<?> key = get();
+      return key != null && Objects.equals(key, ((Ref) other).get());
+    }
+  }
+}
@@ -0,0 +1,197 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state;
+
+import static com.expediagroup.streamplatform.streamregistry.state.model.event.Event.LOAD_COMPLETE;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
+import com.expediagroup.streamplatform.streamregistry.state.model.event.Event;
+import com.expediagroup.streamplatform.streamregistry.state.model.event.SpecificationDeletionEvent;
+import com.expediagroup.streamplatform.streamregistry.state.model.event.SpecificationEvent;
+import com.expediagroup.streamplatform.streamregistry.state.model.event.StatusDeletionEvent;
+import com.expediagroup.streamplatform.streamregistry.state.model.event.StatusEvent;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.Specification;
+
+/**
+ * An {@link EventReceiver} that shares a single delegate receiver, and therefore a single consumer and a single
+ * decoding of each event, between any number of listeners. The delegate is started by the first call to
+ * {@link #receive(EventReceiverListener)}.
+ * <p/>
+ * The receiver keeps the entities built from the events received so far, without indexes and without deleted
+ * entities. A listener registered after the delegate has started is first passed the events that recreate those
+ * entities, then the events that arrived during that replay, then {@link Event#LOAD_COMPLETE} if the delegate has
+ * already loaded, then every subsequent event. Each listener therefore receives its own {@link Event#LOAD_COMPLETE}
+ * and sees the same state as if it had consumed the whole topic itself, less the entities deleted before it was
+ * registered.
+ * <p/>
+ * The replay runs on the registering thread and only holds back delivery to the listener being registered.
+ * {@link #receive(EventReceiverListener)} must not be called from a listener.
+ */
+@Slf4j
+public class MultiplexingEventReceiver implements EventReceiver {
+  private final EventReceiver delegate;
+  private final Map<Entity.Key<?>, Entity<?, ?>> entities = new ConcurrentHashMap<>();
+  private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+  /** Held to deliver an event and exclusively to register a listener, so that no listener misses an event. */
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final AtomicBoolean started = new AtomicBoolean();
+  private volatile boolean loaded;
+
+  public MultiplexingEventReceiver(@NonNull EventReceiver delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void receive(@NonNull EventReceiverListener listener) {
+    val subscriber = new Subscriber(listener);
+    boolean replayLoadComplete;
+    lock.writeLock().lock();
+    try {
+      replayLoadComplete = loaded;
+      subscribers.add(subscriber);
+    } finally {
+      lock.writeLock().unlock();
+    }
+    // Events applied after registering are also buffered, so an entity seen in a later state than it had when
+    // registering converges once the buffer has been delivered
+    entities.values().stream()
+      .flatMap(DefaultEntityView::snapshot)
+      .forEach(event -> deliver(listener, event));
+    subscriber.replayed(replayLoadComplete);
+    if (started.compareAndSet(false, true)) {
+      delegate.receive(new DelegateListener());
+    }
+  }
+
+  /**
+   * Closes the delegate. Listeners receive no further events.
+   */
+  @Override
+  public void close() throws IOException {
+    subscribers.clear();
+    delegate.close();
+  }
+
+  private static void deliver(EventReceiverListener listener, Event<?, ?> event) {
+    try {
+      listener.onEvent(event);
+    } catch (Exception e) {
+      log.error("Listener {} failed for event {}", listener, event, e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <K extends Entity.Key<S>, S extends Specification> void update(Event<K, S> event) {
+    if (event instanceof SpecificationEvent) {
+      val specification = ((SpecificationEvent<K, S>) event).getSpecification();
+      entities.compute(event.getKey(), (key, entity) -> entity == null
+        ? new Entity<>(event.getKey(), specification)
+        : ((Entity<K, S>) entity).withSpecification(specification));
+    } else if (event instanceof StatusEvent) {
+      val entry = ((StatusEvent<K, S>) event).getStatusEntry();
+      entities.computeIfPresent(event.getKey(), (key, entity) -> entity.withStatus(entity.getStatus().with(entry)));
+    } else if (event instanceof StatusDeletionEvent) {
+      val name = ((StatusDeletionEvent<K, S>) event).getStatusName();
+      entities.computeIfPresent(event.getKey(), (key, entity) -> entity.withStatus(entity.getStatus().without(name)));
+    } else if (event instanceof SpecificationDeletionEvent) {
+      entities.remove(event.getKey());
+    } else {
+      throw new IllegalArgumentException("Unknown event " + event);
+    }
+  }
+
+  /**
+   * A registered listener. Until its replay is complete, events are buffered rather than delivered.
+   */
+  @RequiredArgsConstructor
+  private static class Subscriber {
+    private final EventReceiverListener listener;
+    private final Queue<Event<?, ?>> buffer = new ArrayDeque<>();
+    private boolean replaying = true;
+
+    void onEvent(Event<?, ?> event) {
+      synchronized (this) {
+        if (replaying) {
+          buffer.add(event);
+          return;
+        }
+      }
+      deliver(listener, event);
+    }
+
+    /**
+     * Delivers the buffered events, then {@link Event#LOAD_COMPLETE} if required, then switches to delivering events
+     * as they arrive.
+     */
+    void replayed(boolean loadComplete) {
+      while (true) {
+        List<Event<?, ?>> events;
+        synchronized (this) {
+          if (buffer.isEmpty()) {
+            if (loadComplete) {
+              deliver(listener, LOAD_COMPLETE);
+            }
+            replaying = false;
+            return;
+          }
+          events = new ArrayList<>(buffer);
+          buffer.clear();
+        }
+        events.forEach(event -> deliver(listener, event));
+      }
+    }
+  }
+
+  private class DelegateListener implements SnapshotEventReceiverListener {
+    @Override
+    public <K extends Entity.Key<S>, S extends Specification> void onEvent(Event<K, S> event) {
+      lock.readLock().lock();
+      try {
+        if (event == LOAD_COMPLETE) {
+          loaded = true;
+        } else {
+          update(event);
+        }
+        subscribers.forEach(subscriber -> subscriber.onEvent(event));
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+
+    @Override
+    public Stream<Event<?, ?>> snapshot() {
+      return entities.values().stream().flatMap(DefaultEntityView::snapshot);
+    }
+  }
+}
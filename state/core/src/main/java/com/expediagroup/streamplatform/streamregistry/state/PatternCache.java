@@ -0,0 +1,43 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * A bounded cache of compiled regular expressions shared by the indexes, as the same few expressions tend to be
+ * queried over and over. The cache is emptied whenever it is full rather than tracking usage.
+ */
+final class PatternCache {
+  static final int MAX_SIZE = 1024;
+  private static final Map<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+
+  private PatternCache() {}
+
+  static Pattern compile(String regex) {
+    Pattern pattern = PATTERNS.get(regex);
+    if (pattern == null) {
+      pattern = Pattern.compile(regex);
+      if (PATTERNS.size() >= MAX_SIZE) {
+        PATTERNS.clear();
+      }
+      PATTERNS.put(regex, pattern);
+    }
+    return pattern;
+  }
+}
@@ -0,0 +1,159 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.NonNull;
+
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ConsumerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ConsumerKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.InfrastructureKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProcessBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProcessKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProducerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProducerKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.SchemaKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.StreamBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.ProcessBindingSpecification;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.ProcessInputStream;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.ProcessInputStreamBinding;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.ProcessOutputStream;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.ProcessOutputStreamBinding;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.ProcessSpecification;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.StreamSpecification;
+
+/**
+ * Indexes existing entities by the keys they reference so that children of a parent can be found without a scan.
+ * <p/>
+ * An entity is a child of every key nested within its own key (e.g. a {@link ConsumerBindingKey} is a child of its
+ * {@link ConsumerKey}, {@link StreamKey}, {@link Entity.DomainKey} and so on) and of every key referenced by its
+ * specification (e.g. the input and output streams of a process, or the schema of a stream). The keys nested within
+ * referenced streams and stream bindings are referenced as well, so a process binding is a child of the
+ * infrastructure and zone of its input and output stream bindings.
+ */
+class RelationshipIndex {
+  private final Map<Entity.Key<?>, Map<Class<?>, Set<Entity.Key<?>>>> children = new ConcurrentHashMap<>();
+
+  void add(@NonNull Entity<?, ?> entity) {
+    Entity.Key<?> key = entity.getKey();
+    for (Entity.Key<?> parent : parents(entity)) {
+      // add and remove both mutate a parent's sets within compute so that an add never lands in a set being dropped
+      children.compute(parent, (p, byClass) -> {
+        Map<Class<?>, Set<Entity.Key<?>>> result = byClass == null ? new ConcurrentHashMap<>() : byClass;
+        result.computeIfAbsent(key.getClass(), c -> ConcurrentHashMap.newKeySet()).add(key);
+        return result;
+      });
+    }
+  }
+
+  void remove(@NonNull Entity<?, ?> entity) {
+    Entity.Key<?> key = entity.getKey();
+    for (Entity.Key<?> parent : parents(entity)) {
+      children.computeIfPresent(parent, (p, byClass) -> {
+        byClass.computeIfPresent(key.getClass(), (c, keys) -> {
+          keys.remove(key);
+          return keys.isEmpty() ? null : keys;
+        });
+        return byClass.isEmpty() ? null : byClass;
+      });
+    }
+  }
+
+  Set<Entity.Key<?>> children(@NonNull Entity.Key<?> parent, @NonNull Class<?> childKeyClass) {
+    return Collections.unmodifiableSet(
+      children.getOrDefault(parent, Collections.emptyMap()).getOrDefault(childKeyClass, Collections.emptySet())
+    );
+  }
+
+  void clear() {
+    children.clear();
+  }
+
+  static Set<Entity.Key<?>> parents(Entity<?, ?> entity) {
+    Set<Entity.Key<?>> parents = new HashSet<>();
+    addNestedKeys(entity.getKey(), parents);
+    addReferences(entity, parents);
+    return parents;
+  }
+
+  /**
+   * @return the key followed by the keys nested within it.
+   */
+  static Set<Entity.Key<?>> nestedKeys(Entity.Key<?> key) {
+    Set<Entity.Key<?>> keys = new LinkedHashSet<>();
+    addKey(key, keys);
+    return keys;
+  }
+
+  private static void addKey(Entity.Key<?> key, Set<Entity.Key<?>> keys) {
+    keys.add(key);
+    addNestedKeys(key, keys);
+  }
+
+  private static void addNestedKeys(Entity.Key<?> key, Set<Entity.Key<?>> keys) {
+    if (key instanceof SchemaKey) {
+      addKey(((SchemaKey) key).getDomainKey(), keys);
+    } else if (key instanceof StreamKey) {
+      addKey(((StreamKey) key).getDomainKey(), keys);
+    } else if (key instanceof InfrastructureKey) {
+      addKey(((InfrastructureKey) key).getZoneKey(), keys);
+    } else if (key instanceof ProducerKey) {
+      addKey(((ProducerKey) key).getStreamKey(), keys);
+      addKey(((ProducerKey) key).getZoneKey(), keys);
+    } else if (key instanceof ConsumerKey) {
+      addKey(((ConsumerKey) key).getStreamKey(), keys);
+      addKey(((ConsumerKey) key).getZoneKey(), keys);
+    } else if (key instanceof ProcessKey) {
+      addKey(((ProcessKey) key).getDomainKey(), keys);
+    } else if (key instanceof StreamBindingKey) {
+      addKey(((StreamBindingKey) key).getStreamKey(), keys);
+      addKey(((StreamBindingKey) key).getInfrastructureKey(), keys);
+    } else if (key instanceof ProducerBindingKey) {
+      addKey(((ProducerBindingKey) key).getProducerKey(), keys);
+      addKey(((ProducerBindingKey) key).getStreamBindingKey(), keys);
+    } else if (key instanceof ConsumerBindingKey) {
+      addKey(((ConsumerBindingKey) key).getConsumerKey(), keys);
+      addKey(((ConsumerBindingKey) key).getStreamBindingKey(), keys);
+    } else if (key instanceof ProcessBindingKey) {
+      addKey(((ProcessBindingKey) key).getProcessKey(), keys);
+      addKey(((ProcessBindingKey) key).getZoneKey(), keys);
+    }
+  }
+
+  private static void addReferences(Entity<?, ?> entity, Set<Entity.Key<?>> keys) {
+    if (entity.getSpecification() instanceof StreamSpecification) {
+      keys.add(((StreamSpecification) entity.getSpecification()).getSchemaKey());
+    } else if (entity.getSpecification() instanceof ProcessSpecification) {
+      ProcessSpecification specification = (ProcessSpecification) entity.getSpecification();
+      keys.addAll(specification.getZones());
+      specification.getInputs().stream().map(ProcessInputStream::getStream).forEach(key -> addKey(key, keys));
+      specification.getOutputs().stream().map(ProcessOutputStream::getStream).forEach(key -> addKey(key, keys));
+    } else if (entity.getSpecification() instanceof ProcessBindingSpecification) {
+      ProcessBindingSpecification specification = (ProcessBindingSpecification) entity.getSpecification();
+      keys.add(specification.getZone());
+      specification.getInputs().stream().map(ProcessInputStreamBinding::getStreamBindingKey).forEach(key -> addKey(key, keys));
+      specification.getOutputs().stream().map(ProcessOutputStreamBinding::getStreamBindingKey).forEach(key -> addKey(key, keys));
+    }
+  }
+}
@@ -0,0 +1,153 @@
+/**
+ * Copyright (C) 2018-2024 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state;
+
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.configuration;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+
+import org.junit.Test;
+
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.DomainKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ZoneKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.DefaultSpecification;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.Principal;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.Tag;
+
+public class AttributeIndexTest {
+  private final DomainKey first = new DomainKey("first");
+  private final DomainKey second = new DomainKey("second");
+  private final DomainKey third = new DomainKey("third");
+
+  private final AttributeIndex underTest = new AttributeIndex();
+
+  @Test
+  public void exactTag() {
+    underTest.add(entity(first, asList(new Tag("team", "a"), new Tag("tier", "1")), emptyMap()));
+    underTest.add(entity(second, singletonList(new Tag("team", "b")), emptyMap()));
+
+    assertThat(underTest.keys(DomainKey.class, queries(query("team", "a")), emptyList()), containsInAnyOrder(first));
+    assertThat(underTest.keys(DomainKey.class, queries(query("team", "c")), emptyList()), is(empty()));
+    assertThat(underTest.keys(DomainKey.class, queries(query("owner", "a")), emptyList()), is(empty()));
+  }
+
+  @Test
+  public void regexTag() {
+    underTest.add(entity(first, singletonList(new Tag("team", "alpha")), emptyMap()));
+    underTest.add(entity(second, singletonList(new Tag("team-name", "beta")), emptyMap()));
+    underTest.add(entity(third, singletonList(new Tag("team", null)), emptyMap()));
+
+    assertThat(underTest.keys(DomainKey.class, queries(query("team.*", "a.*")), emptyList()), containsInAnyOrder(first));
+    assertThat(underTest.keys(DomainKey.class, queries(query("team.*", null)), emptyList()), containsInAnyOrder(first, second, third));
+    assertThat(underTest.keys(DomainKey.class, queries(query(null, ".*a")), emptyList()), containsInAnyOrder(first, second));
+  }
+
+  @Test
+  public void intersectsQueries() {
+    underTest.add(entity(first, asList(new Tag("team", "a"), new Tag("tier", "1")), singletonMap("admin", singletonList(new Principal("user")))));
+    underTest.add(entity(second, asList(new Tag("team", "a"), new Tag("tier", "2")), singletonMap("admin", singletonList(new Principal("user")))));
+    underTest.add(entity(third, asList(new Tag("team", "a"), new Tag("tier", "1")), singletonMap("reader", singletonList(new Principal("user")))));
+
+    assertThat(underTest.keys(DomainKey.class, queries(query("team", "a"), query("tier", "1")), queries(query("admin", "user"))), containsInAnyOrder(first));
+    assertThat(underTest.keys(DomainKey.class, emptyList(), queries(query("(admin|reader)", "u.*"))), containsInAnyOrder(first, second, third));
+  }
+
+  @Test
+  public void partitionedByKeyClass() {
+    underTest.add(entity(first, singletonList(new Tag("team", "a")), emptyMap()));
+    underTest.add(new Entity<>(new ZoneKey("zone"), specification(singletonList(new Tag("team", "a")), emptyMap())));
+
+    assertThat(underTest.keys(DomainKey.class, queries(query("team", "a")), emptyList()), containsInAnyOrder(first));
+  }
+
+  @Test
+  public void remove() {
+    Entity<DomainKey, DefaultSpecification> entity = entity(first, asList(new Tag("team", "a"), new Tag("team", "b")), singletonMap("admin", singletonList(new Principal("user"))));
+    underTest.add(entity);
+    underTest.add(entity(second, singletonList(new Tag("team", "a")), emptyMap()));
+
+    underTest.remove(entity);
+
+    assertThat(underTest.keys(DomainKey.class, queries(query("team", null)), emptyList()), containsInAnyOrder(second));
+    assertThat(underTest.keys(DomainKey.class, queries(query("team", "b")), emptyList()), is(empty()));
+    assertThat(underTest.keys(DomainKey.class, emptyList(), queries(query("admin", null))), is(empty()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void queryRequired() {
+    underTest.keys(DomainKey.class, emptyList(), emptyList());
+  }
+
+  @Test
+  public void concurrentAddAndRemove() throws Exception {
+    CyclicBarrier barrier = new CyclicBarrier(2);
+    CompletableFuture<Integer> churnFirst = CompletableFuture.supplyAsync(() -> churn(first, barrier));
+    CompletableFuture<Integer> churnSecond = CompletableFuture.supplyAsync(() -> churn(second, barrier));
+
+    assertThat(churnFirst.get() + churnSecond.get(), is(0));
+    assertThat(underTest.keys(DomainKey.class, queries(query("team", null)), emptyList()), is(empty()));
+  }
+
+  /**
+   * @return the number of times the key was not found right after being added.
+   */
+  private int churn(DomainKey key, CyclicBarrier barrier) {
+    Entity<DomainKey, DefaultSpecification> entity = entity(key, singletonList(new Tag("team", "a")), emptyMap());
+    int lost = 0;
+    try {
+      barrier.await();
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+    for (int i = 0; i < 100_000; i++) {
+      underTest.add(entity);
+      if (!underTest.keys(DomainKey.class, queries(query("team", "a")), emptyList()).contains(key)) {
+        lost++;
+      }
+      underTest.remove(entity);
+    }
+    return lost;
+  }
+
+  private static Entity<DomainKey, DefaultSpecification> entity(DomainKey key, List<Tag> tags, Map<String, List<Principal>> security) {
+    return new Entity<>(key, specification(tags, security));
+  }
+
+  private static DefaultSpecification specification(List<Tag> tags, Map<String, List<Principal>> security) {
+    return new DefaultSpecification("description", tags, "type", configuration, security, "function");
+  }
+
+  private static AttributeQuery query(String nameRegex, String valueRegex) {
+    return new AttributeQuery(nameRegex, valueRegex);
+  }
+
+  private static List<AttributeQuery> queries(AttributeQuery... queries) {
+    return asList(queries);
+  }
+}
@@ -0,0 +1,208 @@
+/**
+ * Copyright (C) 2018-2021 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import lombok.val;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class BoundedEventCorrelatorTest {
+  private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+  private BoundedEventCorrelator underTest = correlator(BoundedEventCorrelator.Config.builder().nodeId(7).build());
+
+  @After
+  public void after() {
+    underTest.close();
+  }
+
+  @Test
+  public void encodeDecode() {
+    for (long id : new long[]{0L, 1L, -1L, Long.MAX_VALUE, Long.MIN_VALUE, 0x0102030405060708L}) {
+      assertThat(BoundedEventCorrelator.decode(BoundedEventCorrelator.encode(id)), is(id));
+    }
+    assertThat(BoundedEventCorrelator.encode(0x0102030405060708L), is(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}));
+  }
+
+  @Test
+  public void headerCarriesNodeId() {
+    val header = underTest.registerHeader(future, 1);
+
+    assertThat(header.length, is(8));
+    assertThat(BoundedEventCorrelator.decode(header) >>> 48, is(7L));
+  }
+
+  @Test
+  public void receivedHeader() {
+    val header = underTest.registerHeader(future, 1);
+    underTest.received(header);
+
+    assertThat(future.isDone(), is(true));
+    assertThat(inflight(), is(0.0));
+    assertThat(meterRegistry.get("stream_registry_state.correlator.age").timer().count(), is(1L));
+  }
+
+  @Test
+  public void receivedString() {
+    val correlationId = underTest.register(future);
+    underTest.received(correlationId);
+
+    assertThat(future.isDone(), is(true));
+  }
+
+  @Test
+  public void failedHeader() {
+    val header = underTest.registerHeader(future, 1);
+    underTest.failed(header, new Exception());
+
+    assertThat(future.isCompletedExceptionally(), is(true));
+    assertThat(inflight(), is(0.0));
+  }
+
+  @Test
+  public void receivedBatch() {
+    val header = underTest.registerHeader(future, 2);
+    underTest.received(header);
+
+    assertThat(future.isDone(), is(false));
+    assertThat(inflight(), is(1.0));
+
+    underTest.received(header);
+
+    assertThat(future.isDone(), is(true));
+  }
+
+  @Test
+  public void ignoresForeignIds() {
+    underTest.registerHeader(future, 1);
+    underTest.received("7b5d6a5e-6d7c-4a0e-9d8e-6f1c2b3a4d5e".getBytes());
+    underTest.received(new byte[]{1, 2, 3});
+    underTest.received("not a number");
+    underTest.received(BoundedEventCorrelator.encode(42L));
+
+    assertThat(future.isDone(), is(false));
+    assertThat(inflight(), is(1.0));
+  }
+
+  @Test
+  public void expires() {
+    underTest = recreate(BoundedEventCorrelator.Config.builder()
+        .timeout(Duration.ofMillis(50))
+        .tickDuration(Duration.ofMillis(10))
+        .wheelSize(4)
+        .build());
+
+    underTest.registerHeader(future, 1);
+
+    assertCause(future, TimeoutException.class);
+    assertThat(inflight(), is(0.0));
+    assertThat(meterRegistry.counter("stream_registry_state.correlator.expired").count(), is(1.0));
+  }
+
+  @Test
+  public void rejectsWhenFull() {
+    underTest = recreate(BoundedEventCorrelator.Config.builder()
+        .maxInFlight(1)
+        .build());
+
+    val header = underTest.registerHeader(future, 1);
+    try {
+      underTest.registerHeader(new CompletableFuture<>(), 1);
+      fail("Expected RejectedExecutionException");
+    } catch (RejectedExecutionException e) {
+      assertThat(meterRegistry.counter("stream_registry_state.correlator.rejected").count(), is(1.0));
+    }
+
+    underTest.received(header);
+    underTest.registerHeader(new CompletableFuture<>(), 1);
+  }
+
+  @Test
+  public void waitsForAdmissionWhenConfigured() throws Exception {
+    underTest = recreate(BoundedEventCorrelator.Config.builder()
+        .maxInFlight(1)
+        .admissionTimeout(Duration.ofSeconds(5))
+        .build());
+
+    val header = underTest.registerHeader(future, 1);
+    CompletableFuture.runAsync(() -> underTest.received(header), CompletableFuture.delayedExecutor(100, MILLISECONDS));
+    underTest.registerHeader(new CompletableFuture<>(), 1);
+
+    assertThat(meterRegistry.counter("stream_registry_state.correlator.rejected").count(), is(0.0));
+  }
+
+  @Test
+  public void closeCancelsPending() {
+    underTest.registerHeader(future, 1);
+    underTest.close();
+
+    assertCause(future, CancellationException.class);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidWheelSize() {
+    correlator(BoundedEventCorrelator.Config.builder().wheelSize(3).build());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidNodeId() {
+    correlator(BoundedEventCorrelator.Config.builder().nodeId(1 << 16).build());
+  }
+
+  private BoundedEventCorrelator recreate(BoundedEventCorrelator.Config config) {
+    underTest.close();
+    // the gauges of the closed correlator stay registered, so start from a fresh registry
+    meterRegistry = new SimpleMeterRegistry();
+    return correlator(config);
+  }
+
+  private BoundedEventCorrelator correlator(BoundedEventCorrelator.Config config) {
+    return new BoundedEventCorrelator(config, meterRegistry);
+  }
+
+  private double inflight() {
+    return meterRegistry.get("stream_registry_state.correlator.inflight").gauge().value();
+  }
+
+  private static void assertCause(CompletableFuture<Void> future, Class<? extends Throwable> type) {
+    try {
+      future.join();
+      fail("Expected " + type.getSimpleName());
+    } catch (CompletionException e) {
+      assertThat(e.getCause(), instanceOf(type));
+    } catch (CancellationException e) {
+      assertThat(e, instanceOf(type));
+    }
+  }
+}
@@ -0,0 +1,185 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state;
+
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.key;
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.mapper;
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.specificationDeletionEvent;
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.specificationEvent;
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.statusDeletionEvent;
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.statusEvent;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import lombok.val;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.DomainKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.event.Event;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.DefaultSpecification;
+import com.expediagroup.streamplatform.streamregistry.state.model.status.StatusEntry;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CoalescingEventSenderTest {
+  @Mock private EventSender delegate;
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final Event<DomainKey, DefaultSpecification> updatedStatusEvent = Event.status(key, new StatusEntry("name", mapper.createObjectNode().put("a", 1)));
+  private final Event<DomainKey, DefaultSpecification> otherStatusEvent = Event.status(key, new StatusEntry("other", SampleEntities.statusValue));
+
+  private CoalescingEventSender underTest;
+
+  @Before
+  public void before() {
+    underTest = new CoalescingEventSender(delegate, Duration.ofHours(1), meterRegistry);
+  }
+
+  @Test
+  public void mergesStatusesWithinWindow() {
+    val sent = new CompletableFuture<Void>();
+    when(delegate.sendAll(any(), any())).thenReturn(sent);
+    underTest = new CoalescingEventSender(delegate, Duration.ofMillis(50), meterRegistry);
+
+    val first = underTest.send(statusEvent);
+    val second = underTest.send(otherStatusEvent, AckLevel.BROKER);
+    val third = underTest.send(updatedStatusEvent, AckLevel.FIRE_AND_FORGET);
+
+    verify(delegate, timeout(5000)).sendAll(asList(updatedStatusEvent, otherStatusEvent), AckLevel.APPLIED);
+    assertThat(first.isDone(), is(false));
+    sent.complete(null);
+    assertThat(first.isDone() && second.isDone() && third.isDone(), is(true));
+    assertThat(meterRegistry.counter("stream_registry_state.coalescer.merged").count(), is(1.0));
+  }
+
+  @Test
+  public void specificationFlushesStatusesFirst() {
+    when(delegate.sendAll(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+    when(delegate.send(specificationEvent, AckLevel.APPLIED)).thenReturn(CompletableFuture.completedFuture(null));
+
+    val status = underTest.send(statusEvent);
+    underTest.send(specificationEvent).join();
+
+    val inOrder = inOrder(delegate);
+    inOrder.verify(delegate).sendAll(singletonList(statusEvent), AckLevel.APPLIED);
+    inOrder.verify(delegate).send(specificationEvent, AckLevel.APPLIED);
+    assertThat(status.isDone(), is(true));
+  }
+
+  @Test
+  public void deletionBatchFlushesStatusesFirst() {
+    List<Event<?, ?>> deletions = asList(statusDeletionEvent, specificationDeletionEvent);
+    when(delegate.sendAll(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+    underTest.sendAll(singletonList((Event<?, ?>) statusEvent));
+    underTest.sendAll(deletions).join();
+
+    val inOrder = inOrder(delegate);
+    inOrder.verify(delegate).sendAll(singletonList(statusEvent), AckLevel.APPLIED);
+    inOrder.verify(delegate).sendAll(deletions, AckLevel.APPLIED);
+  }
+
+  @Test
+  public void holdsStatusesUntilWindowEnds() {
+    underTest.send(statusEvent);
+
+    verify(delegate, after(100).never()).sendAll(any(), any());
+  }
+
+  @Test
+  public void failurePropagatesToMergedSends() {
+    when(delegate.sendAll(any(), any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException()));
+
+    val first = underTest.send(statusEvent);
+    val second = underTest.send(updatedStatusEvent);
+    underTest.send(specificationDeletionEvent);
+
+    assertThat(first.isCompletedExceptionally(), is(true));
+    assertThat(second.isCompletedExceptionally(), is(true));
+  }
+
+  @Test
+  public void closeFlushesAndClosesDelegate() throws Exception {
+    when(delegate.sendAll(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+    underTest.send(statusEvent);
+    underTest.close();
+
+    verify(delegate).sendAll(singletonList(statusEvent), AckLevel.APPLIED);
+    verify(delegate).close();
+  }
+
+  @Test
+  public void holdsStatusesWhileDelegateBlocks() throws Exception {
+    val sending = new CountDownLatch(1);
+    val release = new CountDownLatch(1);
+    when(delegate.send(specificationEvent, AckLevel.APPLIED)).thenAnswer(invocation -> {
+      sending.countDown();
+      release.await();
+      return CompletableFuture.completedFuture(null);
+    });
+
+    val specification = CompletableFuture.runAsync(() -> underTest.send(specificationEvent));
+    assertThat(sending.await(5, SECONDS), is(true));
+    val status = CompletableFuture.supplyAsync(() -> underTest.send(statusEvent));
+
+    assertThat(status.get(5, SECONDS).isDone(), is(false));
+    release.countDown();
+    specification.get(5, SECONDS);
+  }
+
+  @Test
+  public void flushCancelsTimer() {
+    val scheduler = new ScheduledThreadPoolExecutor(1);
+    scheduler.setRemoveOnCancelPolicy(true);
+    when(delegate.sendAll(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+    underTest = new CoalescingEventSender(delegate, Duration.ofHours(1), meterRegistry, scheduler);
+
+    underTest.send(statusEvent);
+    assertThat(scheduler.getQueue().size(), is(1));
+    underTest.send(specificationDeletionEvent);
+
+    assertThat(scheduler.getQueue().isEmpty(), is(true));
+    scheduler.shutdownNow();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidWindow() {
+    new CoalescingEventSender(delegate, Duration.ZERO);
+  }
+}
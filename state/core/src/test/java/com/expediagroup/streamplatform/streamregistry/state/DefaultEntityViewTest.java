@@ -15,13 +15,21 @@
  */
 package com.expediagroup.streamplatform.streamregistry.state;
 
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.configuration;
 import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.entity;
 import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.key;
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.specification;
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.specificationDeletionEvent;
 import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.specificationEvent;
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.statusEvent;
 import static com.expediagroup.streamplatform.streamregistry.state.StateValue.deleted;
 import static com.expediagroup.streamplatform.streamregistry.state.StateValue.existing;
 import static com.expediagroup.streamplatform.streamregistry.state.model.event.Event.LOAD_COMPLETE;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
@@ -32,9 +40,8 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import lombok.val;
 
@@ -48,6 +55,9 @@ import org.mockito.junit.MockitoJUnitRunner;
 import com.expediagroup.streamplatform.streamregistry.state.DefaultEntityView.ReceiverListener;
 import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
 import com.expediagroup.streamplatform.streamregistry.state.model.Entity.DomainKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ZoneKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.DefaultSpecification;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.Tag;
 
 @RunWith(MockitoJUnitRunner.class)
 public class DefaultEntityViewTest {
@@ -55,7 +65,7 @@ public class DefaultEntityViewTest {
   @Mock private EntityViewUpdater updater;
   @Mock private EntityViewListener listener;
 
-  private final Map<Entity.Key<?>, StateValue> entities = new HashMap<>();
+  private final EntityStore entities = new EntityStore();
 
   private EntityView underTest;
 
@@ -156,6 +166,67 @@ public class DefaultEntityViewTest {
     assertThat(result.size(), is(0));
   }
 
+  @Test
+  public void allAfterFiltersKeys() {
+    val a = new DomainKey("a");
+    val b = new DomainKey("b");
+    val c = new DomainKey("c");
+    for (DomainKey domainKey : new DomainKey[]{c, a, b}) {
+      entities.put(domainKey, existing(new Entity<>(domainKey, specification)));
+    }
+
+    val result = underTest.<DomainKey, DefaultSpecification>allAfter(DomainKey.class, a, domainKey -> !domainKey.equals(b))
+        .map(Entity::getKey)
+        .collect(toList());
+
+    assertThat(result, contains(c));
+  }
+
+  @Test
+  public void keysMatchingUsesIndex() {
+    val a = new DomainKey("a");
+    val b = new DomainKey("b");
+    val tagged = new DefaultSpecification("description", singletonList(new Tag("team", "x")), "type", configuration, emptyMap(), "function");
+    entities.put(a, existing(new Entity<>(a, tagged)));
+    entities.put(b, existing(new Entity<>(b, tagged)));
+    entities.put(b, deleted(new Entity<>(b, tagged)));
+
+    val tagQueries = singletonList(new AttributeQuery("team", "x"));
+    assertThat(underTest.keysMatching(DomainKey.class, tagQueries, emptyList()), contains(a));
+    assertThat(underTest.keysMatching(DomainKey.class, emptyList(), emptyList()), contains(a));
+  }
+
+  @Test
+  public void allWithKeyFilterUsesIndex() {
+    val a = new DomainKey("payments");
+    val b = new DomainKey("card_payments");
+    val c = new DomainKey("orders");
+    entities.put(a, existing(new Entity<>(a, specification)));
+    entities.put(b, existing(new Entity<>(b, specification)));
+    entities.put(c, existing(new Entity<>(c, specification)));
+    entities.put(b, deleted(new Entity<>(b, specification)));
+
+    val keyFilter = new KeyFilter<DomainKey>(singletonList(".*payments"), key -> true);
+    assertThat(underTest.all(DomainKey.class, keyFilter).map(Entity::getKey).collect(toList()), contains(a));
+    assertThat(underTest.all(DomainKey.class, new KeyFilter<DomainKey>(singletonList(".*"), key -> key.equals(c))).map(Entity::getKey).collect(toList()), contains(c));
+  }
+
+  @Test
+  public void allAfterWithKeyFilterSortsCandidates() {
+    for (int i = 0; i < 10; i++) {
+      val other = new DomainKey("other" + i);
+      entities.put(other, existing(new Entity<>(other, specification)));
+    }
+    val a = new DomainKey("a_payments");
+    val b = new DomainKey("b_payments");
+    entities.put(b, existing(new Entity<>(b, specification)));
+    entities.put(a, existing(new Entity<>(a, specification)));
+
+    val keyFilter = new KeyFilter<DomainKey>(singletonList(".*payments"), key -> true);
+    assertThat(underTest.allAfter(DomainKey.class, null, keyFilter).map(Entity::getKey).collect(toList()), contains(a, b));
+    assertThat(underTest.allAfter(DomainKey.class, a, keyFilter).map(Entity::getKey).collect(toList()), contains(b));
+  }
+
   @Test
   public void allDeletedEntities() {
     entities.put(key, deleted(entity));
@@ -195,4 +266,33 @@ public class DefaultEntityViewTest {
     assertThat(deletedEntitiesPostPurge, is(aMapWithSize(0)));
     assertThat(entities, is(aMapWithSize(0)));
   }
+
+  @Test
+  public void snapshot() {
+    entities.put(key, deleted(entity));
+
+    val result = receiverListener().snapshot().collect(toList());
+
+    assertThat(result, contains(specificationEvent, statusEvent, specificationDeletionEvent));
+  }
+
+  @Test
+  public void snapshotRestoresState() {
+    val zoneKey = new ZoneKey("zone");
+    entities.put(key, existing(entity));
+    entities.put(zoneKey, deleted(null));
+
+    val restored = new EntityStore();
+    val restoredView = new DefaultEntityView(receiver, restored);
+    restoredView.load(listener);
+    val captor = ArgumentCaptor.forClass(ReceiverListener.class);
+    verify(receiver).receive(captor.capture());
+    receiverListener().snapshot().forEach(event -> captor.getValue().onEvent(event));
+
+    assertThat(restored, is(entities));
+  }
+
+  private ReceiverListener receiverListener() {
+    return ((DefaultEntityView) underTest).new ReceiverListener(listener, new CompletableFuture<>());
+  }
 }
@@ -15,13 +15,9 @@
  */
 package com.expediagroup.streamplatform.streamregistry.state;
 
-import java.util.Map;
-
-import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
-
 public class DefaultEntityViewUpdaterTest extends EntityViewUpdaterTest {
   @Override
-  public EntityViewUpdater entityViewUpdater(Map<Entity.Key<?>, StateValue> entities) {
+  public EntityViewUpdater entityViewUpdater(EntityStore entities) {
     return new DefaultEntityViewUpdater(entities);
   }
 }
@@ -57,4 +57,27 @@ public class DefaultEventCorrelatorTest {
     assertThat(future.isCompletedExceptionally(), is(true));
   }
 
+  @Test
+  public void receivedBatch() {
+    val correlationId = underTest.register(future, 3);
+    underTest.received(correlationId);
+    underTest.received(correlationId);
+
+    assertThat(future.isDone(), is(false));
+
+    underTest.received(correlationId);
+
+    assertThat(futures.isEmpty(), is(true));
+    assertThat(future.isDone(), is(true));
+  }
+
+  @Test
+  public void failedBatch() {
+    val correlationId = underTest.register(future, 3);
+    underTest.received(correlationId);
+    underTest.failed(correlationId, new Exception());
+
+    assertThat(futures.isEmpty(), is(true));
+    assertThat(future.isCompletedExceptionally(), is(true));
+  }
 }
@@ -0,0 +1,133 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toMap;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+
+import lombok.val;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.junit.Test;
+
+import com.expediagroup.streamplatform.streamregistry.state.model.status.DefaultStatus;
+import com.expediagroup.streamplatform.streamregistry.state.model.status.Status;
+import com.expediagroup.streamplatform.streamregistry.state.model.status.StatusEntry;
+
+public class DefaultStatusTest {
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  @Test
+  public void withAndWithout() {
+    val empty = DefaultStatus.empty();
+    val status = empty.with(entry("a", 1)).with(entry("b", 2)).with(entry("a", 3));
+
+    assertThat(status.getNames(), is(new HashSet<>(asList("a", "b"))));
+    assertThat(status.getValue("a"), is(value(3)));
+    assertThat(status.getEntries().size(), is(2));
+    assertThat(status.without("a").getValue("a"), is(nullValue()));
+    assertThat(status.without("a").without("b"), is(sameInstance(empty)));
+    assertThat(empty.getEntries().isEmpty(), is(true));
+    assertThat(new DefaultStatus(), is(empty));
+  }
+
+  @Test
+  public void updatesDoNotChangeTheOriginal() {
+    val original = DefaultStatus.empty().with(entry("a", 1));
+    original.with(entry("a", 2));
+    original.with(entry("b", 3));
+    original.without("a");
+
+    assertThat(original.getEntries().size(), is(1));
+    assertThat(original.getValue("a"), is(value(1)));
+  }
+
+  @Test
+  public void withoutMissingNameReturnsSameStatus() {
+    val status = DefaultStatus.empty().with(entry("a", 1));
+
+    assertThat(status.without("b"), is(sameInstance(status)));
+  }
+
+  @Test
+  public void matchesHashMapWithManyEntries() {
+    // "Aa" and "BB" have the same hash code so every name pair built from them collides fully
+    String[] parts = {"Aa", "BB", "x", "y", "z", "status", "agentStatus"};
+    Random random = new Random(0);
+    Map<String, ObjectNode> expected = new HashMap<>();
+    Status status = DefaultStatus.empty();
+    for (int i = 0; i < 20_000; i++) {
+      String name = parts[random.nextInt(parts.length)] + parts[random.nextInt(parts.length)] + random.nextInt(40);
+      if (random.nextInt(3) == 0) {
+        expected.remove(name);
+        status = status.without(name);
+      } else {
+        expected.put(name, value(i));
+        status = status.with(new StatusEntry(name, value(i)));
+      }
+      if (i % 1000 == 0) {
+        assertMatches(status, expected);
+      }
+    }
+    assertMatches(status, expected);
+
+    for (String name : new HashSet<>(expected.keySet())) {
+      expected.remove(name);
+      status = status.without(name);
+    }
+    assertMatches(status, expected);
+    assertThat(status, is(sameInstance(DefaultStatus.empty())));
+  }
+
+  @Test
+  public void equalityIgnoresOrder() {
+    Status forward = DefaultStatus.empty();
+    Status backward = DefaultStatus.empty();
+    for (int i = 0; i < 20; i++) {
+      forward = forward.with(entry("name" + i, i));
+      backward = backward.with(entry("name" + (19 - i), 19 - i));
+    }
+
+    assertThat(forward, is(backward));
+    assertThat(forward.hashCode(), is(backward.hashCode()));
+    assertThat(forward.without("name3").equals(backward), is(false));
+  }
+
+  private void assertMatches(Status status, Map<String, ObjectNode> expected) {
+    assertThat(status.getEntries().stream().collect(toMap(StatusEntry::getName, StatusEntry::getValue)), is(expected));
+    assertThat(status.getNames(), is(expected.keySet()));
+    expected.forEach((name, value) -> assertThat(status.getValue(name), is(value)));
+  }
+
+  private StatusEntry entry(String name, int value) {
+    return new StatusEntry(name, value(value));
+  }
+
+  private ObjectNode value(int value) {
+    return mapper.createObjectNode().put("value", value);
+  }
+}
@@ -0,0 +1,159 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state;
+
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.configuration;
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.entity;
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.key;
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.specification;
+import static com.expediagroup.streamplatform.streamregistry.state.StateValue.deleted;
+import static com.expediagroup.streamplatform.streamregistry.state.StateValue.existing;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.collection.IsMapContaining.hasEntry;
+import static org.hamcrest.collection.IsMapWithSize.aMapWithSize;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import lombok.val;
+
+import org.junit.Test;
+
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.DomainKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProducerKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.SchemaKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ZoneKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.DefaultSpecification;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.StreamSpecification;
+
+public class EntityStoreTest {
+  private final ZoneKey zoneKey = new ZoneKey("zone");
+  private final Entity<ZoneKey, DefaultSpecification> zone = new Entity<>(zoneKey, specification);
+
+  private final EntityStore underTest = new EntityStore();
+
+  @Test
+  public void partitionedByKeyClass() {
+    underTest.put(key, existing(entity));
+    underTest.put(zoneKey, existing(zone));
+
+    assertThat(underTest.existing(DomainKey.class), contains(existing(entity)));
+    assertThat(underTest.existing(ZoneKey.class), contains(existing(zone)));
+    assertThat(underTest, is(aMapWithSize(2)));
+  }
+
+  @Test
+  public void deleteMovesToTombstones() {
+    underTest.put(key, existing(entity));
+    val previous = underTest.put(key, deleted(entity));
+
+    assertThat(previous, is(existing(entity)));
+    assertThat(underTest.existing(DomainKey.class), is(empty()));
+    assertThat(underTest.deleted(DomainKey.class).size(), is(1));
+    assertThat(underTest.get(key), is(deleted(entity)));
+    assertThat(underTest, is(aMapWithSize(1)));
+  }
+
+  @Test
+  public void recreateMovesFromTombstones() {
+    underTest.put(key, deleted(null));
+    underTest.put(key, existing(entity));
+
+    assertThat(underTest.deleted(DomainKey.class).isEmpty(), is(true));
+    assertThat(underTest, hasEntry(key, existing(entity)));
+    assertThat(underTest, is(aMapWithSize(1)));
+  }
+
+  @Test
+  public void remove() {
+    underTest.put(key, deleted(entity));
+
+    assertThat(underTest.remove(key), is(deleted(entity)));
+    assertThat(underTest.get(key), is(nullValue()));
+    assertThat(underTest, is(aMapWithSize(0)));
+  }
+
+  @Test
+  public void childrenFollowDeletes() {
+    val producerKey = new ProducerKey(new StreamKey(key, "stream", 1), zoneKey, "producer");
+    val producer = new Entity<>(producerKey, specification);
+
+    underTest.put(producerKey, existing(producer));
+    assertThat(underTest.children(zoneKey, ProducerKey.class).collect(toList()), contains(existing(producer)));
+
+    underTest.put(producerKey, deleted(producer));
+    assertThat(underTest.children(zoneKey, ProducerKey.class).collect(toList()), is(empty()));
+  }
+
+  @Test
+  public void childrenFollowSpecificationChanges() {
+    val streamKey = new StreamKey(key, "stream", 1);
+    val schemaKey = new SchemaKey(key, "schema");
+    val otherSchemaKey = new SchemaKey(key, "other");
+
+    underTest.put(streamKey, existing(new Entity<>(streamKey, streamSpecification(schemaKey))));
+    underTest.put(streamKey, existing(new Entity<>(streamKey, streamSpecification(otherSchemaKey))));
+
+    assertThat(underTest.children(schemaKey, StreamKey.class).collect(toList()), is(empty()));
+    assertThat(underTest.children(otherSchemaKey, StreamKey.class).count(), is(1L));
+  }
+
+  @Test
+  public void existingAfterIsInKeyOrder() {
+    val v2 = new StreamKey(key, "stream", 2);
+    val v10 = new StreamKey(key, "stream", 10);
+    val other = new StreamKey(new DomainKey("a"), "stream", 1);
+    val deletedKey = new StreamKey(key, "stream", 5);
+    val schemaKey = new SchemaKey(key, "schema");
+    underTest.put(v10, existing(new Entity<>(v10, streamSpecification(schemaKey))));
+    underTest.put(v2, existing(new Entity<>(v2, streamSpecification(schemaKey))));
+    underTest.put(other, existing(new Entity<>(other, streamSpecification(schemaKey))));
+    underTest.put(deletedKey, existing(new Entity<>(deletedKey, streamSpecification(schemaKey))));
+    underTest.put(deletedKey, deleted(null));
+
+    assertThat(keys(underTest.existingAfter(StreamKey.class, null)), contains(other, v2, v10));
+    assertThat(keys(underTest.existingAfter(StreamKey.class, v2)), contains(v10));
+    assertThat(keys(underTest.existingAfter(StreamKey.class, deletedKey)), contains(v10));
+
+    underTest.remove(v10);
+    assertThat(keys(underTest.existingAfter(StreamKey.class, v2)), is(empty()));
+    assertThat(keys(underTest.existingAfter(ZoneKey.class, null)), is(empty()));
+  }
+
+  @Test
+  public void unknownKeyClass() {
+    assertThat(underTest.get(key), is(nullValue()));
+    assertThat(underTest.existing(DomainKey.class), is(empty()));
+    assertThat(underTest.deleted(DomainKey.class).isEmpty(), is(true));
+  }
+
+  private static List<Entity.Key<?>> keys(Stream<StateValue> values) {
+    return values.map(value -> value.entity.getKey()).collect(toList());
+  }
+
+  private static StreamSpecification streamSpecification(SchemaKey schemaKey) {
+    return new StreamSpecification("description", emptyList(), "type", configuration, emptyMap(), "function", schemaKey);
+  }
+}
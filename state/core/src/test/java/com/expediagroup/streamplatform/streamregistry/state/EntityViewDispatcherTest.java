@@ -0,0 +1,216 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state;
+
+import static com.expediagroup.streamplatform.streamregistry.state.EntityViewDispatcher.OverflowPolicy.BLOCK;
+import static com.expediagroup.streamplatform.streamregistry.state.EntityViewDispatcher.OverflowPolicy.COLLAPSE_BY_KEY;
+import static com.expediagroup.streamplatform.streamregistry.state.EntityViewDispatcher.OverflowPolicy.DROP_OLDEST;
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.entity;
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.key;
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.specification;
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.specificationEvent;
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.statusEvent;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import lombok.SneakyThrows;
+import lombok.val;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.expediagroup.streamplatform.streamregistry.state.EntityViewDispatcher.OverflowPolicy;
+import com.expediagroup.streamplatform.streamregistry.state.EntityViewDispatcher.SubscriptionConfig;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.DomainKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.event.Event;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.DefaultSpecification;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.Specification;
+
+public class EntityViewDispatcherTest {
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final EntityViewDispatcher underTest = new EntityViewDispatcher(meterRegistry);
+
+  private final Event<DomainKey, DefaultSpecification> updatedSpecificationEvent = Event.specification(key, specification.withDescription("updated"));
+
+  @After
+  public void after() {
+    underTest.close();
+  }
+
+  @Test
+  public void dispatchesToEveryListener() {
+    val first = new RecordingListener();
+    val second = new RecordingListener();
+    underTest.subscribe(first, config("first", 10, BLOCK));
+    underTest.subscribe(second, config("second", 10, BLOCK));
+
+    underTest.onEvent(null, specificationEvent);
+    underTest.onEvent(entity, statusEvent);
+
+    first.await(2);
+    second.await(2);
+    assertThat(first.events, is(asList(specificationEvent, statusEvent)));
+    assertThat(second.events, is(asList(specificationEvent, statusEvent)));
+    assertThat(second.oldEntities, is(asList(null, entity)));
+  }
+
+  @Test
+  public void slowListenerDoesNotDelayOthers() {
+    val slow = new RecordingListener();
+    slow.blocked = new CountDownLatch(1);
+    val fast = new RecordingListener();
+    underTest.subscribe(slow, config("slow", 10, BLOCK));
+    underTest.subscribe(fast, config("fast", 10, BLOCK));
+
+    underTest.onEvent(null, specificationEvent);
+    underTest.onEvent(entity, statusEvent);
+
+    fast.await(2);
+    assertThat(slow.events.isEmpty(), is(true));
+    slow.blocked.countDown();
+    slow.await(2);
+  }
+
+  @Test
+  public void dropOldest() {
+    val listener = blockedAfterFirstEvent();
+    underTest.subscribe(listener, config("listener", 1, DROP_OLDEST));
+
+    underTest.onEvent(null, specificationEvent);
+    listener.awaitStarted();
+    underTest.onEvent(entity, statusEvent);
+    underTest.onEvent(entity, updatedSpecificationEvent);
+    listener.blocked.countDown();
+
+    listener.await(2);
+    assertThat(listener.events, is(asList(specificationEvent, updatedSpecificationEvent)));
+    assertThat(meterRegistry.counter("stream_registry_state.dispatcher.dropped", "listener", "listener").count(), is(1.0));
+  }
+
+  @Test
+  public void collapseByKey() {
+    val listener = blockedAfterFirstEvent();
+    underTest.subscribe(listener, config("listener", 1, COLLAPSE_BY_KEY));
+
+    underTest.onEvent(null, statusEvent);
+    listener.awaitStarted();
+    underTest.onEvent(null, specificationEvent);
+    underTest.onEvent(entity, updatedSpecificationEvent);
+    listener.blocked.countDown();
+
+    listener.await(2);
+    assertThat(listener.events, is(asList(statusEvent, updatedSpecificationEvent)));
+    assertThat(listener.oldEntities, is(asList(null, null)));
+    assertThat(meterRegistry.counter("stream_registry_state.dispatcher.collapsed", "listener", "listener").count(), is(1.0));
+  }
+
+  @Test
+  public void recordsPendingAndLag() {
+    val listener = blockedAfterFirstEvent();
+    underTest.subscribe(listener, config("listener", 10, BLOCK));
+
+    underTest.onEvent(null, specificationEvent);
+    listener.awaitStarted();
+    underTest.onEvent(entity, statusEvent);
+
+    assertThat(meterRegistry.get("stream_registry_state.dispatcher.pending").tag("listener", "listener").gauge().value(), is(1.0));
+    listener.blocked.countDown();
+    listener.await(2);
+    assertThat(meterRegistry.get("stream_registry_state.dispatcher.lag").tag("listener", "listener").timer().count(), is(2L));
+  }
+
+  @Test
+  public void closedSubscriptionReceivesNoEvents() {
+    val listener = new RecordingListener();
+    val subscription = underTest.subscribe(listener, config("listener", 10, BLOCK));
+
+    subscription.close();
+    underTest.onEvent(null, specificationEvent);
+
+    assertThat(subscription.getPending(), is(0));
+    assertThat(listener.events.isEmpty(), is(true));
+  }
+
+  @Test
+  public void closeRemovesMeters() {
+    val subscription = underTest.subscribe(new RecordingListener(), config("listener", 10, DROP_OLDEST));
+    underTest.subscribe(new RecordingListener(), config("other", 10, DROP_OLDEST));
+
+    subscription.close();
+
+    assertThat(meterRegistry.find("stream_registry_state.dispatcher.pending").tag("listener", "listener").meters().isEmpty(), is(true));
+    assertThat(meterRegistry.find("stream_registry_state.dispatcher.lag").tag("listener", "listener").meters().isEmpty(), is(true));
+    assertThat(meterRegistry.find("stream_registry_state.dispatcher.dropped").tag("listener", "listener").meters().isEmpty(), is(true));
+    assertThat(meterRegistry.find("stream_registry_state.dispatcher.collapsed").tag("listener", "listener").meters().isEmpty(), is(true));
+    assertThat(meterRegistry.find("stream_registry_state.dispatcher.pending").tag("listener", "other").meters().size(), is(1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidCapacity() {
+    underTest.subscribe(new RecordingListener(), config("listener", 0, BLOCK));
+  }
+
+  private static SubscriptionConfig config(String name, int capacity, OverflowPolicy overflowPolicy) {
+    return SubscriptionConfig.builder().name(name).queueCapacity(capacity).overflowPolicy(overflowPolicy).build();
+  }
+
+  private static RecordingListener blockedAfterFirstEvent() {
+    val listener = new RecordingListener();
+    listener.blocked = new CountDownLatch(1);
+    listener.started = new CountDownLatch(1);
+    return listener;
+  }
+
+  private static class RecordingListener implements EntityViewListener {
+    private final List<Event<?, ?>> events = new CopyOnWriteArrayList<>();
+    private final List<Entity<?, ?>> oldEntities = new CopyOnWriteArrayList<>();
+    private CountDownLatch started = new CountDownLatch(0);
+    private CountDownLatch blocked = new CountDownLatch(0);
+
+    @Override
+    @SneakyThrows
+    public <K extends Entity.Key<S>, S extends Specification> void onEvent(Entity<K, S> oldEntity, Event<K, S> event) {
+      started.countDown();
+      blocked.await();
+      oldEntities.add(oldEntity);
+      events.add(event);
+    }
+
+    @SneakyThrows
+    void awaitStarted() {
+      assertThat(started.await(5, TimeUnit.SECONDS), is(true));
+    }
+
+    @SneakyThrows
+    void await(int count) {
+      long deadline = System.currentTimeMillis() + 5000;
+      while (events.size() < count && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+      assertThat(events.size(), is(count));
+    }
+  }
+}
@@ -22,18 +22,18 @@ import static com.expediagroup.streamplatform.streamregistry.state.SampleEntitie
 import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.specificationEvent;
 import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.status;
 import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.statusDeletionEvent;
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.statusEntry;
 import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.statusEvent;
 import static com.expediagroup.streamplatform.streamregistry.state.StateValue.deleted;
 import static com.expediagroup.streamplatform.streamregistry.state.StateValue.existing;
 import static java.util.UUID.randomUUID;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.collection.IsMapContaining.hasEntry;
 import static org.hamcrest.collection.IsMapWithSize.aMapWithSize;
 import static org.junit.Assert.assertThat;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 
 import lombok.val;
@@ -49,7 +49,7 @@ import com.expediagroup.streamplatform.streamregistry.state.model.status.Default
 
 public abstract class EntityViewUpdaterTest {
 
-  private final Map<Entity.Key<?>, StateValue> entities = new HashMap<>();
+  private final EntityStore entities = new EntityStore();
 
   private final DefaultSpecification oldSpecification = specification.withDescription("old-description");
   private final DefaultStatus oldStatus = new DefaultStatus();
@@ -61,7 +61,7 @@ public abstract class EntityViewUpdaterTest {
   final EntityViewUpdater underTest = entityViewUpdater(entities);
 
 
-  public abstract EntityViewUpdater entityViewUpdater(Map<Entity.Key<?>, StateValue> entities);
+  public abstract EntityViewUpdater entityViewUpdater(EntityStore entities);
 
   @After
   public void clean() {
@@ -76,6 +76,17 @@ public abstract class EntityViewUpdaterTest {
     assertThat(entities.get(key), is(existing(entity.withStatus(oldStatus))));
   }
 
+  @Test
+  public void newSpecificationInternsKey() {
+    underTest.update(specificationEvent);
+    val entityKey = entities.get(key).entity.getKey();
+
+    underTest.update(Event.specification(new DomainKey(key.getName()), specification));
+    underTest.update(Event.status(new DomainKey(key.getName()), statusEntry));
+
+    assertThat(entities.get(key).entity.getKey(), is(sameInstance(entityKey)));
+  }
+
   @Test
   public void updateSpecification() {
     entities.put(key, existing(oldEntity));
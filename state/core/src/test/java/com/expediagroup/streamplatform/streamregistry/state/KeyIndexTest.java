@@ -0,0 +1,124 @@
+/**
+ * Copyright (C) 2018-2024 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+
+import org.junit.Test;
+
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ConsumerKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.DomainKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ZoneKey;
+
+public class KeyIndexTest {
+  private final DomainKey payments = new DomainKey("payments");
+  private final DomainKey orders = new DomainKey("orders");
+  private final StreamKey stream = new StreamKey(payments, "card_payments", 1);
+  private final ConsumerKey first = new ConsumerKey(stream, new ZoneKey("aws_us_east_1"), "fraud_checker");
+  private final ConsumerKey second = new ConsumerKey(new StreamKey(orders, "orders", 1), new ZoneKey("aws_us_east_1"), "order_payments");
+
+  private final KeyIndex underTest = new KeyIndex();
+
+  @Test
+  public void literals() {
+    assertThat(KeyIndex.literals("payments"), contains("payments"));
+    assertThat(KeyIndex.literals(".*pay.*ments.*"), contains("pay", "ments"));
+    assertThat(KeyIndex.literals("abcd?efg+h"), contains("abc", "efg"));
+    assertThat(KeyIndex.literals("ab[c-e]fgh(ij)?klm"), contains("fgh", "klm"));
+    assertThat(KeyIndex.literals("a\\.bc\\d+\\Qx.y\\E"), contains("a.bc", "x.y"));
+    assertThat(KeyIndex.literals("abc{0,2}def"), contains("def"));
+    assertThat(KeyIndex.literals("ab.*"), is(empty()));
+  }
+
+  @Test
+  public void literalsOfUnsupportedRegexes() {
+    assertThat(KeyIndex.literals("payments|orders"), is(empty()));
+    assertThat(KeyIndex.literals("(?i)payments"), is(empty()));
+    assertThat(KeyIndex.literals("\\x41payments"), is(empty()));
+  }
+
+  @Test
+  public void candidates() {
+    underTest.add(first);
+    underTest.add(second);
+
+    assertThat(underTest.candidates(ConsumerKey.class, singletonList(".*payments.*")), containsInAnyOrder(first, second));
+    assertThat(underTest.candidates(ConsumerKey.class, singletonList("payments")), contains(first));
+    assertThat(underTest.candidates(ConsumerKey.class, singletonList("fraud.*")), contains(first));
+    assertThat(underTest.candidates(ConsumerKey.class, asList("aws_.*", "order.*")), contains(second));
+    assertThat(underTest.candidates(ConsumerKey.class, singletonList(".*refunds.*")), is(empty()));
+    assertThat(underTest.candidates(StreamKey.class, singletonList("payments")), is(empty()));
+  }
+
+  @Test
+  public void unconstrained() {
+    underTest.add(first);
+
+    assertThat(underTest.candidates(ConsumerKey.class, singletonList(".*")), is(nullValue()));
+    assertThat(underTest.candidates(ConsumerKey.class, asList(".*", "fraud.*")), contains(first));
+  }
+
+  @Test
+  public void remove() {
+    underTest.add(first);
+    underTest.add(second);
+    underTest.remove(first);
+
+    assertThat(underTest.candidates(ConsumerKey.class, singletonList("fraud_checker")), is(empty()));
+    assertThat(underTest.candidates(ConsumerKey.class, singletonList("aws_us_east_1")), contains(second));
+  }
+
+  @Test
+  public void concurrentAddAndRemove() throws Exception {
+    CyclicBarrier barrier = new CyclicBarrier(2);
+    CompletableFuture<Integer> churnPayments = CompletableFuture.supplyAsync(() -> churn(payments, barrier));
+    CompletableFuture<Integer> churnPayouts = CompletableFuture.supplyAsync(() -> churn(new DomainKey("payouts"), barrier));
+
+    assertThat(churnPayments.get() + churnPayouts.get(), is(0));
+    assertThat(underTest.candidates(DomainKey.class, singletonList("pay.*")), is(empty()));
+  }
+
+  /**
+   * @return the number of times the key was not a candidate for its own name right after being added.
+   */
+  private int churn(DomainKey key, CyclicBarrier barrier) {
+    int lost = 0;
+    try {
+      barrier.await();
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+    for (int i = 0; i < 100_000; i++) {
+      underTest.add(key);
+      if (!underTest.candidates(DomainKey.class, singletonList(key.getName())).contains(key)) {
+        lost++;
+      }
+      underTest.remove(key);
+    }
+    return lost;
+  }
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ConsumerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ConsumerKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.DomainKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.InfrastructureKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.StreamBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ZoneKey;
+
+public class KeyPoolTest {
+  private final KeyPool underTest = new KeyPool();
+
+  @Test
+  public void equalKeysShareOneInstance() {
+    DomainKey first = underTest.intern(new DomainKey("domain"));
+    DomainKey second = underTest.intern(new DomainKey("domain"));
+
+    assertThat(second, is(sameInstance(first)));
+    assertThat(underTest.size(), is(1));
+  }
+
+  @Test
+  public void nestedKeysAreInterned() {
+    DomainKey domainKey = underTest.intern(new DomainKey("domain"));
+    ConsumerKey consumerKey = underTest.intern(consumerKey("consumer"));
+    ConsumerKey otherConsumerKey = underTest.intern(consumerKey("other"));
+
+    assertThat(consumerKey.getStreamKey().getDomainKey(), is(sameInstance(domainKey)));
+    assertThat(otherConsumerKey.getStreamKey(), is(sameInstance(consumerKey.getStreamKey())));
+    assertThat(otherConsumerKey.getZoneKey(), is(sameInstance(consumerKey.getZoneKey())));
+  }
+
+  @Test
+  public void deeplyNestedKeys() {
+    ConsumerKey consumerKey = underTest.intern(consumerKey("consumer"));
+    ConsumerBindingKey bindingKey = underTest.intern(new ConsumerBindingKey(consumerKey("consumer"),
+        new StreamBindingKey(streamKey(), new InfrastructureKey(new ZoneKey("zone"), "infrastructure"))));
+
+    assertThat(bindingKey.getConsumerKey(), is(sameInstance(consumerKey)));
+    assertThat(bindingKey.getStreamBindingKey().getStreamKey(), is(sameInstance(consumerKey.getStreamKey())));
+    assertThat(bindingKey.getStreamBindingKey().getInfrastructureKey().getZoneKey(), is(sameInstance(consumerKey.getZoneKey())));
+  }
+
+  @Test
+  public void keepsKeyWhosePartsAreAlreadyInterned() {
+    ConsumerKey consumerKey = underTest.intern(consumerKey("consumer"));
+    ConsumerKey key = new ConsumerKey(consumerKey.getStreamKey(), consumerKey.getZoneKey(), "other");
+
+    assertThat(underTest.intern(key), is(sameInstance(key)));
+  }
+
+  @Test
+  public void differentKeysAreNotShared() {
+    StreamKey first = underTest.intern(streamKey());
+    StreamKey second = underTest.intern(new StreamKey(new DomainKey("domain"), "stream", 2));
+
+    assertThat(second, is(not(sameInstance(first))));
+    assertThat(second.getDomainKey(), is(sameInstance(first.getDomainKey())));
+  }
+
+  private static StreamKey streamKey() {
+    return new StreamKey(new DomainKey("domain"), "stream", 1);
+  }
+
+  private static ConsumerKey consumerKey(String name) {
+    return new ConsumerKey(streamKey(), new ZoneKey("zone"), name);
+  }
+}
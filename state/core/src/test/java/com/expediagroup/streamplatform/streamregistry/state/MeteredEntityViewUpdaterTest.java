@@ -21,8 +21,6 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThrows;
 
-import java.util.Map;
-
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
@@ -30,7 +28,6 @@ import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.After;
 import org.junit.Test;
 
-import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
 import com.expediagroup.streamplatform.streamregistry.state.model.event.Event;
 
 public class MeteredEntityViewUpdaterTest extends EntityViewUpdaterTest {
@@ -43,7 +40,7 @@ public class MeteredEntityViewUpdaterTest extends EntityViewUpdaterTest {
   }
 
   @Override
-  public EntityViewUpdater entityViewUpdater(Map<Entity.Key<?>, StateValue> entities) {
+  public EntityViewUpdater entityViewUpdater(EntityStore entities) {
     return new EntityViews.MeteredEntityViewUpdater(new DefaultEntityViewUpdater(entities), meterRegistry);
   }
 
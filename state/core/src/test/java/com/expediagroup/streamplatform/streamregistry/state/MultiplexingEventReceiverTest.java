@@ -0,0 +1,193 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state;
+
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.key;
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.specificationEvent;
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.statusEvent;
+import static com.expediagroup.streamplatform.streamregistry.state.model.event.Event.LOAD_COMPLETE;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CompletableFuture;
+
+import lombok.val;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.DomainKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.event.Event;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.DefaultSpecification;
+
+@RunWith(MockitoJUnitRunner.class)
+public class MultiplexingEventReceiverTest {
+  @Mock private EventReceiver delegate;
+  @Mock private EventReceiverListener first;
+  @Mock private EventReceiverListener second;
+
+  private final Event<DomainKey, DefaultSpecification> otherSpecificationEvent = Event.specification(new DomainKey("other"), SampleEntities.specification);
+
+  private MultiplexingEventReceiver underTest;
+
+  @Before
+  public void before() {
+    underTest = new MultiplexingEventReceiver(delegate);
+  }
+
+  @Test
+  public void startsDelegateOnce() {
+    underTest.receive(first);
+    underTest.receive(second);
+
+    verify(delegate, times(1)).receive(any());
+  }
+
+  @Test
+  public void deliversToEveryListener() {
+    underTest.receive(first);
+    underTest.receive(second);
+    val delegateListener = delegateListener();
+
+    delegateListener.onEvent(specificationEvent);
+    delegateListener.onEvent(LOAD_COMPLETE);
+
+    for (EventReceiverListener listener : new EventReceiverListener[]{first, second}) {
+      val inOrder = inOrder(listener);
+      inOrder.verify(listener).onEvent(specificationEvent);
+      inOrder.verify(listener).onEvent(LOAD_COMPLETE);
+    }
+  }
+
+  @Test
+  public void lateListenerReplaysState() {
+    underTest.receive(first);
+    val delegateListener = delegateListener();
+    delegateListener.onEvent(specificationEvent);
+    delegateListener.onEvent(statusEvent);
+    delegateListener.onEvent(LOAD_COMPLETE);
+
+    underTest.receive(second);
+    delegateListener.onEvent(otherSpecificationEvent);
+
+    val inOrder = inOrder(second);
+    inOrder.verify(second).onEvent(specificationEvent);
+    inOrder.verify(second).onEvent(statusEvent);
+    inOrder.verify(second).onEvent(LOAD_COMPLETE);
+    inOrder.verify(second).onEvent(otherSpecificationEvent);
+  }
+
+  @Test
+  public void lateListenerBeforeLoadCompleteWaitsForIt() {
+    underTest.receive(first);
+    val delegateListener = delegateListener();
+    delegateListener.onEvent(specificationEvent);
+
+    underTest.receive(second);
+    verify(second).onEvent(specificationEvent);
+    verify(second, never()).onEvent(LOAD_COMPLETE);
+
+    delegateListener.onEvent(LOAD_COMPLETE);
+    verify(second).onEvent(LOAD_COMPLETE);
+  }
+
+  @Test
+  public void dropsDeletedEntities() {
+    underTest.receive(first);
+    val delegateListener = (SnapshotEventReceiverListener) delegateListener();
+    delegateListener.onEvent(specificationEvent);
+    delegateListener.onEvent(statusEvent);
+    delegateListener.onEvent(Event.specificationDeletion(key));
+
+    underTest.receive(second);
+
+    verify(second, never()).onEvent(any());
+    assertThat(delegateListener.snapshot().count(), is(0L));
+  }
+
+  @Test
+  public void buffersEventsDuringReplay() throws Exception {
+    underTest.receive(first);
+    val delegateListener = delegateListener();
+    delegateListener.onEvent(specificationEvent);
+    delegateListener.onEvent(LOAD_COMPLETE);
+    val delivered = new CompletableFuture<Void>();
+    doAnswer(invocation -> {
+      // the delegate is not held up by the replay
+      CompletableFuture.runAsync(() -> delegateListener.onEvent(otherSpecificationEvent)).thenRun(() -> delivered.complete(null));
+      delivered.get(5, SECONDS);
+      return null;
+    }).when(second).onEvent(specificationEvent);
+
+    underTest.receive(second);
+
+    assertThat(delivered.isDone(), is(true));
+    verify(first).onEvent(otherSpecificationEvent);
+    val inOrder = inOrder(second);
+    inOrder.verify(second).onEvent(specificationEvent);
+    inOrder.verify(second).onEvent(otherSpecificationEvent);
+    inOrder.verify(second).onEvent(LOAD_COMPLETE);
+    inOrder.verifyNoMoreInteractions();
+  }
+
+  @Test
+  public void failingListenerDoesNotAffectOthers() {
+    doThrow(new RuntimeException()).when(first).onEvent(specificationEvent);
+    underTest.receive(first);
+    underTest.receive(second);
+
+    delegateListener().onEvent(specificationEvent);
+
+    verify(second).onEvent(specificationEvent);
+  }
+
+  @Test
+  public void snapshotsState() {
+    underTest.receive(first);
+    val delegateListener = (SnapshotEventReceiverListener) delegateListener();
+    delegateListener.onEvent(specificationEvent);
+    delegateListener.onEvent(statusEvent);
+
+    assertThat(delegateListener.snapshot().collect(toList()), contains(specificationEvent, statusEvent));
+  }
+
+  @Test
+  public void closesDelegate() throws Exception {
+    underTest.close();
+
+    verify(delegate).close();
+  }
+
+  private EventReceiverListener delegateListener() {
+    val captor = ArgumentCaptor.forClass(EventReceiverListener.class);
+    verify(delegate).receive(captor.capture());
+    return captor.getValue();
+  }
+}
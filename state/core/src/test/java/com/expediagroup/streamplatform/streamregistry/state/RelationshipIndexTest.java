@@ -0,0 +1,154 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state;
+
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.configuration;
+import static com.expediagroup.streamplatform.streamregistry.state.SampleEntities.specification;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+
+import org.junit.Test;
+
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ConsumerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ConsumerKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.DomainKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.InfrastructureKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProcessBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProcessKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ProducerKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.StreamBindingKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.ZoneKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.ProcessBindingSpecification;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.ProcessInputStream;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.ProcessInputStreamBinding;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.ProcessOutputStream;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.ProcessSpecification;
+
+public class RelationshipIndexTest {
+  private final DomainKey domainKey = new DomainKey("domain");
+  private final ZoneKey zoneKey = new ZoneKey("zone");
+  private final StreamKey streamKey = new StreamKey(domainKey, "stream", 1);
+  private final StreamKey otherStreamKey = new StreamKey(domainKey, "other", 1);
+  private final ProducerKey producerKey = new ProducerKey(streamKey, zoneKey, "producer");
+  private final ProducerKey otherProducerKey = new ProducerKey(streamKey, zoneKey, "other");
+  private final ConsumerKey consumerKey = new ConsumerKey(streamKey, zoneKey, "consumer");
+  private final InfrastructureKey infrastructureKey = new InfrastructureKey(zoneKey, "infrastructure");
+  private final StreamBindingKey streamBindingKey = new StreamBindingKey(streamKey, infrastructureKey);
+  private final ConsumerBindingKey consumerBindingKey = new ConsumerBindingKey(consumerKey, streamBindingKey);
+  private final ProcessKey processKey = new ProcessKey(domainKey, "process");
+
+  private final RelationshipIndex underTest = new RelationshipIndex();
+
+  @Test
+  public void nestedKeys() {
+    assertThat(RelationshipIndex.parents(new Entity<>(consumerBindingKey, specification)), containsInAnyOrder(
+      consumerKey, streamKey, domainKey, zoneKey, streamBindingKey, infrastructureKey
+    ));
+  }
+
+  @Test
+  public void specificationReferences() {
+    assertThat(RelationshipIndex.parents(process(otherStreamKey)), containsInAnyOrder(
+      domainKey, zoneKey, streamKey, otherStreamKey
+    ));
+  }
+
+  @Test
+  public void nestedKeysOfReferences() {
+    ZoneKey otherZoneKey = new ZoneKey("other");
+    InfrastructureKey otherInfrastructureKey = new InfrastructureKey(otherZoneKey, "other");
+    StreamBindingKey otherStreamBindingKey = new StreamBindingKey(otherStreamKey, otherInfrastructureKey);
+    Entity<ProcessBindingKey, ProcessBindingSpecification> processBinding = new Entity<>(new ProcessBindingKey(processKey, zoneKey), new ProcessBindingSpecification(
+      zoneKey, "description", emptyList(), "type", configuration, emptyMap(), "function",
+      singletonList(new ProcessInputStreamBinding(otherStreamBindingKey, configuration)),
+      emptyList()
+    ));
+    underTest.add(processBinding);
+
+    assertThat(underTest.children(otherInfrastructureKey, ProcessBindingKey.class), contains(processBinding.getKey()));
+    assertThat(underTest.children(otherZoneKey, ProcessBindingKey.class), contains(processBinding.getKey()));
+    assertThat(underTest.children(otherStreamKey, ProcessBindingKey.class), contains(processBinding.getKey()));
+  }
+
+  @Test
+  public void addAndRemove() {
+    Entity<ProducerKey, ?> producer = new Entity<>(producerKey, specification);
+    underTest.add(producer);
+
+    assertThat(underTest.children(streamKey, ProducerKey.class), contains(producerKey));
+    assertThat(underTest.children(domainKey, ProducerKey.class), contains(producerKey));
+    assertThat(underTest.children(streamKey, ConsumerKey.class), is(empty()));
+
+    underTest.remove(producer);
+
+    assertThat(underTest.children(streamKey, ProducerKey.class), is(empty()));
+    assertThat(underTest.children(domainKey, ProducerKey.class), is(empty()));
+  }
+
+  @Test
+  public void concurrentAddAndRemove() throws Exception {
+    CyclicBarrier barrier = new CyclicBarrier(2);
+    CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> churn(producerKey, barrier));
+    CompletableFuture<Integer> second = CompletableFuture.supplyAsync(() -> churn(otherProducerKey, barrier));
+
+    assertThat(first.get() + second.get(), is(0));
+    assertThat(underTest.children(streamKey, ProducerKey.class), is(empty()));
+  }
+
+  /**
+   * @return the number of times the key was not a child of its stream right after being added.
+   */
+  private int churn(ProducerKey key, CyclicBarrier barrier) {
+    Entity<ProducerKey, ?> entity = new Entity<>(key, specification);
+    int lost = 0;
+    await(barrier);
+    for (int i = 0; i < 100_000; i++) {
+      underTest.add(entity);
+      if (!underTest.children(streamKey, ProducerKey.class).contains(key)) {
+        lost++;
+      }
+      underTest.remove(entity);
+    }
+    return lost;
+  }
+
+  private static void await(CyclicBarrier barrier) {
+    try {
+      barrier.await();
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private Entity<ProcessKey, ProcessSpecification> process(StreamKey outputStreamKey) {
+    return new Entity<>(processKey, new ProcessSpecification(
+      singletonList(zoneKey), "description", emptyList(), "type", configuration, emptyMap(), "function",
+      singletonList(new ProcessInputStream(streamKey, configuration)),
+      singletonList(new ProcessOutputStream(outputStreamKey, configuration))
+    ));
+  }
+}
@@ -26,6 +26,7 @@ import com.expediagroup.streamplatform.streamregistry.state.EntityView;
 import com.expediagroup.streamplatform.streamregistry.state.EntityViews;
 import com.expediagroup.streamplatform.streamregistry.state.EventReceiver;
 import com.expediagroup.streamplatform.streamregistry.state.EventSender;
+import com.expediagroup.streamplatform.streamregistry.state.MultiplexingEventReceiver;
 import com.expediagroup.streamplatform.streamregistry.state.graphql.Credentials;
 import com.expediagroup.streamplatform.streamregistry.state.graphql.DefaultApolloClientFactory;
 import com.expediagroup.streamplatform.streamregistry.state.graphql.GraphQLEventSender;
@@ -64,7 +65,8 @@ public class ExampleAgentApp {
       .groupId(groupId)
       .schemaRegistryUrl(schemaRegistryUrl)
       .build();
-    return new KafkaEventReceiver(receiverConfig);
+    // A single consumer shared by every EntityView built from this receiver
+    return new MultiplexingEventReceiver(new KafkaEventReceiver(receiverConfig));
   }
 
   // if you have micrometer configured for metrics, you can replace this method with the one commented out below.
@@ -0,0 +1,62 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state.kafka;
+
+import static java.util.Collections.singleton;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.config.TopicConfig;
+
+/**
+ * Looks up the {@code delete.retention.ms} of a topic, the time a tombstone is kept once the records before it have
+ * been compacted. A snapshot older than that may predate tombstones that are no longer on the topic, so the entities
+ * they deleted would be restored.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class DeleteRetention {
+  @NonNull
+  private final Supplier<Admin> admin;
+
+  /**
+   * @return the delete retention of the topic, or empty if it cannot be described.
+   */
+  Optional<Duration> of(@NonNull String topic) {
+    val resource = new ConfigResource(ConfigResource.Type.TOPIC, topic);
+    try (val client = admin.get()) {
+      val config = client.describeConfigs(singleton(resource)).all().get(30, SECONDS).get(resource);
+      val entry = config.get(TopicConfig.DELETE_RETENTION_MS_CONFIG);
+      return Optional.of(Duration.ofMillis(Long.parseLong(entry.value())));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return Optional.empty();
+    } catch (Exception e) {
+      log.warn("Could not describe the {} of topic {}", TopicConfig.DELETE_RETENTION_MS_CONFIG, topic, e);
+      return Optional.empty();
+    }
+  }
+}
@@ -24,9 +24,13 @@ import static com.expediagroup.streamplatform.streamregistry.state.kafka.KafkaEv
 import static com.expediagroup.streamplatform.streamregistry.state.model.event.Event.LOAD_COMPLETE;
 import static io.confluent.kafka.serializers.KafkaAvroDeserializerConfig.SCHEMA_REGISTRY_URL_CONFIG;
 import static io.confluent.kafka.serializers.KafkaAvroDeserializerConfig.SPECIFIC_AVRO_READER_CONFIG;
-import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparingInt;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static java.util.concurrent.Executors.newScheduledThreadPool;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
 import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static lombok.AccessLevel.PACKAGE;
 import static org.apache.kafka.clients.consumer.ConsumerConfig.AUTO_OFFSET_RESET_CONFIG;
 import static org.apache.kafka.clients.consumer.ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG;
@@ -35,10 +39,17 @@ import static org.apache.kafka.clients.consumer.ConsumerConfig.GROUP_ID_CONFIG;
 import static org.apache.kafka.clients.consumer.ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG;
 import static org.apache.kafka.clients.consumer.ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG;
 
+import java.nio.file.Paths;
 import java.time.Duration;
-import java.util.Collections;
+import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.*;
 
@@ -51,17 +62,21 @@ import lombok.val;
 
 import io.confluent.kafka.serializers.KafkaAvroDeserializer;
 
+import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 
 import com.expediagroup.streamplatform.streamregistry.state.Configurator;
 import com.expediagroup.streamplatform.streamregistry.state.EventReceiver;
 import com.expediagroup.streamplatform.streamregistry.state.EventReceiverListener;
+import com.expediagroup.streamplatform.streamregistry.state.SnapshotEventReceiverListener;
 import com.expediagroup.streamplatform.streamregistry.state.avro.AvroConverter;
 import com.expediagroup.streamplatform.streamregistry.state.avro.AvroKey;
 import com.expediagroup.streamplatform.streamregistry.state.avro.AvroValue;
 import com.expediagroup.streamplatform.streamregistry.state.internal.EventCorrelator;
+import com.expediagroup.streamplatform.streamregistry.state.model.event.Event;
 import com.expediagroup.streamplatform.streamregistry.state.model.event.StatusDeletionEvent;
 import com.expediagroup.streamplatform.streamregistry.state.model.event.StatusEvent;
 
@@ -85,6 +100,9 @@ public class KafkaEventReceiver implements EventReceiver {
   private final KafkaConsumer<AvroKey, AvroValue> consumer;
   @NonNull
   private final ScheduledExecutorService executorService;
+  private final SnapshotStore snapshotStore;
+  private final KeyFirstBootstrap keyFirstBootstrap;
+  private final DeleteRetention deleteRetention;
 
   private final AtomicReference<State> state = new AtomicReference<>(CREATED);
 
@@ -95,12 +113,18 @@ public class KafkaEventReceiver implements EventReceiver {
     this(
       config,
       correlator,
-      new AvroConverter(),
+      new AvroConverter(Boolean.TRUE.equals(config.getReflectiveAvroConversion())),
       getKafkaConsumer(config, consumerConfigurator),
       newScheduledThreadPool(THREAD_POOL_SIZE)
     );
   }
 
+  KafkaEventReceiver(Config config, EventCorrelator correlator, AvroConverter converter,
+      KafkaConsumer<AvroKey, AvroValue> consumer, ScheduledExecutorService executorService) {
+    this(config, correlator, converter, consumer, executorService, snapshotStore(config, converter), keyFirstBootstrap(config, converter),
+      deleteRetention(config));
+  }
+
   public KafkaEventReceiver(Config config, EventCorrelator correlator) {
     this(config, correlator, kafkaConsumer -> {});
   }
@@ -110,6 +134,27 @@ public class KafkaEventReceiver implements EventReceiver {
   }
 
 
+  private static SnapshotStore snapshotStore(Config config, AvroConverter converter) {
+    return config.getSnapshotPath() == null ? null : new SnapshotStore(Paths.get(config.getSnapshotPath()), converter);
+  }
+
+  private static DeleteRetention deleteRetention(Config config) {
+    return config.getSnapshotPath() == null ? null : new DeleteRetention(() -> Admin.create(consumerConfig(config)));
+  }
+
+  private static KeyFirstBootstrap keyFirstBootstrap(Config config, AvroConverter converter) {
+    if (!Boolean.TRUE.equals(config.getKeyFirstBootstrap())) {
+      return null;
+    }
+    val valueDeserializer = new KafkaAvroDeserializer();
+    valueDeserializer.configure(consumerConfig(config), false);
+    return new KeyFirstBootstrap(() -> {
+      val kafkaConfigs = consumerConfig(config);
+      kafkaConfigs.put(VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+      return new KafkaConsumer<>(kafkaConfigs);
+    }, valueDeserializer, converter);
+  }
+
   private static KafkaConsumer<AvroKey, AvroValue> getKafkaConsumer(Config config, Configurator<KafkaConsumer<AvroKey, AvroValue>> consumerConfigurator) {
     KafkaConsumer<AvroKey, AvroValue> kafkaConsumer = new KafkaConsumer<>(consumerConfig(config));
     consumerConfigurator.configure(kafkaConsumer);
@@ -119,7 +164,7 @@ public class KafkaEventReceiver implements EventReceiver {
   @Override
   public void receive(EventReceiverListener listener) {
     if (state.getAndSet(RUNNING) != CREATED) {
-      throw new IllegalStateException("Only a single EventReceiverListener is supported");
+      throw new IllegalStateException("Only a single EventReceiverListener is supported. Use a MultiplexingEventReceiver to share this receiver");
     }
     executorService.execute(() -> {
       try {
@@ -133,64 +178,184 @@ public class KafkaEventReceiver implements EventReceiver {
   }
 
   void consume(EventReceiverListener listener) {
-    val currentOffset = new AtomicLong(0L);
+    val topicPartitions = topicPartitions();
+    val beginningOffsets = consumer.beginningOffsets(topicPartitions);
+    val endOffsets = consumer.endOffsets(topicPartitions);
+    log.info("Offsets: beginning{}, end{}", beginningOffsets, endOffsets);
+
+    consumer.assign(topicPartitions);
+    val snapshotListener = snapshotListener(listener);
+    Map<TopicPartition, Long> nextOffsets = new ConcurrentHashMap<>(restore(snapshotListener, topicPartitions, beginningOffsets, endOffsets));
+    val snapshotOffsets = new AtomicReference<Map<TopicPartition, Long>>(new HashMap<>(nextOffsets));
+    if (keyFirstBootstrap != null) {
+      keyFirstBootstrap.bootstrap(new HashMap<>(nextOffsets), endOffsets, event -> deliver(listener, event));
+      endOffsets.forEach((partition, endOffset) -> {
+        if (nextOffsets.get(partition) < endOffset) {
+          consumer.seek(partition, endOffset);
+          nextOffsets.put(partition, endOffset);
+        }
+      });
+    }
+    long snapshotTime = System.currentTimeMillis();
+
     val progressLogger = executorService
-      .scheduleAtFixedRate(() -> log.info("Current offset {}", currentOffset.get()), 10, 10, SECONDS);
+      .scheduleAtFixedRate(() -> log.info("Current offsets {}", nextOffsets), 10, 10, SECONDS);
+    val loading = new Loading(endOffsets, nextOffsets, () -> {
+      progressLogger.cancel(true);
+      log.info("Loading complete. Reached offsets {}", nextOffsets);
+      listener.onEvent(LOAD_COMPLETE);
+    });
+
+    val snapshotExecutor = snapshotListener == null ? null : newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "snapshot-writer");
+      thread.setDaemon(true);
+      return thread;
+    });
+    CompletableFuture<?> snapshotWrite = CompletableFuture.completedFuture(null);
+    val partitionExecutor = topicPartitions.size() == 1 ? null
+      : newFixedThreadPool(Math.min(topicPartitions.size(), Runtime.getRuntime().availableProcessors()));
+    try {
+      while (state.get() == RUNNING) {
+        val records = consumer.poll(Duration.ofMillis(100));
+        if (partitionExecutor == null || records.partitions().size() <= 1) {
+          records.partitions().forEach(partition -> apply(listener, partition, records.records(partition), nextOffsets, loading));
+        } else {
+          CompletableFuture.allOf(records.partitions().stream()
+            .map(partition -> CompletableFuture.runAsync(() -> apply(listener, partition, records.records(partition), nextOffsets, loading), partitionExecutor))
+            .toArray(CompletableFuture[]::new)
+          ).join();
+        }
+        if (snapshotListener != null && snapshotWrite.isDone() && !nextOffsets.equals(snapshotOffsets.get())
+            && System.currentTimeMillis() - snapshotTime >= config.getSnapshotInterval().toMillis()) {
+          snapshotWrite = writeSnapshot(snapshotListener, snapshotExecutor, new HashMap<>(nextOffsets), snapshotOffsets);
+          snapshotTime = System.currentTimeMillis();
+        }
+      }
+    } finally {
+      if (partitionExecutor != null) {
+        partitionExecutor.shutdownNow();
+      }
+      if (snapshotExecutor != null) {
+        snapshotExecutor.shutdown();
+      }
+    }
+  }
+
+  /**
+   * Takes the events of the listener on the consumer thread, so they match the offsets, and leaves encoding and writing
+   * them to the snapshot executor so consuming is not held up.
+   */
+  private CompletableFuture<?> writeSnapshot(SnapshotEventReceiverListener listener, ExecutorService snapshotExecutor,
+      Map<TopicPartition, Long> offsets, AtomicReference<Map<TopicPartition, Long>> snapshotOffsets) {
+    long timestamp = System.currentTimeMillis();
+    List<Event<?, ?>> events = listener.snapshot().collect(toList());
+    return CompletableFuture.runAsync(() -> {
+      if (snapshotStore.write(config.getTopic(), partitionOffsets(offsets), timestamp, events.stream())) {
+        snapshotOffsets.set(offsets);
+      }
+    }, snapshotExecutor);
+  }
 
-    val topicPartition = new TopicPartition(config.getTopic(), 0);
-    val topicPartitions = Collections.singletonList(topicPartition);
+  private List<TopicPartition> topicPartitions() {
+    val partitions = consumer.partitionsFor(config.getTopic());
+    if (partitions == null || partitions.isEmpty()) {
+      throw new IllegalStateException("Unsupported partition count. Require at least 1, got 0");
+    }
+    return partitions.stream()
+      .map(partition -> new TopicPartition(config.getTopic(), partition.partition()))
+      .sorted(comparingInt(TopicPartition::partition))
+      .collect(toList());
+  }
 
-    int partitions = consumer.partitionsFor(topicPartition.topic()).size();
-    if (partitions != 1) {
-      throw new IllegalStateException("Unsupported partition count. Require 1, got " + partitions);
+  /**
+   * Applies the records of a single partition in order. Records of different partitions may be applied concurrently,
+   * which keeps the order of the events of each entity as the sender partitions by entity key.
+   */
+  private void apply(EventReceiverListener listener, TopicPartition partition, List<ConsumerRecord<AvroKey, AvroValue>> records,
+      Map<TopicPartition, Long> nextOffsets, Loading loading) {
+    for (ConsumerRecord<AvroKey, AvroValue> record : records) {
+      val event = converter.toModel(record.key(), record.value());
+      nextOffsets.put(partition, record.offset() + 1L);
+      deliver(listener, event);
+      receiveCorrelationId(record);
+      loading.reached(partition, record.offset());
     }
+  }
 
-    long beginningOffset = consumer.beginningOffsets(topicPartitions).get(topicPartition);
-    long endOffset = consumer.endOffsets(topicPartitions).get(topicPartition);
-    log.info("Offsets: beginning[{}], end[{}]", beginningOffset, endOffset);
+  private void deliver(EventReceiverListener listener, Event<?, ?> event) {
+    try {
+      if (!config.getEntityStatusEnabled() && (event instanceof StatusEvent || event instanceof StatusDeletionEvent)) {
+        log.warn("Entity Status is disabled and will not trigger onEvent key={}", event.getKey());
+      } else {
+        listener.onEvent(event);
+      }
+    } catch (Exception e) {
+      log.error("Listener failed for event {}", event, e);
+    }
+  }
 
-    consumer.assign(topicPartitions);
-    consumer.seekToBeginning(topicPartitions);
+  private static Map<Integer, Long> partitionOffsets(Map<TopicPartition, Long> offsets) {
+    return offsets.entrySet().stream().collect(toMap(e -> e.getKey().partition(), Map.Entry::getValue));
+  }
 
-    boolean loaded = false;
-    if (endOffset == 0L) {
-      progressLogger.cancel(true);
-      log.info("Loading complete. Empty topic.");
-      listener.onEvent(LOAD_COMPLETE);
-      loaded = true;
+  private SnapshotEventReceiverListener snapshotListener(EventReceiverListener listener) {
+    if (snapshotStore == null) {
+      return null;
+    }
+    if (!(listener instanceof SnapshotEventReceiverListener)) {
+      log.warn("Snapshots are disabled. {} does not support snapshots.", listener.getClass().getName());
+      return null;
     }
+    return (SnapshotEventReceiverListener) listener;
+  }
 
-    while (state.get() == RUNNING) {
-      for (ConsumerRecord<AvroKey, AvroValue> record : consumer.poll(Duration.ofMillis(100))) {
-        val event = converter.toModel(record.key(), record.value());
-        currentOffset.set(record.offset());
-        try {
-          if (!config.getEntityStatusEnabled() && (event instanceof StatusEvent || event instanceof StatusDeletionEvent)) {
-            log.warn("Entity Status is disabled and will not trigger onEvent key={}", event.getKey());
-          } else {
+  /**
+   * Restores the listener from the snapshot if there is one that can be continued from the topic, i.e. the topic still
+   * has the same partitions and every record after the snapshot offsets, and the snapshot is younger than the
+   * {@link DeleteRetention delete retention} of the topic so no tombstone after it can have been compacted away.
+   * Otherwise seeks to the beginning to replay the whole topic.
+   *
+   * @return the offset of the next record to be consumed by partition.
+   */
+  private Map<TopicPartition, Long> restore(SnapshotEventReceiverListener listener, List<TopicPartition> topicPartitions,
+      Map<TopicPartition, Long> beginningOffsets, Map<TopicPartition, Long> endOffsets) {
+    if (listener != null) {
+      val snapshot = snapshotStore.read(config.getTopic());
+      if (snapshot.isPresent()) {
+        Map<TopicPartition, Long> offsets = snapshot.get().getOffsets().entrySet().stream()
+          .collect(toMap(e -> new TopicPartition(config.getTopic(), e.getKey()), Map.Entry::getValue));
+        if (!offsets.keySet().equals(endOffsets.keySet()) || !offsets.entrySet().stream().allMatch(e ->
+            e.getValue() >= beginningOffsets.get(e.getKey()) && e.getValue() <= endOffsets.get(e.getKey()))) {
+          log.warn("Ignoring snapshot at offsets {} outside of offsets: beginning{}, end{}", offsets, beginningOffsets, endOffsets);
+        } else if (!withinDeleteRetention(snapshot.get())) {
+          log.warn("Ignoring snapshot at offsets {} taken at {} as tombstones after it may have been compacted",
+            offsets, Instant.ofEpochMilli(snapshot.get().getTimestamp()));
+        } else {
+          long events = 0;
+          for (Event<?, ?> event : snapshot.get().getEvents()) {
             listener.onEvent(event);
+            events++;
           }
-        } catch (Exception e) {
-          log.error("Listener failed for event {}", event, e);
-        }
-        receiveCorrelationId(record);
-        if (!loaded && record.offset() >= endOffset - 1L) {
-          progressLogger.cancel(true);
-          log.info("Loading complete. Reached offset " + record.offset());
-          listener.onEvent(LOAD_COMPLETE);
-          loaded = true;
+          offsets.forEach(consumer::seek);
+          log.info("Restored {} events from snapshot at offsets {}", events, offsets);
+          return offsets;
         }
       }
     }
+    consumer.seekToBeginning(topicPartitions);
+    return beginningOffsets;
+  }
+
+  private boolean withinDeleteRetention(SnapshotStore.Snapshot snapshot) {
+    val retention = deleteRetention == null ? Optional.<Duration>empty() : deleteRetention.of(config.getTopic());
+    return retention.isPresent() && System.currentTimeMillis() - snapshot.getTimestamp() < retention.get().toMillis();
   }
 
   private void receiveCorrelationId(ConsumerRecord<?, ?> record) {
     if (correlator != null) {
       val headerIterator = record.headers().headers(CORRELATION_ID).iterator();
       if (headerIterator.hasNext()) {
-        val header = headerIterator.next();
-        val correlationId = new String(header.value(), UTF_8);
-        correlator.received(correlationId);
+        correlator.received(headerIterator.next().value());
       }
     }
   }
@@ -226,6 +391,37 @@ public class KafkaEventReceiver implements EventReceiver {
     return kafkaConfigs;
   }
 
+  /**
+   * Tracks the partitions that have not yet been consumed up to the end offsets they had on startup and runs the
+   * completion callback once, when the last of them gets there.
+   */
+  private static class Loading {
+    private final Set<TopicPartition> remaining = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger remainingCount = new AtomicInteger();
+    private final Map<TopicPartition, Long> endOffsets;
+    private final Runnable onComplete;
+
+    Loading(Map<TopicPartition, Long> endOffsets, Map<TopicPartition, Long> nextOffsets, Runnable onComplete) {
+      this.endOffsets = endOffsets;
+      this.onComplete = onComplete;
+      endOffsets.forEach((partition, endOffset) -> {
+        if (nextOffsets.get(partition) < endOffset) {
+          remaining.add(partition);
+        }
+      });
+      remainingCount.set(remaining.size());
+      if (remaining.isEmpty()) {
+        onComplete.run();
+      }
+    }
+
+    void reached(TopicPartition partition, long offset) {
+      if (offset >= endOffsets.get(partition) - 1L && remaining.remove(partition) && remainingCount.decrementAndGet() == 0) {
+        onComplete.run();
+      }
+    }
+  }
+
   @Value
   @Builder
   public static class Config {
@@ -235,6 +431,20 @@ public class KafkaEventReceiver implements EventReceiver {
     @NonNull String groupId;
     Map<String, Object> properties;
     @Builder.Default Boolean entityStatusEnabled = true;
+    /**
+     * Path of the local snapshot file. Snapshots are disabled when not set.
+     */
+    String snapshotPath;
+    @Builder.Default Duration snapshotInterval = Duration.ofMinutes(5);
+    /**
+     * Whether to bootstrap with {@link KeyFirstBootstrap}, which only deserializes the latest record of each key up to
+     * the end offsets. Deleted entities are then kept without their last specification and statuses.
+     */
+    @Builder.Default Boolean keyFirstBootstrap = false;
+    /**
+     * Whether to convert between Avro records and the state model through Jackson, as before the direct codec.
+     */
+    @Builder.Default Boolean reflectiveAvroConversion = false;
   }
 
   public enum State {
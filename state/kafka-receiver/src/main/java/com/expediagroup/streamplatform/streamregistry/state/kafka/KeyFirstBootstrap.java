@@ -0,0 +1,158 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state.kafka;
+
+import static java.util.stream.Collectors.toList;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import com.expediagroup.streamplatform.streamregistry.state.avro.AvroConverter;
+import com.expediagroup.streamplatform.streamregistry.state.avro.AvroKey;
+import com.expediagroup.streamplatform.streamregistry.state.avro.AvroSpecificationKey;
+import com.expediagroup.streamplatform.streamregistry.state.avro.AvroStatusKey;
+import com.expediagroup.streamplatform.streamregistry.state.avro.AvroValue;
+import com.expediagroup.streamplatform.streamregistry.state.model.event.Event;
+
+/**
+ * Bootstraps up to the end offsets in two passes so that superseded records are never deserialized. The first pass
+ * only deserializes keys, recording the offset of the latest record of each key and of the latest specification
+ * deletion of each entity. The second pass deserializes and applies only those latest records: specifications and
+ * specification deletions first, then the statuses written after the last deletion of their entity.
+ * <p/>
+ * The resulting state is the same as a full replay, except that deleted entities are kept without their last
+ * specification and statuses, as long as statuses are only written for existing entities and every record of an
+ * entity is on the same partition, which {@code EntityKeyPartitioner} guarantees.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class KeyFirstBootstrap {
+  @NonNull
+  private final Supplier<KafkaConsumer<AvroKey, byte[]>> consumerFactory;
+  @NonNull
+  private final Deserializer<Object> valueDeserializer;
+  @NonNull
+  private final AvroConverter converter;
+
+  /**
+   * Applies the latest record of every key between the start and end offsets to the sink.
+   *
+   * @param startOffsets the offset of the first record to consume by partition.
+   * @param endOffsets   the offset after the last record to consume by partition.
+   * @param sink         receives the events to apply.
+   */
+  void bootstrap(Map<TopicPartition, Long> startOffsets, Map<TopicPartition, Long> endOffsets, Consumer<Event<?, ?>> sink) {
+    List<TopicPartition> partitions = startOffsets.keySet().stream()
+      .filter(partition -> startOffsets.get(partition) < endOffsets.get(partition))
+      .collect(toList());
+    if (partitions.isEmpty()) {
+      return;
+    }
+
+    try (val consumer = consumerFactory.get()) {
+      consumer.assign(partitions);
+
+      Map<AvroKey, Long> latest = new HashMap<>();
+      Map<Object, Long> deletions = new HashMap<>();
+      long records = scan(consumer, partitions, startOffsets, endOffsets, record -> {
+        latest.put(record.key(), record.offset());
+        if (record.value() == null && record.key().getKey() instanceof AvroSpecificationKey) {
+          deletions.put(entityKey(record.key()), record.offset());
+        }
+      });
+      log.info("Key-first bootstrap found {} keys in {} records", latest.size(), records);
+
+      List<Event<?, ?>> statuses = new ArrayList<>();
+      scan(consumer, partitions, startOffsets, endOffsets, record -> {
+        Long offset = latest.get(record.key());
+        if (offset == null || offset != record.offset()) {
+          return;
+        }
+        boolean status = record.key().getKey() instanceof AvroStatusKey;
+        if (status && record.offset() < deletions.getOrDefault(entityKey(record.key()), -1L)) {
+          return;
+        }
+        val value = record.value() == null ? null : (AvroValue) valueDeserializer.deserialize(record.topic(), record.headers(), record.value());
+        val event = converter.toModel(record.key(), value);
+        if (status) {
+          statuses.add(event);
+        } else {
+          sink.accept(event);
+        }
+      });
+      statuses.forEach(sink);
+      log.info("Key-first bootstrap complete. Reached offsets {}", endOffsets);
+    }
+  }
+
+  /**
+   * Passes every record from the start offsets up to the end offsets to the action.
+   *
+   * @return the number of records.
+   */
+  private long scan(KafkaConsumer<AvroKey, byte[]> consumer, List<TopicPartition> partitions, Map<TopicPartition, Long> startOffsets,
+      Map<TopicPartition, Long> endOffsets, Consumer<ConsumerRecord<AvroKey, byte[]>> action) {
+    partitions.forEach(partition -> consumer.seek(partition, startOffsets.get(partition)));
+    consumer.resume(partitions);
+    Set<TopicPartition> remaining = new HashSet<>(partitions);
+    long count = 0L;
+    while (!remaining.isEmpty()) {
+      val records = consumer.poll(Duration.ofMillis(100));
+      for (TopicPartition partition : records.partitions()) {
+        long endOffset = endOffsets.get(partition);
+        for (ConsumerRecord<AvroKey, byte[]> record : records.records(partition)) {
+          if (record.offset() < endOffset) {
+            action.accept(record);
+            count++;
+          }
+        }
+      }
+      for (TopicPartition partition : new ArrayList<>(remaining)) {
+        if (consumer.position(partition) >= endOffsets.get(partition)) {
+          consumer.pause(Collections.singletonList(partition));
+          remaining.remove(partition);
+        }
+      }
+    }
+    return count;
+  }
+
+  private static Object entityKey(AvroKey key) {
+    val specificationOrStatusKey = key.getKey();
+    if (specificationOrStatusKey instanceof AvroSpecificationKey) {
+      return ((AvroSpecificationKey) specificationOrStatusKey).getKey();
+    }
+    return ((AvroStatusKey) specificationOrStatusKey).getKey();
+  }
+}
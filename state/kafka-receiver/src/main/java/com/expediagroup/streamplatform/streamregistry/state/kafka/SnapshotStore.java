@@ -0,0 +1,257 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state.kafka;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.util.ByteBufferInputStream;
+
+import com.expediagroup.streamplatform.streamregistry.state.avro.AvroConverter;
+import com.expediagroup.streamplatform.streamregistry.state.avro.AvroKey;
+import com.expediagroup.streamplatform.streamregistry.state.avro.AvroValue;
+import com.expediagroup.streamplatform.streamregistry.state.model.event.Event;
+
+/**
+ * Persists snapshots of an {@link com.expediagroup.streamplatform.streamregistry.state.SnapshotEventReceiverListener}
+ * together with the offset of the next record to consume from each partition, so a restart only needs to consume the
+ * records after those offsets.
+ * <p/>
+ * The file holds a header (magic, version, Avro schema fingerprint, topic, offsets and the time the events were taken), the snapshot events encoded
+ * with the same Avro schemas as the topic, and a trailing CRC32 of everything before it. Files are written to a
+ * temporary sibling and atomically moved into place, and are memory mapped when read, the events being decoded from the
+ * mapping as they are iterated rather than all at once. Any snapshot that is missing,
+ * truncated, corrupt, for another topic or written with different schemas is ignored.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class SnapshotStore {
+  private static final int MAGIC = 0x53525331;
+  private static final int VERSION = 3;
+  private static final long FINGERPRINT = SchemaNormalization.parsingFingerprint64(AvroKey.getClassSchema())
+    ^ SchemaNormalization.parsingFingerprint64(AvroValue.getClassSchema());
+
+  @NonNull
+  private final Path path;
+  @NonNull
+  private final AvroConverter converter;
+
+  private final SpecificDatumWriter<AvroKey> keyWriter = new SpecificDatumWriter<>(AvroKey.class);
+  private final SpecificDatumWriter<AvroValue> valueWriter = new SpecificDatumWriter<>(AvroValue.class);
+  private final SpecificDatumReader<AvroKey> keyReader = new SpecificDatumReader<>(AvroKey.class);
+  private final SpecificDatumReader<AvroValue> valueReader = new SpecificDatumReader<>(AvroValue.class);
+
+  /**
+   * Reads the snapshot for the given topic.
+   *
+   * @return the snapshot or empty if there is no usable snapshot.
+   */
+  Optional<Snapshot> read(@NonNull String topic) {
+    try (val channel = FileChannel.open(path, READ)) {
+      val buffer = channel.map(READ_ONLY, 0, channel.size());
+      val snapshot = read(buffer);
+      if (!snapshot.getTopic().equals(topic)) {
+        log.warn("Ignoring snapshot {} of topic {}", path, snapshot.getTopic());
+        return Optional.empty();
+      }
+      log.info("Read snapshot {} at offsets {}", path, snapshot.getOffsets());
+      return Optional.of(snapshot);
+    } catch (NoSuchFileException e) {
+      log.info("No snapshot found at {}", path);
+      return Optional.empty();
+    } catch (Exception e) {
+      log.warn("Ignoring unreadable snapshot {}", path, e);
+      return Optional.empty();
+    }
+  }
+
+  private Snapshot read(ByteBuffer buffer) throws IOException {
+    if (buffer.remaining() < Long.BYTES) {
+      throw new IOException("Truncated snapshot");
+    }
+    val content = buffer.duplicate();
+    content.limit(buffer.limit() - Long.BYTES);
+    val crc = new CRC32();
+    crc.update(content.duplicate());
+    if (crc.getValue() != buffer.getLong(buffer.limit() - Long.BYTES)) {
+      throw new IOException("Snapshot checksum mismatch");
+    }
+    if (content.getInt() != MAGIC || content.getInt() != VERSION || content.getLong() != FINGERPRINT) {
+      throw new IOException("Incompatible snapshot format");
+    }
+    val topicBytes = new byte[content.getInt()];
+    content.get(topicBytes);
+    Map<Integer, Long> offsets = new TreeMap<>();
+    for (int partitions = content.getInt(); partitions > 0; partitions--) {
+      offsets.put(content.getInt(), content.getLong());
+    }
+    long timestamp = content.getLong();
+
+    val events = content.slice();
+    return new Snapshot(new String(topicBytes, UTF_8), offsets, timestamp, () -> new EventIterator(events.duplicate()));
+  }
+
+  /**
+   * Decodes the snapshot events from the mapped file one at a time. The checksum has already been verified, so a
+   * failure to decode is unexpected and thrown as an {@link UncheckedIOException}.
+   */
+  private class EventIterator implements Iterator<Event<?, ?>> {
+    private final BinaryDecoder decoder;
+    private Boolean hasNext;
+
+    EventIterator(ByteBuffer events) {
+      decoder = DecoderFactory.get().binaryDecoder(new ByteBufferInputStream(Collections.singletonList(events)), null);
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (hasNext == null) {
+        try {
+          hasNext = decoder.readBoolean();
+        } catch (IOException e) {
+          throw new UncheckedIOException("Failed to decode snapshot " + path, e);
+        }
+      }
+      return hasNext;
+    }
+
+    @Override
+    public Event<?, ?> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      hasNext = null;
+      try {
+        val key = keyReader.read(null, decoder);
+        val value = decoder.readBoolean() ? valueReader.read(null, decoder) : null;
+        return converter.toModel(key, value);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to decode snapshot " + path, e);
+      }
+    }
+  }
+
+  /**
+   * Replaces the current snapshot.
+   *
+   * @param topic  the topic the events were received from.
+   * @param offsets the offset of the next record to consume by partition, i.e. after the last record applied to the
+   *                listener that produced the events.
+   * @param timestamp the time the events were taken from the listener, in milliseconds since the epoch.
+   * @param events the snapshot events.
+   * @return whether the snapshot was written.
+   */
+  boolean write(@NonNull String topic, @NonNull Map<Integer, Long> offsets, long timestamp, @NonNull Stream<Event<?, ?>> events) {
+    val temporary = path.resolveSibling(path.getFileName() + ".tmp");
+    try {
+      if (path.getParent() != null) {
+        Files.createDirectories(path.getParent());
+      }
+      try (val file = new FileOutputStream(temporary.toFile())) {
+        val crc = new CRC32();
+        val buffered = new BufferedOutputStream(file);
+        val out = new DataOutputStream(new CheckedOutputStream(buffered, crc));
+        val topicBytes = topic.getBytes(UTF_8);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(FINGERPRINT);
+        out.writeInt(topicBytes.length);
+        out.write(topicBytes);
+        out.writeInt(offsets.size());
+        for (val offset : offsets.entrySet()) {
+          out.writeInt(offset.getKey());
+          out.writeLong(offset.getValue());
+        }
+        out.writeLong(timestamp);
+
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+        for (Iterator<Event<?, ?>> iterator = events.iterator(); iterator.hasNext(); ) {
+          val avroEvent = converter.toAvro(iterator.next());
+          encoder.writeBoolean(true);
+          keyWriter.write(avroEvent.getKey(), encoder);
+          encoder.writeBoolean(avroEvent.getValue() != null);
+          if (avroEvent.getValue() != null) {
+            valueWriter.write(avroEvent.getValue(), encoder);
+          }
+        }
+        encoder.writeBoolean(false);
+        encoder.flush();
+        out.flush();
+
+        val trailer = new DataOutputStream(buffered);
+        trailer.writeLong(crc.getValue());
+        trailer.flush();
+        file.getChannel().force(true);
+      }
+      Files.move(temporary, path, ATOMIC_MOVE, REPLACE_EXISTING);
+      log.info("Wrote snapshot {} at offsets {}", path, offsets);
+      return true;
+    } catch (Exception e) {
+      log.warn("Failed to write snapshot {}", path, e);
+      try {
+        Files.deleteIfExists(temporary);
+      } catch (IOException ignored) {
+      }
+      return false;
+    }
+  }
+
+  @Value
+  static class Snapshot {
+    String topic;
+    Map<Integer, Long> offsets;
+    /** The time the events were taken from the listener, in milliseconds since the epoch. */
+    long timestamp;
+    /** The events, decoded from the snapshot file each time they are iterated. */
+    Iterable<Event<?, ?>> events;
+  }
+}
@@ -29,10 +29,11 @@ import static org.apache.kafka.clients.consumer.ConsumerConfig.GROUP_ID_CONFIG;
 import static org.apache.kafka.clients.consumer.ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG;
 import static org.apache.kafka.clients.consumer.ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG;
 import static org.apache.kafka.clients.producer.ProducerConfig.BOOTSTRAP_SERVERS_CONFIG;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 import java.time.Duration;
@@ -40,6 +41,7 @@ import java.util.*;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.*;
+import java.util.stream.Stream;
 
 import lombok.val;
 
@@ -62,11 +64,13 @@ import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import com.expediagroup.streamplatform.streamregistry.state.EventReceiverListener;
+import com.expediagroup.streamplatform.streamregistry.state.SnapshotEventReceiverListener;
 import com.expediagroup.streamplatform.streamregistry.state.avro.AvroConverter;
 import com.expediagroup.streamplatform.streamregistry.state.avro.AvroKey;
 import com.expediagroup.streamplatform.streamregistry.state.avro.AvroValue;
 import com.expediagroup.streamplatform.streamregistry.state.internal.EventCorrelator;
 import com.expediagroup.streamplatform.streamregistry.state.kafka.KafkaEventReceiver.Config;
+import com.expediagroup.streamplatform.streamregistry.state.kafka.SnapshotStore.Snapshot;
 import com.expediagroup.streamplatform.streamregistry.state.model.Entity;
 import com.expediagroup.streamplatform.streamregistry.state.model.event.*;
 import com.expediagroup.streamplatform.streamregistry.state.model.specification.Specification;
@@ -99,6 +103,14 @@ public class KafkaEventReceiverTest {
   private StatusEvent statusEvent;
   @Mock
   private StatusDeletionEvent statusDeletionEvent;
+  @Mock
+  private SnapshotStore snapshotStore;
+  @Mock
+  private SnapshotEventReceiverListener snapshotListener;
+  @Mock
+  private KeyFirstBootstrap keyFirstBootstrap;
+  @Mock
+  private DeleteRetention deleteRetention;
 
   private final ScheduledExecutorService executorService = newScheduledThreadPool(2);
 
@@ -127,7 +139,7 @@ public class KafkaEventReceiverTest {
     doAnswer((correlationId) -> {
       latch.countDown();
       return null;
-    }).when(correlator).received(anyString());
+    }).when(correlator).received(any(byte[].class));
 
     underTest = new KafkaEventReceiver(config, correlator, converter, consumer, executorService);
   }
@@ -145,7 +157,7 @@ public class KafkaEventReceiverTest {
     inOrder.verify(consumer).seekToBeginning(topicPartitions);
     inOrder.verify(listener).onEvent(LOAD_COMPLETE);
     inOrder.verify(listener).onEvent(event);
-    inOrder.verify(correlator).received("foo");
+    inOrder.verify(correlator).received("foo".getBytes(UTF_8));
   }
 
   @Test
@@ -164,7 +176,7 @@ public class KafkaEventReceiverTest {
     inOrder.verify(consumer).seekToBeginning(topicPartitions);
     inOrder.verify(listener).onEvent(LOAD_COMPLETE);
     inOrder.verify(listener, never()).onEvent(statusEvent);
-    inOrder.verify(correlator).received("foo");
+    inOrder.verify(correlator).received("foo".getBytes(UTF_8));
   }
 
   @Test
@@ -183,7 +195,7 @@ public class KafkaEventReceiverTest {
     inOrder.verify(consumer).seekToBeginning(topicPartitions);
     inOrder.verify(listener).onEvent(LOAD_COMPLETE);
     inOrder.verify(listener, never()).onEvent(statusDeletionEvent);
-    inOrder.verify(correlator).received("foo");
+    inOrder.verify(correlator).received("foo".getBytes(UTF_8));
   }
 
   @Test
@@ -202,7 +214,7 @@ public class KafkaEventReceiverTest {
     inOrder.verify(consumer).seekToBeginning(topicPartitions);
     inOrder.verify(listener).onEvent(LOAD_COMPLETE);
     inOrder.verify(listener).onEvent(event);
-    inOrder.verify(correlator).received("foo");
+    inOrder.verify(correlator).received("foo".getBytes(UTF_8));
   }
 
   @Test
@@ -221,7 +233,7 @@ public class KafkaEventReceiverTest {
     inOrder.verify(consumer).seekToBeginning(topicPartitions);
     inOrder.verify(listener).onEvent(LOAD_COMPLETE);
     inOrder.verify(listener).onEvent(deletionEvent);
-    inOrder.verify(correlator).received("foo");
+    inOrder.verify(correlator).received("foo".getBytes(UTF_8));
   }
 
   @Test
@@ -239,32 +251,62 @@ public class KafkaEventReceiverTest {
     inOrder.verify(consumer).seekToBeginning(topicPartitions);
     inOrder.verify(listener).onEvent(LOAD_COMPLETE);
     inOrder.verify(listener).onEvent(event);
-    inOrder.verify(correlator).received("foo");
+    inOrder.verify(correlator).received("foo".getBytes(UTF_8));
   }
 
   @Test
-  public void errorWhenMoreThanOnePartition() {
-    val multiplePartitions = new ArrayList<PartitionInfo>() {{
-      add(partitionInfo);
-      add(partitionInfo);
-    }};
-    when(consumer.partitionsFor(topic)).thenReturn(multiplePartitions);
+  public void consumesAllPartitions() {
+    val otherPartition = new TopicPartition(topic, 1);
+    val partitions = Arrays.asList(topicPartition, otherPartition);
+    when(consumer.partitionsFor(topic)).thenReturn(Arrays.asList(
+      new PartitionInfo(topic, 1, null, null, null),
+      new PartitionInfo(topic, 0, null, null, null)
+    ));
+    when(consumer.beginningOffsets(partitions)).thenReturn(new HashMap<TopicPartition, Long>() {{
+      put(topicPartition, 0L);
+      put(otherPartition, 0L);
+    }});
+    when(consumer.endOffsets(partitions)).thenReturn(new HashMap<TopicPartition, Long>() {{
+      put(topicPartition, 1L);
+      put(otherPartition, 2L);
+    }});
+    val polls = new AtomicInteger(0);
+    when(consumer.poll(Duration.ofMillis(100))).thenAnswer(invocation -> {
+      switch (polls.getAndIncrement()) {
+        case 0:
+          return new ConsumerRecords<>(new HashMap<TopicPartition, List<ConsumerRecord<AvroKey, AvroValue>>>() {{
+            put(topicPartition, Collections.singletonList(new ConsumerRecord<>(topic, 0, 0L, avroKey, avroValue)));
+            put(otherPartition, Collections.singletonList(new ConsumerRecord<>(topic, 1, 0L, avroKey, avroValue)));
+          }});
+        case 1:
+          return new ConsumerRecords<>(Collections.singletonMap(otherPartition,
+            Collections.singletonList(new ConsumerRecord<>(topic, 1, 1L, avroKey, avroValue))));
+        default:
+          return ConsumerRecords.empty();
+      }
+    });
 
     underTest.receive(listener);
-    verify(consumer, timeout(100)).partitionsFor(topic);
-    await.untilAsserted(() -> assertThat(underTest.getState(), is(ERROR)));
-
+    verify(listener, timeout(1000)).onEvent(LOAD_COMPLETE);
     underTest.close();
-    assertThat(underTest.getState(), is(NOT_RUNNING));
+
+    val inOrder = Mockito.inOrder(consumer, listener);
+    inOrder.verify(consumer).assign(partitions);
+    inOrder.verify(consumer).seekToBeginning(partitions);
+    inOrder.verify(listener, times(3)).onEvent(event);
+    inOrder.verify(listener).onEvent(LOAD_COMPLETE);
+    verify(listener).onEvent(LOAD_COMPLETE);
   }
 
   @Test
   public void errorWhenRunningButUnableToPoll() throws Exception {
     val polls = new AtomicInteger(0);
+    val running = new CountDownLatch(1);
     when(consumer.poll(Duration.ofMillis(100))).thenAnswer(invocation -> {
       if (polls.getAndIncrement() < 10) {
         return new ConsumerRecords<>(Collections.singletonMap(topicPartition, Collections.singletonList(record)));
       } else {
+        running.await(1, SECONDS);
         throw new RuntimeException("Some Kafka poll error here");
       }
     });
@@ -272,6 +314,7 @@ public class KafkaEventReceiverTest {
     underTest.receive(listener);
     latch.await(1, SECONDS);
     assertThat(underTest.getState(), is(RUNNING));
+    running.countDown();
 
     val inOrder = Mockito.inOrder(consumer, listener, correlator);
     inOrder.verify(consumer).assign(topicPartitions);
@@ -303,6 +346,119 @@ public class KafkaEventReceiverTest {
     underTest.receive(doNothingListener);
   }
 
+  @Test
+  public void restoresFromSnapshot() throws Exception {
+    when(consumer.endOffsets(topicPartitions)).thenReturn(Collections.singletonMap(topicPartition, 5L));
+    when(deleteRetention.of(topic)).thenReturn(Optional.of(Duration.ofDays(1)));
+    when(snapshotStore.read(topic)).thenReturn(Optional.of(new Snapshot(topic, Collections.singletonMap(0, 5L), System.currentTimeMillis(), Collections.singletonList(deletionEvent))));
+
+    underTest = new KafkaEventReceiver(config, correlator, converter, consumer, executorService, snapshotStore, null, deleteRetention);
+    underTest.receive(snapshotListener);
+    latch.await(1, SECONDS);
+    underTest.close();
+
+    val inOrder = Mockito.inOrder(consumer, snapshotListener);
+    inOrder.verify(snapshotListener).onEvent(deletionEvent);
+    inOrder.verify(consumer).seek(topicPartition, 5L);
+    inOrder.verify(snapshotListener).onEvent(LOAD_COMPLETE);
+    inOrder.verify(snapshotListener).onEvent(event);
+    verify(consumer, never()).seekToBeginning(any());
+  }
+
+  @Test
+  public void ignoresSnapshotBeforeBeginningOffset() throws Exception {
+    when(consumer.beginningOffsets(topicPartitions)).thenReturn(Collections.singletonMap(topicPartition, 10L));
+    when(consumer.endOffsets(topicPartitions)).thenReturn(Collections.singletonMap(topicPartition, 20L));
+    when(snapshotStore.read(topic)).thenReturn(Optional.of(new Snapshot(topic, Collections.singletonMap(0, 5L), System.currentTimeMillis(), Collections.singletonList(deletionEvent))));
+
+    underTest = new KafkaEventReceiver(config, correlator, converter, consumer, executorService, snapshotStore, null, deleteRetention);
+    underTest.receive(snapshotListener);
+    latch.await(1, SECONDS);
+    underTest.close();
+
+    verify(consumer).seekToBeginning(topicPartitions);
+    verify(consumer, never()).seek(any(TopicPartition.class), anyLong());
+    verify(snapshotListener, never()).onEvent(deletionEvent);
+  }
+
+  @Test
+  public void ignoresSnapshotOlderThanDeleteRetention() throws Exception {
+    when(consumer.endOffsets(topicPartitions)).thenReturn(Collections.singletonMap(topicPartition, 5L));
+    when(deleteRetention.of(topic)).thenReturn(Optional.of(Duration.ofHours(1)));
+    long taken = System.currentTimeMillis() - Duration.ofHours(2).toMillis();
+    when(snapshotStore.read(topic)).thenReturn(Optional.of(new Snapshot(topic, Collections.singletonMap(0, 5L), taken, Collections.singletonList(deletionEvent))));
+
+    underTest = new KafkaEventReceiver(config, correlator, converter, consumer, executorService, snapshotStore, null, deleteRetention);
+    underTest.receive(snapshotListener);
+    latch.await(1, SECONDS);
+    underTest.close();
+
+    verify(consumer).seekToBeginning(topicPartitions);
+    verify(consumer, never()).seek(any(TopicPartition.class), anyLong());
+    verify(snapshotListener, never()).onEvent(deletionEvent);
+  }
+
+  @Test
+  public void ignoresSnapshotWithUnknownDeleteRetention() throws Exception {
+    when(consumer.endOffsets(topicPartitions)).thenReturn(Collections.singletonMap(topicPartition, 5L));
+    when(deleteRetention.of(topic)).thenReturn(Optional.empty());
+    when(snapshotStore.read(topic)).thenReturn(Optional.of(new Snapshot(topic, Collections.singletonMap(0, 5L), System.currentTimeMillis(), Collections.singletonList(deletionEvent))));
+
+    underTest = new KafkaEventReceiver(config, correlator, converter, consumer, executorService, snapshotStore, null, deleteRetention);
+    underTest.receive(snapshotListener);
+    latch.await(1, SECONDS);
+    underTest.close();
+
+    verify(consumer).seekToBeginning(topicPartitions);
+    verify(snapshotListener, never()).onEvent(deletionEvent);
+  }
+
+  @Test
+  public void writesSnapshot() throws Exception {
+    when(config.getSnapshotInterval()).thenReturn(Duration.ZERO);
+    when(record.offset()).thenReturn(7L);
+    when(snapshotStore.read(topic)).thenReturn(Optional.empty());
+    when(snapshotListener.snapshot()).thenReturn(Stream.of(event));
+    val written = new ArrayList<Event<?, ?>>();
+    val writer = new AtomicReference<Thread>();
+    when(snapshotStore.write(eq(topic), eq(Collections.singletonMap(0, 8L)), anyLong(), any())).thenAnswer(invocation -> {
+      invocation.<Stream<Event<?, ?>>>getArgument(3).forEach(written::add);
+      writer.set(Thread.currentThread());
+      return true;
+    });
+
+    underTest = new KafkaEventReceiver(config, correlator, converter, consumer, executorService, snapshotStore, null, deleteRetention);
+    underTest.receive(snapshotListener);
+
+    verify(snapshotStore, timeout(1000)).write(eq(topic), eq(Collections.singletonMap(0, 8L)), anyLong(), any());
+    underTest.close();
+    verify(snapshotStore).write(eq(topic), eq(Collections.singletonMap(0, 8L)), anyLong(), any());
+    assertThat(written, contains(event));
+    assertThat(writer.get().getName(), is("snapshot-writer"));
+  }
+
+  @Test
+  public void bootstrapsKeyFirst() throws Exception {
+    when(consumer.endOffsets(topicPartitions)).thenReturn(Collections.singletonMap(topicPartition, 5L));
+    doAnswer(invocation -> {
+      invocation.<java.util.function.Consumer<Event<?, ?>>>getArgument(2).accept(deletionEvent);
+      return null;
+    }).when(keyFirstBootstrap).bootstrap(any(), any(), any());
+
+    underTest = new KafkaEventReceiver(config, correlator, converter, consumer, executorService, null, keyFirstBootstrap, null);
+    underTest.receive(listener);
+    latch.await(1, SECONDS);
+    underTest.close();
+
+    val inOrder = Mockito.inOrder(consumer, keyFirstBootstrap, listener);
+    inOrder.verify(consumer).seekToBeginning(topicPartitions);
+    inOrder.verify(keyFirstBootstrap).bootstrap(eq(Collections.singletonMap(topicPartition, 0L)), eq(Collections.singletonMap(topicPartition, 5L)), any());
+    inOrder.verify(listener).onEvent(deletionEvent);
+    inOrder.verify(consumer).seek(topicPartition, 5L);
+    inOrder.verify(listener).onEvent(LOAD_COMPLETE);
+    inOrder.verify(listener).onEvent(event);
+  }
+
   @Test
   public void propertiesToConfigMapping() {
     Map<String, Object> properties = new HashMap<String, Object>() {{
@@ -314,7 +470,7 @@ public class KafkaEventReceiverTest {
       put("ssl.truststore.password", "password");
       put("ssl.endpoint.identification.algorithm", "");
     }};
-    Config config = new Config("bootstrap", "topic", "schemaRegistry", "groupId", properties, true);
+    Config config = new Config("bootstrap", "topic", "schemaRegistry", "groupId", properties, true, null, Duration.ofMinutes(5), false, false);
 
     Map<String, Object> expected = new HashMap<String, Object>() {{
       put(BOOTSTRAP_SERVERS_CONFIG, "bootstrap");
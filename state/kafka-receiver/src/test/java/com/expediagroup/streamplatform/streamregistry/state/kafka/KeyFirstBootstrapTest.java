@@ -0,0 +1,127 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state.kafka;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.expediagroup.streamplatform.streamregistry.state.avro.AvroConverter;
+import com.expediagroup.streamplatform.streamregistry.state.avro.AvroDomainKey;
+import com.expediagroup.streamplatform.streamregistry.state.avro.AvroKey;
+import com.expediagroup.streamplatform.streamregistry.state.avro.AvroSpecificationKey;
+import com.expediagroup.streamplatform.streamregistry.state.avro.AvroStatusKey;
+import com.expediagroup.streamplatform.streamregistry.state.avro.AvroValue;
+import com.expediagroup.streamplatform.streamregistry.state.model.event.Event;
+import com.expediagroup.streamplatform.streamregistry.state.model.event.SpecificationDeletionEvent;
+import com.expediagroup.streamplatform.streamregistry.state.model.event.SpecificationEvent;
+import com.expediagroup.streamplatform.streamregistry.state.model.event.StatusEvent;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class KeyFirstBootstrapTest {
+  @Mock
+  private KafkaConsumer<AvroKey, byte[]> consumer;
+  @Mock
+  private Deserializer<Object> valueDeserializer;
+  @Mock
+  private AvroConverter converter;
+  @Mock
+  private AvroValue avroValue;
+  @Mock
+  private SpecificationEvent<?, ?> specificationEvent;
+  @Mock
+  private StatusEvent<?, ?> statusEvent;
+  @Mock
+  private SpecificationDeletionEvent<?, ?> deletionEvent;
+
+  private final String topic = "topic";
+  private final TopicPartition topicPartition = new TopicPartition(topic, 0);
+  private final AvroDomainKey domainA = new AvroDomainKey("a");
+  private final AvroDomainKey domainB = new AvroDomainKey("b");
+  private final AvroKey specificationA = new AvroKey(new AvroSpecificationKey(domainA));
+  private final AvroKey statusA = new AvroKey(new AvroStatusKey(domainA, "agent"));
+  private final AvroKey specificationB = new AvroKey(new AvroSpecificationKey(domainB));
+  private final AvroKey statusB = new AvroKey(new AvroStatusKey(domainB, "agent"));
+  private final byte[] latestSpecificationA = {3};
+  private final byte[] latestStatusA = {2};
+
+  private final List<Event<?, ?>> applied = new ArrayList<>();
+  private KeyFirstBootstrap underTest;
+
+  @Before
+  public void before() {
+    when(consumer.poll(Duration.ofMillis(100))).thenReturn(new ConsumerRecords<>(Collections.singletonMap(topicPartition, Arrays.asList(
+      new ConsumerRecord<>(topic, 0, 0L, specificationA, new byte[] {0}),
+      new ConsumerRecord<>(topic, 0, 1L, statusA, new byte[] {1}),
+      new ConsumerRecord<>(topic, 0, 2L, statusA, latestStatusA),
+      new ConsumerRecord<>(topic, 0, 3L, specificationA, latestSpecificationA),
+      new ConsumerRecord<>(topic, 0, 4L, specificationB, new byte[] {4}),
+      new ConsumerRecord<>(topic, 0, 5L, statusB, new byte[] {5}),
+      new ConsumerRecord<>(topic, 0, 6L, specificationB, null),
+      new ConsumerRecord<>(topic, 0, 7L, specificationA, new byte[] {7})
+    ))));
+    when(consumer.position(topicPartition)).thenReturn(8L);
+    when(valueDeserializer.deserialize(eq(topic), any(), eq(latestSpecificationA))).thenReturn(avroValue);
+    when(valueDeserializer.deserialize(eq(topic), any(), eq(latestStatusA))).thenReturn(avroValue);
+    when(converter.toModel(specificationA, avroValue)).thenReturn((Event) specificationEvent);
+    when(converter.toModel(statusA, avroValue)).thenReturn((Event) statusEvent);
+    when(converter.toModel(specificationB, null)).thenReturn((Event) deletionEvent);
+
+    underTest = new KeyFirstBootstrap(() -> consumer, valueDeserializer, converter);
+  }
+
+  @Test
+  public void appliesOnlyLatestRecords() {
+    underTest.bootstrap(Collections.singletonMap(topicPartition, 0L), Collections.singletonMap(topicPartition, 7L), applied::add);
+
+    assertThat(applied, contains(specificationEvent, deletionEvent, statusEvent));
+    verify(consumer).assign(Collections.singletonList(topicPartition));
+    verify(valueDeserializer, never()).deserialize(eq(topic), any(), eq(new byte[] {0}));
+    verify(valueDeserializer, never()).deserialize(eq(topic), any(), eq(new byte[] {5}));
+    verify(consumer).close();
+  }
+
+  @Test
+  public void nothingToBootstrap() {
+    underTest.bootstrap(Collections.singletonMap(topicPartition, 7L), Collections.singletonMap(topicPartition, 7L), applied::add);
+
+    assertThat(applied, empty());
+    verifyNoInteractions(consumer);
+  }
+}
@@ -0,0 +1,134 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state.kafka;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import lombok.val;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.expediagroup.streamplatform.streamregistry.state.avro.AvroConverter;
+import com.expediagroup.streamplatform.streamregistry.state.model.Entity.DomainKey;
+import com.expediagroup.streamplatform.streamregistry.state.model.event.Event;
+import com.expediagroup.streamplatform.streamregistry.state.model.specification.DefaultSpecification;
+import com.expediagroup.streamplatform.streamregistry.state.model.status.StatusEntry;
+
+public class SnapshotStoreTest {
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final DomainKey key = new DomainKey("domain");
+  private final DefaultSpecification specification = new DefaultSpecification(
+    "description", emptyList(), "type", mapper.createObjectNode().put("foo", "bar"), emptyMap(), "function");
+  private final Event<?, ?> specificationEvent = Event.specification(key, specification);
+  private final Event<?, ?> statusEvent = Event.status(key, new StatusEntry("name", mapper.createObjectNode().put("foo", "baz")));
+  private final Event<?, ?> deletionEvent = Event.specificationDeletion(new DomainKey("deleted"));
+  private final Map<Integer, Long> offsets = new HashMap<Integer, Long>() {{
+    put(0, 42L);
+    put(1, 7L);
+  }};
+
+  private Path path;
+  private SnapshotStore underTest;
+
+  @Before
+  public void before() {
+    path = temp.getRoot().toPath().resolve("snapshots").resolve("snapshot.bin");
+    underTest = new SnapshotStore(path, new AvroConverter());
+  }
+
+  @Test
+  public void roundTrip() {
+    assertThat(underTest.write("topic", offsets, 1000L, Stream.of(specificationEvent, statusEvent, deletionEvent)), is(true));
+
+    val result = underTest.read("topic").get();
+
+    assertThat(result.getTopic(), is("topic"));
+    assertThat(result.getOffsets(), is(offsets));
+    assertThat(result.getTimestamp(), is(1000L));
+    assertThat(result.getEvents(), contains(specificationEvent, statusEvent, deletionEvent));
+  }
+
+  @Test
+  public void eventsCanBeIteratedAgain() {
+    underTest.write("topic", offsets, 1000L, Stream.of(specificationEvent, deletionEvent));
+
+    val result = underTest.read("topic").get();
+    result.getEvents().forEach(event -> {});
+
+    assertThat(result.getEvents(), contains(specificationEvent, deletionEvent));
+  }
+
+  @Test
+  public void replacesPreviousSnapshot() {
+    underTest.write("topic", singletonMap(0, 1L), 1000L, Stream.of(specificationEvent));
+    underTest.write("topic", singletonMap(0, 2L), 2000L, Stream.of(deletionEvent));
+
+    val result = underTest.read("topic").get();
+
+    assertThat(result.getOffsets(), is(singletonMap(0, 2L)));
+    assertThat(result.getTimestamp(), is(2000L));
+    assertThat(result.getEvents(), contains(deletionEvent));
+  }
+
+  @Test
+  public void missing() {
+    assertThat(underTest.read("topic").isPresent(), is(false));
+  }
+
+  @Test
+  public void otherTopic() {
+    underTest.write("topic", offsets, 1000L, Stream.of(specificationEvent));
+
+    assertThat(underTest.read("other").isPresent(), is(false));
+  }
+
+  @Test
+  public void corrupt() throws Exception {
+    underTest.write("topic", offsets, 1000L, Stream.of(specificationEvent));
+    val bytes = Files.readAllBytes(path);
+    bytes[bytes.length / 2] ^= 0x01;
+    Files.write(path, bytes);
+
+    assertThat(underTest.read("topic").isPresent(), is(false));
+  }
+
+  @Test
+  public void truncated() throws Exception {
+    Files.createDirectories(path.getParent());
+    Files.write(path, new byte[] {1, 2, 3});
+
+    assertThat(underTest.read("topic").isPresent(), is(false));
+  }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state.kafka;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.val;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.clients.producer.Partitioner;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.utils.Utils;
+
+import com.expediagroup.streamplatform.streamregistry.state.avro.AvroKey;
+import com.expediagroup.streamplatform.streamregistry.state.avro.AvroSpecificationKey;
+import com.expediagroup.streamplatform.streamregistry.state.avro.AvroStatusKey;
+
+/**
+ * Partitions records by the entity key only, so the specification and all statuses of an entity are written to the
+ * same partition and are received in the order they were sent. The partition is the murmur2 hash of the Avro binary
+ * encoding of the entity key, which is stable across processes and releases for as long as the key schemas are.
+ */
+public class EntityKeyPartitioner implements Partitioner {
+  private final Map<Schema, SpecificDatumWriter<SpecificRecord>> writers = new ConcurrentHashMap<>();
+
+  @Override
+  public int partition(String topic, Object key, byte[] keyBytes, Object value, byte[] valueBytes, Cluster cluster) {
+    return partition((AvroKey) key, cluster.partitionsForTopic(topic).size());
+  }
+
+  int partition(AvroKey key, int partitions) {
+    if (partitions == 1) {
+      return 0;
+    }
+    return Utils.toPositive(Utils.murmur2(serialize(entityKey(key)))) % partitions;
+  }
+
+  private static SpecificRecord entityKey(AvroKey key) {
+    val specificationOrStatusKey = key.getKey();
+    if (specificationOrStatusKey instanceof AvroSpecificationKey) {
+      return (SpecificRecord) ((AvroSpecificationKey) specificationOrStatusKey).getKey();
+    } else if (specificationOrStatusKey instanceof AvroStatusKey) {
+      return (SpecificRecord) ((AvroStatusKey) specificationOrStatusKey).getKey();
+    }
+    throw new IllegalArgumentException("Unknown key type " + specificationOrStatusKey.getClass());
+  }
+
+  private byte[] serialize(SpecificRecord record) {
+    val writer = writers.computeIfAbsent(record.getSchema(), SpecificDatumWriter::new);
+    val out = new ByteArrayOutputStream();
+    val encoder = EncoderFactory.get().binaryEncoder(out, null);
+    try {
+      writer.write(record, encoder);
+      encoder.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+
+  @Override
+  public void configure(Map<String, ?> configs) {}
+
+  @Override
+  public void close() {}
+}
@@ -17,18 +17,22 @@ package com.expediagroup.streamplatform.streamregistry.state.kafka;
 
 import static com.expediagroup.streamplatform.streamregistry.state.internal.EventCorrelator.CORRELATION_ID;
 import static io.confluent.kafka.serializers.KafkaAvroSerializerConfig.SCHEMA_REGISTRY_URL_CONFIG;
-import static java.nio.charset.StandardCharsets.UTF_8;
-import static lombok.AccessLevel.PACKAGE;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.toList;
 import static org.apache.kafka.clients.producer.ProducerConfig.ACKS_CONFIG;
 import static org.apache.kafka.clients.producer.ProducerConfig.BOOTSTRAP_SERVERS_CONFIG;
 import static org.apache.kafka.clients.producer.ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.PARTITIONER_CLASS_CONFIG;
 import static org.apache.kafka.clients.producer.ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG;
 
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import lombok.Builder;
 import lombok.NonNull;
@@ -38,6 +42,9 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
 import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
@@ -45,9 +52,11 @@ import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.header.Header;
 import org.apache.kafka.common.header.internals.RecordHeader;
 
+import com.expediagroup.streamplatform.streamregistry.state.AckLevel;
 import com.expediagroup.streamplatform.streamregistry.state.Configurator;
 import com.expediagroup.streamplatform.streamregistry.state.EventSender;
 import com.expediagroup.streamplatform.streamregistry.state.avro.AvroConverter;
+import com.expediagroup.streamplatform.streamregistry.state.avro.AvroEvent;
 import com.expediagroup.streamplatform.streamregistry.state.avro.AvroKey;
 import com.expediagroup.streamplatform.streamregistry.state.avro.AvroValue;
 import com.expediagroup.streamplatform.streamregistry.state.internal.EventCorrelator;
@@ -57,23 +66,64 @@ import com.expediagroup.streamplatform.streamregistry.state.model.event.StatusDe
 import com.expediagroup.streamplatform.streamregistry.state.model.event.StatusEvent;
 import com.expediagroup.streamplatform.streamregistry.state.model.specification.Specification;
 
+/**
+ * An {@link EventSender} that produces events to a Kafka topic. Every send completes at the requested
+ * {@link AckLevel}, {@link AckLevel#APPLIED} unless given. Only {@link AckLevel#APPLIED} registers with the correlator,
+ * the other levels send the records without a correlation id. The producer always uses {@code acks=all}, as records of
+ * the same entity must stay in order whatever level they were sent at.
+ * <p/>
+ * The time from sending to completion is recorded by the {@code stream_registry_state.sender.latency} timer, tagged
+ * with the {@code ack} level.
+ */
 @Slf4j
-@RequiredArgsConstructor(access = PACKAGE)
 public class KafkaEventSender implements EventSender {
+  private static final CorrelationStrategy UNCORRELATED = new NullCorrelationStrategy();
+
   @NonNull private final Config config;
   @NonNull private final CorrelationStrategy correlationStrategy;
   @NonNull private final AvroConverter converter;
   @NonNull private final KafkaProducer<AvroKey, AvroValue> producer;
+  private final Map<AckLevel, Timer> latency = new EnumMap<>(AckLevel.class);
 
-  public KafkaEventSender(Config config, EventCorrelator correlator, Configurator<KafkaProducer<AvroKey, AvroValue>> producerConfigurator) {
+  KafkaEventSender(
+      @NonNull Config config,
+      @NonNull CorrelationStrategy correlationStrategy,
+      @NonNull AvroConverter converter,
+      @NonNull KafkaProducer<AvroKey, AvroValue> producer,
+      @NonNull MeterRegistry meterRegistry
+  ) {
+    this.config = config;
+    this.correlationStrategy = correlationStrategy;
+    this.converter = converter;
+    this.producer = producer;
+    for (AckLevel ackLevel : AckLevel.values()) {
+      latency.put(ackLevel, meterRegistry.timer("stream_registry_state.sender.latency", "ack", ackLevel.name()));
+    }
+  }
+
+  KafkaEventSender(Config config, CorrelationStrategy correlationStrategy, AvroConverter converter, KafkaProducer<AvroKey, AvroValue> producer) {
+    this(config, correlationStrategy, converter, producer, new SimpleMeterRegistry());
+  }
+
+  public KafkaEventSender(
+      Config config,
+      EventCorrelator correlator,
+      Configurator<KafkaProducer<AvroKey, AvroValue>> producerConfigurator,
+      MeterRegistry meterRegistry
+  ) {
     this(
         config,
-        correlator == null ? new NullCorrelationStrategy() : new CorrelationStrategyImpl(correlator),
-        new AvroConverter(),
-        getKafkaProducer(config, producerConfigurator)
+        correlator == null ? UNCORRELATED : new CorrelationStrategyImpl(correlator),
+        new AvroConverter(Boolean.TRUE.equals(config.getReflectiveAvroConversion())),
+        getKafkaProducer(config, producerConfigurator),
+        meterRegistry
     );
   }
 
+  public KafkaEventSender(Config config, EventCorrelator correlator, Configurator<KafkaProducer<AvroKey, AvroValue>> producerConfigurator) {
+    this(config, correlator, producerConfigurator, new SimpleMeterRegistry());
+  }
+
   public KafkaEventSender(Config config, EventCorrelator correlator) {
     this(config, correlator, kafkaProducer -> {});
   }
@@ -90,52 +140,109 @@ public class KafkaEventSender implements EventSender {
 
   @Override
   public <K extends Entity.Key<S>, S extends Specification> CompletableFuture<Void> send(@NonNull Event<K, S> event) {
-    if (!config.getEntityStatusEnabled() && (event instanceof StatusEvent<K, S> || event instanceof StatusDeletionEvent<K, S>)) {
-      log.warn("Entity Status is disabled and will not send event with key={}", event.getKey());
+    return send(event, AckLevel.APPLIED);
+  }
+
+  @Override
+  public <K extends Entity.Key<S>, S extends Specification> CompletableFuture<Void> send(@NonNull Event<K, S> event, @NonNull AckLevel ackLevel) {
+    if (!enabled(event)) {
       return CompletableFuture.completedFuture(null);
     }
+    return send(Collections.singletonList(converter.toAvro(event)), ackLevel);
+  }
+
+  @Override
+  public CompletableFuture<Void> sendAll(@NonNull List<Event<?, ?>> events) {
+    return sendAll(events, AckLevel.APPLIED);
+  }
 
-    val avroEvent = converter.toAvro(event);
-    return send(avroEvent.getKey(), avroEvent.getValue());
+  /**
+   * Sends the events without waiting for each other, under a single correlation id.
+   */
+  @Override
+  public CompletableFuture<Void> sendAll(@NonNull List<Event<?, ?>> events, @NonNull AckLevel ackLevel) {
+    List<AvroEvent> avroEvents = events.stream()
+        .filter(this::enabled)
+        .map(converter::toAvro)
+        .collect(toList());
+    if (avroEvents.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return send(avroEvents, ackLevel);
   }
 
-  private CompletableFuture<Void> send(AvroKey key, AvroValue value) {
+  private boolean enabled(Event<?, ?> event) {
+    if (!config.getEntityStatusEnabled() && (event instanceof StatusEvent || event instanceof StatusDeletionEvent)) {
+      log.warn("Entity Status is disabled and will not send event with key={}", event.getKey());
+      return false;
+    }
+    return true;
+  }
+
+  private CompletableFuture<Void> send(List<AvroEvent> avroEvents, AckLevel ackLevel) {
+    long start = System.nanoTime();
+    val strategy = ackLevel == AckLevel.APPLIED ? correlationStrategy : UNCORRELATED;
     val future = new CompletableFuture<Void>();
-    val correlationId = correlationStrategy.correlationId(future);
-    val headers = correlationStrategy.headers(correlationId);
-    val record = new ProducerRecord<>(config.getTopic(), null, null, key, value, headers);
-    log.debug("Sending {} - {}", correlationId, record);
-    producer.send(record, correlationStrategy.callback(correlationId, future));
+    byte[] correlationId;
+    try {
+      correlationId = strategy.correlationId(future, avroEvents.size());
+    } catch (RejectedExecutionException e) {
+      log.warn("Not sending {} events: {}", avroEvents.size(), e.getMessage());
+      future.completeExceptionally(e);
+      return future;
+    }
+    val headers = strategy.headers(correlationId);
+    val callback = strategy.callback(correlationId, future, avroEvents.size());
+    for (AvroEvent avroEvent : avroEvents) {
+      val record = new ProducerRecord<>(config.getTopic(), null, null, avroEvent.getKey(), avroEvent.getValue(), headers);
+      log.debug("Sending {}", record);
+      producer.send(record, callback);
+    }
+    val timer = latency.get(ackLevel);
+    if (ackLevel == AckLevel.FIRE_AND_FORGET) {
+      timer.record(System.nanoTime() - start, NANOSECONDS);
+      return CompletableFuture.completedFuture(null);
+    }
+    future.whenComplete((v, e) -> timer.record(System.nanoTime() - start, NANOSECONDS));
     return future;
   }
 
   interface CorrelationStrategy {
-    String correlationId(CompletableFuture<Void> future);
+    /**
+     * @return the value of the correlation id header, or null if there is none.
+     */
+    byte[] correlationId(CompletableFuture<Void> future, int events);
 
-    List<Header> headers(String correlationId);
+    List<Header> headers(byte[] correlationId);
 
-    Callback callback(String correlationId, CompletableFuture<Void> future);
+    /**
+     * @return a callback shared by the given number of records that completes or fails the future.
+     */
+    Callback callback(byte[] correlationId, CompletableFuture<Void> future, int events);
   }
 
   static class NullCorrelationStrategy implements CorrelationStrategy {
     @Override
-    public String correlationId(CompletableFuture<Void> future) {
+    public byte[] correlationId(CompletableFuture<Void> future, int events) {
       return null;
     }
 
     @Override
-    public List<Header> headers(String correlationId) {
+    public List<Header> headers(byte[] correlationId) {
       return Collections.emptyList();
     }
 
     @Override
-    public Callback callback(String correlationId, CompletableFuture<Void> future) {
+    public Callback callback(byte[] correlationId, CompletableFuture<Void> future, int events) {
+      val remaining = new AtomicInteger(events);
       return (rm, e) -> {
         if (rm != null) {
-          log.debug("Sent {} - {}", correlationId, rm);
-          future.complete(null);
+          log.debug("Sent {}", rm);
+          if (remaining.decrementAndGet() == 0) {
+            future.complete(null);
+          }
         } else {
-          log.error("Error sending record {}", correlationId, e);
+          log.error("Error sending record", e);
           future.completeExceptionally(e);
         }
       };
@@ -147,22 +254,22 @@ public class KafkaEventSender implements EventSender {
     private final EventCorrelator correlator;
 
     @Override
-    public String correlationId(CompletableFuture<Void> future) {
-      return correlator.register(future);
+    public byte[] correlationId(CompletableFuture<Void> future, int events) {
+      return correlator.registerHeader(future, events);
     }
 
     @Override
-    public List<Header> headers(String correlationId) {
-      return Collections.singletonList(new RecordHeader(CORRELATION_ID, correlationId.getBytes(UTF_8)));
+    public List<Header> headers(byte[] correlationId) {
+      return Collections.singletonList(new RecordHeader(CORRELATION_ID, correlationId));
     }
 
     @Override
-    public Callback callback(String correlationId, CompletableFuture<Void> future) {
+    public Callback callback(byte[] correlationId, CompletableFuture<Void> future, int events) {
       return (rm, e) -> {
         if (rm != null) {
-          log.debug("Sent {} - {}", correlationId, rm);
+          log.debug("Sent {}", rm);
         } else {
-          log.error("Error sending record {}", correlationId, e);
+          log.error("Error sending record", e);
           correlator.failed(correlationId, e);
         }
       };
@@ -185,6 +292,7 @@ public class KafkaEventSender implements EventSender {
     kafkaConfigs.put(ACKS_CONFIG, "all");
     kafkaConfigs.put(KEY_SERIALIZER_CLASS_CONFIG, KafkaAvroSerializer.class);
     kafkaConfigs.put(VALUE_SERIALIZER_CLASS_CONFIG, KafkaAvroSerializer.class);
+    kafkaConfigs.put(PARTITIONER_CLASS_CONFIG, EntityKeyPartitioner.class);
     kafkaConfigs.put(SCHEMA_REGISTRY_URL_CONFIG, config.getSchemaRegistryUrl());
 
     return kafkaConfigs;
@@ -198,5 +306,9 @@ public class KafkaEventSender implements EventSender {
     @NonNull String schemaRegistryUrl;
     Map<String, Object> properties;
     @Builder.Default Boolean entityStatusEnabled = true;
+    /**
+     * Whether to convert between Avro records and the state model through Jackson, as before the direct codec.
+     */
+    @Builder.Default Boolean reflectiveAvroConversion = false;
   }
 }
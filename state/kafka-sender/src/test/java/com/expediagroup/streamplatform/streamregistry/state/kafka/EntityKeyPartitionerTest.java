@@ -0,0 +1,73 @@
+/**
+ * Copyright (C) 2018-2026 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.state.kafka;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import lombok.val;
+
+import org.junit.Test;
+
+import com.expediagroup.streamplatform.streamregistry.state.avro.AvroDomainKey;
+import com.expediagroup.streamplatform.streamregistry.state.avro.AvroKey;
+import com.expediagroup.streamplatform.streamregistry.state.avro.AvroSpecificationKey;
+import com.expediagroup.streamplatform.streamregistry.state.avro.AvroStatusKey;
+
+public class EntityKeyPartitionerTest {
+  private final EntityKeyPartitioner underTest = new EntityKeyPartitioner();
+
+  @Test
+  public void specificationAndStatusShareAPartition() {
+    for (int i = 0; i < 100; i++) {
+      val domainKey = new AvroDomainKey("domain" + i);
+      assertThat(
+        underTest.partition(new AvroKey(new AvroStatusKey(domainKey, "status")), 12),
+        is(underTest.partition(new AvroKey(new AvroSpecificationKey(domainKey)), 12))
+      );
+    }
+  }
+
+  @Test
+  public void stable() {
+    val key = new AvroKey(new AvroSpecificationKey(new AvroDomainKey("domain")));
+
+    assertThat(new EntityKeyPartitioner().partition(key, 12), is(underTest.partition(key, 12)));
+  }
+
+  @Test
+  public void spreadsKeys() {
+    Set<Integer> partitions = new HashSet<>();
+    for (int i = 0; i < 100; i++) {
+      val partition = underTest.partition(new AvroKey(new AvroSpecificationKey(new AvroDomainKey("domain" + i))), 12);
+      assertThat(partition >= 0 && partition < 12, is(true));
+      partitions.add(partition);
+    }
+
+    assertThat(partitions.size(), greaterThan(6));
+  }
+
+  @Test
+  public void singlePartition() {
+    val key = new AvroKey(new AvroSpecificationKey(new AvroDomainKey("domain")));
+
+    assertThat(underTest.partition(key, 1), is(0));
+  }
+}
@@ -19,11 +19,13 @@ import static io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig.SCHE
 import static org.apache.kafka.clients.producer.ProducerConfig.ACKS_CONFIG;
 import static org.apache.kafka.clients.producer.ProducerConfig.BOOTSTRAP_SERVERS_CONFIG;
 import static org.apache.kafka.clients.producer.ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.PARTITIONER_CLASS_CONFIG;
 import static org.apache.kafka.clients.producer.ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
@@ -31,12 +33,14 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 import lombok.val;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
@@ -51,6 +55,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import com.expediagroup.streamplatform.streamregistry.state.AckLevel;
 import com.expediagroup.streamplatform.streamregistry.state.avro.AvroConverter;
 import com.expediagroup.streamplatform.streamregistry.state.avro.AvroEvent;
 import com.expediagroup.streamplatform.streamregistry.state.avro.AvroKey;
@@ -81,6 +86,7 @@ public class KafkaEventSenderTest {
   private final Event<DomainKey, DefaultSpecification> event = Event.specification(key, specification);
   private final Event<DomainKey, DefaultSpecification> deleteEvent = Event.specificationDeletion(key);
   private final StatusEntry statusEntry = new StatusEntry("status", mapper.createObjectNode());
+  private final byte[] correlationId = {0, 1, 2, 3, 4, 5, 6, 7};
 
   @Mock private AvroEvent avroEvent;
   @Mock private AvroKey avroKey;
@@ -199,11 +205,11 @@ public class KafkaEventSenderTest {
 
     val underTest = new KafkaEventSender(config, correlationStrategy, converter, producer);
 
-    when(correlator.register(any())).thenReturn("correlationId");
+    when(correlator.registerHeader(any(), eq(1))).thenReturn(correlationId);
 
     val result = underTest.send(event);
 
-    verify(correlator).register(result);
+    verify(correlator).registerHeader(result, 1);
     verify(producer).send(recordCaptor.capture(), callbackCaptor.capture());
 
     val record = recordCaptor.getValue();
@@ -243,11 +249,11 @@ public class KafkaEventSenderTest {
 
     val underTest = new KafkaEventSender(config, correlationStrategy, converter, producer);
 
-    when(correlator.register(any())).thenReturn("correlationId");
+    when(correlator.registerHeader(any(), eq(1))).thenReturn(correlationId);
 
     val result = underTest.send(event);
 
-    verify(correlator).register(any());
+    verify(correlator).registerHeader(any(), eq(1));
     verify(producer).send(recordCaptor.capture(), callbackCaptor.capture());
 
     val record = recordCaptor.getValue();
@@ -261,7 +267,107 @@ public class KafkaEventSenderTest {
     val e = new Exception();
     callback.onCompletion(null, e);
     assertThat(result.isCompletedExceptionally(), is(false));
-    verify(correlator).failed("correlationId", e);
+    verify(correlator).failed(correlationId, e);
+  }
+
+  @Test
+  public void nullCorrelatorBatchCompletesWhenAllSent() {
+    when(converter.toAvro(deleteEvent)).thenReturn(avroEvent);
+
+    val underTest = new KafkaEventSender(config, new NullCorrelationStrategy(), converter, producer);
+    val result = underTest.sendAll(Arrays.asList(event, deleteEvent));
+
+    verify(producer, times(2)).send(recordCaptor.capture(), callbackCaptor.capture());
+    val callbacks = callbackCaptor.getAllValues();
+    assertThat(callbacks.get(0), is(callbacks.get(1)));
+
+    val recordMetadata = mock(RecordMetadata.class);
+    callbacks.get(0).onCompletion(recordMetadata, null);
+    assertThat(result.isDone(), is(false));
+    callbacks.get(1).onCompletion(recordMetadata, null);
+    assertThat(result.isDone(), is(true));
+  }
+
+  @Test
+  public void correlatorBatchRegistersOnce() {
+    when(converter.toAvro(deleteEvent)).thenReturn(avroEvent);
+    val correlator = mock(EventCorrelator.class);
+    when(correlator.registerHeader(any(), eq(2))).thenReturn(correlationId);
+
+    val underTest = new KafkaEventSender(config, new CorrelationStrategyImpl(correlator), converter, producer);
+    val result = underTest.sendAll(Arrays.asList(event, deleteEvent));
+
+    verify(correlator).registerHeader(result, 2);
+    verify(producer, times(2)).send(recordCaptor.capture(), any());
+    for (ProducerRecord<AvroKey, AvroValue> record : recordCaptor.getAllValues()) {
+      assertThat(record.headers().lastHeader("correlationId").value(), is(correlationId));
+    }
+  }
+
+  @Test
+  public void batchSkipsDisabledStatus() {
+    when(config.getEntityStatusEnabled()).thenReturn(false);
+
+    val underTest = new KafkaEventSender(config, new NullCorrelationStrategy(), converter, producer);
+    val result = underTest.sendAll(Collections.singletonList(Event.status(key, statusEntry)));
+
+    verify(producer, never()).send(any(), any());
+    assertTrue(result.isDone());
+  }
+
+  @Test
+  public void rejectedRegistrationDoesNotSend() {
+    val correlator = mock(EventCorrelator.class);
+    when(correlator.registerHeader(any(), eq(1))).thenThrow(new RejectedExecutionException());
+
+    val underTest = new KafkaEventSender(config, new CorrelationStrategyImpl(correlator), converter, producer);
+    val result = underTest.send(event);
+
+    verify(producer, never()).send(any(), any());
+    assertThat(result.isCompletedExceptionally(), is(true));
+  }
+
+  @Test
+  public void brokerAckDoesNotCorrelate() {
+    val correlator = mock(EventCorrelator.class);
+
+    val underTest = new KafkaEventSender(config, new CorrelationStrategyImpl(correlator), converter, producer);
+    val result = underTest.send(event, AckLevel.BROKER);
+
+    verify(correlator, never()).registerHeader(any(), anyInt());
+    verify(producer).send(recordCaptor.capture(), callbackCaptor.capture());
+    assertThat(recordCaptor.getValue().headers().toArray().length, is(0));
+
+    assertThat(result.isDone(), is(false));
+    callbackCaptor.getValue().onCompletion(mock(RecordMetadata.class), null);
+    assertThat(result.isDone(), is(true));
+  }
+
+  @Test
+  public void fireAndForgetCompletesOnceSent() {
+    val correlator = mock(EventCorrelator.class);
+
+    val underTest = new KafkaEventSender(config, new CorrelationStrategyImpl(correlator), converter, producer);
+    val result = underTest.sendAll(Collections.singletonList(event), AckLevel.FIRE_AND_FORGET);
+
+    verify(correlator, never()).registerHeader(any(), anyInt());
+    verify(producer).send(any(), any());
+    assertThat(result.isDone(), is(true));
+  }
+
+  @Test
+  public void recordsLatencyPerAckLevel() {
+    val meterRegistry = new SimpleMeterRegistry();
+
+    val underTest = new KafkaEventSender(config, new NullCorrelationStrategy(), converter, producer, meterRegistry);
+    underTest.send(event, AckLevel.FIRE_AND_FORGET);
+    underTest.send(event, AckLevel.BROKER);
+
+    verify(producer, times(2)).send(any(), callbackCaptor.capture());
+    assertThat(meterRegistry.get("stream_registry_state.sender.latency").tag("ack", "FIRE_AND_FORGET").timer().count(), is(1L));
+    assertThat(meterRegistry.get("stream_registry_state.sender.latency").tag("ack", "BROKER").timer().count(), is(0L));
+    callbackCaptor.getAllValues().get(1).onCompletion(mock(RecordMetadata.class), null);
+    assertThat(meterRegistry.get("stream_registry_state.sender.latency").tag("ack", "BROKER").timer().count(), is(1L));
   }
 
   @Test
@@ -275,13 +381,14 @@ public class KafkaEventSenderTest {
       put("ssl.truststore.password", "password");
       put("ssl.endpoint.identification.algorithm", "");
     }};
-    Config config = new Config("bootstrap", "topic", "schemaRegistry", properties, true);
+    Config config = new Config("bootstrap", "topic", "schemaRegistry", properties, true, false);
 
     Map<String, Object> expected = new HashMap<String, Object>() {{
       put(BOOTSTRAP_SERVERS_CONFIG, "bootstrap");
       put(ACKS_CONFIG, "all");
       put(KEY_SERIALIZER_CLASS_CONFIG, KafkaAvroSerializer.class);
       put(VALUE_SERIALIZER_CLASS_CONFIG, KafkaAvroSerializer.class);
+      put(PARTITIONER_CLASS_CONFIG, EntityKeyPartitioner.class);
       put(SCHEMA_REGISTRY_URL_CONFIG, "schemaRegistry");
     }};
     expected.putAll(properties);